@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.MegaMek;
+import megamek.logging.MMLogger;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignEventProcessor;
+import mekhq.campaign.CampaignFactory;
+import mekhq.campaign.enums.DailyReportType;
+import mekhq.campaign.events.OptionsChangedEvent;
+import mekhq.campaign.newDay.DailyReportSink;
+import mekhq.campaign.newDay.DayAdvancer;
+import mekhq.campaign.newDay.HeadlessNewDayPolicy;
+import mekhq.utilities.LoadingTaskGraph;
+
+/**
+ * Loads a campaign and advances it a number of days without any user interface, then optionally saves the result.
+ * This is meant for soak testing and profiling the new day processing, for example:
+ *
+ * <pre>
+ * java -cp MekHQ.jar mekhq.HeadlessCampaignRunner campaigns/MyCampaign.cpnx.gz 365 campaigns/MyCampaign.next.cpnx.gz
+ * </pre>
+ * <p>
+ * Anything that would normally ask the player for input during the new day is handled by
+ * {@link HeadlessNewDayPolicy}. The process exits with {@code 0} once all days were advanced, {@code 1} if advancing
+ * stopped early or the campaign could not be loaded or saved, and {@code 2} if the arguments are invalid.
+ */
+public final class HeadlessCampaignRunner {
+    private static final MMLogger LOGGER = MMLogger.create(HeadlessCampaignRunner.class);
+
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_FAILURE = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private HeadlessCampaignRunner() {
+    }
+
+    public static void main(String... args) {
+        // Without a display, anything that still tries to open a window fails fast instead of waiting for a player
+        System.setProperty("java.awt.headless", "true");
+        System.exit(run(args));
+    }
+
+    static int run(String... args) {
+        if ((args.length < 2) || (args.length > 3)) {
+            System.err.println("Usage: HeadlessCampaignRunner <campaign file> <days> [<output file>]");
+            return EXIT_USAGE;
+        }
+
+        final File campaignFile = new File(args[0]);
+        final int days;
+        try {
+            days = Integer.parseInt(args[1]);
+        } catch (NumberFormatException ex) {
+            System.err.println("The number of days must be a whole number, not " + args[1]);
+            return EXIT_USAGE;
+        }
+
+        if (!campaignFile.isFile() || (days < 0)) {
+            System.err.println("Expected an existing campaign file and zero or more days");
+            return EXIT_USAGE;
+        }
+
+        MegaMek.initializeLogging(MHQConstants.PROJECT_NAME);
+        MekHQ.initializeLogging(MHQConstants.PROJECT_NAME);
+
+        try {
+            final MekHQ app = MekHQ.getInstance();
+            app.startupHeadless();
+
+            final long loadingStart = System.nanoTime();
+            try (LoadingTaskGraph loaders = MHQDataLoader.startLoading()) {
+                MHQDataLoader.awaitMekSummaryCache();
+                loaders.awaitAll();
+            }
+            LOGGER.info("Loaded base data in {} ms", (System.nanoTime() - loadingStart) / 1_000_000L);
+
+            final Campaign campaign = loadCampaign(app, campaignFile);
+
+            final long advanceStart = System.nanoTime();
+            final int advanced = new DayAdvancer(campaign).advanceDays(days, new LoggingReportSink());
+            LOGGER.info("Advanced {} of {} days to {} in {} ms", advanced, days, campaign.getLocalDate(),
+                  (System.nanoTime() - advanceStart) / 1_000_000L);
+
+            if (args.length == 3) {
+                saveCampaign(campaign, new File(args[2]));
+            }
+            return (advanced == days) ? EXIT_SUCCESS : EXIT_FAILURE;
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+            return EXIT_FAILURE;
+        }
+    }
+
+    private static Campaign loadCampaign(MekHQ app, File file) throws Exception {
+        LOGGER.info("Loading campaign file from XML file {}", file);
+
+        final Campaign campaign;
+        try (FileInputStream fis = new FileInputStream(file)) {
+            campaign = CampaignFactory.newInstance(app).createCampaign(fis);
+            // Restores all transient attributes from serialized objects
+            campaign.restore();
+            campaign.cleanUp();
+        }
+        // Make sure campaign options event handlers get their data
+        MekHQ.triggerEvent(new OptionsChangedEvent(campaign));
+
+        campaign.setCampaignEventProcessor(new CampaignEventProcessor(campaign));
+        campaign.setApp(app);
+        campaign.setNewDayInteractionPolicy(new HeadlessNewDayPolicy());
+        return campaign;
+    }
+
+    private static void saveCampaign(Campaign campaign, File file) throws Exception {
+        try (FileOutputStream fos = new FileOutputStream(file);
+              OutputStream os = file.getName().endsWith(".gz") ? new GZIPOutputStream(fos) : fos;
+              BufferedOutputStream bos = new BufferedOutputStream(os);
+              OutputStreamWriter osw = new OutputStreamWriter(bos, StandardCharsets.UTF_8);
+              PrintWriter pw = new PrintWriter(osw)) {
+            campaign.writeToXML(pw, false);
+            pw.flush();
+        }
+        LOGGER.info("Campaign saved to {}", file);
+    }
+
+    /**
+     * Counts the report entries of each type, rather than keeping the reports themselves, and logs the totals once
+     * advancing is done.
+     */
+    private static class LoggingReportSink implements DailyReportSink {
+        private final Map<DailyReportType, Integer> entries = new EnumMap<>(DailyReportType.class);
+
+        @Override
+        public void addDay(DailyReportType type, String dayReport, List<String> newReports) {
+            entries.merge(type, newReports.size(), Integer::sum);
+        }
+
+        @Override
+        public void finish() {
+            LOGGER.info("Report entries written: {}", entries);
+        }
+    }
+}
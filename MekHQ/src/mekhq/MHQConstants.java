@@ -165,6 +165,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String SAVE_YEARLY_KEY = "saveYearly";
     public static final String SAVE_BEFORE_SCENARIOS_KEY = "saveBeforeScenarios";
     public static final String SAVE_BEFORE_MISSION_END = "saveBeforeMissionEnd";
+    public static final String SAVE_IN_BACKGROUND_KEY = "saveInBackground";
     public static final String MAXIMUM_NUMBER_SAVES_KEY = "maximumNumberAutoSaves";
     public static final int DEFAULT_NUMBER_SAVES = 5;
     // endregion Autosave
@@ -198,6 +199,12 @@ public final class MHQConstants extends SuiteConstants {
     public static final String SAVE_MOTHBALL_STATE = "saveMothballState";
     // endregion Campaign XML Save Options
 
+    // region Data Loading
+    public static final String DATA_LOADING_NODE = "mekhq/prefs/dataLoading";
+    public static final String USE_PLANETARY_SYSTEM_CACHE = "usePlanetarySystemCache";
+    public static final String USE_TECH_PROGRESSION_CACHE = "useTechProgressionCache";
+    // endregion Data Loading
+
     // region File Paths
     public static final String FILE_PATH_NODE = "mekhq/prefs/filepaths";
     public static final String RANK_SYSTEMS_DIRECTORY_PATH = "rankSystemsDirectoryPath";
@@ -304,6 +311,8 @@ public final class MHQConstants extends SuiteConstants {
     public static final String USER_CAMPAIGN_PRESET_DIRECTORY = "userdata/data/campaignPresets/";
     public static final String STRAT_CON_MUL_FILES_DIRECTORY = "data/scenariotemplates/fixedmuls/";
     public static final String PLANETARY_SYSTEM_DIRECTORY_PATH = "data/universe/planetary_systems";
+    public static final String PLANETARY_SYSTEM_CACHE_FILE = "userdata/data/universe/planetarySystems.cache";
+    public static final String TECH_PROGRESSION_CACHE_FILE = "userdata/data/techProgression.cache";
     public static final String FORCE_ICON_PATH = "data/images/force";
     public static final String PERSONNEL_MARKET_DIRECTORY_PATH = "data/universe/markets/personnelMarket/";
     public static final String MAP_GEN_PATH = "data/mapgen";
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq;
+
+import static java.util.Arrays.sort;
+
+import java.util.concurrent.CountDownLatch;
+
+import megamek.client.generator.RandomCallsignGenerator;
+import megamek.client.generator.RandomNameGenerator;
+import megamek.common.loaders.MekSummaryCache;
+import mekhq.campaign.finances.CurrencyManager;
+import mekhq.campaign.finances.financialInstitutions.FinancialInstitutions;
+import mekhq.campaign.mission.atb.AtBScenarioModifier;
+import mekhq.campaign.personnel.SpecialAbility;
+import mekhq.campaign.personnel.backgrounds.RandomCompanyNameGenerator;
+import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.universe.Factions;
+import mekhq.campaign.universe.Systems;
+import mekhq.campaign.universe.eras.Eras;
+import mekhq.utilities.LoadingTaskGraph;
+
+/**
+ * Loads the static data every campaign depends on. This is shared by the startup dialog and by
+ * {@link HeadlessCampaignRunner}, so that both load exactly the same data.
+ */
+public final class MHQDataLoader {
+    public static final String STAGE_CURRENCIES = "Currencies";
+    public static final String STAGE_ERAS = "Eras";
+    public static final String STAGE_FINANCIAL_INSTITUTIONS = "Financial Institutions";
+    public static final String STAGE_INJURY_TYPES = "Injury Types";
+    public static final String STAGE_RANKS = "Ranks";
+    public static final String STAGE_SKILLS = "Skills";
+    public static final String STAGE_SPECIAL_ABILITIES = "Special Abilities";
+    public static final String STAGE_SCENARIO_MODIFIERS = "Scenario Modifiers";
+    public static final String STAGE_FACTIONS = "Factions";
+    public static final String STAGE_NAMES = "Names";
+    public static final String STAGE_SYSTEMS = "Planetary Systems";
+
+    private static final int LOADING_THREADS = 4;
+
+    private MHQDataLoader() {
+    }
+
+    /**
+     * Schedules the static data loaders needed before a campaign can be created or loaded. Each stage only declares
+     * the stages whose data it reads while loading, so everything else runs concurrently.
+     *
+     * @return the running loaders
+     */
+    public static LoadingTaskGraph startLoading() {
+        LoadingTaskGraph loaders = new LoadingTaskGraph("MekHQ-DataLoading", LOADING_THREADS);
+        loaders.add(STAGE_CURRENCIES, () -> CurrencyManager.getInstance().loadCurrencies());
+        loaders.add(STAGE_ERAS, Eras::initializeEras);
+        loaders.add(STAGE_FINANCIAL_INSTITUTIONS, FinancialInstitutions::initializeFinancialInstitutions);
+        loaders.add(STAGE_INJURY_TYPES, InjuryTypes::registerAll); // TODO : Isolate into an actual module
+        loaders.add(STAGE_RANKS, Ranks::initializeRankSystems);
+        loaders.add(STAGE_SKILLS, () -> {
+            SkillType.initializeTypes();
+            sort(SkillType.getSkillList()); // sort all skills alphabetically
+        });
+        loaders.add(STAGE_SPECIAL_ABILITIES, () -> SpecialAbility.initializeSPA(false), STAGE_SKILLS);
+        loaders.add(STAGE_SCENARIO_MODIFIERS, () -> AtBScenarioModifier.initializeScenarioModifiers(false));
+        loaders.add(STAGE_FACTIONS, () -> Factions.setInstance(Factions.loadDefault(false)), STAGE_ERAS, STAGE_RANKS);
+        loaders.add(STAGE_NAMES, () -> {
+            RandomNameGenerator.getInstance();
+            RandomCallsignGenerator.getInstance();
+            RandomCompanyNameGenerator.getInstance();
+        });
+        loaders.add(STAGE_SYSTEMS, () -> Systems.setInstance(Systems.loadDefault()), STAGE_FACTIONS);
+        return loaders;
+    }
+
+    /**
+     * Blocks until MegaMek has finished loading its unit cache, which it does on its own thread.
+     */
+    public static void awaitMekSummaryCache() throws InterruptedException {
+        final MekSummaryCache mekSummaryCache = MekSummaryCache.getInstance();
+        final CountDownLatch loaded = new CountDownLatch(1);
+        final MekSummaryCache.Listener listener = loaded::countDown;
+        mekSummaryCache.addListener(listener);
+        try {
+            // The cache may have finished before the listener was registered
+            if (mekSummaryCache.isInitialized()) {
+                loaded.countDown();
+            }
+            loaded.await();
+        } finally {
+            // The cache lives for the whole session, so it must not keep hold of the listener
+            mekSummaryCache.removeListener(listener);
+        }
+    }
+}
@@ -824,6 +824,14 @@ public final class MHQOptions extends SuiteOptions {
         userPreferences.node(MHQConstants.AUTOSAVE_NODE).putBoolean(MHQConstants.SAVE_BEFORE_MISSION_END, value);
     }
 
+    public boolean getAutosaveInBackgroundValue() {
+        return userPreferences.node(MHQConstants.AUTOSAVE_NODE).getBoolean(MHQConstants.SAVE_IN_BACKGROUND_KEY, false);
+    }
+
+    public void setAutosaveInBackgroundValue(boolean value) {
+        userPreferences.node(MHQConstants.AUTOSAVE_NODE).putBoolean(MHQConstants.SAVE_IN_BACKGROUND_KEY, value);
+    }
+
     public int getMaximumNumberOfAutoSavesValue() {
         return userPreferences.node(MHQConstants.AUTOSAVE_NODE)
                      .getInt(MHQConstants.MAXIMUM_NUMBER_SAVES_KEY, MHQConstants.DEFAULT_NUMBER_SAVES);
@@ -1030,6 +1038,33 @@ public final class MHQOptions extends SuiteOptions {
     }
     // endregion Campaign XML Save Options
 
+    // region Data Loading
+
+    /**
+     * @return {@code true} if parsed planetary system files should be cached between launches
+     */
+    public boolean getUsePlanetarySystemCache() {
+        return userPreferences.node(MHQConstants.DATA_LOADING_NODE)
+                     .getBoolean(MHQConstants.USE_PLANETARY_SYSTEM_CACHE, false);
+    }
+
+    public void setUsePlanetarySystemCache(final boolean value) {
+        userPreferences.node(MHQConstants.DATA_LOADING_NODE).putBoolean(MHQConstants.USE_PLANETARY_SYSTEM_CACHE, value);
+    }
+
+    /**
+     * @return {@code true} if the tech progression calculated for each unit should be cached between launches
+     */
+    public boolean getUseTechProgressionCache() {
+        return userPreferences.node(MHQConstants.DATA_LOADING_NODE)
+                     .getBoolean(MHQConstants.USE_TECH_PROGRESSION_CACHE, true);
+    }
+
+    public void setUseTechProgressionCache(final boolean value) {
+        userPreferences.node(MHQConstants.DATA_LOADING_NODE).putBoolean(MHQConstants.USE_TECH_PROGRESSION_CACHE, value);
+    }
+    // endregion Data Loading
+
     // region File Paths
 
     /**
@@ -90,7 +90,7 @@ public class MHQStaticDirectoryManager extends MMStaticDirectoryManager {
      *
      * @see #refreshForceIcons()
      */
-    private static void initializeForceIcons() {
+    private static synchronized void initializeForceIcons() {
         // Read in and parse MekHQ's force icon folder only when first called or when
         // refreshed
         if (parseForceIconDirectory) {
@@ -118,7 +118,7 @@ public class MHQStaticDirectoryManager extends MMStaticDirectoryManager {
      *
      * @see #refreshAwardIcons()
      */
-    private static void initializeAwardIcons() {
+    private static synchronized void initializeAwardIcons() {
         // Read in and parse MekHQ's award icon folder only when first called or when
         // refreshed
         if (parseAwardIconDirectory) {
@@ -145,7 +145,7 @@ public class MHQStaticDirectoryManager extends MMStaticDirectoryManager {
      *
      * @see #refreshStorySplash()
      */
-    private static void initializeStorySplash() {
+    private static synchronized void initializeStorySplash() {
         // Read in and parse MekHQ's force icon folder only when first called or when
         // refreshed
         if (parseStorySplashDirectory) {
@@ -166,7 +166,7 @@ public class MHQStaticDirectoryManager extends MMStaticDirectoryManager {
     /**
      * Parses the user's Story Arc portraits directory when first called or when it was refreshed
      */
-    public static void initializeUserStoryPortraits(String path) {
+    public static synchronized void initializeUserStoryPortraits(String path) {
         // Read in and parse MekHQ's force icon folder only when first called or when
         // refreshed
         if (parseUserStoryPortraitDirectory) {
@@ -187,7 +187,7 @@ public class MHQStaticDirectoryManager extends MMStaticDirectoryManager {
     /**
      * Parses the user's Story Arc story arcs directory when first called or when it was refreshed
      */
-    public static void initializeUserStorySplash(String path) {
+    public static synchronized void initializeUserStorySplash(String path) {
         // Read in and parse MekHQ's force icon folder only when first called or when
         // refreshed
         if (parseUserStorySplashDirectory) {
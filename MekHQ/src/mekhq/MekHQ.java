@@ -234,6 +234,20 @@ public class MekHQ implements GameListener {
         new StartupScreenPanel(this).getFrame().setVisible(true);
     }
 
+    /**
+     * Prepares the application to run a campaign without any user interface, as done by
+     * {@link HeadlessCampaignRunner}. This loads the same preferences and registers the same event handlers as
+     * {@link #startup()}, but sets up neither the look-and-feel nor any frame.
+     */
+    void startupHeadless() {
+        MegaMek.getMMPreferences().loadFromFile(SuiteConstants.MM_PREFERENCES_FILE);
+        MegaMekLab.getMMLPreferences().loadFromFile(SuiteConstants.MML_PREFERENCES_FILE);
+        getMHQPreferences().loadFromFile(SuiteConstants.MHQ_PREFERENCES_FILE);
+
+        setUserPreferences();
+        initEventHandlers();
+    }
+
     /**
      * Configures the global tooltip display settings to show tooltips immediately and keep them visible.
      *
@@ -341,6 +355,7 @@ public class MekHQ implements GameListener {
         MegaMekLab.getMMLPreferences().saveToFile(SuiteConstants.MML_PREFERENCES_FILE);
         getMHQPreferences().saveToFile(SuiteConstants.MHQ_PREFERENCES_FILE);
 
+        autosaveService.awaitPendingAutosaves();
         System.exit(0);
     }
 
@@ -43,7 +43,10 @@ import static mekhq.campaign.enums.DailyReportType.ACQUISITIONS;
 import static mekhq.campaign.enums.DailyReportType.BATTLE;
 import static mekhq.campaign.enums.DailyReportType.FINANCES;
 import static mekhq.campaign.enums.DailyReportType.GENERAL;
+import static mekhq.campaign.enums.DailyReportType.MEDICAL;
 import static mekhq.campaign.enums.DailyReportType.PERSONNEL;
+import static mekhq.campaign.enums.DailyReportType.POLITICS;
+import static mekhq.campaign.enums.DailyReportType.SKILL_CHECKS;
 import static mekhq.campaign.enums.DailyReportType.TECHNICAL;
 import static mekhq.campaign.force.CombatTeam.recalculateCombatTeams;
 import static mekhq.campaign.force.Force.FORCE_NONE;
@@ -155,6 +158,7 @@ import mekhq.campaign.events.scenarios.ScenarioRemovedEvent;
 import mekhq.campaign.events.units.UnitNewEvent;
 import mekhq.campaign.events.units.UnitRemovedEvent;
 import mekhq.campaign.finances.Accountant;
+import mekhq.campaign.finances.AccountantCache;
 import mekhq.campaign.finances.CurrencyManager;
 import mekhq.campaign.finances.Finances;
 import mekhq.campaign.finances.Loan;
@@ -169,6 +173,7 @@ import mekhq.campaign.log.HistoricalLogEntry;
 import mekhq.campaign.log.LogEntry;
 import mekhq.campaign.log.MedicalLogger;
 import mekhq.campaign.log.ServiceLogger;
+import mekhq.campaign.market.PartsInUseIndex;
 import mekhq.campaign.market.PartsStore;
 import mekhq.campaign.market.PersonnelMarket;
 import mekhq.campaign.market.ShoppingList;
@@ -187,6 +192,8 @@ import mekhq.campaign.mission.enums.CombatRole;
 import mekhq.campaign.mission.enums.MissionStatus;
 import mekhq.campaign.mission.rentals.ContractRentalType;
 import mekhq.campaign.mission.rentals.FacilityRentals;
+import mekhq.campaign.newDay.InteractiveNewDayPolicy;
+import mekhq.campaign.newDay.NewDayInteractionPolicy;
 import mekhq.campaign.parts.AmmoStorage;
 import mekhq.campaign.parts.Armor;
 import mekhq.campaign.parts.BAArmor;
@@ -217,7 +224,7 @@ import mekhq.campaign.personnel.generator.AbstractPersonnelGenerator;
 import mekhq.campaign.personnel.generator.AbstractSpecialAbilityGenerator;
 import mekhq.campaign.personnel.generator.DefaultPersonnelGenerator;
 import mekhq.campaign.personnel.generator.DefaultSpecialAbilityGenerator;
-import mekhq.campaign.personnel.generator.RandomPortraitGenerator;
+import mekhq.campaign.personnel.generator.PortraitAllocator;
 import mekhq.campaign.personnel.marriage.AbstractMarriage;
 import mekhq.campaign.personnel.medical.MASHCapacity;
 import mekhq.campaign.personnel.medical.advancedMedicalAlternate.Inoculations;
@@ -233,10 +240,12 @@ import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.personnel.turnoverAndRetention.RetirementDefectionTracker;
 import mekhq.campaign.randomEvents.RandomEventLibraries;
 import mekhq.campaign.randomEvents.prisoners.enums.PrisonerStatus;
+import mekhq.campaign.report.DailyReportBuffer;
 import mekhq.campaign.storyArc.StoryArc;
 import mekhq.campaign.stratCon.StratConContractInitializer;
 import mekhq.campaign.stratCon.StratConRulesManager;
 import mekhq.campaign.stratCon.StratConTrackState;
+import mekhq.campaign.unit.C3NetworkIndex;
 import mekhq.campaign.unit.CargoStatistics;
 import mekhq.campaign.unit.CrewType;
 import mekhq.campaign.unit.HangarStatistics;
@@ -255,6 +264,9 @@ import mekhq.campaign.universe.factionStanding.FactionStandingUltimatumsLibrary;
 import mekhq.campaign.universe.factionStanding.FactionStandingUtilities;
 import mekhq.campaign.universe.factionStanding.FactionStandings;
 import mekhq.campaign.universe.fameAndInfamy.FameAndInfamyController;
+import mekhq.campaign.universe.routing.JumpGraph;
+import mekhq.campaign.universe.routing.JumpPathFinder;
+import mekhq.campaign.universe.routing.SystemIndex;
 import mekhq.campaign.universe.selectors.factionSelectors.AbstractFactionSelector;
 import mekhq.campaign.universe.selectors.factionSelectors.DefaultFactionSelector;
 import mekhq.campaign.universe.selectors.factionSelectors.RangedFactionSelector;
@@ -302,6 +314,8 @@ public class Campaign implements ITechManager {
     CampaignTransporterMap tacticalTransporters = new CampaignTransporterMap(this,
           CampaignTransportType.TACTICAL_TRANSPORT);
     CampaignTransporterMap towTransporters = new CampaignTransporterMap(this, CampaignTransportType.TOW_TRANSPORT);
+    // The C3 networks of every unit, indexed once for the save in progress on the current thread
+    private final ThreadLocal<C3NetworkIndex> savingC3NetworkIndex = new ThreadLocal<>();
     private final Map<UUID, Person> personnel = new LinkedHashMap<>();
 
     /**
@@ -313,12 +327,15 @@ public class Campaign implements ITechManager {
     private final TreeMap<Integer, Force> forceIds = new TreeMap<>();
     private final TreeMap<Integer, Mission> missions = new TreeMap<>();
     private final TreeMap<Integer, Scenario> scenarios = new TreeMap<>();
-    private final Map<UUID, List<Kill>> kills = new HashMap<>();
+    private final KillLedger kills = new KillLedger();
 
     // This maps PartInUse ToString() results to doubles, representing a mapping
     // of parts in use to their requested stock percentages to make these values
     // persistent
     private Map<String, Double> partsInUseRequestedStockMap = new LinkedHashMap<>();
+    private transient PartsInUseIndex partsInUseIndex;
+    private transient final AccountantCache accountantCache = new AccountantCache();
+    private transient final PortraitAllocator portraitAllocator = new PortraitAllocator();
 
     private transient final UnitNameTracker unitNameTracker = new UnitNameTracker();
 
@@ -360,40 +377,16 @@ public class Campaign implements ITechManager {
     private RankSystem rankSystem;
 
     private final ArrayList<String> currentReport;
-    private transient String currentReportHTML;
-    private transient List<String> newReports;
-
     private final ArrayList<String> personnelReport;
-    private transient String personnelReportHTML;
-    private transient List<String> newPersonnelReports;
-
     private final ArrayList<String> skillReport;
-    private transient String skillReportHTML;
-    private transient List<String> newSkillReports;
-
     private final ArrayList<String> technicalReport;
-    private transient String technicalReportHTML;
-    private transient List<String> newTechnicalReports;
-
     private final ArrayList<String> financesReport;
-    private transient String financesReportHTML;
-    private transient List<String> newFinancesReports;
-
     private final ArrayList<String> acquisitionsReport;
-    private transient String acquisitionsReportHTML;
-    private transient List<String> newAcquisitionsReports;
-
     private final ArrayList<String> medicalReport;
-    private transient String medicalReportHTML;
-    private transient List<String> newMedicalReports;
-
     private final ArrayList<String> battleReport;
-    private transient String battleReportHTML;
-    private transient List<String> newBattleReports;
-
     private final ArrayList<String> politicsReport;
-    private transient String politicsReportHTML;
-    private transient List<String> newPoliticsReports;
+
+    private final transient Map<DailyReportType, DailyReportBuffer> reportBuffers;
 
     private boolean fieldKitchenWithinCapacity;
     private int mashTheatreCapacity;
@@ -427,6 +420,7 @@ public class Campaign implements ITechManager {
     private CampaignOptions campaignOptions;
     private RandomSkillPreferences randomSkillPreferences = new RandomSkillPreferences();
     private MekHQ app;
+    private NewDayInteractionPolicy newDayInteractionPolicy = new InteractiveNewDayPolicy();
 
     /**
      * This is not unused even if IDEA says it is. This event processor subscribes to various events that need to be
@@ -647,40 +641,19 @@ public class Campaign implements ITechManager {
 
         // Reports
         currentReport = new ArrayList<>();
-        currentReportHTML = "";
-        newReports = new ArrayList<>();
-
         personnelReport = new ArrayList<>();
-        personnelReportHTML = "";
-        newPersonnelReports = new ArrayList<>();
-
         skillReport = new ArrayList<>();
-        skillReportHTML = "";
-        newSkillReports = new ArrayList<>();
-
         technicalReport = new ArrayList<>();
-        technicalReportHTML = "";
-        newTechnicalReports = new ArrayList<>();
-
         financesReport = new ArrayList<>();
-        financesReportHTML = "";
-        newFinancesReports = new ArrayList<>();
-
         acquisitionsReport = new ArrayList<>();
-        acquisitionsReportHTML = "";
-        newAcquisitionsReports = new ArrayList<>();
-
         medicalReport = new ArrayList<>();
-        medicalReportHTML = "";
-        newMedicalReports = new ArrayList<>();
-
         battleReport = new ArrayList<>();
-        battleReportHTML = "";
-        newBattleReports = new ArrayList<>();
-
         politicsReport = new ArrayList<>();
-        politicsReportHTML = "";
-        newPoliticsReports = new ArrayList<>();
+
+        reportBuffers = new EnumMap<>(DailyReportType.class);
+        for (DailyReportType type : DailyReportType.values()) {
+            reportBuffers.put(type, new DailyReportBuffer());
+        }
 
         // Secondary initialization from passed / derived values
         news = new News(getGameYear(), id.getLeastSignificantBits());
@@ -712,6 +685,20 @@ public class Campaign implements ITechManager {
         this.app = app;
     }
 
+    /**
+     * @return how advancing the day interacts with the player
+     */
+    public NewDayInteractionPolicy getNewDayInteractionPolicy() {
+        return newDayInteractionPolicy;
+    }
+
+    /**
+     * @param newDayInteractionPolicy how advancing the day interacts with the player
+     */
+    public void setNewDayInteractionPolicy(NewDayInteractionPolicy newDayInteractionPolicy) {
+        this.newDayInteractionPolicy = Objects.requireNonNull(newDayInteractionPolicy);
+    }
+
     /**
      * @param overviewLoadingValue the overviewLoadingValue to set
      */
@@ -2151,6 +2138,18 @@ public class Campaign implements ITechManager {
         return getUnits().stream().map(Unit::getEntity).collect(Collectors.toList());
     }
 
+    /**
+     * While the campaign is being saved, this returns the index built once at the start of the save, so that writing
+     * each unit doesn't have to collect and scan every entity again. Otherwise, a new index of the current entities is
+     * built.
+     *
+     * @return the naval C3 and C3i networks of the entities of every unit in the campaign
+     */
+    public C3NetworkIndex getC3NetworkIndex() {
+        C3NetworkIndex index = savingC3NetworkIndex.get();
+        return (index == null) ? new C3NetworkIndex(getEntities()) : index;
+    }
+
     public Unit getUnit(UUID id) {
         return getHangar().getUnit(id);
     }
@@ -3385,25 +3384,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setCurrentReportHTML(String html) {
-        currentReportHTML = html;
+        getReportBuffer(GENERAL).setHtml(html);
     }
 
     public String getCurrentReportHTML() {
-        return currentReportHTML;
+        return getReportBuffer(GENERAL).getHtml();
     }
 
     public List<String> getNewReports() {
-        return newReports;
+        return getReportBuffer(GENERAL).getNewReports();
     }
 
     public void setNewReports(List<String> reports) {
-        newReports = reports;
+        getReportBuffer(GENERAL).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewReports() {
-        List<String> oldReports = newReports;
-        setNewReports(new ArrayList<>());
-        return oldReports;
+        return getReportBuffer(GENERAL).fetchAndClearNewReports();
     }
 
     public List<String> getSkillReport() {
@@ -3411,25 +3408,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setSkillReportHTML(String html) {
-        skillReportHTML = html;
+        getReportBuffer(SKILL_CHECKS).setHtml(html);
     }
 
     public String getSkillReportHTML() {
-        return skillReportHTML;
+        return getReportBuffer(SKILL_CHECKS).getHtml();
     }
 
     public List<String> getNewSkillReports() {
-        return newSkillReports;
+        return getReportBuffer(SKILL_CHECKS).getNewReports();
     }
 
     public void setNewSkillReports(List<String> reports) {
-        newSkillReports = reports;
+        getReportBuffer(SKILL_CHECKS).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewSkillReports() {
-        List<String> oldSkillReports = newSkillReports;
-        setNewSkillReports(new ArrayList<>());
-        return oldSkillReports;
+        return getReportBuffer(SKILL_CHECKS).fetchAndClearNewReports();
     }
 
     public List<String> getTechnicalReport() {
@@ -3437,25 +3432,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setTechnicalReportHTML(String html) {
-        technicalReportHTML = html;
+        getReportBuffer(TECHNICAL).setHtml(html);
     }
 
     public String getTechnicalReportHTML() {
-        return technicalReportHTML;
+        return getReportBuffer(TECHNICAL).getHtml();
     }
 
     public List<String> getNewTechnicalReports() {
-        return newTechnicalReports;
+        return getReportBuffer(TECHNICAL).getNewReports();
     }
 
     public void setNewTechnicalReports(List<String> reports) {
-        newTechnicalReports = reports;
+        getReportBuffer(TECHNICAL).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewTechnicalReports() {
-        List<String> oldTechnicalReports = newTechnicalReports;
-        setNewTechnicalReports(new ArrayList<>());
-        return oldTechnicalReports;
+        return getReportBuffer(TECHNICAL).fetchAndClearNewReports();
     }
 
     public List<String> getFinancesReport() {
@@ -3463,25 +3456,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setFinancesReportHTML(String html) {
-        financesReportHTML = html;
+        getReportBuffer(FINANCES).setHtml(html);
     }
 
     public String getFinancesReportHTML() {
-        return financesReportHTML;
+        return getReportBuffer(FINANCES).getHtml();
     }
 
     public List<String> getNewFinancesReports() {
-        return newFinancesReports;
+        return getReportBuffer(FINANCES).getNewReports();
     }
 
     public void setNewFinancesReports(List<String> reports) {
-        newFinancesReports = reports;
+        getReportBuffer(FINANCES).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewFinancesReports() {
-        List<String> oldFinancesReports = newFinancesReports;
-        setNewFinancesReports(new ArrayList<>());
-        return oldFinancesReports;
+        return getReportBuffer(FINANCES).fetchAndClearNewReports();
     }
 
     public List<String> getAcquisitionsReport() {
@@ -3489,25 +3480,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setAcquisitionsReportHTML(String html) {
-        acquisitionsReportHTML = html;
+        getReportBuffer(ACQUISITIONS).setHtml(html);
     }
 
     public String getAcquisitionsReportHTML() {
-        return acquisitionsReportHTML;
+        return getReportBuffer(ACQUISITIONS).getHtml();
     }
 
     public List<String> getNewAcquisitionsReports() {
-        return newAcquisitionsReports;
+        return getReportBuffer(ACQUISITIONS).getNewReports();
     }
 
     public void setNewAcquisitionsReports(List<String> reports) {
-        newAcquisitionsReports = reports;
+        getReportBuffer(ACQUISITIONS).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewAcquisitionsReports() {
-        List<String> oldAcquisitionsReports = newAcquisitionsReports;
-        setNewAcquisitionsReports(new ArrayList<>());
-        return oldAcquisitionsReports;
+        return getReportBuffer(ACQUISITIONS).fetchAndClearNewReports();
     }
 
     public List<String> getMedicalReport() {
@@ -3515,25 +3504,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setMedicalReportHTML(String html) {
-        medicalReportHTML = html;
+        getReportBuffer(MEDICAL).setHtml(html);
     }
 
     public String getMedicalReportHTML() {
-        return medicalReportHTML;
+        return getReportBuffer(MEDICAL).getHtml();
     }
 
     public List<String> getNewMedicalReports() {
-        return newMedicalReports;
+        return getReportBuffer(MEDICAL).getNewReports();
     }
 
     public void setNewMedicalReports(List<String> reports) {
-        newMedicalReports = reports;
+        getReportBuffer(MEDICAL).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewMedicalReports() {
-        List<String> oldMedicalReports = newMedicalReports;
-        setNewMedicalReports(new ArrayList<>());
-        return oldMedicalReports;
+        return getReportBuffer(MEDICAL).fetchAndClearNewReports();
     }
 
     public List<String> getPersonnelReport() {
@@ -3541,25 +3528,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setPersonnelReportHTML(String html) {
-        personnelReportHTML = html;
+        getReportBuffer(PERSONNEL).setHtml(html);
     }
 
     public String getPersonnelReportHTML() {
-        return personnelReportHTML;
+        return getReportBuffer(PERSONNEL).getHtml();
     }
 
     public List<String> getNewPersonnelReports() {
-        return newPersonnelReports;
+        return getReportBuffer(PERSONNEL).getNewReports();
     }
 
     public void setNewPersonnelReports(List<String> reports) {
-        newPersonnelReports = reports;
+        getReportBuffer(PERSONNEL).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewPersonnelReports() {
-        List<String> oldPersonnelReports = newPersonnelReports;
-        setNewPersonnelReports(new ArrayList<>());
-        return oldPersonnelReports;
+        return getReportBuffer(PERSONNEL).fetchAndClearNewReports();
     }
 
     public List<String> getBattleReport() {
@@ -3567,25 +3552,23 @@ public class Campaign implements ITechManager {
     }
 
     public void setBattleReportHTML(String html) {
-        battleReportHTML = html;
+        getReportBuffer(BATTLE).setHtml(html);
     }
 
     public String getBattleReportHTML() {
-        return battleReportHTML;
+        return getReportBuffer(BATTLE).getHtml();
     }
 
     public List<String> getNewBattleReports() {
-        return newBattleReports;
+        return getReportBuffer(BATTLE).getNewReports();
     }
 
     public void setNewBattleReports(List<String> reports) {
-        newBattleReports = reports;
+        getReportBuffer(BATTLE).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewBattleReports() {
-        List<String> oldBattleReports = newBattleReports;
-        setNewBattleReports(new ArrayList<>());
-        return oldBattleReports;
+        return getReportBuffer(BATTLE).fetchAndClearNewReports();
     }
 
     public List<String> getPoliticsReport() {
@@ -3593,25 +3576,69 @@ public class Campaign implements ITechManager {
     }
 
     public void setPoliticsReportHTML(String html) {
-        politicsReportHTML = html;
+        getReportBuffer(POLITICS).setHtml(html);
     }
 
     public String getPoliticsReportHTML() {
-        return politicsReportHTML;
+        return getReportBuffer(POLITICS).getHtml();
     }
 
     public List<String> getNewPoliticsReports() {
-        return newPoliticsReports;
+        return getReportBuffer(POLITICS).getNewReports();
     }
 
     public void setNewPoliticsReports(List<String> reports) {
-        newPoliticsReports = reports;
+        getReportBuffer(POLITICS).setNewReports(reports);
     }
 
     public List<String> fetchAndClearNewPoliticsReports() {
-        List<String> oldPoliticsReports = newPoliticsReports;
-        setNewPoliticsReports(new ArrayList<>());
-        return oldPoliticsReports;
+        return getReportBuffer(POLITICS).fetchAndClearNewReports();
+    }
+
+    /**
+     * @param type the daily report to get
+     *
+     * @return the reports of the current day of the given type, as they are saved with the campaign
+     */
+    public List<String> getReport(DailyReportType type) {
+        return switch (type) {
+            case GENERAL -> getCurrentReport();
+            case BATTLE -> getBattleReport();
+            case PERSONNEL -> getPersonnelReport();
+            case MEDICAL -> getMedicalReport();
+            case FINANCES -> getFinancesReport();
+            case ACQUISITIONS -> getAcquisitionsReport();
+            case TECHNICAL -> getTechnicalReport();
+            case POLITICS -> getPoliticsReport();
+            case SKILL_CHECKS -> getSkillReport();
+        };
+    }
+
+    /**
+     * @param type the daily report to get
+     *
+     * @return the buffer holding the HTML of the current day's report of the given type
+     */
+    public DailyReportBuffer getReportBuffer(DailyReportType type) {
+        return reportBuffers.get(type);
+    }
+
+    /**
+     * @param type the daily report to get
+     *
+     * @return the HTML of the current day's report of the given type
+     */
+    public String getReportHTML(DailyReportType type) {
+        return getReportBuffer(type).getHtml();
+    }
+
+    /**
+     * @param type the daily report to fetch from
+     *
+     * @return the reports of the given type added since they were last fetched, which are then cleared
+     */
+    public List<String> fetchAndClearNewReports(DailyReportType type) {
+        return getReportBuffer(type).fetchAndClearNewReports();
     }
 
     /**
@@ -5762,13 +5789,20 @@ public class Campaign implements ITechManager {
     }
 
     public void removeKill(Kill k) {
-        if (kills.containsKey(k.getPilotId())) {
-            kills.get(k.getPilotId()).remove(k);
-        }
+        kills.remove(k);
     }
 
     public void removeKillsFor(UUID personID) {
-        kills.remove(personID);
+        kills.removeAllFor(personID);
+    }
+
+    /**
+     * Moves a kill to the indexes matching its current values, after it was edited.
+     *
+     * @param k the edited {@link Kill}
+     */
+    public void updateKill(Kill k) {
+        kills.update(k);
     }
 
     public void removeForce(Force force) {
@@ -6204,107 +6238,8 @@ public class Campaign implements ITechManager {
     }
 
     private void addReportInternal(final DailyReportType type, final String report) {
-        switch (type) {
-            case GENERAL -> {
-                currentReport.add(report);
-                if (!currentReportHTML.isEmpty()) {
-                    currentReportHTML = currentReportHTML + REPORT_LINEBREAK + report;
-                    newReports.add(REPORT_LINEBREAK);
-                } else {
-                    currentReportHTML = report;
-                }
-
-                newReports.add(report);
-            }
-            case SKILL_CHECKS -> {
-                skillReport.add(report);
-                if (!skillReportHTML.isEmpty()) {
-                    skillReportHTML = skillReportHTML + REPORT_LINEBREAK + report;
-                    newSkillReports.add(REPORT_LINEBREAK);
-                } else {
-                    skillReportHTML = report;
-                }
-
-                newSkillReports.add(report);
-            }
-            case TECHNICAL -> {
-                technicalReport.add(report);
-                if (!technicalReportHTML.isEmpty()) {
-                    technicalReportHTML = technicalReportHTML + REPORT_LINEBREAK + report;
-                    newTechnicalReports.add(REPORT_LINEBREAK);
-                } else {
-                    technicalReportHTML = report;
-                }
-
-                newTechnicalReports.add(report);
-            }
-            case FINANCES -> {
-                financesReport.add(report);
-                if (!financesReportHTML.isEmpty()) {
-                    financesReportHTML = financesReportHTML + REPORT_LINEBREAK + report;
-                    newFinancesReports.add(REPORT_LINEBREAK);
-                } else {
-                    financesReportHTML = report;
-                }
-
-                newFinancesReports.add(report);
-            }
-            case ACQUISITIONS -> {
-                acquisitionsReport.add(report);
-                if (!acquisitionsReportHTML.isEmpty()) {
-                    acquisitionsReportHTML = acquisitionsReportHTML + REPORT_LINEBREAK + report;
-                    newAcquisitionsReports.add(REPORT_LINEBREAK);
-                } else {
-                    acquisitionsReportHTML = report;
-                }
-
-                newAcquisitionsReports.add(report);
-            }
-            case MEDICAL -> {
-                medicalReport.add(report);
-                if (!medicalReportHTML.isEmpty()) {
-                    medicalReportHTML = medicalReportHTML + REPORT_LINEBREAK + report;
-                    newMedicalReports.add(REPORT_LINEBREAK);
-                } else {
-                    medicalReportHTML = report;
-                }
-
-                newMedicalReports.add(report);
-            }
-            case PERSONNEL -> {
-                personnelReport.add(report);
-                if (!personnelReportHTML.isEmpty()) {
-                    personnelReportHTML = personnelReportHTML + REPORT_LINEBREAK + report;
-                    newPersonnelReports.add(REPORT_LINEBREAK);
-                } else {
-                    personnelReportHTML = report;
-                }
-
-                newPersonnelReports.add(report);
-            }
-            case BATTLE -> {
-                battleReport.add(report);
-                if (!battleReportHTML.isEmpty()) {
-                    battleReportHTML = battleReportHTML + REPORT_LINEBREAK + report;
-                    newBattleReports.add(REPORT_LINEBREAK);
-                } else {
-                    battleReportHTML = report;
-                }
-
-                newBattleReports.add(report);
-            }
-            case POLITICS -> {
-                politicsReport.add(report);
-                if (!politicsReportHTML.isEmpty()) {
-                    politicsReportHTML = politicsReportHTML + REPORT_LINEBREAK + report;
-                    newPoliticsReports.add(REPORT_LINEBREAK);
-                } else {
-                    politicsReportHTML = report;
-                }
-
-                newPoliticsReports.add(report);
-            }
-        }
+        getReport(type).add(report);
+        getReportBuffer(type).append(report);
         MekHQ.triggerEvent(new ReportEvent(this, report));
     }
 
@@ -6507,6 +6442,15 @@ public class Campaign implements ITechManager {
     }
 
     public void writeToXML(final PrintWriter writer, boolean isBugReportPrep) {
+        savingC3NetworkIndex.set(new C3NetworkIndex(getEntities()));
+        try {
+            writeCampaignToXML(writer, isBugReportPrep);
+        } finally {
+            savingC3NetworkIndex.remove();
+        }
+    }
+
+    private void writeCampaignToXML(final PrintWriter writer, boolean isBugReportPrep) {
         int indent = 0;
 
         // File header
@@ -6696,10 +6640,8 @@ public class Campaign implements ITechManager {
               isOverridingCommandCircuitRequirements);
         shoppingList.writeToXML(writer, indent);
         MHQXMLUtility.writeSimpleXMLOpenTag(writer, indent++, "kills");
-        for (List<Kill> kills : kills.values()) {
-            for (Kill k : kills) {
-                k.writeToXML(writer, indent);
-            }
+        for (Kill k : kills.getKills()) {
+            k.writeToXML(writer, indent);
         }
         MHQXMLUtility.writeSimpleXMLCloseTag(writer, --indent, "kills");
         MHQXMLUtility.writeSimpleXMLOpenTag(writer, indent++, "skillTypes");
@@ -6967,6 +6909,21 @@ public class Campaign implements ITechManager {
         return new Accountant(this);
     }
 
+    /**
+     * @return the projections of the campaign's {@link Accountant}, kept until the date changes or the campaign is
+     *       changed
+     */
+    public AccountantCache getAccountantCache() {
+        return accountantCache;
+    }
+
+    /**
+     * @return the allocator picking random portraits for this campaign's personnel
+     */
+    public PortraitAllocator getPortraitAllocator() {
+        return portraitAllocator;
+    }
+
     /**
      * Calculates and returns a {@code JumpPath} between two planetary systems, using default parameters for jump range
      * and travel safety.
@@ -6994,8 +6951,8 @@ public class Campaign implements ITechManager {
      * <p>The algorithm will optionally avoid systems without population when the {@code
      * isAvoidingEmptySystems} flag equals {@code true}.</p>
      *
-     * <p>Implementation is based on:
-     * <a href="http://www.policyalmanac.org/games/aStarTutorial.htm">Policy Almanac A* Tutorial</a></p>
+     * <p>The search itself is performed by {@link JumpPathFinder}; this method only supplies the campaign-specific
+     * jump costs and restrictions.</p>
      *
      * @param start                The starting planetary system
      * @param end                  The destination planetary system
@@ -7048,163 +7005,39 @@ public class Campaign implements ITechManager {
             }
         }
 
-        // Initialize A* algorithm variables
-        String startKey = start.getId();
-        String endKey = end.getId();
-
-        Set<String> closed = new HashSet<>();
-        Set<String> open = new HashSet<>();
-
-        Map<String, String> parent = new HashMap<>();
-        Map<String, Double> scoreH = new HashMap<>(); // Heuristic scores (estimated cost to goal)
-        Map<String, Double> scoreG = new HashMap<>(); // Path costs from start
-
-        // Precompute heuristics
-        Map<String, PlanetarySystem> allSystems = this.systemsInstance.getSystems();
-
-        for (Entry<String, PlanetarySystem> entry : allSystems.entrySet()) {
-            scoreH.put(entry.getKey(), end.getDistanceTo(entry.getValue()));
-        }
-
-        // Initialize starting node
-        String current = startKey;
-        scoreG.put(current, 0.0);
-        closed.add(current);
-
         // We need this additional check as later we're going to be comparing neighbors, rather than start point.
         // Which means that if we're passing through more than one Outlawed system en route to our escape our
         // progress will be blocked.
         boolean isEscapingOutlawing = !FactionStandingUtilities.canEnterTargetSystem(faction, factionStandings,
               null, start, currentDay, activeAtBContracts, factionHints);
 
-        // A* search
-        final int MAX_JUMPS = 10000;
-        for (int jumps = 0; jumps < MAX_JUMPS; jumps++) {
-            PlanetarySystem currentSystem = systemsInstance.getSystemById(current);
-
-            boolean isUseCommandCircuits =
-                  FactionStandingUtilities.isUseCommandCircuit(isOverridingCommandCircuitRequirements, gmMode,
-                        campaignOptions.isUseFactionStandingCommandCircuitSafe(),
-                        factionStandings,
-                        getFutureAtBContracts());
-
-            // Get current node's information
-            double currentG = scoreG.get(current) + currentSystem.getRechargeTime(getLocalDate(), isUseCommandCircuits);
-            final String localCurrent = current;
-
-            // Explore neighbors
-            systemsInstance.visitNearbySystems(currentSystem, 30, neighborSystem -> {
-                String neighborId = neighborSystem.getId();
-
-                // Skip systems without population if avoiding empty systems
-                if (!skipEmptySystemCheck
-                          && isAvoidingEmptySystems
-                          && neighborSystem.getPopulation(currentDay) == 0) {
-                    return;
-                }
-
-                // Skip systems where the campaign is outlawed
-                if (!skipAccessCheck &&
-                          !isEscapingOutlawing &&
-                          campaignOptions.isUseFactionStandingOutlawedSafe()) {
-                    boolean canAccessSystem = FactionStandingUtilities.canEnterTargetSystem(faction, factionStandings,
-                          currentSystem, neighborSystem, currentDay, activeAtBContracts, factionHints);
-                    if (!canAccessSystem) {
-                        return;
-                    }
-                }
+        boolean isUseCommandCircuits =
+              FactionStandingUtilities.isUseCommandCircuit(isOverridingCommandCircuitRequirements, gmMode,
+                    campaignOptions.isUseFactionStandingCommandCircuitSafe(),
+                    factionStandings,
+                    getFutureAtBContracts());
+        boolean isCheckingAccess = !skipAccessCheck
+                                         && !isEscapingOutlawing
+                                         && campaignOptions.isUseFactionStandingOutlawedSafe();
+        boolean isCheckingPopulation = !skipEmptySystemCheck && isAvoidingEmptySystems;
 
-                if (closed.contains(neighborId)) {
-                    return; // Already evaluated
-                }
+        JumpGraph jumpGraph = systemsInstance.getJumpGraph();
+        SystemIndex systemIndex = jumpGraph.getSystemIndex();
+        BitSet populatedSystems = jumpGraph.getPopulatedSystems(currentDay);
 
-                if (open.contains(neighborId)) {
-                    // Check if this path is better than the previously found one
-                    if (currentG < scoreG.get(neighborId)) {
-                        scoreG.put(neighborId, currentG);
-                        parent.put(neighborId, localCurrent);
-                    }
-                } else {
-                    // Discover a new node
-                    scoreG.put(neighborId, currentG);
-                    parent.put(neighborId, localCurrent);
-                    open.add(neighborId);
-                }
-            });
+        return new JumpPathFinder(jumpGraph).findPath(start, end,
+              system -> system.getRechargeTime(currentDay, isUseCommandCircuits),
+              (from, to) -> {
+                  // Skip systems without population if avoiding empty systems
+                  if (isCheckingPopulation && !populatedSystems.get(to)) {
+                      return false;
+                  }
 
-            // Find the open node with the lowest f score
-            String bestMatch = findNodeWithLowestFScore(open, scoreG, scoreH);
-
-            if (bestMatch == null) {
-                break; // No path exists
-            }
-
-            // Move to the best node
-            current = bestMatch;
-            closed.add(current);
-            open.remove(current);
-
-            // Check if we've reached the destination
-            if (current.equals(endKey)) {
-                return reconstructPath(current, parent, systemsInstance);
-            }
-        }
-
-        // No path found or maximum jumps reached
-        return reconstructPath(current, parent, systemsInstance);
-    }
-
-    /**
-     * Finds the node in the open set with the lowest f-score (g + h).
-     *
-     * @param openSet The set of nodes to evaluate
-     * @param gScores Map of path costs from start
-     * @param hScores Map of heuristic distances to goal
-     *
-     * @return The node with the lowest f-score, or null if openSet is empty
-     */
-    private String findNodeWithLowestFScore(Set<String> openSet, Map<String, Double> gScores,
-          Map<String, Double> hScores) {
-        String bestMatch = null;
-        double bestF = Double.POSITIVE_INFINITY;
-
-        for (String candidate : openSet) {
-            double f = gScores.get(candidate) + hScores.get(candidate);
-            if (f < bestF) {
-                bestMatch = candidate;
-                bestF = f;
-            }
-        }
-
-        return bestMatch;
-    }
-
-    /**
-     * Reconstructs the path from the parent map.
-     *
-     * @param current         The final node in the path
-     * @param parent          Map of parent nodes
-     * @param systemsInstance The systems registry
-     *
-     * @return A JumpPath containing the sequence of systems
-     */
-    private JumpPath reconstructPath(String current, Map<String, String> parent, Systems systemsInstance) {
-        // Reconstruct path
-        List<PlanetarySystem> path = new ArrayList<>();
-        String nextKey = current;
-
-        while (nextKey != null) {
-            path.add(systemsInstance.getSystemById(nextKey));
-            nextKey = parent.get(nextKey);
-        }
-
-        // Create the final path in the correct order (start to end)
-        JumpPath finalPath = new JumpPath();
-        for (int i = path.size() - 1; i >= 0; i--) {
-            finalPath.addSystem(path.get(i));
-        }
-
-        return finalPath;
+                  // Skip systems where the campaign is outlawed
+                  return !isCheckingAccess || FactionStandingUtilities.canEnterTargetSystem(faction,
+                        factionStandings, systemIndex.getSystem(from), systemIndex.getSystem(to), currentDay,
+                        activeAtBContracts, factionHints);
+              });
     }
 
     /**
@@ -8512,18 +8345,14 @@ public class Campaign implements ITechManager {
      * @param k A {@link Kill} to import into the campaign.
      */
     public void importKill(Kill k) {
-        if (!kills.containsKey(k.getPilotId())) {
-            kills.put(k.getPilotId(), new ArrayList<>());
-        }
-
-        kills.get(k.getPilotId()).add(k);
+        kills.add(k);
     }
 
     public void addKill(Kill k) {
         importKill(k);
 
         if ((getCampaignOptions().getKillsForXP() > 0) && (getCampaignOptions().getKillXPAward() > 0)) {
-            if ((getKillsFor(k.getPilotId()).size() % getCampaignOptions().getKillsForXP()) == 0) {
+            if ((kills.getKillCount(k.getPilotId()) % getCampaignOptions().getKillsForXP()) == 0) {
                 Person person = getPerson(k.getPilotId());
                 if (null != person) {
                     person.awardXP(this, getCampaignOptions().getKillXPAward());
@@ -8534,23 +8363,32 @@ public class Campaign implements ITechManager {
     }
 
     public List<Kill> getKills() {
-        List<Kill> flattenedKills = new ArrayList<>();
-        for (List<Kill> personKills : kills.values()) {
-            flattenedKills.addAll(personKills);
-        }
-
-        return Collections.unmodifiableList(flattenedKills);
+        return Collections.unmodifiableList(kills.getKills());
     }
 
+    /**
+     * @param pid the id of the person
+     *
+     * @return the kills credited to the person, in date order
+     */
     public List<Kill> getKillsFor(UUID pid) {
-        List<Kill> personalKills = kills.get(pid);
+        return kills.getKillsFor(pid);
+    }
 
-        if (personalKills == null) {
-            return Collections.emptyList();
-        }
+    /**
+     * @param pid the id of the person
+     *
+     * @return the number of kills credited to the person
+     */
+    public int getKillCount(UUID pid) {
+        return kills.getKillCount(pid);
+    }
 
-        personalKills.sort(Comparator.comparing(Kill::getDate));
-        return personalKills;
+    /**
+     * @return the kills of the campaign, indexed by person, mission, scenario and force
+     */
+    public KillLedger getKillLedger() {
+        return kills;
     }
 
     public PartsStore getPartsStore() {
@@ -8666,12 +8504,13 @@ public class Campaign implements ITechManager {
     public void assignRandomPortraitFor(final Person person) {
         final boolean allowDuplicatePortraits = campaignOptions.isAllowDuplicatePortraits();
         final boolean genderedPortraitsOnly = campaignOptions.isUseGenderedPortraitsOnly();
-        final Portrait portrait = RandomPortraitGenerator.generate(getPersonnel(),
+        final Portrait portrait = portraitAllocator.allocate(getPersonnel(),
               person,
               allowDuplicatePortraits,
               genderedPortraitsOnly);
         if (!portrait.isDefault()) {
             person.setPortrait(portrait);
+            portraitAllocator.update(person);
         }
     }
 
@@ -9909,6 +9748,16 @@ public class Campaign implements ITechManager {
         this.partsInUseRequestedStockMap = partsInUseRequestedStockMap;
     }
 
+    /**
+     * @return the index grouping the parts in the {@link Warehouse} by the Parts In Use row they count towards
+     */
+    public PartsInUseIndex getPartsInUseIndex() {
+        if ((partsInUseIndex == null) || !partsInUseIndex.isFor(getWarehouse())) {
+            partsInUseIndex = new PartsInUseIndex(getWarehouse());
+        }
+        return partsInUseIndex;
+    }
+
     public boolean getIgnoreMothballed() {
         return ignoreMothballed;
     }
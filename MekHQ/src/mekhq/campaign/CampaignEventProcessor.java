@@ -34,8 +34,20 @@ package mekhq.campaign;
 
 import megamek.common.event.Subscribe;
 import mekhq.MekHQ;
+import mekhq.campaign.events.AsTechPoolChangedEvent;
+import mekhq.campaign.events.LocationChangedEvent;
+import mekhq.campaign.events.MedicPoolChangedEvent;
+import mekhq.campaign.events.NewDayEvent;
+import mekhq.campaign.events.OptionsChangedEvent;
+import mekhq.campaign.events.OrganizationChangedEvent;
+import mekhq.campaign.events.missions.MissionEvent;
+import mekhq.campaign.events.parts.PartChangedEvent;
+import mekhq.campaign.events.parts.PartNewEvent;
+import mekhq.campaign.events.parts.PartRemovedEvent;
 import mekhq.campaign.events.persons.PersonCrewAssignmentEvent;
 import mekhq.campaign.events.persons.PersonEvent;
+import mekhq.campaign.events.persons.PersonRemovedEvent;
+import mekhq.campaign.events.units.UnitEvent;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.unit.Unit;
@@ -75,8 +87,15 @@ public record CampaignEventProcessor(Campaign campaign) {
     @Subscribe
     public void handlePersonUpdate(PersonEvent personEvent) {
         campaign().invalidateActivePersonnelCache();
+        campaign().getAccountantCache().invalidate();
         Person person = personEvent.getPerson();
         person.invalidateAdvancedAsTechContribution();
+
+        if (personEvent instanceof PersonRemovedEvent) {
+            campaign().getPortraitAllocator().remove(person);
+        } else {
+            campaign().getPortraitAllocator().update(person);
+        }
     }
 
     /**
@@ -100,4 +119,88 @@ public record CampaignEventProcessor(Campaign campaign) {
             unit.setTempCrew(PersonnelRole.VESSEL_CREW, 0);
         }
     }
+
+    /**
+     * Keeps the Parts In Use index up to date as parts are added to, changed in or removed from the warehouse.
+     *
+     * <p><b>Important:</b> These methods are not directly evoked, so IDEA will tell you they have no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param partNewEvent the event containing the part added
+     */
+    @Subscribe
+    public void handlePartNewEvent(PartNewEvent partNewEvent) {
+        campaign().getPartsInUseIndex().partChanged(partNewEvent.getPart());
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handlePartChangedEvent(PartChangedEvent partChangedEvent) {
+        campaign().getPartsInUseIndex().partChanged(partChangedEvent.getPart());
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handlePartRemovedEvent(PartRemovedEvent partRemovedEvent) {
+        campaign().getPartsInUseIndex().partChanged(partRemovedEvent.getPart());
+        campaign().getAccountantCache().invalidate();
+    }
+
+    /**
+     * Updates the Parts In Use index for the parts of a unit that was added, changed, refit or removed.
+     *
+     * @param unitEvent the event containing the unit
+     */
+    @Subscribe
+    public void handleUnitEvent(UnitEvent unitEvent) {
+        campaign().getPartsInUseIndex().unitChanged(unitEvent.getUnit());
+        campaign().getAccountantCache().invalidate();
+    }
+
+    /**
+     * Clears the cached {@link mekhq.campaign.finances.Accountant} projections whenever something they depend on,
+     * other than personnel, parts and units, changes.
+     *
+     * <p><b>Important:</b> These methods are not directly evoked, so IDEA will tell you they have no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param optionsChangedEvent the event signalling the campaign options changed
+     */
+    @Subscribe
+    public void handleOptionsChangedEvent(OptionsChangedEvent optionsChangedEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handleNewDayEvent(NewDayEvent newDayEvent) {
+        // Personnel and units also change during the day's processing without always raising an event
+        campaign().getAccountantCache().invalidate();
+        // This also releases the portraits of generated applicants that were never hired
+        campaign().getPortraitAllocator().invalidate();
+    }
+
+    @Subscribe
+    public void handleOrganizationChangedEvent(OrganizationChangedEvent organizationChangedEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handleMissionEvent(MissionEvent missionEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handleLocationChangedEvent(LocationChangedEvent locationChangedEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handleAsTechPoolChangedEvent(AsTechPoolChangedEvent asTechPoolChangedEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
+
+    @Subscribe
+    public void handleMedicPoolChangedEvent(MedicPoolChangedEvent medicPoolChangedEvent) {
+        campaign().getAccountantCache().invalidate();
+    }
 }
@@ -69,6 +69,7 @@ import static mekhq.campaign.personnel.skills.Aging.applyAgingSPA;
 import static mekhq.campaign.personnel.skills.Aging.getMilestone;
 import static mekhq.campaign.personnel.skills.AttributeCheckUtility.performQuickAttributeCheck;
 import static mekhq.campaign.personnel.skills.SkillModifierData.IGNORE_AGE;
+import static mekhq.campaign.personnel.skills.SkillType.EXP_LEGENDARY;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.areFieldKitchensWithinCapacity;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.checkFieldKitchenCapacity;
 import static mekhq.campaign.personnel.turnoverAndRetention.Fatigue.checkFieldKitchenUsage;
@@ -97,7 +98,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import javax.swing.JOptionPane;
 
 import megamek.codeUtilities.StringUtility;
@@ -130,6 +133,7 @@ import mekhq.campaign.mission.enums.ScenarioType;
 import mekhq.campaign.mission.rentals.ContractRentalType;
 import mekhq.campaign.mission.rentals.FacilityRentals;
 import mekhq.campaign.mission.resupplyAndCaches.Resupply;
+import mekhq.campaign.newDay.NewDayInteractionPolicy;
 import mekhq.campaign.parts.Part;
 import mekhq.campaign.parts.PartInUse;
 import mekhq.campaign.parts.Refit;
@@ -182,7 +186,6 @@ import mekhq.campaign.universe.factionStanding.FactionStandingUltimatum;
 import mekhq.campaign.universe.factionStanding.FactionStandingUtilities;
 import mekhq.campaign.universe.factionStanding.PerformBatchall;
 import mekhq.campaign.utilities.AutomatedPersonnelCleanUp;
-import mekhq.gui.CommandCenterTab;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogNotification;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogWidth;
@@ -204,6 +207,28 @@ public class CampaignNewDayManager {
     private static final MMLogger LOGGER = MMLogger.create(CampaignNewDayManager.class);
     private static final String RESOURCE_BUNDLE = "mekhq.resources.Campaign";
 
+    /**
+     * The values of a person for the new day that only depend on the date, on dates recorded for the person, which
+     * nothing processed during the day changes, and on the person's own random stream.
+     *
+     * @param age                      the age of the person
+     * @param isBirthday               whether today is the person's birthday
+     * @param isRecruitmentAnniversary whether today is the anniversary of the person's recruitment
+     * @param vocationalXpRoll         the 2d6 vocational XP roll, if today is the first of the month
+     * @param primaryAwardDice         the d6 rolls for the primary role's auto awards, if today is the first of the
+     *                                 month, one for each experience level
+     * @param secondaryAwardDice       the d6 rolls for the secondary role's auto awards, as above
+     */
+    record PersonNewDayFacts(int age, boolean isBirthday, boolean isRecruitmentAnniversary, int vocationalXpRoll,
+          int[] primaryAwardDice, int[] secondaryAwardDice) {
+        /**
+         * @return whether there is anything to process in {@link #processAnniversaries(Person, PersonNewDayFacts)}
+         */
+        boolean hasAnniversary() {
+            return isBirthday || isRecruitmentAnniversary;
+        }
+    }
+
     // Deprecated since 0.50.10, for removal false
     private final transient ResourceBundle resources = ResourceBundle.getBundle("mekhq.resources.Campaign",
           MekHQ.getMHQOptions().getLocale());
@@ -215,6 +240,7 @@ public class CampaignNewDayManager {
     private final Warehouse warehouse;
     private final Quartermaster quartermaster;
     private final Finances finances;
+    private final NewDayInteractionPolicy interactionPolicy;
     private LocalDate today;
     private CurrentLocation updatedLocation;
 
@@ -226,6 +252,7 @@ public class CampaignNewDayManager {
         this.warehouse = campaign.getWarehouse();
         this.quartermaster = campaign.getQuartermaster();
         this.finances = campaign.getFinances();
+        this.interactionPolicy = campaign.getNewDayInteractionPolicy();
     }
 
     /**
@@ -234,10 +261,7 @@ public class CampaignNewDayManager {
     public boolean newDay() {
         // Clear previous daily report nags (we want this up top so that we can make sure no messages have been
         // posted prior to this point).
-        CommandCenterTab commandCenter = campaign.getApp().getCampaigngui().getCommandCenterTab();
-        for (DailyReportType type : DailyReportType.values()) {
-            commandCenter.clearDailyReportNag(type.getTabIndex());
-        }
+        interactionPolicy.clearDailyReportNags(campaign);
 
         // clear previous retirement information
         campaign.getTurnoverRetirementInformation().clear();
@@ -297,7 +321,9 @@ public class CampaignNewDayManager {
         }
 
         // Autosave based on the previous day's information
-        campaign.getAutosaveService().requestDayAdvanceAutosave(campaign);
+        if (interactionPolicy.isAutosaveEnabled()) {
+            campaign.getAutosaveService().requestDayAdvanceAutosave(campaign);
+        }
 
         // Advance the day by one
         final LocalDate yesterday = campaign.getLocalDate();
@@ -308,7 +334,7 @@ public class CampaignNewDayManager {
         boolean isNewYear = today.getDayOfYear() == 1;
 
         // Check for important dates
-        if (campaignOptions.isShowLifeEventDialogCelebrations()) {
+        if (campaignOptions.isShowLifeEventDialogCelebrations() && interactionPolicy.isInteractive()) {
             fetchCelebrationDialogs();
         }
 
@@ -319,41 +345,10 @@ public class CampaignNewDayManager {
         }
 
         // Clear Reports
-        campaign.getCurrentReport().clear();
-        campaign.setCurrentReportHTML("");
-        campaign.getNewReports().clear();
-
-        campaign.getSkillReport().clear();
-        campaign.setSkillReportHTML("");
-        campaign.getNewSkillReports().clear();
-
-        campaign.getBattleReport().clear();
-        campaign.setBattleReportHTML("");
-        campaign.getNewBattleReports().clear();
-
-        campaign.getPoliticsReport().clear();
-        campaign.setPoliticsReportHTML("");
-        campaign.getNewPoliticsReports().clear();
-
-        campaign.getPersonnelReport().clear();
-        campaign.setPersonnelReportHTML("");
-        campaign.getNewPersonnelReports().clear();
-
-        campaign.getMedicalReport().clear();
-        campaign.setMedicalReportHTML("");
-        campaign.getNewMedicalReports().clear();
-
-        campaign.getFinancesReport().clear();
-        campaign.setFinancesReportHTML("");
-        campaign.getNewFinancesReports().clear();
-
-        campaign.getAcquisitionsReport().clear();
-        campaign.setAcquisitionsReportHTML("");
-        campaign.getNewAcquisitionsReports().clear();
-
-        campaign.getTechnicalReport().clear();
-        campaign.setTechnicalReportHTML("");
-        campaign.getNewTechnicalReports().clear();
+        for (DailyReportType type : DailyReportType.values()) {
+            campaign.getReport(type).clear();
+            campaign.getReportBuffer(type).clear();
+        }
 
         campaign.beginReport("<b>" + MekHQ.getMHQOptions().getLongDisplayFormattedDate(today) + "</b>");
 
@@ -433,7 +428,8 @@ public class CampaignNewDayManager {
             processEducationNewDay();
         }
 
-        if (campaignOptions.isEnableAutoAwards() && isFirstOfMonth) {
+        // Awards are handed out through the award ceremony dialog, so there is no ceremony without a player
+        if (campaignOptions.isEnableAutoAwards() && isFirstOfMonth && interactionPolicy.isInteractive()) {
             AutoAwardsController autoAwardsController = new AutoAwardsController();
             autoAwardsController.ManualController(campaign, false);
         }
@@ -441,7 +437,7 @@ public class CampaignNewDayManager {
         // Prisoner events can occur on Monday or the 1st of the month depending on the
         // type of event
         if (isMonday || isFirstOfMonth) {
-            new PrisonerEventManager(campaign);
+            new PrisonerEventManager(campaign, !interactionPolicy.isInteractive());
         }
 
         if (isFirstOfMonth) {
@@ -488,14 +484,14 @@ public class CampaignNewDayManager {
 
         // Random Events
         if (today.isAfter(GRAY_MONDAY_EVENTS_BEGIN) && today.isBefore(GRAY_MONDAY_EVENTS_END)) {
-            new GrayMonday(campaign, today);
+            new GrayMonday(campaign, today, !interactionPolicy.isInteractive());
         }
 
         // Faction Standing
         performFactionStandingChecks(isFirstOfMonth, isNewYear);
 
         // War & Peace Notifications
-        new WarAndPeaceProcessor(campaign, false);
+        new WarAndPeaceProcessor(campaign, false, !interactionPolicy.isInteractive());
 
         // campaign must be the last step before returning true
         MekHQ.triggerEvent(new NewDayEvent(campaign));
@@ -505,14 +501,20 @@ public class CampaignNewDayManager {
     private void checkForBioweaponAttacksOrNewVaccines(String systemName, String systemId) {
         InjuryType newBioweaponAttack = getNewBioweaponAttack(systemId, today, false);
         if (newBioweaponAttack != null) {
+            String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "bioweaponAttack.outOfCharacter",
+                  newBioweaponAttack.getSimpleName(), systemName);
+            if (!interactionPolicy.isInteractive()) {
+                campaign.addReport(MEDICAL, outOfCharacterMessage);
+                return;
+            }
+
             new ImmersiveDialogSimple(campaign,
                   campaign.getSeniorMedicalPerson(),
                   null,
                   getFormattedTextAt(RESOURCE_BUNDLE, "bioweaponAttack.inCharacter",
                         campaign.getCommanderAddress()),
                   null,
-                  getFormattedTextAt(RESOURCE_BUNDLE, "bioweaponAttack.outOfCharacter",
-                        newBioweaponAttack.getSimpleName(), systemName),
+                  outOfCharacterMessage,
                   null,
                   false,
                   ImmersiveDialogWidth.LARGE);
@@ -524,14 +526,20 @@ public class CampaignNewDayManager {
         Set<InjuryType> availableCures = getAllSystemSpecificDiseasesWithCures(systemId, today, false);
         for (InjuryType disease : newOutbreaks) {
             String keySuffix = availableCures.contains(disease) ? "yesCure" : "noCure";
+            String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE,
+                  "diseaseOutbreak.outOfCharacter." + keySuffix, disease.getSimpleName(), systemName);
+            if (!interactionPolicy.isInteractive()) {
+                campaign.addReport(MEDICAL, outOfCharacterMessage);
+                continue;
+            }
+
             new ImmersiveDialogSimple(campaign,
                   campaign.getSeniorMedicalPerson(),
                   null,
                   getFormattedTextAt(RESOURCE_BUNDLE, "diseaseOutbreak.inCharacter." + keySuffix,
                         campaign.getCommanderAddress()),
                   null,
-                  getFormattedTextAt(RESOURCE_BUNDLE, "diseaseOutbreak.outOfCharacter." + keySuffix,
-                        disease.getSimpleName(), systemName),
+                  outOfCharacterMessage,
                   null,
                   false,
                   ImmersiveDialogWidth.LARGE);
@@ -541,8 +549,12 @@ public class CampaignNewDayManager {
     private void checkForNewVaccines(String systemId) {
         Set<InjuryType> newCures = getAllNewCures(systemId, today);
         for (InjuryType injuryType : newCures) {
-            new ImmersiveDialogNotification(campaign, getFormattedTextAt(RESOURCE_BUNDLE, "disease.newCure",
-                  injuryType.getSimpleName()), true);
+            String message = getFormattedTextAt(RESOURCE_BUNDLE, "disease.newCure", injuryType.getSimpleName());
+            if (interactionPolicy.isInteractive()) {
+                new ImmersiveDialogNotification(campaign, message, true);
+            } else {
+                campaign.addReport(MEDICAL, message);
+            }
         }
     }
 
@@ -707,7 +719,8 @@ public class CampaignNewDayManager {
         int commanderDayTargetNumber = 5;
         boolean isCommandersDay = isCommandersDay(today) &&
                                         campaign.getCommander() != null &&
-                                        campaignOptions.isShowLifeEventDialogCelebrations();
+                                        campaignOptions.isShowLifeEventDialogCelebrations() &&
+                                        interactionPolicy.isInteractive();
         boolean isCampaignPlanetside = updatedLocation.isOnPlanet();
         boolean isUseAdvancedMedical = campaignOptions.isUseAdvancedMedical();
         boolean isUseAltAdvancedMedical = campaignOptions.isUseAlternativeAdvancedMedical();
@@ -715,12 +728,19 @@ public class CampaignNewDayManager {
         int fatigueRate = campaignOptions.getFatigueRate();
         boolean useBetterMonthlyIncome = campaignOptions.isUseBetterExtraIncome();
         boolean isUseAgeEffects = campaignOptions.isUseAgeEffects();
-        for (Person person : personnel) {
+
+        // The per-person dice are rolled in parallel, each person from their own seeded stream. Everything that reads
+        // or changes a person happens one person at a time in personnel order, so that a campaign advances the same
+        // way given the same random seed, and experience levels see the injuries healed earlier in the loop.
+        List<PersonNewDayFacts> personnelFacts = computeNewDayFacts(personnel);
+        for (int index = 0; index < personnel.size(); index++) {
+            Person person = personnel.get(index);
             if (person.getStatus().isDepartedUnit()) {
                 continue;
             }
 
-            int age = person.getAge(today);
+            PersonNewDayFacts facts = personnelFacts.get(index);
+            int age = facts.age();
             person.setAgeForAttributeModifiers(isUseAgeEffects ? age : IGNORE_AGE);
 
             PersonnelOptions personnelOptions = person.getOptions();
@@ -756,7 +776,9 @@ public class CampaignNewDayManager {
             person.resetMinutesLeft(campaignOptions.isTechsUseAdministration());
             person.setAcquisition(0);
 
-            processAnniversaries(person);
+            if (facts.hasAnniversary()) {
+                processAnniversaries(person, facts);
+            }
 
             person.checkForIlliterateRemoval();
 
@@ -789,10 +811,10 @@ public class CampaignNewDayManager {
 
             // Monthly events
             if (today.getDayOfMonth() == 1) {
-                processMonthlyAutoAwards(person);
+                processMonthlyAutoAwards(person, facts);
 
                 if (vocationalXpRate > 0) {
-                    if (processMonthlyVocationalXp(person, vocationalXpRate)) {
+                    if (processMonthlyVocationalXp(person, vocationalXpRate, facts.vocationalXpRoll())) {
                         campaign.getPersonnelWhoAdvancedInXP().add(person);
                     }
                 }
@@ -881,15 +903,16 @@ public class CampaignNewDayManager {
         }
 
         // Commander's Day!
-        if (isCommandersDay && (peopleWhoCelebrateCommandersDay >= commanderDayTargetNumber)) {
+        if (isCommandersDay && (peopleWhoCelebrateCommandersDay >= commanderDayTargetNumber)
+                  && interactionPolicy.isInteractive()) {
             new CommandersDayAnnouncement(campaign);
         }
 
-        if (MekHQ.getMHQOptions().getNewDayOptimizeMedicalAssignments()) {
+        if (interactionPolicy.isOptimizeMedicalAssignments()) {
             new OptimizeInfirmaryAssignments(campaign);
         }
 
-        if (MekHQ.getMHQOptions().getNewMonthQuickTrain()) {
+        if (interactionPolicy.isNewMonthQuickTrain()) {
             final int newMonthQuickTrainTargetLevel = 5;
             QuickTrain.processQuickTraining(personnel, newMonthQuickTrainTargetLevel, campaign, true);
         }
@@ -1021,11 +1044,14 @@ public class CampaignNewDayManager {
                 }
 
                 if (enemyFaction.performsBatchalls() && allowBatchalls) {
-                    PerformBatchall batchallDialog = new PerformBatchall(campaign,
-                          contract.getClanOpponent(),
-                          contract.getEnemyCode());
-
-                    boolean batchallAccepted = batchallDialog.isBatchallAccepted();
+                    // Without a player to ask, the batchall is accepted, just as it is by default in the dialog
+                    boolean batchallAccepted = true;
+                    if (interactionPolicy.isInteractive()) {
+                        PerformBatchall batchallDialog = new PerformBatchall(campaign,
+                              contract.getClanOpponent(),
+                              contract.getEnemyCode());
+                        batchallAccepted = batchallDialog.isBatchallAccepted();
+                    }
                     contract.setBatchallAccepted(batchallAccepted);
 
                     if (!batchallAccepted && campaignOptions.isTrackFactionStanding()) {
@@ -1045,7 +1071,7 @@ public class CampaignNewDayManager {
             if (isMonday && contract.getContractType().isRiotDuty() && contract.getStratconCampaignState() != null) {
                 int riotChance = 4;
                 if (randomInt(riotChance) == 0) {
-                    new RiotScenario(campaign, contract);
+                    new RiotScenario(campaign, contract, !interactionPolicy.isInteractive());
                 }
             }
 
@@ -1057,9 +1083,13 @@ public class CampaignNewDayManager {
                 int requiredVictoryPoints = contract.getRequiredVictoryPoints();
 
                 if (campaignState.canEndContractEarly() && victoryPoints >= requiredVictoryPoints) {
-                    new ImmersiveDialogNotification(campaign,
-                          String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
-                                contract.getHyperlinkedName()), true);
+                    String message = String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
+                          contract.getHyperlinkedName());
+                    if (interactionPolicy.isInteractive()) {
+                        new ImmersiveDialogNotification(campaign, message, true);
+                    } else {
+                        campaign.addReport(GENERAL, message);
+                    }
 
                     // This ensures any outstanding payout is paid out before the contract ends
                     LocalDate adjustedDate = today.plusDays(1);
@@ -1241,7 +1271,7 @@ public class CampaignNewDayManager {
                           part.getName()));
                     part.cancelAssignment(false);
                 }
-            } else {
+            } else if (interactionPolicy.isInteractive()) {
                 JOptionPane.showMessageDialog(null,
                       "Could not find tech for part: " +
                             part.getName() +
@@ -1249,6 +1279,8 @@ public class CampaignNewDayManager {
                             part.getUnit().getHyperlinkedName(),
                       "Invalid Auto-continue",
                       JOptionPane.ERROR_MESSAGE);
+            } else {
+                LOGGER.error("Could not find tech for part {} on unit {}", part.getName(), part.getUnit().getName());
             }
 
             // check to see if campaign part can now be combined with other spare parts
@@ -1367,7 +1399,8 @@ public class CampaignNewDayManager {
             return;
         }
 
-        if (FactionStandingUltimatum.checkUltimatumForDate(today,
+        // An ultimatum is a choice only the player can make, so without one the campaign stays out of it
+        if (interactionPolicy.isInteractive() && FactionStandingUltimatum.checkUltimatumForDate(today,
               campaignFactionCode,
               campaign.getFactionStandingUltimatumsLibrary())) {
             new FactionStandingUltimatum(today, campaign, campaign.getFactionStandingUltimatumsLibrary());
@@ -1403,7 +1436,8 @@ public class CampaignNewDayManager {
                 FactionCensureLevel newCensureLevel = campaign.getFactionStandings().checkForCensure(
                       relevantFaction, today, activeMissions, isInTransit);
                 if (newCensureLevel != null) {
-                    new FactionCensureEvent(campaign, newCensureLevel, relevantFaction);
+                    new FactionCensureEvent(campaign, newCensureLevel, relevantFaction,
+                          !interactionPolicy.isInteractive());
                 }
             }
 
@@ -1413,7 +1447,7 @@ public class CampaignNewDayManager {
 
             if (newAccoladeLevel != null && newAccoladeLevel != FactionAccoladeLevel.NO_ACCOLADE) {
                 new FactionAccoladeEvent(campaign, relevantFaction, newAccoladeLevel,
-                      faction.equals(relevantFaction));
+                      faction.equals(relevantFaction), !interactionPolicy.isInteractive());
             }
         }
 
@@ -1421,15 +1455,83 @@ public class CampaignNewDayManager {
         campaign.getFactionStandings().processCensureDegradation(today);
     }
 
+    /**
+     * Works out the new day facts of every person in parallel.
+     *
+     * <p>Each person is given a seed drawn from the campaign's random number generator in personnel order, and rolls
+     * only from a stream made from that seed. The facts are therefore the same for the same campaign seed, whichever
+     * thread handles whichever person. Nothing here changes a person; the rolls are used in the ordered loop.</p>
+     *
+     * @param personnel the personnel being processed
+     *
+     * @return the facts of each person, in the same order as {@code personnel}
+     */
+    List<PersonNewDayFacts> computeNewDayFacts(List<Person> personnel) {
+        long[] seeds = new long[personnel.size()];
+        for (int index = 0; index < seeds.length; index++) {
+            seeds[index] = randomInt(Integer.MAX_VALUE);
+        }
+
+        boolean isFirstOfMonth = today.getDayOfMonth() == 1;
+
+        return IntStream.range(0, personnel.size()).parallel().mapToObj(index -> {
+            Person person = personnel.get(index);
+            SplittableRandom random = new SplittableRandom(seeds[index]);
+
+            LocalDate birthday = person.getBirthday(today.getYear());
+            LocalDate recruitmentDate = person.getRecruitment();
+            boolean isBirthday = (birthday != null) && birthday.equals(today);
+            boolean isRecruitmentAnniversary = (recruitmentDate != null) &&
+                                                     recruitmentDate.withYear(today.getYear()).isEqual(today);
+
+            // Auto awards roll one die per experience level, which is only known after healing, so roll the most
+            // that could be needed
+            int vocationalXpRoll = 0;
+            int[] primaryAwardDice = new int[0];
+            int[] secondaryAwardDice = new int[0];
+            if (isFirstOfMonth) {
+                vocationalXpRoll = rollD6(random) + rollD6(random);
+                primaryAwardDice = random.ints(EXP_LEGENDARY, 1, 7).toArray();
+                secondaryAwardDice = random.ints(EXP_LEGENDARY, 1, 7).toArray();
+            }
+
+            return new PersonNewDayFacts(person.getAge(today), isBirthday, isRecruitmentAnniversary, vocationalXpRoll,
+                  primaryAwardDice, secondaryAwardDice);
+        }).toList();
+    }
+
+    /**
+     * @param random the stream to roll from
+     *
+     * @return a six-sided die rolled from the stream
+     */
+    private static int rollD6(SplittableRandom random) {
+        return random.nextInt(1, 7);
+    }
+
+    /**
+     * @param rolls the dice rolled for the new day
+     * @param dice  the number of dice to use
+     *
+     * @return the total of the first {@code dice} rolls
+     */
+    private static int sumDice(int[] rolls, int dice) {
+        int total = 0;
+        for (int die = 0; die < Math.min(dice, rolls.length); die++) {
+            total += rolls[die];
+        }
+        return total;
+    }
+
     /**
      * Process anniversaries for a given person, including birthdays and recruitment anniversaries.
      *
      * @param person The {@link Person} for whom the anniversaries will be processed
+     * @param facts  The facts of the person for the new day
      */
-    private void processAnniversaries(Person person) {
-        LocalDate birthday = person.getBirthday(today.getYear());
-        boolean isBirthday = birthday != null && birthday.equals(today);
-        int age = person.getAge(today);
+    private void processAnniversaries(Person person, PersonNewDayFacts facts) {
+        boolean isBirthday = facts.isBirthday();
+        int age = facts.age();
 
         boolean isUseEducation = campaignOptions.isUseEducationModule();
         boolean isUseAgingEffects = campaignOptions.isUseAgeEffects();
@@ -1482,10 +1584,9 @@ public class CampaignNewDayManager {
 
             LocalDate recruitmentDate = person.getRecruitment();
             if (recruitmentDate != null) {
-                LocalDate recruitmentAnniversary = recruitmentDate.withYear(today.getYear());
                 int yearsOfEmployment = (int) ChronoUnit.YEARS.between(recruitmentDate, today);
 
-                if ((recruitmentAnniversary.isEqual(today)) &&
+                if (facts.isRecruitmentAnniversary() &&
                           (campaignOptions.isAnnounceRecruitmentAnniversaries())) {
                     campaign.addReport(PERSONNEL, String.format(resources.getString("anniversaryRecruitment.text"),
                           person.getHyperlinkedFullTitle(),
@@ -1526,7 +1627,7 @@ public class CampaignNewDayManager {
             // updating in the gui before the player has a chance to jump to them
             MekHQ.triggerEvent(new PersonChangedEvent(person));
 
-            if (campaignOptions.isShowLifeEventDialogComingOfAge()) {
+            if (campaignOptions.isShowLifeEventDialogComingOfAge() && interactionPolicy.isInteractive()) {
                 new ComingOfAgeAnnouncement(campaign, person);
             }
         }
@@ -1808,6 +1909,8 @@ public class CampaignNewDayManager {
      *     <li><b>Normal resupply:</b> Used for all other contract types</li>
      * </ul>
      *
+     * <p>Without a player to make the resupply decisions, the resupply is declined.</p>
+     *
      * @param contract the {@link AtBContract} for which resupply is being processed
      */
     private void processResupply(AtBContract contract) {
@@ -1815,6 +1918,13 @@ public class CampaignNewDayManager {
                                     || PIRATE_FACTION_CODE.equals(contract.getEmployerCode());
 
         if (!isGuerrilla || randomInt(4) == 0) {
+            // Arranging a resupply takes several decisions from the player, so without one it is declined
+            if (!interactionPolicy.isInteractive()) {
+                campaign.addReport(ACQUISITIONS, getFormattedTextAt(RESOURCE_BUNDLE, "resupply.declined",
+                      contract.getName()));
+                return;
+            }
+
             Resupply.ResupplyType resupplyType = isGuerrilla ?
                                                        Resupply.ResupplyType.RESUPPLY_SMUGGLER :
                                                        Resupply.ResupplyType.RESUPPLY_NORMAL;
@@ -1827,8 +1937,9 @@ public class CampaignNewDayManager {
      * Process monthly auto awards for a given person based on their roles and experience level.
      *
      * @param person the person for whom the monthly auto awards are being processed
+     * @param facts  the facts of the person for the new day, holding the dice rolled for the awards
      */
-    private void processMonthlyAutoAwards(Person person) {
+    private void processMonthlyAutoAwards(Person person, PersonNewDayFacts facts) {
         double multiplier = 0;
 
         int score = 0;
@@ -1837,7 +1948,7 @@ public class CampaignNewDayManager {
             int dice = person.getExperienceLevel(campaign, false);
 
             if (dice > 0) {
-                score = d6(dice);
+                score = sumDice(facts.primaryAwardDice(), dice);
             }
 
             multiplier += 0.5;
@@ -1847,7 +1958,7 @@ public class CampaignNewDayManager {
             int dice = person.getExperienceLevel(campaign, true);
 
             if (dice > 0) {
-                score += d6(dice);
+                score += sumDice(facts.secondaryAwardDice(), dice);
             }
 
             multiplier += 0.5;
@@ -1876,10 +1987,11 @@ public class CampaignNewDayManager {
      *
      * @param person           the {@link Person} whose monthly vocational XP is to be processed
      * @param vocationalXpRate the amount of XP awarded on a successful roll
+     * @param vocationalXpRoll the person's 2d6 roll for this month, used if a check is due
      *
      * @return {@code true} if XP was successfully awarded during the process, {@code false} otherwise
      */
-    private boolean processMonthlyVocationalXp(Person person, int vocationalXpRate) {
+    private boolean processMonthlyVocationalXp(Person person, int vocationalXpRate, int vocationalXpRoll) {
         if (!person.getStatus().isActive()) {
             return false;
         }
@@ -1902,7 +2014,7 @@ public class CampaignNewDayManager {
 
         person.setVocationalXPTimer(person.getVocationalXPTimer() + 1);
         if (person.getVocationalXPTimer() >= checkFrequency) {
-            if (d6(2) >= targetNumber) {
+            if (vocationalXpRoll >= targetNumber) {
                 person.awardXP(campaign, vocationalXpRate);
                 person.setVocationalXPTimer(0);
                 return true;
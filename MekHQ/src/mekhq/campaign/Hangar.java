@@ -45,6 +45,7 @@ import java.util.stream.Stream;
 
 import megamek.common.annotations.Nullable;
 import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.MoneyAccumulator;
 import mekhq.campaign.unit.Unit;
 import mekhq.utilities.MHQXMLUtility;
 
@@ -110,7 +111,7 @@ public class Hangar {
      * @return The total costs for the units.
      */
     public Money getUnitCosts(Function<Unit, Money> getCosts) {
-        return getUnitsStream().map(getCosts).reduce(Money.zero(), Money::plus);
+        return getUnitsStream().map(getCosts).collect(MoneyAccumulator.summing());
     }
 
     /**
@@ -122,7 +123,7 @@ public class Hangar {
      * @return The total costs for the units selected by the predicate.
      */
     public Money getUnitCosts(Predicate<Unit> predicate, Function<Unit, Money> getCosts) {
-        return getUnitsStream().filter(predicate).map(getCosts).reduce(Money.zero(), Money::plus);
+        return getUnitsStream().filter(predicate).map(getCosts).collect(MoneyAccumulator.summing());
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * The kills of a campaign, indexed by the person credited, mission, scenario and force.
+ * <p>
+ * The kills of each person are kept in date order as they are added, so neither counting nor listing them needs to go
+ * through or sort any other kills. The ledger remembers which ids each kill was indexed under, so a kill is always
+ * removed from the right indexes. A kill that is changed after being added has to be passed to {@link #update(Kill)}
+ * to move it to its new indexes.
+ */
+public class KillLedger {
+    private static final Comparator<LocalDate> DATE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    /**
+     * The ids a kill was indexed under when it was added.
+     */
+    private record IndexedIds(@Nullable UUID pilotId, int missionId, int scenarioId, int forceId) {
+        static IndexedIds of(Kill kill) {
+            return new IndexedIds(kill.getPilotId(), kill.getMissionId(), kill.getScenarioId(), kill.getForceId());
+        }
+    }
+
+    private final Map<UUID, List<Kill>> killsByPerson = new HashMap<>();
+    private final Map<Integer, List<Kill>> killsByMission = new HashMap<>();
+    private final Map<Integer, List<Kill>> killsByScenario = new HashMap<>();
+    private final Map<Integer, List<Kill>> killsByForce = new HashMap<>();
+    private final Map<Kill, IndexedIds> indexedIds = new IdentityHashMap<>();
+
+    /**
+     * Adds a kill. Adding a kill that is already in the ledger does nothing.
+     *
+     * @param kill the kill to add
+     */
+    public void add(Kill kill) {
+        if (indexedIds.containsKey(kill)) {
+            return;
+        }
+
+        IndexedIds ids = IndexedIds.of(kill);
+        indexedIds.put(kill, ids);
+
+        List<Kill> personalKills = killsByPerson.computeIfAbsent(ids.pilotId(), id -> new ArrayList<>());
+        // Kills are nearly always added in date order, so this rarely needs to look further than the last kill
+        int index = personalKills.size();
+        while ((index > 0) && (DATE_ORDER.compare(personalKills.get(index - 1).getDate(), kill.getDate()) > 0)) {
+            index--;
+        }
+        personalKills.add(index, kill);
+
+        killsByMission.computeIfAbsent(ids.missionId(), id -> new ArrayList<>()).add(kill);
+        killsByScenario.computeIfAbsent(ids.scenarioId(), id -> new ArrayList<>()).add(kill);
+        killsByForce.computeIfAbsent(ids.forceId(), id -> new ArrayList<>()).add(kill);
+    }
+
+    /**
+     * Removes a kill.
+     *
+     * @param kill the kill to remove
+     *
+     * @return true if the kill was in the ledger
+     */
+    public boolean remove(Kill kill) {
+        IndexedIds ids = indexedIds.remove(kill);
+        if (ids == null) {
+            return false;
+        }
+
+        removeFrom(killsByPerson, ids.pilotId(), kill);
+        removeFrom(killsByMission, ids.missionId(), kill);
+        removeFrom(killsByScenario, ids.scenarioId(), kill);
+        removeFrom(killsByForce, ids.forceId(), kill);
+        return true;
+    }
+
+    private static <K> void removeFrom(Map<K, List<Kill>> index, K key, Kill kill) {
+        List<Kill> kills = index.get(key);
+        if (kills != null) {
+            kills.removeIf(indexedKill -> indexedKill == kill);
+            if (kills.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every kill credited to a person.
+     *
+     * @param personId the id of the person
+     */
+    public void removeAllFor(UUID personId) {
+        for (Kill kill : new ArrayList<>(getKillsFor(personId))) {
+            remove(kill);
+        }
+    }
+
+    /**
+     * Moves a kill to the indexes matching its current person, date, mission, scenario and force, after it was
+     * changed.
+     *
+     * @param kill the changed kill
+     */
+    public void update(Kill kill) {
+        if (remove(kill)) {
+            add(kill);
+        }
+    }
+
+    /**
+     * @param personId the id of the person
+     *
+     * @return the kills credited to the person, in date order
+     */
+    public List<Kill> getKillsFor(@Nullable UUID personId) {
+        return unmodifiable(killsByPerson.get(personId));
+    }
+
+    /**
+     * @param personId the id of the person
+     *
+     * @return the number of kills credited to the person
+     */
+    public int getKillCount(@Nullable UUID personId) {
+        List<Kill> kills = killsByPerson.get(personId);
+        return (kills == null) ? 0 : kills.size();
+    }
+
+    /**
+     * @param missionId the id of the mission
+     *
+     * @return the kills made during the mission, in the order they were added
+     */
+    public List<Kill> getKillsForMission(int missionId) {
+        return unmodifiable(killsByMission.get(missionId));
+    }
+
+    /**
+     * @param scenarioId the id of the scenario
+     *
+     * @return the kills made during the scenario, in the order they were added
+     */
+    public List<Kill> getKillsForScenario(int scenarioId) {
+        return unmodifiable(killsByScenario.get(scenarioId));
+    }
+
+    /**
+     * @param forceId the id of the force
+     *
+     * @return the kills credited to the force, in the order they were added
+     */
+    public List<Kill> getKillsForForce(int forceId) {
+        return unmodifiable(killsByForce.get(forceId));
+    }
+
+    /**
+     * @return every kill, grouped by the person credited
+     */
+    public List<Kill> getKills() {
+        List<Kill> kills = new ArrayList<>(indexedIds.size());
+        for (List<Kill> personalKills : killsByPerson.values()) {
+            kills.addAll(personalKills);
+        }
+        return kills;
+    }
+
+    /**
+     * @return the total number of kills
+     */
+    public int size() {
+        return indexedIds.size();
+    }
+
+    private static List<Kill> unmodifiable(@Nullable List<Kill> kills) {
+        return (kills == null) ? Collections.emptyList() : Collections.unmodifiableList(kills);
+    }
+}
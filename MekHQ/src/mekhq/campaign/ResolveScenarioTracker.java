@@ -59,7 +59,6 @@ import megamek.common.event.PostGameResolution;
 import megamek.common.interfaces.IEntityRemovalConditions;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.loaders.MULParser;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.OptionsConstants;
@@ -89,6 +88,7 @@ import mekhq.campaign.personnel.enums.PersonnelStatus;
 import mekhq.campaign.personnel.medical.InjurySPAUtility;
 import mekhq.campaign.personnel.turnoverAndRetention.Fatigue;
 import mekhq.campaign.randomEvents.prisoners.CapturePrisoners;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.TestUnit;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.actions.AdjustLargeCraftAmmoAction;
@@ -2274,9 +2274,9 @@ public class ResolveScenarioTracker {
             if (null != summary) {
                 try {
                     entity = unit.getEntity() == null ?
-                                   new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity() :
+                                   EntityTemplateCache.getInstance().getEntity(summary) :
                                    unit.getEntity();
-                    baseEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+                    baseEntity = EntityTemplateCache.getInstance().getEntity(summary);
                 } catch (EntityLoadingException e) {
                     logger.error("", e);
                 }
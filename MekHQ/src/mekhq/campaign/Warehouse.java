@@ -35,7 +35,10 @@ package mekhq.campaign;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.Consumer;
@@ -62,6 +65,14 @@ public class Warehouse {
 
     private final TreeMap<Integer, Part> parts = new TreeMap<>();
 
+    /**
+     * The same parts as {@link #parts}, grouped by {@link Part#getPartTypeKey()}, so that looking for a matching spare
+     * part only compares parts that can be the same type. The key each part was grouped under is remembered so that
+     * the part can still be found when it is removed.
+     */
+    private final Map<Object, TreeMap<Integer, Part>> partsByType = new HashMap<>();
+    private final Map<Part, Object> partTypeKeys = new IdentityHashMap<>();
+
     /**
      * Adds a part to the warehouse.
      *
@@ -114,7 +125,13 @@ public class Warehouse {
         // Is this a part we've never tracked before?
         boolean isNewPart = !parts.containsKey(part.getId());
 
-        parts.put(part.getId(), part);
+        Part replacedPart = parts.put(part.getId(), part);
+        if ((null != replacedPart) && (replacedPart != part)) {
+            removeFromTypeIndex(replacedPart);
+        }
+        // Re-index the part even if it was already here, in case its type changed since
+        removeFromTypeIndex(part);
+        addToTypeIndex(part);
 
         if (isNewPart) {
             MekHQ.triggerEvent(new PartNewEvent(part));
@@ -126,6 +143,45 @@ public class Warehouse {
         return part;
     }
 
+    private void addToTypeIndex(Part part) {
+        Object typeKey = part.getPartTypeKey();
+        partTypeKeys.put(part, typeKey);
+        partsByType.computeIfAbsent(typeKey, key -> new TreeMap<>()).put(part.getId(), part);
+    }
+
+    private void removeFromTypeIndex(Part part) {
+        if (!partTypeKeys.containsKey(part)) {
+            return;
+        }
+
+        Object typeKey = partTypeKeys.remove(part);
+        TreeMap<Integer, Part> partsOfType = partsByType.get(typeKey);
+        if (null == partsOfType) {
+            return;
+        }
+
+        if (!partsOfType.remove(part.getId(), part)) {
+            // The part's ID changed while it was stored
+            partsOfType.values().remove(part);
+        }
+
+        if (partsOfType.isEmpty()) {
+            partsByType.remove(typeKey);
+        }
+    }
+
+    /**
+     * Gets the parts that may be the same type as the given part, in the order of their IDs.
+     *
+     * @param part The part whose type to look for.
+     *
+     * @return The parts in the warehouse with the same type key as the given part.
+     */
+    private Collection<Part> getPartsOfType(Part part) {
+        TreeMap<Integer, Part> partsOfType = partsByType.get(part.getPartTypeKey());
+        return (null == partsOfType) ? List.of() : partsOfType.values();
+    }
+
     /**
      * Gets a collection of parts within the warehouse.
      */
@@ -165,7 +221,12 @@ public class Warehouse {
     public boolean removePart(Part part) {
         Objects.requireNonNull(part);
 
-        boolean didRemove = (parts.remove(part.getId()) != null);
+        Part removedPart = parts.remove(part.getId());
+        boolean didRemove = (removedPart != null);
+        if (didRemove) {
+            removeFromTypeIndex(removedPart);
+        }
+        removeFromTypeIndex(part);
 
         if (didRemove) {
             MekHQ.triggerEvent(new PartRemovedEvent(part));
@@ -287,9 +348,9 @@ public class Warehouse {
             return null;
         }
 
-        return findSparePart(spare ->
-                                   (spare.getId() != part.getId())
-                                         && part.isSamePartTypeAndStatus(spare));
+        return findSparePartOfType(part, spare ->
+                                               (spare.getId() != part.getId())
+                                                     && part.isSamePartTypeAndStatus(spare));
     }
 
     /**
@@ -324,9 +385,9 @@ public class Warehouse {
             return checkForExistingSparePart(part);
         }
 
-        return findSparePart(spare -> (spare.getId() != part.getId()) &&
-                                            part.isSamePartTypeAndStatus(spare) &&
-                                            (part.isBrandNew() == spare.isBrandNew()));
+        return findSparePartOfType(part, spare -> (spare.getId() != part.getId()) &&
+                                                        part.isSamePartTypeAndStatus(spare) &&
+                                                        (part.isBrandNew() == spare.isBrandNew()));
     }
 
     /**
@@ -342,7 +403,7 @@ public class Warehouse {
 
     public int getSparePartsCount(Part targetPart) {
         int count = 0;
-        for (Part warehousePart : getParts()) {
+        for (Part warehousePart : getPartsOfType(targetPart)) {
             if (warehousePart.isSamePartType(targetPart)) {
                 count += getPartQuantity(warehousePart, true);
             }
@@ -409,6 +470,23 @@ public class Warehouse {
         return null;
     }
 
+    /**
+     * Finds the first spare part matching a predicate among the parts that may be the same type as the given part.
+     *
+     * @param part      The part whose type to look for.
+     * @param predicate The predicate to use when searching for a suitable spare part.
+     *
+     * @return A matching spare {@link Part} or {@code null} if no suitable match was found.
+     */
+    private @Nullable Part findSparePartOfType(Part part, Predicate<Part> predicate) {
+        for (Part spare : getPartsOfType(part)) {
+            if (spare.isSpare() && predicate.test(spare)) {
+                return spare;
+            }
+        }
+        return null;
+    }
+
     /**
      * Streams the spare parts in the campaign.
      *
@@ -43,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import megamek.common.equipment.Engine;
 import megamek.common.units.Entity;
@@ -55,7 +56,6 @@ import mekhq.campaign.finances.enums.TransactionType;
 import mekhq.campaign.force.Force;
 import mekhq.campaign.market.contractMarket.AlternatePaymentModelValues;
 import mekhq.campaign.mission.AtBContract;
-import mekhq.campaign.parts.Part;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.education.EducationController;
 import mekhq.campaign.personnel.enums.PersonnelRole;
@@ -67,10 +67,28 @@ import mekhq.campaign.universe.factionStanding.FactionStandings;
 
 /**
  * Provides accounting for a Campaign.
+ * <p>
+ * The projections that go through every person or unit of the campaign are kept in the campaign's
+ * {@link AccountantCache} until the campaign date changes or something they depend on is changed.
  */
 public record Accountant(Campaign campaign) {
     private static final MMLogger LOGGER = MMLogger.create(Accountant.class);
 
+    /**
+     * The projections kept in the {@link AccountantCache}.
+     */
+    private enum Projection {
+        PAYROLL,
+        MAINTENANCE_COSTS,
+        WEEKLY_MAINTENANCE_COSTS,
+        FOOD_AND_HOUSING_EXPENSES,
+        SPARE_PARTS,
+        FUEL,
+        AMMO,
+        FORCE_VALUE,
+        CONTRACT_BASE
+    }
+
     final public static int HOUSING_PRISONER_OR_DEPENDENT = 228;
     final public static int HOUSING_ENLISTED = 312;
     final public static int HOUSING_OFFICER = 780;
@@ -86,6 +104,22 @@ public record Accountant(Campaign campaign) {
         return campaign().getHangar();
     }
 
+    /**
+     * Returns a projection from the campaign's {@link AccountantCache}, working it out if it isn't cached yet.
+     *
+     * @param key         identifies the projection and its parameters
+     * @param calculation works out the projection
+     *
+     * @return the projection
+     */
+    private Money getCachedProjection(Object key, Supplier<Money> calculation) {
+        AccountantCache cache = campaign().getAccountantCache();
+        if (cache == null) {
+            return calculation.get();
+        }
+        return cache.get(campaign().getLocalDate(), key, calculation);
+    }
+
     public Money getPayRoll() {
         return getPayRoll(false);
     }
@@ -99,15 +133,20 @@ public record Accountant(Campaign campaign) {
     }
 
     private Money getTheoreticalPayroll(boolean noInfantry) {
-        Money salaries = Money.zero();
+        return getCachedProjection(List.of(Projection.PAYROLL, noInfantry),
+              () -> calculateTheoreticalPayroll(noInfantry));
+    }
+
+    private Money calculateTheoreticalPayroll(boolean noInfantry) {
+        MoneyAccumulator personnelSalaries = new MoneyAccumulator();
         for (Person person : campaign().getSalaryEligiblePersonnel()) {
             if (!(noInfantry && person.getPrimaryRole().isSoldier())) {
-                salaries = salaries.plus(person.getSalary(campaign()));
+                personnelSalaries.add(person.getSalary(campaign()));
             }
         }
 
         // And pay our pool
-        salaries = salaries.plus(campaign().getCampaignOptions()
+        Money salaries = personnelSalaries.toMoney().plus(campaign().getCampaignOptions()
                                        .getRoleBaseSalaries()[PersonnelRole.ASTECH.ordinal()].getAmount()
                                        .doubleValue() * campaign().getTemporaryAsTechPool());
         salaries = salaries.plus(campaign().getCampaignOptions()
@@ -118,17 +157,24 @@ public record Accountant(Campaign campaign) {
     }
 
     public Money getMaintenanceCosts() {
+        return getCachedProjection(Projection.MAINTENANCE_COSTS, this::calculateMaintenanceCosts);
+    }
+
+    private Money calculateMaintenanceCosts() {
         if (getCampaignOptions().isPayForMaintain()) {
             return getHangar().getUnitsStream()
                          .filter(u -> u.requiresMaintenance() && (null != u.getTech()))
                          .map(Unit::getMaintenanceCost)
-                         .reduce(Money.zero(), Money::plus);
+                         .collect(MoneyAccumulator.summing());
         }
         return Money.zero();
     }
 
     public Money getWeeklyMaintenanceCosts() {
-        return getHangar().getUnitsStream().map(Unit::getWeeklyMaintenanceCost).reduce(Money.zero(), Money::plus);
+        return getCachedProjection(Projection.WEEKLY_MAINTENANCE_COSTS,
+              () -> getHangar().getUnitsStream()
+                          .map(Unit::getWeeklyMaintenanceCost)
+                          .collect(MoneyAccumulator.summing()));
     }
 
     public Money getOverheadExpenses() {
@@ -161,6 +207,11 @@ public record Accountant(Campaign campaign) {
      * @since 0.50.06
      */
     public Money getMonthlyFoodAndHousingExpenses() {
+        return getCachedProjection(Projection.FOOD_AND_HOUSING_EXPENSES,
+              this::calculateMonthlyFoodAndHousingExpenses);
+    }
+
+    private Money calculateMonthlyFoodAndHousingExpenses() {
         boolean payForFood = getCampaignOptions().isPayForFood();
         CurrentLocation location = campaign.getLocation();
         boolean isOnPlanet = location.isOnPlanet();
@@ -347,10 +398,15 @@ public record Accountant(Campaign campaign) {
     }
 
     public Money getMonthlySpareParts() {
-        return getHangar().getUnitCosts(u -> !u.isMothballed(), Unit::getSparePartsCost);
+        return getCachedProjection(Projection.SPARE_PARTS,
+              () -> getHangar().getUnitCosts(u -> !u.isMothballed(), Unit::getSparePartsCost));
     }
 
     public Money getMonthlyFuel() {
+        return getCachedProjection(Projection.FUEL, this::calculateMonthlyFuel);
+    }
+
+    private Money calculateMonthlyFuel() {
         int daysInMonth = 28; // we use a 28-day month so we don't need to bring in and process the exact date
         int dailyHydrogenProduction = 10;
         int monthlyHydrogenProduction = daysInMonth * dailyHydrogenProduction;
@@ -391,7 +447,8 @@ public record Accountant(Campaign campaign) {
     }
 
     public Money getMonthlyAmmo() {
-        return getHangar().getUnitCosts(u -> !u.isMothballed(), Unit::getAmmoCost);
+        return getCachedProjection(Projection.AMMO,
+              () -> getHangar().getUnitCosts(u -> !u.isMothballed(), Unit::getAmmoCost));
     }
 
     /**
@@ -440,9 +497,27 @@ public record Accountant(Campaign campaign) {
     public Money getForceValue(boolean useDiminishingContractPay, boolean excludeInfantry,
           double dropShipContractPercent, double warShipContractPercent, double jumpShipContractPercent,
           boolean useEquipmentSaleValue) {
+        return getCachedProjection(List.of(Projection.FORCE_VALUE,
+                    useDiminishingContractPay,
+                    excludeInfantry,
+                    dropShipContractPercent,
+                    warShipContractPercent,
+                    jumpShipContractPercent,
+                    useEquipmentSaleValue),
+              () -> calculateForceValue(useDiminishingContractPay,
+                    excludeInfantry,
+                    dropShipContractPercent,
+                    warShipContractPercent,
+                    jumpShipContractPercent,
+                    useEquipmentSaleValue));
+    }
+
+    private Money calculateForceValue(boolean useDiminishingContractPay, boolean excludeInfantry,
+          double dropShipContractPercent, double warShipContractPercent, double jumpShipContractPercent,
+          boolean useEquipmentSaleValue) {
         List<Money> unitValues = new ArrayList<>();
 
-        Money total = Money.zero();
+        MoneyAccumulator total = new MoneyAccumulator();
         for (Force force : campaign().getAllForces()) {
             if (!force.getForceType().isStandard()) {
                 continue;
@@ -473,7 +548,7 @@ public record Accountant(Campaign campaign) {
                 if (entity.isDropShip() || entity.isSmallCraft()) {
                     if (dropShipContractPercent != 0) {
                         unitValues.add(unitValue);
-                        total = total.plus(unitValue);
+                        total.add(unitValue);
                     }
                     continue;
                 }
@@ -482,7 +557,7 @@ public record Accountant(Campaign campaign) {
                 if (entity.isWarShip()) {
                     if (warShipContractPercent != 0) {
                         unitValues.add(unitValue);
-                        total = total.plus(unitValue);
+                        total.add(unitValue);
                     }
                     continue;
                 }
@@ -491,14 +566,14 @@ public record Accountant(Campaign campaign) {
                 if (entity.isJumpShip() || entity.isSpaceStation()) {
                     if (jumpShipContractPercent != 0) {
                         unitValues.add(unitValue);
-                        total = total.plus(unitValue);
+                        total.add(unitValue);
                     }
                     continue;
                 }
 
                 // Other
                 unitValues.add(unitValue);
-                total = total.plus(unitValue);
+                total.add(unitValue);
             }
         }
 
@@ -513,15 +588,14 @@ public record Accountant(Campaign campaign) {
             return adjustValuesForDiminishingReturns(campaignFaction, unitValues);
         }
 
-        return total;
+        return total.toMoney();
     }
 
     public Money getTotalEquipmentValue() {
-        Money unitsSellValue = getHangar().getUnitCosts(Unit::getSellValue);
-        return campaign().getWarehouse()
-                     .streamSpareParts()
-                     .map(Part::getActualValue)
-                     .reduce(unitsSellValue, Money::plus);
+        MoneyAccumulator total = new MoneyAccumulator();
+        getHangar().forEachUnit(unit -> total.add(unit.getSellValue()));
+        campaign().getWarehouse().forEachSparePart(part -> total.add(part.getActualValue()));
+        return total.toMoney();
     }
 
     public Money getEquipmentContractValue(Unit u, boolean useSaleValue) {
@@ -562,6 +636,10 @@ public record Accountant(Campaign campaign) {
      *       campaign's configuration.
      */
     public Money getContractBase() {
+        return getCachedProjection(Projection.CONTRACT_BASE, this::calculateContractBase);
+    }
+
+    private Money calculateContractBase() {
         final CampaignOptions options = getCampaignOptions();
 
         final boolean excludeInfantry = options.isInfantryDontCount();
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the projections worked out by the {@link Accountant} of a campaign, such as its payroll, maintenance costs
+ * and force value, so that screens and markets asking for the same projection many times don't go through every
+ * person and unit each time.
+ * <p>
+ * Projections are kept for a single campaign date. Changes to personnel, units, forces and campaign options must call
+ * {@link #invalidate()}; {@link mekhq.campaign.CampaignEventProcessor} does so for the matching campaign events.
+ * <p>
+ * The cache may be used from several threads. A projection worked out while the cache was being invalidated is
+ * returned to its caller, but not kept.
+ */
+public class AccountantCache {
+    private final Map<Object, Money> projections = new HashMap<>();
+    private LocalDate date;
+    private long generation;
+
+    /**
+     * Returns the projection stored under a key, working it out if it isn't stored yet.
+     *
+     * @param date        the current campaign date
+     * @param key         identifies the projection and its parameters
+     * @param calculation works out the projection
+     *
+     * @return the projection
+     */
+    public Money get(LocalDate date, Object key, Supplier<Money> calculation) {
+        long calculationGeneration;
+        synchronized (this) {
+            if (!date.equals(this.date)) {
+                invalidate();
+                this.date = date;
+            }
+
+            Money projection = projections.get(key);
+            if (projection != null) {
+                return projection;
+            }
+            calculationGeneration = generation;
+        }
+
+        // Worked out outside the lock, as projections are built from other cached projections
+        Money projection = calculation.get();
+        synchronized (this) {
+            if (calculationGeneration == generation) {
+                projections.put(key, projection);
+            }
+        }
+        return projection;
+    }
+
+    /**
+     * Forgets every stored projection.
+     */
+    public synchronized void invalidate() {
+        projections.clear();
+        generation++;
+    }
+}
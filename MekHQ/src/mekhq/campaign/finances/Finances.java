@@ -52,6 +52,7 @@ import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.xml.stream.XMLStreamException;
 
 import megamek.common.annotations.Nullable;
 import megamek.logging.MMLogger;
@@ -62,6 +63,7 @@ import mekhq.campaign.events.loans.LoanDefaultedEvent;
 import mekhq.campaign.events.transactions.TransactionCreditEvent;
 import mekhq.campaign.events.transactions.TransactionDebitEvent;
 import mekhq.campaign.finances.enums.TransactionType;
+import mekhq.campaign.io.XmlFragmentReader;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.Contract;
 import mekhq.campaign.personnel.Person;
@@ -166,7 +168,11 @@ public class Finances {
         }
 
         // Recalculate the current balance
-        newBalance = newBalance.plus(transactions.stream().map(Transaction::getAmount).collect(Collectors.toList()));
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (Transaction transaction : transactions) {
+            total.add(transaction.getAmount());
+        }
+        newBalance = total.toMoney();
 
         // Update our cached balance & note the transactions size.
         balance = Money.zero();
@@ -188,8 +194,7 @@ public class Finances {
     }
 
     public Money getLoanBalance() {
-        Money balance = Money.zero();
-        return balance.plus(loans.stream().map(Loan::determineRemainingValue).collect(Collectors.toList()));
+        return loans.stream().map(Loan::determineRemainingValue).collect(MoneyAccumulator.summing());
     }
 
     public boolean isInDebt() {
@@ -653,13 +658,11 @@ public class Finances {
     }
 
     public Money getTotalLoanCollateral() {
-        Money amount = Money.zero();
-        return amount.plus(loans.stream().map(Loan::determineCollateralAmount).collect(Collectors.toList()));
+        return loans.stream().map(Loan::determineCollateralAmount).collect(MoneyAccumulator.summing());
     }
 
     public Money getTotalAssetValue() {
-        Money amount = Money.zero();
-        return amount.plus(assets.stream().map(Asset::getValue).collect(Collectors.toList()));
+        return assets.stream().map(Asset::getValue).collect(MoneyAccumulator.summing());
     }
 
     public Money getMaxCollateral(Campaign c) {
@@ -735,36 +738,77 @@ public class Finances {
         Finances retVal = new Finances();
         NodeList nl = wn.getChildNodes();
         for (int x = 0; x < nl.getLength(); x++) {
-            Node wn2 = nl.item(x);
+            retVal.loadFieldFromXML(nl.item(x));
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Loads a single child node of the {@code finances} node. This allows a streaming loader to read the finances
+     * one section at a time.
+     *
+     * @param wn2 the child node
+     */
+    public void loadFieldFromXML(Node wn2) {
+        try {
+            switch (wn2.getNodeName()) {
+                case "transactions":
+                    setTransactions(parseTransactionsFromXML(wn2));
+                    break;
+                case "loans":
+                    setLoans(parseLoansFromXML(wn2));
+                    break;
+                case "assets":
+                    setAssets(parseAssetsFromXML(wn2));
+                    break;
+                case "loanDefaults":
+                    setLoanDefaults(Integer.parseInt(wn2.getTextContent().trim()));
+                    break;
+                case "failedCollateral":
+                    setFailedCollateral(Integer.parseInt(wn2.getTextContent().trim()));
+                    break;
+                case "wentIntoDebt":
+                    setWentIntoDebt(MHQXMLUtility.parseDate(wn2.getTextContent().trim()));
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+        }
+    }
+
+    /**
+     * Streams the children of the {@code transactions} node one transaction at a time, as the transaction history
+     * grows every day and can be far larger than the rest of the finances. Like {@link #loadFieldFromXML(Node)}, a
+     * transaction that fails to load leaves the whole transaction list unloaded.
+     *
+     * @param reader the reader, positioned on the {@code transactions} element
+     */
+    public void loadTransactionsFromXML(XmlFragmentReader reader) throws XMLStreamException {
+        List<Transaction> transactions = new ArrayList<>();
+        Exception failure = null;
+        while (reader.nextChildElement()) {
+            if ((null != failure) || !"transaction".equals(reader.getElementName())) {
+                reader.skipElement();
+                continue;
+            }
+
             try {
-                switch (wn2.getNodeName()) {
-                    case "transactions":
-                        retVal.setTransactions(parseTransactionsFromXML(wn2));
-                        break;
-                    case "loans":
-                        retVal.setLoans(parseLoansFromXML(wn2));
-                        break;
-                    case "assets":
-                        retVal.setAssets(parseAssetsFromXML(wn2));
-                        break;
-                    case "loanDefaults":
-                        retVal.setLoanDefaults(Integer.parseInt(wn2.getTextContent().trim()));
-                        break;
-                    case "failedCollateral":
-                        retVal.setFailedCollateral(Integer.parseInt(wn2.getTextContent().trim()));
-                        break;
-                    case "wentIntoDebt":
-                        retVal.setWentIntoDebt(MHQXMLUtility.parseDate(wn2.getTextContent().trim()));
-                        break;
-                    default:
-                        break;
-                }
+                transactions.add(Transaction.generateInstanceFromXML(reader.readElement("transactions")));
+            } catch (XMLStreamException ex) {
+                throw ex;
             } catch (Exception ex) {
-                LOGGER.error("", ex);
+                failure = ex;
             }
         }
 
-        return retVal;
+        if (null == failure) {
+            setTransactions(transactions);
+        } else {
+            LOGGER.error("", failure);
+        }
     }
 
     private static List<Transaction> parseTransactionsFromXML(final Node wn) {
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.math.BigDecimal;
+import java.util.stream.Collector;
+
+import megamek.common.annotations.Nullable;
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyMismatchException;
+import org.joda.money.CurrencyUnit;
+
+/**
+ * Sums {@link Money} amounts into a primitive fixed-point total, for loops that add up thousands of amounts at a time
+ * (payroll, maintenance, unit values and balances).
+ * <p>
+ * Each call to {@link Money#plus(Money)} allocates a new {@link BigDecimal}, {@link BigMoney} and {@link Money}. The
+ * accumulator instead keeps the running total as a {@code long} number of thousandths of the currency, and only builds
+ * a {@link Money} when {@link #toMoney()} is called. Amounts with more than three decimal places, or totals that don't
+ * fit in a {@code long}, switch the accumulator over to an exact {@link BigDecimal} total, so the result always has the
+ * same value and scale as adding the same amounts one by one with {@link Money#plus(Money)}, starting from
+ * {@link Money#zero()}.
+ * <p>
+ * An accumulator isn't thread-safe; use {@link #summing()} to sum a parallel stream.
+ */
+public class MoneyAccumulator {
+    /** The number of decimal places kept by the fixed-point total. */
+    static final int FIXED_POINT_SCALE = 3;
+    private static final long FIXED_POINT_FACTOR = 1000L;
+
+    private final CurrencyUnit currency;
+    private long total;
+    private int scale;
+    private @Nullable BigDecimal exactTotal;
+
+    /**
+     * Creates an accumulator for the campaign's current default currency.
+     */
+    public MoneyAccumulator() {
+        this(CurrencyManager.getInstance().getDefaultCurrency());
+    }
+
+    public MoneyAccumulator(Currency currency) {
+        this.currency = currency.getCurrencyUnit();
+    }
+
+    /**
+     * @return a collector summing a stream of money in the default currency, the same way reducing it with
+     *       {@link Money#plus(Money)} from {@link Money#zero()} would
+     */
+    public static Collector<Money, MoneyAccumulator, Money> summing() {
+        return Collector.of(MoneyAccumulator::new, MoneyAccumulator::add, MoneyAccumulator::add,
+              MoneyAccumulator::toMoney);
+    }
+
+    /**
+     * Adds an amount to the total. A {@code null} amount is ignored, as it is by {@link Money#plus(Money)}.
+     *
+     * @param amount the amount to add
+     *
+     * @return this accumulator
+     *
+     * @throws CurrencyMismatchException if the amount is in a different currency
+     */
+    public MoneyAccumulator add(@Nullable Money amount) {
+        if (amount == null) {
+            return this;
+        }
+
+        BigMoney wrapped = amount.wrapped();
+        if (!currency.equals(wrapped.getCurrencyUnit())) {
+            throw new CurrencyMismatchException(currency, wrapped.getCurrencyUnit());
+        }
+
+        add(wrapped.getAmount());
+        return this;
+    }
+
+    /**
+     * Adds the total of another accumulator to this one.
+     *
+     * @param other the accumulator to add
+     *
+     * @return this accumulator
+     *
+     * @throws CurrencyMismatchException if the other accumulator is in a different currency
+     */
+    public MoneyAccumulator add(MoneyAccumulator other) {
+        if (!currency.equals(other.currency)) {
+            throw new CurrencyMismatchException(currency, other.currency);
+        }
+
+        if ((exactTotal == null) && (other.exactTotal == null)) {
+            addFixedPoint(other.total, other.scale);
+        } else {
+            BigDecimal ours = (exactTotal == null) ? BigDecimal.valueOf(total, FIXED_POINT_SCALE) : exactTotal;
+            BigDecimal theirs = (other.exactTotal == null) ?
+                                      BigDecimal.valueOf(other.total, FIXED_POINT_SCALE) :
+                                      other.exactTotal;
+            exactTotal = ours.add(theirs);
+            scale = Math.max(scale, other.scale);
+        }
+        return this;
+    }
+
+    private void add(BigDecimal amount) {
+        // Money.plus(Money) returns itself unchanged when adding zero, so a zero amount mustn't change the scale
+        if (amount.signum() == 0) {
+            return;
+        }
+
+        if (exactTotal == null) {
+            if (amount.scale() == 0) {
+                try {
+                    addFixedPoint(Math.multiplyExact(amount.longValueExact(), FIXED_POINT_FACTOR), 0);
+                    return;
+                } catch (ArithmeticException ignored) {
+                    // Too large for the fixed-point total
+                }
+            } else if (amount.scale() <= FIXED_POINT_SCALE) {
+                try {
+                    addFixedPoint(amount.movePointRight(FIXED_POINT_SCALE).longValueExact(), amount.scale());
+                    return;
+                } catch (ArithmeticException ignored) {
+                    // Too large for the fixed-point total
+                }
+            }
+            exactTotal = BigDecimal.valueOf(total, FIXED_POINT_SCALE);
+        }
+
+        exactTotal = exactTotal.add(amount);
+        scale = Math.max(scale, amount.scale());
+    }
+
+    private void addFixedPoint(long amount, int amountScale) {
+        long sum = total + amount;
+        if (((total ^ sum) & (amount ^ sum)) < 0) {
+            // The sum overflowed, so continue with the exact total
+            exactTotal = BigDecimal.valueOf(total, FIXED_POINT_SCALE).add(BigDecimal.valueOf(amount,
+                  FIXED_POINT_SCALE));
+        } else {
+            total = sum;
+        }
+        scale = Math.max(scale, amountScale);
+    }
+
+    /**
+     * @return true if the total is zero
+     */
+    public boolean isZero() {
+        return (exactTotal == null) ? (total == 0L) : (exactTotal.signum() == 0);
+    }
+
+    /**
+     * @return the total as money, with the same amount and scale adding the amounts one by one would give
+     */
+    public Money toMoney() {
+        BigDecimal amount = (exactTotal == null) ? BigDecimal.valueOf(total, FIXED_POINT_SCALE) : exactTotal;
+        return new Money(BigMoney.of(currency, amount.setScale(scale)));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.icons;
+
+import java.awt.Image;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * A bounded cache of rendered images, used so that tree and table renderers don't rasterize the same image on every
+ * paint.
+ * <p>
+ * The key must describe everything the image is rendered from, so that any change to those inputs results in a
+ * different key instead of a stale image. Images that are no longer requested are dropped once the cache is full, the
+ * least recently used first.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the images
+ */
+public class ImageCache<K, V extends Image> {
+    private final Map<K, V> images;
+
+    /**
+     * @param maximumSize the largest number of images kept
+     */
+    public ImageCache(final int maximumSize) {
+        images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached image for a key, rendering and caching it if it isn't cached yet. Images that could not be
+     * rendered are not cached, so they are tried again on the next call.
+     *
+     * @param key    the key describing the image
+     * @param render renders the image, which may return {@code null}
+     *
+     * @return the image, or {@code null} if it could not be rendered
+     */
+    public @Nullable V get(final K key, final Supplier<V> render) {
+        synchronized (this) {
+            final V image = images.get(key);
+            if (image != null) {
+                return image;
+            }
+        }
+
+        final V image = render.get();
+        if (image != null) {
+            synchronized (this) {
+                images.put(key, image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * @return the number of images currently cached
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Drops every cached image.
+     */
+    public synchronized void clear() {
+        images.clear();
+    }
+}
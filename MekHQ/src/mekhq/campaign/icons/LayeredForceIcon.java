@@ -71,6 +71,11 @@ public class LayeredForceIcon extends StandardForceIcon {
     public static final String LAYERED_CATEGORY = "Layered";
     public static final String XML_TAG = "layeredForceIcon";
 
+    /**
+     * The composited icons shared by every layered force icon, keyed by the images of their pieces in draw order
+     */
+    private static final ImageCache<List<BufferedImage>, BufferedImage> COMPOSITED_ICONS = new ImageCache<>(256);
+
     private Map<LayeredForceIconLayer, List<ForcePieceIcon>> pieces = new HashMap<>();
     // endregion Variable Declarations
 
@@ -116,11 +121,8 @@ public class LayeredForceIcon extends StandardForceIcon {
         // Try to get the player's force icon file.
         BufferedImage base = null;
         final List<BufferedImage> images = new ArrayList<>();
-        int width = 0;
-        int height = 0;
 
         try {
-            // Gather height/width
             for (final LayeredForceIconLayer layer : LayeredForceIconLayer.getInDrawOrder()) {
                 if (!getPieces().containsKey(layer)) {
                     continue;
@@ -132,23 +134,15 @@ public class LayeredForceIcon extends StandardForceIcon {
                                                                       .getItem(value.getCategoryPath(),
                                                                             value.getFilename());
                     if (image != null) {
-                        width = Math.max(image.getWidth(), width);
-                        height = Math.max(image.getHeight(), height);
                         images.add(image);
                     }
                 }
             }
 
-            // If there are valid images to draw
-            if ((width > 0) && (height > 0)) {
-                base = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
-                             .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
-
-                final Graphics2D g2d = base.createGraphics();
-                for (final BufferedImage image : images) {
-                    // Draw the current buffered image onto the base, aligning bottom and right side
-                    g2d.drawImage(image, width - image.getWidth() + 1, height - image.getHeight() + 1, null);
-                }
+            // If there are valid images to draw. The pieces are keyed by the images themselves, so refreshing the
+            // force icon directory results in new keys.
+            if (!images.isEmpty()) {
+                base = COMPOSITED_ICONS.get(List.copyOf(images), () -> composite(images));
             }
         } catch (Exception ex) {
             logger.error("", ex);
@@ -167,6 +161,36 @@ public class LayeredForceIcon extends StandardForceIcon {
         return base;
     }
 
+    /**
+     * Draws the pieces onto each other in the given order, aligning their bottom and right sides.
+     *
+     * @param images the images of the pieces, in draw order
+     *
+     * @return the composited image, or null if none of the pieces has a size
+     */
+    private static @Nullable BufferedImage composite(final List<BufferedImage> images) {
+        int width = 0;
+        int height = 0;
+        for (final BufferedImage image : images) {
+            width = Math.max(image.getWidth(), width);
+            height = Math.max(image.getHeight(), height);
+        }
+
+        if ((width <= 0) || (height <= 0)) {
+            return null;
+        }
+
+        final BufferedImage base = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                                         .getDefaultConfiguration()
+                                         .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        final Graphics2D g2d = base.createGraphics();
+        for (final BufferedImage image : images) {
+            // Draw the current buffered image onto the base, aligning bottom and right side
+            g2d.drawImage(image, width - image.getWidth() + 1, height - image.getHeight() + 1, null);
+        }
+        return base;
+    }
+
     // region File I/O
     @Override
     public void writeToXML(final PrintWriter pw, final int indent) {
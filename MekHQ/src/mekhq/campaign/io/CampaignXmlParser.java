@@ -62,7 +62,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
-import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import megamek.Version;
 import megamek.client.bot.princess.BehaviorSettingsFactory;
@@ -90,7 +91,6 @@ import megamek.logging.MMLogger;
 import mekhq.MHQConstants;
 import mekhq.MekHQ;
 import mekhq.NullEntityException;
-import mekhq.Utilities;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.CampaignFactory;
 import mekhq.campaign.CurrentLocation;
@@ -101,6 +101,7 @@ import mekhq.campaign.camOpsReputation.ReputationController;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.campaignOptions.CampaignOptionsUnmarshaller;
 import mekhq.campaign.enums.CampaignTransportType;
+import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.finances.Finances;
 import mekhq.campaign.force.CombatTeam;
 import mekhq.campaign.force.Force;
@@ -156,7 +157,6 @@ import mekhq.module.atb.AtBEventProcessor;
 import mekhq.utilities.MHQXMLUtility;
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.DOMException;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -165,6 +165,7 @@ import org.w3c.dom.NodeList;
 public record CampaignXmlParser(InputStream is, MekHQ app) {
     private static final String RESOURCE_BUNDLE = "mekhq.resources.CampaignXmlParser";
     private static final MMLogger LOGGER = MMLogger.create(CampaignXmlParser.class);
+    private static final String CAMPAIGN_ELEMENT = "campaign";
 
     public void close() throws IOException {
         this.is.close();
@@ -184,38 +185,18 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         Campaign campaign = CampaignFactory.createCampaign();
         campaign.setApp(app);
 
-        Document xmlDoc;
-
+        // The campaign is streamed instead of being parsed into a single DOM, which for a large campaign can take
+        // gigabytes. Only one top-level element, or one person, unit, part, mission or transaction of the large
+        // sections, is materialized as DOM at any time. The file is read in three passes, so keep the raw bytes.
+        final byte[] data;
         try {
-            // Using factory get an instance of document builder
-            DocumentBuilder db = MHQXMLUtility.newSafeDocumentBuilder();
-
-            // Parse using builder to get DOM representation of the XML file
-            xmlDoc = db.parse(is);
-        } catch (Exception ex) {
+            data = is.readAllBytes();
+        } catch (IOException ex) {
             LOGGER.error("", ex);
             throw new CampaignXmlParseException(ex);
         }
 
-        Element campaignEle = xmlDoc.getDocumentElement();
-        NodeList nl = campaignEle.getChildNodes();
-
-        // Get rid of empty text nodes and adjacent text nodes...
-        // Stupid weird parsing of XML. At least this cleans it up.
-        campaignEle.normalize();
-
-        final Version version = new Version(campaignEle.getAttribute("version"));
-        if (version.is("0.0.0")) {
-            throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse",
-                  campaignEle.getAttribute("version")));
-        }
-        // Confirm the campaign version is compatible with the current MekHQ version. This function lives here so that
-        // we don't attempt to load incompatible campaigns and risk running into errors that might prevent the player
-        // from viewing this dialog
-        new MilestoneUpgradePathDialog(campaign, version);
-
-        // Assuming there is no upgrade path, we set version and continue parsing the campaign.
-        campaign.setVersion(version);
+        final Version version;
 
         // Indicates whether new units were written to disk while
         // loading the Campaign file. If so, we need to kick back off loading
@@ -224,33 +205,35 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
 
         // we need to iterate through three times, the first time to collect
         // any custom units that might not be written yet
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node wn = nl.item(x);
-
-            if (!wn.getParentNode().equals(campaignEle)) {
-                continue;
+        try (XmlFragmentReader reader = new XmlFragmentReader(data)) {
+            reader.startDocumentElement();
+            version = new Version(reader.getAttribute("version"));
+            if (version.is("0.0.0")) {
+                throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse",
+                      reader.getAttribute("version")));
             }
+            // Confirm the campaign version is compatible with the current MekHQ version. This function lives here so
+            // that we don't attempt to load incompatible campaigns and risk running into errors that might prevent
+            // the player from viewing this dialog
+            new MilestoneUpgradePathDialog(campaign, version);
 
-            int xc = wn.getNodeType();
+            // Assuming there is no upgrade path, we set version and continue parsing the campaign.
+            campaign.setVersion(version);
 
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
+            while (reader.nextChildElement()) {
+                String xn = reader.getElementName();
 
                 if (xn.equalsIgnoreCase("info")) { // This is needed so that the campaign name gets set in campaign
                     try {
-                        processInfoNode(campaign, wn, version);
+                        processInfoNode(campaign, reader.readElement(CAMPAIGN_ELEMENT), version);
                     } catch (DOMException e) {
                         throw new CampaignXmlParseException(e);
                     }
                 } else if (xn.equalsIgnoreCase("custom")) {
-                    reloadUnitData |= processCustom(campaign, wn);
+                    reloadUnitData |= processCustom(campaign, reader.readElement(CAMPAIGN_ELEMENT));
                 } else if (xn.equalsIgnoreCase("campaignOptions")) {
-                    campaign.setCampaignOptions(CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(wn,
-                          version));
+                    campaign.setCampaignOptions(CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(
+                          reader.readElement(CAMPAIGN_ELEMENT), version));
 
                     //  < 50.10 compatibility handler
                     CampaignOptions campaignOptions = campaign.getCampaignOptions();
@@ -260,12 +243,14 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                         new StratConMaplessCampaignOptionsChangedConfirmationDialog(campaign);
                     }
                 } else if (xn.equalsIgnoreCase("gameOptions")) {
-                    campaign.getGameOptions().fillFromXML(wn.getChildNodes());
+                    campaign.getGameOptions().fillFromXML(reader.readElement(CAMPAIGN_ELEMENT).getChildNodes());
+                } else {
+                    reader.skipElement();
                 }
             }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+        } catch (XMLStreamException | ParserConfigurationException ex) {
+            LOGGER.error("", ex);
+            throw new CampaignXmlParseException(ex);
         }
 
         // Only reload unit data if we updated files on disk
@@ -274,32 +259,21 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
 
         // the second time to check for any null entities
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node wn = nl.item(x);
-
-            if (!wn.getParentNode().equals(campaignEle)) {
-                continue;
-            }
-
-            int xc = wn.getNodeType();
-
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
-
-                if (xn.equalsIgnoreCase("units")) {
-                    String missingList = checkUnits(wn);
+        try (XmlFragmentReader reader = new XmlFragmentReader(data)) {
+            reader.startDocumentElement();
+            while (reader.nextChildElement()) {
+                if (reader.getElementName().equalsIgnoreCase("units")) {
+                    String missingList = checkUnits(reader);
                     if (null != missingList) {
                         throw new NullEntityException(missingList);
                     }
+                } else {
+                    reader.skipElement();
                 }
             }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+        } catch (XMLStreamException | ParserConfigurationException ex) {
+            LOGGER.error("", ex);
+            throw new CampaignXmlParseException(ex);
         }
 
         boolean foundPersonnelMarket = false;
@@ -307,100 +281,98 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         boolean foundUnitMarket = false;
 
         // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node workingNode = nl.item(x);
-
-            if (!workingNode.getParentNode().equals(campaignEle)) {
-                continue;
-            }
-
-            int xc = workingNode.getNodeType();
-
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this level.
-                // Okay, so what element is it?
-                String nodeName = workingNode.getNodeName();
-
-                if (nodeName.equalsIgnoreCase("pastVersions")) {
-                    processPastVersionNodes(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
-                    campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
-                          workingNode,
-                          version));
-                } else if (nodeName.equalsIgnoreCase("parts")) {
-                    processPartNodes(campaign, workingNode, version);
+        try (XmlFragmentReader reader = new XmlFragmentReader(data)) {
+            reader.startDocumentElement();
+            while (reader.nextChildElement()) {
+                String nodeName = reader.getElementName();
+
+                // The large sections are streamed one element at a time
+                if (nodeName.equalsIgnoreCase("parts")) {
+                    processPartNodes(campaign, reader, version);
                 } else if (nodeName.equalsIgnoreCase("personnel")) {
                     // TODO: Make this depending on campaign options
                     // TODO: hoist registerAll out of this
                     InjuryTypes.registerAll();
-                    processPersonnelNodes(campaign, workingNode, version);
+                    processPersonnelNodes(campaign, reader, version);
                 } else if (nodeName.equalsIgnoreCase("units")) {
-                    processUnitNodes(campaign, workingNode, version);
+                    processUnitNodes(campaign, reader, version);
                 } else if (nodeName.equalsIgnoreCase("missions")) {
-                    processMissionNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("forces")) {
-                    processForces(campaign, workingNode, version);
+                    processMissionNodes(campaign, reader, version);
                 } else if (nodeName.equalsIgnoreCase("finances")) {
-                    processFinances(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("location")) {
-                    campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
-                } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
-                    campaign.setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
-                } else if (nodeName.equalsIgnoreCase("skillTypes")) {
-                    processSkillTypeNodes(workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
-                    processSpecialAbilityNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("storyArc")) {
-                    processStoryArcNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("kills")) {
-                    processKillNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("shoppingList")) {
-                    campaign.setShoppingList(ShoppingList.generateInstanceFromXML(workingNode, campaign, version));
-                } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
-                    campaign.setPersonnelMarket(PersonnelMarket.generateInstanceFromXML(workingNode,
-                          campaign,
-                          version));
-                    foundPersonnelMarket = true;
-                } else if (nodeName.equalsIgnoreCase("contractMarket")) {
-                    // CAW: implicit DEPENDS-ON to the <missions> node
-                    campaign.setContractMarket(AbstractContractMarket.generateInstanceFromXML(workingNode,
-                          campaign,
-                          version));
-                    foundContractMarket = true;
-                } else if (nodeName.equalsIgnoreCase("unitMarket")) {
-                    // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
-                    campaign.setUnitMarket(campaign.getCampaignOptions().getUnitMarketMethod().getUnitMarket());
-                    campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
-                    foundUnitMarket = true;
-                } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
-                    processCombatTeamNodes(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
-                    campaign.setRetirementDefectionTracker(RetirementDefectionTracker.generateInstanceFromXML(
-                          workingNode,
-                          campaign));
-                } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
-                    campaign.setPersonnelWhoAdvancedInXP(processPersonnelWhoAdvancedInXP(workingNode, campaign));
-                } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
-                    campaign.setAutomatedMothballUnits(processAutomatedMothballNodes(workingNode));
-                } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
-                    campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
-                                                                               .getBehavior(workingNode.getTextContent()),
-                          BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
-                } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
-                    //TODO: deal with this
-                    updatePlanetaryEventsFromXML(workingNode);
-                } else if (nodeName.equalsIgnoreCase("partsInUse")) {
-                    processPartsInUse(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
-                    campaign.setTemporaryPrisonerCapacity(MathUtility.parseInt(workingNode.getTextContent().trim()));
-                } else if (nodeName.equalsIgnoreCase("processProcurement")) {
-                    campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+                    processFinances(campaign, reader);
+                } else {
+                    // Everything else is small enough to read as a whole
+                    Node workingNode = reader.readElement(CAMPAIGN_ELEMENT);
+
+                    if (nodeName.equalsIgnoreCase("pastVersions")) {
+                        processPastVersionNodes(campaign, workingNode);
+                    } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
+                        campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
+                              workingNode,
+                              version));
+                    } else if (nodeName.equalsIgnoreCase("forces")) {
+                        processForces(campaign, workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("location")) {
+                        campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
+                    } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
+                        campaign.setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+                    } else if (nodeName.equalsIgnoreCase("skillTypes")) {
+                        processSkillTypeNodes(workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
+                        processSpecialAbilityNodes(campaign, workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("storyArc")) {
+                        processStoryArcNodes(campaign, workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("kills")) {
+                        processKillNodes(campaign, workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("shoppingList")) {
+                        campaign.setShoppingList(ShoppingList.generateInstanceFromXML(workingNode, campaign, version));
+                    } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
+                        campaign.setPersonnelMarket(PersonnelMarket.generateInstanceFromXML(workingNode,
+                              campaign,
+                              version));
+                        foundPersonnelMarket = true;
+                    } else if (nodeName.equalsIgnoreCase("contractMarket")) {
+                        // CAW: implicit DEPENDS-ON to the <missions> node
+                        campaign.setContractMarket(AbstractContractMarket.generateInstanceFromXML(workingNode,
+                              campaign,
+                              version));
+                        foundContractMarket = true;
+                    } else if (nodeName.equalsIgnoreCase("unitMarket")) {
+                        // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
+                        campaign.setUnitMarket(campaign.getCampaignOptions().getUnitMarketMethod().getUnitMarket());
+                        campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
+                        foundUnitMarket = true;
+                    } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
+                        processCombatTeamNodes(campaign, workingNode);
+                    } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
+                        campaign.setRetirementDefectionTracker(RetirementDefectionTracker.generateInstanceFromXML(
+                              workingNode,
+                              campaign));
+                    } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
+                        campaign.setPersonnelWhoAdvancedInXP(processPersonnelWhoAdvancedInXP(workingNode, campaign));
+                    } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
+                        campaign.setAutomatedMothballUnits(processAutomatedMothballNodes(workingNode));
+                    } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
+                        campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
+                                                                                   .getBehavior(workingNode
+                                                                                                      .getTextContent()),
+                              BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
+                    } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
+                        //TODO: deal with this
+                        updatePlanetaryEventsFromXML(workingNode);
+                    } else if (nodeName.equalsIgnoreCase("partsInUse")) {
+                        processPartsInUse(campaign, workingNode, version);
+                    } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
+                        campaign.setTemporaryPrisonerCapacity(MathUtility.parseInt(workingNode.getTextContent()
+                                                                                         .trim()));
+                    } else if (nodeName.equalsIgnoreCase("processProcurement")) {
+                        campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+                    }
                 }
             }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+        } catch (XMLStreamException | ParserConfigurationException ex) {
+            LOGGER.error("", ex);
+            throw new CampaignXmlParseException(ex);
         }
 
         // Okay, after we've gone through all the nodes and constructed the
@@ -1129,127 +1101,9 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
 
         // Update daily reports
-        campaign.setCurrentReportHTML(Utilities.combineString(campaign.getCurrentReport(), Campaign.REPORT_LINEBREAK));
-        List<String> newReports = new ArrayList<>(campaign.getCurrentReport().size() * 2);
-        boolean firstGeneralReport = true;
-        for (String report : campaign.getCurrentReport()) {
-            if (firstGeneralReport) {
-                firstGeneralReport = false;
-            } else {
-                newReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newReports.add(report);
-        }
-        campaign.setNewReports(newReports);
-
-        campaign.setSkillReportHTML(Utilities.combineString(campaign.getSkillReport(), Campaign.REPORT_LINEBREAK));
-        List<String> newSkillReports = new ArrayList<>(campaign.getSkillReport().size() * 2);
-        boolean firstSkillReport = true;
-        for (String report : campaign.getSkillReport()) {
-            if (firstSkillReport) {
-                firstSkillReport = false;
-            } else {
-                newSkillReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newSkillReports.add(report);
-        }
-        campaign.setNewSkillReports(newSkillReports);
-
-        campaign.setBattleReportHTML(Utilities.combineString(campaign.getBattleReport(), Campaign.REPORT_LINEBREAK));
-        List<String> newBattleReports = new ArrayList<>(campaign.getBattleReport().size() * 2);
-        boolean firstBattleReport = true;
-        for (String report : campaign.getBattleReport()) {
-            if (firstBattleReport) {
-                firstBattleReport = false;
-            } else {
-                newBattleReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newBattleReports.add(report);
-        }
-        campaign.setNewBattleReports(newBattleReports);
-
-        campaign.setPoliticsReportHTML(Utilities.combineString(campaign.getPoliticsReport(),
-              Campaign.REPORT_LINEBREAK));
-        List<String> newPoliticsReports = new ArrayList<>(campaign.getPoliticsReport().size() * 2);
-        boolean firstPoliticsReport = true;
-        for (String report : campaign.getPoliticsReport()) {
-            if (firstPoliticsReport) {
-                firstPoliticsReport = false;
-            } else {
-                newPoliticsReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newPoliticsReports.add(report);
+        for (DailyReportType type : DailyReportType.values()) {
+            campaign.getReportBuffer(type).restore(campaign.getReport(type));
         }
-        campaign.setNewPoliticsReports(newPoliticsReports);
-
-        campaign.setPersonnelReportHTML(Utilities.combineString(campaign.getPersonnelReport(),
-              Campaign.REPORT_LINEBREAK));
-        List<String> newPersonnelReports = new ArrayList<>(campaign.getPersonnelReport().size() * 2);
-        boolean firstPersonnelReport = true;
-        for (String report : campaign.getPersonnelReport()) {
-            if (firstPersonnelReport) {
-                firstPersonnelReport = false;
-            } else {
-                newPersonnelReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newPersonnelReports.add(report);
-        }
-        campaign.setNewPersonnelReports(newPersonnelReports);
-
-        campaign.setMedicalReportHTML(Utilities.combineString(campaign.getMedicalReport(), Campaign.REPORT_LINEBREAK));
-        List<String> newMedicalReports = new ArrayList<>(campaign.getMedicalReport().size() * 2);
-        boolean firstMedicalReport = true;
-        for (String report : campaign.getMedicalReport()) {
-            if (firstMedicalReport) {
-                firstMedicalReport = false;
-            } else {
-                newMedicalReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newMedicalReports.add(report);
-        }
-        campaign.setNewMedicalReports(newMedicalReports);
-
-        campaign.setFinancesReportHTML(Utilities.combineString(campaign.getFinancesReport(),
-              Campaign.REPORT_LINEBREAK));
-        List<String> newFinancesReports = new ArrayList<>(campaign.getFinancesReport().size() * 2);
-        boolean firstFinancesReport = true;
-        for (String report : campaign.getFinancesReport()) {
-            if (firstFinancesReport) {
-                firstFinancesReport = false;
-            } else {
-                newFinancesReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newFinancesReports.add(report);
-        }
-        campaign.setNewFinancesReports(newFinancesReports);
-
-        campaign.setAcquisitionsReportHTML(Utilities.combineString(campaign.getAcquisitionsReport(),
-              Campaign.REPORT_LINEBREAK));
-        List<String> newAcquisitionsReports = new ArrayList<>(campaign.getAcquisitionsReport().size() * 2);
-        boolean firstAcquisitionsReport = true;
-        for (String report : campaign.getAcquisitionsReport()) {
-            if (firstAcquisitionsReport) {
-                firstAcquisitionsReport = false;
-            } else {
-                newAcquisitionsReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newAcquisitionsReports.add(report);
-        }
-        campaign.setNewAcquisitionsReports(newAcquisitionsReports);
-
-        campaign.setTechnicalReportHTML(Utilities.combineString(campaign.getTechnicalReport(),
-              Campaign.REPORT_LINEBREAK));
-        List<String> newTechnicalReports = new ArrayList<>(campaign.getTechnicalReport().size() * 2);
-        boolean firstTechnicalReport = true;
-        for (String report : campaign.getTechnicalReport()) {
-            if (firstTechnicalReport) {
-                firstTechnicalReport = false;
-            } else {
-                newTechnicalReports.add(Campaign.REPORT_LINEBREAK);
-            }
-            newTechnicalReports.add(report);
-        }
-        campaign.setNewTechnicalReports(newTechnicalReports);
     }
 
     private static void processCombatTeamNodes(Campaign campaign, Node workingNode) {
@@ -1346,9 +1200,18 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
     }
 
-    private static void processFinances(Campaign retVal, Node wn) {
+    private static void processFinances(Campaign retVal, XmlFragmentReader reader) throws XMLStreamException {
         LOGGER.info("Loading Finances from XML...");
-        retVal.setFinances(Finances.generateInstanceFromXML(wn));
+        Finances finances = new Finances();
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equals("transactions")) {
+                finances.loadFieldFromXML(reader.readElement("finances"));
+                continue;
+            }
+
+            finances.loadTransactionsFromXML(reader);
+        }
+        retVal.setFinances(finances);
         LOGGER.info("Load of Finances complete!");
     }
 
@@ -1390,28 +1253,21 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         LOGGER.info("Load of Force Organization complete!");
     }
 
-    private static void processPersonnelNodes(Campaign campaign, Node wn, Version version) {
+    private static void processPersonnelNodes(Campaign campaign, XmlFragmentReader reader, Version version)
+          throws XMLStreamException {
         LOGGER.info("Loading Personnel Nodes from XML...");
 
-        NodeList wList = wn.getChildNodes();
-
         // Okay, let's iterate through the children, eh?
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("person")) {
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equalsIgnoreCase("person")) {
                 // Error condition of sorts!
                 // Errr, what should we do here?
-                LOGGER.error("Unknown node type not loaded in Personnel nodes: {}", wn2.getNodeName());
-
+                LOGGER.error("Unknown node type not loaded in Personnel nodes: {}", reader.getElementName());
+                reader.skipElement();
                 continue;
             }
 
+            Node wn2 = reader.readElement("personnel");
             Person p = Person.generateInstanceFromXML(wn2, campaign, version);
 
             if (p != null) {
@@ -1796,27 +1652,21 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
     }
 
-    private static void processMissionNodes(Campaign retVal, Node wn, Version version) {
+    private static void processMissionNodes(Campaign retVal, XmlFragmentReader reader, Version version)
+          throws XMLStreamException {
         LOGGER.info("Loading Mission Nodes from XML...");
 
-        NodeList wList = wn.getChildNodes();
-
         // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("mission")) {
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equalsIgnoreCase("mission")) {
                 // Error condition of sorts!
                 // Errr, what should we do here?
-                LOGGER.warn("Unknown node type not loaded in Mission nodes: {}", wn2.getNodeName());
+                LOGGER.warn("Unknown node type not loaded in Mission nodes: {}", reader.getElementName());
+                reader.skipElement();
                 continue;
             }
 
+            Node wn2 = reader.readElement("missions");
             Mission m = Mission.generateInstanceFromXML(wn2, retVal, version);
 
             if (m != null) {
@@ -1832,25 +1682,19 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         LOGGER.info("Load Mission Nodes Complete!");
     }
 
-    private static @Nullable String checkUnits(final Node wn) {
+    private static @Nullable String checkUnits(final XmlFragmentReader reader) throws XMLStreamException {
         LOGGER.info("Checking for missing entities...");
 
         List<String> unitList = new ArrayList<>();
-        NodeList wList = wn.getChildNodes();
 
         // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("unit")) {
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equalsIgnoreCase("unit")) {
+                reader.skipElement();
                 continue;
             }
 
+            Node wn2 = reader.readElement("units");
             NodeList nl = wn2.getChildNodes();
 
             for (int y = 0; y < nl.getLength(); y++) {
@@ -1884,25 +1728,19 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         }
     }
 
-    private static void processUnitNodes(Campaign retVal, Node wn, Version version) {
+    private static void processUnitNodes(Campaign retVal, XmlFragmentReader reader, Version version)
+          throws XMLStreamException {
         LOGGER.info("Loading Unit Nodes from XML...");
 
-        NodeList wList = wn.getChildNodes();
-
         // Okay, lets iterate through the children, eh?
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("unit")) {
-                LOGGER.error("Unknown node type not loaded in Unit nodes: {}", wn2.getNodeName());
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equalsIgnoreCase("unit")) {
+                LOGGER.error("Unknown node type not loaded in Unit nodes: {}", reader.getElementName());
+                reader.skipElement();
                 continue;
             }
 
+            Node wn2 = reader.readElement("units");
             Unit u = Unit.generateInstanceFromXML(wn2, version, retVal);
 
             if (u != null) {
@@ -1913,26 +1751,20 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         LOGGER.info("Load Unit Nodes Complete!");
     }
 
-    private static void processPartNodes(Campaign retVal, Node wn, Version version) {
+    private static void processPartNodes(Campaign retVal, XmlFragmentReader reader, Version version)
+          throws XMLStreamException {
         LOGGER.info("Loading Part Nodes from XML...");
 
-        NodeList wList = wn.getChildNodes();
-
         // Okay, lets iterate through the children, eh?
         List<Part> parts = new ArrayList<>();
-        for (int x = 0; x < wList.getLength(); x++) {
-            Node wn2 = wList.item(x);
-
-            // If it's not an element node, we ignore it.
-            if (wn2.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            if (!wn2.getNodeName().equalsIgnoreCase("part")) {
-                LOGGER.error("Unknown node type not loaded in Part nodes: {} ", wn2.getNodeName());
+        while (reader.nextChildElement()) {
+            if (!reader.getElementName().equalsIgnoreCase("part")) {
+                LOGGER.error("Unknown node type not loaded in Part nodes: {} ", reader.getElementName());
+                reader.skipElement();
                 continue;
             }
 
+            Node wn2 = reader.readElement("parts");
             Part p = Part.generateInstanceFromXML(wn2, version);
 
             if (p != null) {
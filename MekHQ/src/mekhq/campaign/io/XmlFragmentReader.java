@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import megamek.common.annotations.Nullable;
+import mekhq.utilities.MHQXMLUtility;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+/**
+ * Reads an XML document as a stream of elements, materializing only the elements the caller asks for as small DOM
+ * fragments.
+ * <p>
+ * This lets the campaign loader hand each person, unit, part and so on to the existing {@link Node}-based
+ * {@code generateInstanceFromXML} methods one at a time, so that only a single such element is held in memory as DOM
+ * instead of the entire campaign. Each fragment is built in its own {@link Document} and becomes garbage as soon as
+ * the caller is done with it.
+ * <p>
+ * The reader walks the document depth first: {@link #nextChildElement()} moves to the next child of the element
+ * currently being read, while {@link #readElement(String)} and {@link #skipElement()} consume the current element,
+ * including all of its content.
+ */
+public class XmlFragmentReader implements AutoCloseable {
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final XMLStreamReader reader;
+    private final DocumentBuilder documentBuilder;
+
+    XmlFragmentReader(byte[] data) throws XMLStreamException, ParserConfigurationException {
+        this.reader = INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(data));
+        this.documentBuilder = MHQXMLUtility.newSafeDocumentBuilder();
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Campaign files never use DTDs, and refusing them keeps the reader safe from entity expansion attacks
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        return factory;
+    }
+
+    /**
+     * Moves to the document (root) element.
+     *
+     * @return the name of the document element
+     *
+     * @throws XMLStreamException if the document has no element or is malformed
+     */
+    String startDocumentElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return getElementName();
+            }
+        }
+        throw new XMLStreamException("The document has no root element");
+    }
+
+    /**
+     * Moves to the next child element of the element being read, skipping any text, comments and so on in between.
+     *
+     * @return {@code true} if the reader is now positioned on the next child element, or {@code false} if the end of
+     *       the element being read was reached instead
+     */
+    public boolean nextChildElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if ((event == XMLStreamConstants.END_ELEMENT) || (event == XMLStreamConstants.END_DOCUMENT)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the name of the current element
+     */
+    public String getElementName() {
+        return qualifiedName(reader.getPrefix(), reader.getLocalName());
+    }
+
+    /**
+     * @param name the attribute name
+     *
+     * @return the value of the attribute on the current element, or an empty string if it is not present, just like
+     *       {@link Element#getAttribute(String)}
+     */
+    String getAttribute(String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (name.equals(qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Reads the current element and all of its content into a new DOM fragment.
+     *
+     * @param parentName if not {@code null}, the fragment is nested under an empty element of this name, so that
+     *                   {@link Node#getParentNode()} behaves as it would in a full DOM
+     *
+     * @return the element read
+     */
+    public Element readElement(@Nullable String parentName) throws XMLStreamException {
+        Document document = documentBuilder.newDocument();
+        Node root = document;
+        if (null != parentName) {
+            root = document.appendChild(document.createElement(parentName));
+        }
+
+        Deque<Element> open = new ArrayDeque<>();
+        Element result = createElement(document);
+        root.appendChild(result);
+        open.push(result);
+
+        while (!open.isEmpty()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT: {
+                    Element child = createElement(document);
+                    open.peek().appendChild(child);
+                    open.push(child);
+                    break;
+                }
+                case XMLStreamConstants.END_ELEMENT:
+                    open.pop();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE: {
+                    // Keep adjacent text in one node, as a normalized DOM would
+                    Node last = open.peek().getLastChild();
+                    if ((null != last) && (last.getNodeType() == Node.TEXT_NODE)) {
+                        ((Text) last).appendData(reader.getText());
+                    } else {
+                        open.peek().appendChild(document.createTextNode(reader.getText()));
+                    }
+                    break;
+                }
+                case XMLStreamConstants.CDATA:
+                    open.peek().appendChild(document.createCDATASection(reader.getText()));
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of document inside " + result.getNodeName());
+                default:
+                    // Comments and processing instructions are never read by the campaign loader
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private Element createElement(Document document) {
+        Element element = document.createElement(getElementName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                  reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    /**
+     * Skips the current element and all of its content.
+     */
+    public void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of document");
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static String qualifiedName(@Nullable String prefix, String localName) {
+        return ((null == prefix) || prefix.isEmpty()) ? localName : (prefix + ':' + localName);
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+}
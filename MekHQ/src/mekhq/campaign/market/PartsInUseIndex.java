@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.market;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.Warehouse;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.PartInUse;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.work.IAcquisitionWork;
+
+/**
+ * Groups the parts in a {@link Warehouse} by the Parts In Use row they count towards.
+ *
+ * <p>Working out which row a part belongs to means building a {@link PartInUse} for it, and for a missing part a
+ * new replacement part as well, so doing this for every part each time Parts In Use is refreshed is expensive. The
+ * index instead does this once per part, when the part is added or changed, and keeps the parts of each row together.
+ * Counting a row then only needs to look at the parts in that row.</p>
+ *
+ * <p>The counts themselves are not stored. Whether a part counts as in use, spare or in transit depends on the state
+ * of its unit and filters chosen when counting, and those can change without any event being raised, so the counts
+ * are always taken from the current state of the grouped parts.</p>
+ *
+ * <p>The index is built on first use and kept up to date by {@link mekhq.campaign.CampaignEventProcessor}. Parts can
+ * also be changed, added or removed without an event being raised, so before each use the index also checks every
+ * warehouse part against the {@link Part#getModificationCount() modification count} it was classified at. Parts that
+ * changed since are classified again, and parts that left the warehouse are dropped. This check only compares
+ * numbers, so it stays cheap next to classifying every part.</p>
+ */
+public class PartsInUseIndex {
+    private final Warehouse warehouse;
+    private final Function<Part, PartInUse> classifier;
+
+    /** The row of every indexed part, or {@code null} for parts that are not tracked */
+    private final Map<Part, PartInUse> rowsByPart = new IdentityHashMap<>();
+    /** The modification count of every indexed part when it was classified */
+    private final Map<Part, Integer> modificationCounts = new IdentityHashMap<>();
+    private final Map<PartInUse, Set<Part>> partsByRow = new LinkedHashMap<>();
+    private final Map<Part, PartInUse> rowsByPlannedItem = new IdentityHashMap<>();
+    private boolean isBuilt = false;
+
+    /**
+     * Creates an index of the parts in the given warehouse.
+     *
+     * @param warehouse the {@link Warehouse} whose parts are indexed
+     */
+    public PartsInUseIndex(Warehouse warehouse) {
+        this(warehouse, PartsInUseManager::createPartInUse);
+    }
+
+    /**
+     * @param warehouse  the {@link Warehouse} whose parts are indexed
+     * @param classifier returns the row a part counts towards, or {@code null} if the part is not tracked
+     */
+    PartsInUseIndex(Warehouse warehouse, Function<Part, PartInUse> classifier) {
+        this.warehouse = warehouse;
+        this.classifier = classifier;
+    }
+
+    /**
+     * @return {@code true} if this index is for the given warehouse
+     */
+    public boolean isFor(Warehouse warehouse) {
+        return this.warehouse == warehouse;
+    }
+
+    /**
+     * Calls the consumer with every row and the parts counting towards it, in the order the rows were first seen.
+     *
+     * @param consumer receives each row and its parts; it must not change the warehouse
+     */
+    public synchronized void forEachRow(BiConsumer<PartInUse, Collection<Part>> consumer) {
+        ensureBuilt();
+        for (Map.Entry<PartInUse, Set<Part>> entry : partsByRow.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @param partInUse a Parts In Use row
+     *
+     * @return the parts in the warehouse that count towards the row
+     */
+    public synchronized List<Part> getParts(PartInUse partInUse) {
+        ensureBuilt();
+        Set<Part> parts = partsByRow.get(partInUse);
+        return (null == parts) ? List.of() : new ArrayList<>(parts);
+    }
+
+    /**
+     * Returns the row a shopping list item counts towards. Items are classified once and remembered until
+     * {@link #retainPlannedItems(Collection)} no longer sees them on the shopping list.
+     *
+     * @param item a {@link Part} on the shopping list
+     *
+     * @return the row, or {@code null} if the item is not tracked
+     */
+    public synchronized @Nullable PartInUse getRow(Part item) {
+        if (rowsByPlannedItem.containsKey(item)) {
+            return rowsByPlannedItem.get(item);
+        }
+        PartInUse row = classifier.apply(item);
+        rowsByPlannedItem.put(item, row);
+        return row;
+    }
+
+    /**
+     * Forgets the shopping list items that are no longer on the shopping list.
+     *
+     * @param items the items currently on the shopping list
+     */
+    public synchronized void retainPlannedItems(Collection<? extends IAcquisitionWork> items) {
+        if (rowsByPlannedItem.isEmpty()) {
+            return;
+        }
+        Set<Object> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(items);
+        rowsByPlannedItem.keySet().retainAll(current);
+    }
+
+    /**
+     * Updates the index after a part was added to, changed in, or removed from the warehouse.
+     *
+     * @param part the part
+     */
+    public synchronized void partChanged(Part part) {
+        if (!isBuilt) {
+            return;
+        }
+        remove(part);
+        if (warehouse.getPart(part.getId()) == part) {
+            add(part);
+        }
+    }
+
+    /**
+     * Updates the index after a unit changed, which may change the row some of its parts count towards.
+     *
+     * @param unit the unit
+     */
+    public synchronized void unitChanged(Unit unit) {
+        if (!isBuilt || (null == unit)) {
+            return;
+        }
+        for (Part part : new ArrayList<>(unit.getParts())) {
+            partChanged(part);
+        }
+    }
+
+    /**
+     * Drops everything indexed, so that the index is rebuilt the next time it is used.
+     */
+    public synchronized void invalidate() {
+        isBuilt = false;
+        rowsByPart.clear();
+        modificationCounts.clear();
+        partsByRow.clear();
+        rowsByPlannedItem.clear();
+    }
+
+    private void ensureBuilt() {
+        if (!isBuilt) {
+            invalidate();
+            warehouse.forEachPart(this::add);
+            isBuilt = true;
+            return;
+        }
+
+        Set<Part> warehouseParts = Collections.newSetFromMap(new IdentityHashMap<>());
+        warehouse.forEachPart(part -> {
+            warehouseParts.add(part);
+            Integer modificationCount = modificationCounts.get(part);
+            if ((null == modificationCount) || (modificationCount != part.getModificationCount())) {
+                remove(part);
+                add(part);
+            }
+        });
+        if (warehouseParts.size() != rowsByPart.size()) {
+            for (Part part : new ArrayList<>(rowsByPart.keySet())) {
+                if (!warehouseParts.contains(part)) {
+                    remove(part);
+                }
+            }
+        }
+    }
+
+    private void add(Part part) {
+        PartInUse row = classifier.apply(part);
+        rowsByPart.put(part, row);
+        // read after classifying, which may itself go through the part's setters
+        modificationCounts.put(part, part.getModificationCount());
+        if (null != row) {
+            partsByRow.computeIfAbsent(row, key -> new LinkedHashSet<>()).add(part);
+        }
+    }
+
+    private void remove(Part part) {
+        if (!rowsByPart.containsKey(part)) {
+            return;
+        }
+        PartInUse row = rowsByPart.remove(part);
+        modificationCounts.remove(part);
+        if (null == row) {
+            return;
+        }
+        Set<Part> parts = partsByRow.get(row);
+        if (null != parts) {
+            parts.remove(part);
+            if (parts.isEmpty()) {
+                partsByRow.remove(row);
+            }
+        }
+    }
+}
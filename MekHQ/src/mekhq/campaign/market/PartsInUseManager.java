@@ -35,6 +35,7 @@ package mekhq.campaign.market;
 import static mekhq.campaign.mission.resupplyAndCaches.Resupply.isProhibitedUnitType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,7 +47,6 @@ import megamek.common.units.Entity;
 import megamek.common.units.Mek;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.Quartermaster;
-import mekhq.campaign.Warehouse;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.parts.AmmoStorage;
 import mekhq.campaign.parts.Armor;
@@ -90,10 +90,10 @@ import mekhq.campaign.work.IAcquisitionWork;
 public class PartsInUseManager {
     private final Campaign campaign;
     private final CampaignOptions campaignOptions;
-    private final Warehouse warehouse;
     private final ShoppingList shoppingList;
     private final Quartermaster quartermaster;
     private final Map<String, Double> partsInUseRequestedStockMap;
+    private final PartsInUseIndex partsInUseIndex;
 
     /**
      * Creates a new {@link PartsInUseManager} manager for the specified campaign.
@@ -103,17 +103,17 @@ public class PartsInUseManager {
     public PartsInUseManager(Campaign campaign) {
         this.campaign = campaign;
         this.campaignOptions = campaign.getCampaignOptions();
-        this.warehouse = campaign.getWarehouse();
         this.shoppingList = campaign.getShoppingList();
         this.quartermaster = campaign.getQuartermaster();
         this.partsInUseRequestedStockMap = campaign.getPartsInUseRequestedStockMap();
+        this.partsInUseIndex = campaign.getPartsInUseIndex();
     }
 
     /**
      * Creates a {@link PartInUse} wrapper for the specified part, if applicable.
      *
      * <p>This method determines whether a part should be tracked for stock management and returns an appropriate
-     * {@link PartInUse} instance with the default stock percentage set. Certain part types are excluded:</p>
+     * {@link PartInUse} instance. Certain part types are excluded:</p>
      *
      * <ul>
      *     <li>{@link StructuralIntegrity} - not a proper part</li>
@@ -125,10 +125,10 @@ public class PartsInUseManager {
      *
      * @param part the {@link Part} to wrap
      *
-     * @return a {@link PartInUse} instance with default stock settings, or {@code null} if the part should not be
+     * @return a {@link PartInUse} instance without any requested stock, or {@code null} if the part should not be
      *       tracked
      */
-    private PartInUse getPartInUse(Part part) {
+    static PartInUse createPartInUse(Part part) {
         // SI isn't a proper "part"
         if (part instanceof StructuralIntegrity) {
             return null;
@@ -148,7 +148,6 @@ public class PartsInUseManager {
             part = missingPart.getNewPart();
         }
         PartInUse result = new PartInUse(part);
-        result.setRequestedStock(getDefaultStockPercent(part));
         return (null != result.getPartToBuy()) ? result : null;
     }
 
@@ -264,26 +263,32 @@ public class PartsInUseManager {
         partInUse.setStoreCount(0);
         partInUse.setTransferCount(0);
         partInUse.setPlannedCount(0);
-        warehouse.forEachPart(incomingPart -> {
-            PartInUse newPartInUse = getPartInUse(incomingPart);
-            if (partInUse.equals(newPartInUse)) {
-                updatePartInUseData(partInUse, incomingPart, ignoreMothballedUnits, ignoreSparesUnderQuality);
-            }
-        });
-        for (IAcquisitionWork maybePart : shoppingList.getPartList()) {
-            PartInUse newPartInUse = getPartInUse((Part) maybePart);
-            if (partInUse.equals(newPartInUse)) {
-                Part newPart = (maybePart instanceof MissingPart)
-                                     ? ((MissingPart) maybePart).getNewPart()
-                                     : (Part) maybePart;
-                partInUse.setPlannedCount(
-                      partInUse.getPlannedCount() +
-                            newPart.getQuantityForPartsInUse() * maybePart.getQuantity()
-                );
+        for (Part incomingPart : partsInUseIndex.getParts(partInUse)) {
+            updatePartInUseData(partInUse, incomingPart, ignoreMothballedUnits, ignoreSparesUnderQuality);
+        }
+        List<IAcquisitionWork> shoppingItems = shoppingList.getPartList();
+        partsInUseIndex.retainPlannedItems(shoppingItems);
+        for (IAcquisitionWork maybePart : shoppingItems) {
+            if ((maybePart instanceof Part part) && partInUse.equals(partsInUseIndex.getRow(part))) {
+                updatePlannedCount(partInUse, maybePart);
             }
         }
     }
 
+    /**
+     * Adds the quantity of a shopping list item to the planned count of a {@link PartInUse} record.
+     *
+     * @param partInUse the {@link PartInUse} record the item counts towards
+     * @param item      the item on the shopping list
+     */
+    private static void updatePlannedCount(PartInUse partInUse, IAcquisitionWork item) {
+        Part newPart = (item instanceof MissingPart) ? ((MissingPart) item).getNewPart() : (Part) item;
+        partInUse.setPlannedCount(
+              partInUse.getPlannedCount() +
+                    newPart.getQuantityForPartsInUse() * item.getQuantity()
+        );
+    }
+
     /**
      * Analyzes the warehouse inventory and returns a data set that summarizes the usage state of all parts, including
      * their use counts, store counts, and planned counts, while filtering based on specific conditions.
@@ -315,71 +320,44 @@ public class PartsInUseManager {
         // java.util.Set doesn't supply a get(Object) method, so we have to use a
         // java.util.Map
         Map<PartInUse, PartInUse> inUse = new HashMap<>();
-        warehouse.forEachPart(incomingPart -> {
-            if (isResupply) {
-                Unit unit = incomingPart.getUnit();
-
-                Entity entity = null;
-                if (unit != null) {
-                    entity = unit.getEntity();
+        partsInUseIndex.forEachRow((row, parts) -> {
+            PartInUse partInUse = null;
+            for (Part incomingPart : parts) {
+                if (isResupply && isProhibitedForResupply(incomingPart)) {
+                    continue;
                 }
 
-                if (entity != null) {
-                    if (isProhibitedUnitType(entity, false, false)) {
+                if (null == partInUse) {
+                    partInUse = createRequestedPartInUse(incomingPart);
+                    if (null == partInUse) {
                         return;
                     }
+                    inUse.put(partInUse, partInUse);
                 }
+                updatePartInUseData(partInUse, incomingPart, ignoreMothballedUnits, ignoreSparesUnderQuality);
             }
-
-            PartInUse partInUse = getPartInUse(incomingPart);
-            if (null == partInUse) {
-                return;
-            }
-
-            String stockKey = getStockKey(partInUse);
-
-            if (inUse.containsKey(partInUse)) {
-                partInUse = inUse.get(partInUse);
-            } else {
-                if (partsInUseRequestedStockMap.containsKey(stockKey)) {
-                    partInUse.setRequestedStock(partsInUseRequestedStockMap.get(stockKey));
-                } else {
-                    partInUse.setRequestedStock(getDefaultStockPercent(incomingPart));
-                }
-                inUse.put(partInUse, partInUse);
-            }
-            updatePartInUseData(partInUse, incomingPart, ignoreMothballedUnits, ignoreSparesUnderQuality);
         });
 
-        for (IAcquisitionWork maybePart : shoppingList.getPartList()) {
-            if (!(maybePart instanceof Part)) {
+        List<IAcquisitionWork> shoppingItems = shoppingList.getPartList();
+        partsInUseIndex.retainPlannedItems(shoppingItems);
+        for (IAcquisitionWork maybePart : shoppingItems) {
+            if (!(maybePart instanceof Part part)) {
                 continue;
             }
-            PartInUse partInUse = getPartInUse((Part) maybePart);
-            if (null == partInUse) {
+            PartInUse row = partsInUseIndex.getRow(part);
+            if (null == row) {
                 continue;
             }
 
-            String stockKey = getStockKey(partInUse);
-
-            if (inUse.containsKey(partInUse)) {
-                partInUse = inUse.get(partInUse);
-            } else {
-                if (partsInUseRequestedStockMap.containsKey(stockKey)) {
-                    partInUse.setRequestedStock(partsInUseRequestedStockMap.get(stockKey));
-                } else {
-                    partInUse.setRequestedStock(getDefaultStockPercent((Part) maybePart));
+            PartInUse partInUse = inUse.get(row);
+            if (null == partInUse) {
+                partInUse = createRequestedPartInUse(part);
+                if (null == partInUse) {
+                    continue;
                 }
                 inUse.put(partInUse, partInUse);
             }
-
-            Part newPart = (maybePart instanceof MissingPart)
-                                 ? ((MissingPart) maybePart).getNewPart()
-                                 : (Part) maybePart;
-            partInUse.setPlannedCount(
-                  partInUse.getPlannedCount() +
-                        newPart.getQuantityForPartsInUse() * maybePart.getQuantity()
-            );
+            updatePlannedCount(partInUse, maybePart);
         }
         return inUse.keySet()
                      .stream()
@@ -388,6 +366,38 @@ public class PartsInUseManager {
                      .collect(Collectors.toSet());
     }
 
+    /**
+     * Creates a new {@link PartInUse} record for the row the part counts towards, with the requested stock taken from
+     * the campaign's saved stock levels or else the default for the part.
+     *
+     * @param part the first {@link Part} counted towards the record
+     *
+     * @return the record, or {@code null} if the part should not be tracked
+     */
+    private PartInUse createRequestedPartInUse(Part part) {
+        PartInUse partInUse = createPartInUse(part);
+        if (null == partInUse) {
+            return null;
+        }
+
+        String stockKey = getStockKey(partInUse);
+        if (partsInUseRequestedStockMap.containsKey(stockKey)) {
+            partInUse.setRequestedStock(partsInUseRequestedStockMap.get(stockKey));
+        } else {
+            partInUse.setRequestedStock(getDefaultStockPercent(part));
+        }
+        return partInUse;
+    }
+
+    /**
+     * @return {@code true} if the part belongs to a unit that is not resupplied
+     */
+    private static boolean isProhibitedForResupply(Part part) {
+        Unit unit = part.getUnit();
+        Entity entity = (unit == null) ? null : unit.getEntity();
+        return (entity != null) && isProhibitedUnitType(entity, false, false);
+    }
+
     /**
      * Adds parts to the shopping list to stock up to the requested levels for all parts currently in use.
      *
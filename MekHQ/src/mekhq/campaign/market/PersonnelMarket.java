@@ -49,7 +49,6 @@ import java.util.UUID;
 import megamek.Version;
 import megamek.common.event.Subscribe;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -65,6 +64,7 @@ import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.personnel.skills.SkillModifierData;
 import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.HangarStatistics;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.module.PersonnelMarketServiceManager;
@@ -392,7 +392,7 @@ public class PersonnelMarket {
                     MekSummary ms = MekSummaryCache.getInstance().getMek(wn2.getTextContent());
                     Entity en = null;
                     try {
-                        en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                        en = EntityTemplateCache.getInstance().getEntity(ms);
                     } catch (EntityLoadingException ex) {
                         logger.error(ex, "Unable to load entity: {}: {}: {}",
                               ms.getSourceFile(),
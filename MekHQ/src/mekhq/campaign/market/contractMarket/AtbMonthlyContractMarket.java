@@ -87,6 +87,7 @@ import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.universe.RandomFactionGenerator;
+import mekhq.campaign.universe.SystemSnapshot;
 import mekhq.campaign.universe.Systems;
 import mekhq.campaign.universe.factionStanding.FactionStandingUtilities;
 import mekhq.campaign.universe.factionStanding.FactionStandings;
@@ -215,9 +216,10 @@ public class AtbMonthlyContractMarket extends AbstractContractMarket {
                 // Just one faction. Are there any others nearby?
                 Faction onlyFaction = currentFactions.iterator().next();
                 if (!onlyFaction.isPeriphery()) {
+                    SystemSnapshot snapshot = Systems.getInstance().getSnapshot(campaign.getLocalDate());
                     for (PlanetarySystem key : Systems.getInstance()
                                                      .getNearbySystems(campaign.getCurrentSystem(), 30)) {
-                        for (Faction f : key.getFactionSet(campaign.getLocalDate())) {
+                        for (Faction f : snapshot.getFactionSet(key)) {
                             if (!onlyFaction.equals(f)) {
                                 inBackwater = false;
                                 break;
@@ -556,12 +558,13 @@ public class AtbMonthlyContractMarket extends AbstractContractMarket {
         // locations, this restriction can be lessened or lifted.
         if (!contract.getEnemy().isRebelOrPirate()) {
             boolean factionValid = false;
+            SystemSnapshot snapshot = Systems.getInstance().getSnapshot(campaign.getLocalDate());
             for (PlanetarySystem p : Systems.getInstance().getNearbySystems(campaign.getCurrentSystem(), 30)) {
                 if (factionValid) {
                     break;
                 }
 
-                for (Faction f : p.getFactionSet(campaign.getLocalDate())) {
+                for (Faction f : snapshot.getFactionSet(p)) {
                     if (f.getShortName().equals(contract.getEnemyCode())) {
                         factionValid = true;
                         break;
@@ -96,7 +96,6 @@ import megamek.common.eras.EraFlag;
 import megamek.common.game.Game;
 import megamek.common.icons.Camouflage;
 import megamek.common.loaders.MULParser;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.planetaryConditions.Atmosphere;
@@ -138,6 +137,7 @@ import mekhq.campaign.stratCon.StratConFacility;
 import mekhq.campaign.stratCon.StratConFacility.FacilityType;
 import mekhq.campaign.stratCon.StratConScenario;
 import mekhq.campaign.stratCon.StratConTrackState;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
@@ -2842,7 +2842,7 @@ public class AtBDynamicScenarioFactory {
           MekSummary unitData, boolean isTest) {
         Entity entity;
         try {
-            entity = new MekFileParser(unitData.getSourceFile(), unitData.getEntryName()).getEntity();
+            entity = EntityTemplateCache.getInstance().getEntity(unitData);
         } catch (Exception ex) {
             LOGGER.error("Unable to load entity: {}: {}", unitData.getSourceFile(), unitData.getEntryName(), ex);
             return null;
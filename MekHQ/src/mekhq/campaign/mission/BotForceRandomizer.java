@@ -50,7 +50,6 @@ import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
 import megamek.common.enums.Gender;
 import megamek.common.enums.SkillLevel;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Crew;
 import megamek.common.units.Entity;
@@ -61,6 +60,7 @@ import mekhq.campaign.Campaign;
 import mekhq.campaign.enums.DragoonRating;
 import mekhq.campaign.personnel.Bloodname;
 import mekhq.campaign.personnel.enums.Phenotype;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
@@ -448,7 +448,7 @@ public class BotForceRandomizer {
     public @Nullable Entity createEntityWithCrew(MekSummary ms, Campaign campaign) {
         Entity en;
         try {
-            en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+            en = EntityTemplateCache.getInstance().getEntity(ms);
         } catch (Exception ex) {
             LOGGER.error("Unable to load entity: {}: {}", ms.getSourceFile(), ms.getEntryName(), ex);
             return null;
@@ -52,7 +52,6 @@ import java.util.UUID;
 
 import megamek.Version;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
@@ -68,6 +67,7 @@ import mekhq.campaign.parts.Armor;
 import mekhq.campaign.parts.Part;
 import mekhq.campaign.parts.enums.PartQuality;
 import mekhq.campaign.parts.equipment.AmmoBin;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.utilities.MHQXMLUtility;
 import mekhq.utilities.ReportingUtilities;
@@ -396,7 +396,7 @@ public class Loot {
                     if (null == summary) {
                         throw (new EntityLoadingException());
                     }
-                    Entity e = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+                    Entity e = EntityTemplateCache.getInstance().getEntity(summary);
                     if (null == e) {
                         continue;
                     }
@@ -69,7 +69,6 @@ import javax.swing.JPanel;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
@@ -83,6 +82,7 @@ import mekhq.campaign.parts.meks.MekLocation;
 import mekhq.campaign.stratCon.StratConCoords;
 import mekhq.campaign.stratCon.StratConScenario;
 import mekhq.campaign.stratCon.StratConTrackState;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
@@ -255,7 +255,7 @@ public class StarLeagueCache {
     @Nullable
     private Entity getEntity(MekSummary unitData) {
         try {
-            return new MekFileParser(unitData.getSourceFile(), unitData.getEntryName()).getEntity();
+            return EntityTemplateCache.getInstance().getEntity(unitData);
         } catch (Exception ex) {
             logger.error("Unable to load entity: {}: {}",
                   unitData.getSourceFile(),
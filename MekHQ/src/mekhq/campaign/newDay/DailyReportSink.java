@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import java.util.List;
+
+import mekhq.campaign.enums.DailyReportType;
+
+/**
+ * Receives the daily reports produced by {@link DayAdvancer} while it advances the campaign. Sinks are expected to
+ * buffer the reports and only render them in {@link #finish()}, so that advancing many days doesn't spend its time
+ * updating a display.
+ */
+public interface DailyReportSink {
+    /**
+     * Receives one report of a day that was advanced.
+     *
+     * @param type       the type of the report
+     * @param dayReport  the HTML of the report for the day
+     * @param newReports the individual entries added to the report since they were last fetched
+     */
+    void addDay(DailyReportType type, String dayReport, List<String> newReports);
+
+    /**
+     * Called once, after the last day was advanced or advancing stopped early.
+     */
+    default void finish() {
+    }
+}
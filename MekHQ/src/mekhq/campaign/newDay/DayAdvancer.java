@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import java.util.Objects;
+
+import megamek.logging.MMLogger;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
+
+/**
+ * Advances a campaign by a number of days, handing each day's reports to a {@link DailyReportSink}.
+ * <p>
+ * The advancer has no dependency on the user interface. How the new day interacts with the player is decided by the
+ * campaign's {@link NewDayInteractionPolicy}, so with a {@link HeadlessNewDayPolicy} days can be advanced without a
+ * display, for example to soak test or profile a campaign.
+ */
+public class DayAdvancer {
+    private static final MMLogger LOGGER = MMLogger.create(DayAdvancer.class);
+
+    private final Campaign campaign;
+
+    public DayAdvancer(Campaign campaign) {
+        this.campaign = Objects.requireNonNull(campaign);
+    }
+
+    /**
+     * Advances the campaign one day at a time. Advancing stops early if something prevents the new day, or if
+     * advancing a day fails.
+     *
+     * @param days the number of days to advance
+     * @param sink receives the reports of every day advanced, and is finished once advancing stops
+     *
+     * @return the number of days actually advanced
+     */
+    public int advanceDays(int days, DailyReportSink sink) {
+        int advanced = 0;
+        try {
+            while (advanced < days) {
+                if (!campaign.newDay()) {
+                    break;
+                }
+                advanced++;
+
+                for (DailyReportType type : DailyReportType.values()) {
+                    sink.addDay(type, campaign.getReportHTML(type), campaign.fetchAndClearNewReports(type));
+                }
+            }
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Failed to advance the campaign past {}", campaign.getLocalDate());
+        } finally {
+            sink.finish();
+        }
+        return advanced;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import mekhq.campaign.Campaign;
+
+/**
+ * A {@link NewDayInteractionPolicy} for advancing days without a user interface, such as from
+ * {@link mekhq.HeadlessCampaignRunner}. No dialogs are shown and no autosaves are made. The player's own new day
+ * preferences are ignored, so that the result does not depend on who runs it.
+ */
+public class HeadlessNewDayPolicy implements NewDayInteractionPolicy {
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    @Override
+    public boolean isAutosaveEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isOptimizeMedicalAssignments() {
+        return false;
+    }
+
+    @Override
+    public boolean isNewMonthQuickTrain() {
+        return false;
+    }
+
+    @Override
+    public void clearDailyReportNags(Campaign campaign) {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import mekhq.MekHQ;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
+import mekhq.gui.CampaignGUI;
+import mekhq.gui.CommandCenterTab;
+
+/**
+ * The default {@link NewDayInteractionPolicy}, used while the campaign is open in the user interface.
+ */
+public class InteractiveNewDayPolicy implements NewDayInteractionPolicy {
+    @Override
+    public boolean isInteractive() {
+        return true;
+    }
+
+    @Override
+    public boolean isAutosaveEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isOptimizeMedicalAssignments() {
+        return MekHQ.getMHQOptions().getNewDayOptimizeMedicalAssignments();
+    }
+
+    @Override
+    public boolean isNewMonthQuickTrain() {
+        return MekHQ.getMHQOptions().getNewMonthQuickTrain();
+    }
+
+    @Override
+    public void clearDailyReportNags(Campaign campaign) {
+        final CampaignGUI campaignGUI = (campaign.getApp() == null) ? null : campaign.getApp().getCampaigngui();
+        final CommandCenterTab commandCenter = (campaignGUI == null) ? null : campaignGUI.getCommandCenterTab();
+        if (commandCenter == null) {
+            return;
+        }
+
+        for (DailyReportType type : DailyReportType.values()) {
+            commandCenter.clearDailyReportNag(type.getTabIndex());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import mekhq.campaign.Campaign;
+
+/**
+ * Decides how advancing the day interacts with the player, so that days can also be advanced without a user
+ * interface.
+ *
+ * @see InteractiveNewDayPolicy
+ * @see HeadlessNewDayPolicy
+ */
+public interface NewDayInteractionPolicy {
+    /**
+     * @return {@code true} if the new day may show dialogs and wait for the player to respond. When {@code false},
+     *       messages that would have been shown in a dialog are added to the daily report instead, and decisions take
+     *       the default answer of the dialog.
+     */
+    boolean isInteractive();
+
+    /**
+     * @return {@code true} if the campaign should be autosaved as the day advances, according to the autosave options
+     */
+    boolean isAutosaveEnabled();
+
+    /**
+     * @return {@code true} if the player's preference to optimize infirmary assignments every day applies
+     */
+    boolean isOptimizeMedicalAssignments();
+
+    /**
+     * @return {@code true} if the player's preference to quick train personnel every month applies
+     */
+    boolean isNewMonthQuickTrain();
+
+    /**
+     * Clears the notifications that tell the player a daily report has new entries.
+     *
+     * @param campaign the campaign advancing the day
+     */
+    void clearDailyReportNags(Campaign campaign);
+}
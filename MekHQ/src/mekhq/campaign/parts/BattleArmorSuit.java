@@ -42,7 +42,6 @@ import megamek.common.battleArmor.BattleArmor;
 import megamek.common.compute.Compute;
 import megamek.common.equipment.EquipmentType;
 import megamek.common.equipment.IArmorState;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -58,6 +57,7 @@ import mekhq.campaign.parts.missing.MissingBattleArmorSuit;
 import mekhq.campaign.parts.missing.MissingPart;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.TestUnit;
 import mekhq.campaign.unit.Unit;
 import mekhq.utilities.MHQXMLUtility;
@@ -622,7 +622,7 @@ public class BattleArmorSuit extends Part {
         }
         Entity newEntity = null;
         try {
-            newEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            newEntity = EntityTemplateCache.getInstance().getEntity(summary);
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
@@ -117,6 +117,12 @@ public class InfantryAmmoStorage extends AmmoStorage {
                            ((InfantryAmmoStorage) part).getWeaponType());
     }
 
+    @Override
+    public Object getPartTypeKey() {
+        // The ammo type is matched together with the weapon type, so only the class can be relied on
+        return getClass();
+    }
+
     /**
      * Gets a value indicating whether the {@code AmmoType} for the {@code InfantryWeapon} is the same as this
      * instance.
@@ -177,6 +177,9 @@ public abstract class Part implements IPartWork, ITechnology {
     // all parts need a reference to campaign
     protected Campaign campaign;
 
+    // counts the changes to the part's state, so that anything derived from the part can tell it is out of date
+    private transient int modificationCount;
+
     /*
      * This will be unusual but in some circumstances certain parts will be linked
      * to other parts.
@@ -253,6 +256,20 @@ public abstract class Part implements IPartWork, ITechnology {
         return campaign;
     }
 
+    /**
+     * Gets a value that changes whenever the quantity, status, quality, delivery or refit reservation of this part is
+     * changed through its setters. The value itself has no meaning beyond being compared with an earlier one.
+     *
+     * @return the number of changes made to this part
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    private void markModified() {
+        modificationCount++;
+    }
+
     public String getName() {
         return name;
     }
@@ -335,6 +352,7 @@ public abstract class Part implements IPartWork, ITechnology {
 
     public void setBrandNew(boolean b) {
         this.brandNew = b;
+        markModified();
     }
 
     /**
@@ -378,6 +396,7 @@ public abstract class Part implements IPartWork, ITechnology {
 
     public void setOmniPodded(boolean omniPod) {
         this.omniPodded = omniPod;
+        markModified();
     }
 
     @Override
@@ -433,6 +452,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setHits(int hits) {
         this.hits = Math.max(hits, 0);
+        markModified();
     }
 
     @Override
@@ -589,6 +609,24 @@ public abstract class Part implements IPartWork, ITechnology {
 
     public abstract boolean isSamePartType(Part part);
 
+    /**
+     * Returns a key used to group parts by type before comparing them with {@link #isSamePartType(Part)}, in the same
+     * way a hash code is used before comparing objects for equality. Parts that are the same type must return equal
+     * keys, while parts with equal keys may still be different types.
+     *
+     * <p>By default, this is the top-level part class (for example {@code MekLocation} or {@code EquipmentPart}).
+     * Subclasses whose {@link #isSamePartType(Part)} is stricter may return a narrower key.</p>
+     *
+     * @return the key for the type of this part
+     */
+    public Object getPartTypeKey() {
+        Class<?> partClass = getClass();
+        while ((partClass.getSuperclass() != null) && (partClass.getSuperclass() != Part.class)) {
+            partClass = partClass.getSuperclass();
+        }
+        return partClass;
+    }
+
     public boolean isSameStatus(Part otherPart) {
         // parts that are reserved for refit or being worked on are never the same
         // status
@@ -1150,6 +1188,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setReservedBy(@Nullable Person tech) {
         this.reservedBy = tech;
+        markModified();
     }
 
     @Override
@@ -1322,6 +1361,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setRefitUnit(@Nullable Unit unit) {
         refitUnit = unit;
+        markModified();
     }
 
     /**
@@ -1353,6 +1393,7 @@ public abstract class Part implements IPartWork, ITechnology {
 
     public void setUsedForRefitPlanning(boolean flag) {
         usedForRefitPlanning = flag;
+        markModified();
     }
 
     /**
@@ -1362,6 +1403,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setDaysToArrival(int days) {
         daysToArrival = Math.max(days, 0);
+        markModified();
     }
 
     /**
@@ -1456,6 +1498,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setQuantity(int number) {
         quantity = Math.max(number, 0);
+        markModified();
         if (quantity == 0) {
             for (Part childPart : childParts) {
                 campaign.getWarehouse().removePart(childPart);
@@ -1582,6 +1625,7 @@ public abstract class Part implements IPartWork, ITechnology {
 
     public void setQuality(PartQuality q) {
         quality = q;
+        markModified();
     }
 
     public boolean needsMaintenance() {
@@ -1597,6 +1641,7 @@ public abstract class Part implements IPartWork, ITechnology {
      */
     public void setParentPart(@Nullable Part part) {
         parentPart = part;
+        markModified();
     }
 
     /**
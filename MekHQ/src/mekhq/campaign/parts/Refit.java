@@ -2287,7 +2287,7 @@ public class Refit extends Part implements IAcquisitionWork {
     @Override
     public void writeToXML(final PrintWriter pw, int indent) {
         MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "refit");
-        pw.println(MHQXMLUtility.writeEntityToXmlString(newEntity, indent, getCampaign().getEntities()));
+        pw.println(MHQXMLUtility.writeEntityToXmlString(newEntity, indent, getCampaign().getC3NetworkIndex()));
         MHQXMLUtility.writeSimpleXMLTag(pw, indent, "time", time);
         MHQXMLUtility.writeSimpleXMLTag(pw, indent, "timeSpent", timeSpent);
         MHQXMLUtility.writeSimpleXMLTag(pw, indent, "refitClass", refitClass);
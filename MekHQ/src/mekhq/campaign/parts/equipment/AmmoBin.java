@@ -514,6 +514,12 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork {
                      (((AmmoBin) part).getFullShots() == getFullShots());
     }
 
+    @Override
+    public Object getPartTypeKey() {
+        // Compatible ammo types count as the same part type, so only the class can be relied on
+        return getClass();
+    }
+
     @Override
     public boolean needsFixing() {
         return (shotsNeeded > 0) || ammoTypeChanged();
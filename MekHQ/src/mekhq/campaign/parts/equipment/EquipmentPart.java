@@ -34,6 +34,7 @@
 package mekhq.campaign.parts.equipment;
 
 import java.io.PrintWriter;
+import java.util.Arrays;
 
 import megamek.common.CriticalSlot;
 import megamek.common.TechAdvancement;
@@ -180,6 +181,12 @@ public class EquipmentPart extends Part {
                      && (!isUnitTonnageMatters() || getUnitTonnage() == part.getUnitTonnage());
     }
 
+    @Override
+    public Object getPartTypeKey() {
+        // isSamePartType() requires the same class and equipment type
+        return Arrays.asList(getClass(), (null == getType()) ? null : getType().getInternalName());
+    }
+
     @Override
     public void writeToXML(final PrintWriter pw, int indent) {
         indent = writeToXMLBegin(pw, indent);
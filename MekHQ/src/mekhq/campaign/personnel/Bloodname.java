@@ -306,7 +306,7 @@ public class Bloodname {
          */
         double nonExclusivesWeight = 0.0;
 
-        for (Bloodname name : bloodnames) {
+        for (Bloodname name : getBloodnames()) {
             /*
              * Bloodnames exclusive to Clans that have been abjured (NC, WIE) continue
              * to be used by those Clans but not by others.
@@ -442,7 +442,17 @@ public class Bloodname {
         }
     }
 
-    public static void loadBloodnameData() {
+    /**
+     * @return all Bloodname records, loading them on first use
+     */
+    private static synchronized List<Bloodname> getBloodnames() {
+        if (bloodnames == null) {
+            loadBloodnameData();
+        }
+        return bloodnames;
+    }
+
+    public static synchronized void loadBloodnameData() {
         Clan.loadClanData();
         bloodnames = new ArrayList<>();
 
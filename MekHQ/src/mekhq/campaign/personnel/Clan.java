@@ -110,14 +110,24 @@ public class Clan {
      * @return the Clan object for the code, or null if there isn't a Clan with that code
      */
     public static Clan getClan(String code) {
-        return allClans.get(code);
+        return getAllClans().get(code);
     }
 
     /**
      * @return a Collection of all Clan objects
      */
     public static Collection<Clan> getClans() {
-        return allClans.values();
+        return getAllClans().values();
+    }
+
+    /**
+     * @return every Clan by code, loading the Clan data on first use
+     */
+    private static synchronized Map<String, Clan> getAllClans() {
+        if (allClans == null) {
+            loadClanData();
+        }
+        return allClans;
     }
 
     /**
@@ -184,7 +194,7 @@ public class Clan {
         List<Clan> retVal = new ArrayList<>();
         for (DatedRecord r : rivals) {
             if (r.isActive(year)) {
-                Clan c = allClans.get(r.getDescription());
+                Clan c = getAllClans().get(r.getDescription());
                 if (c.isActive(year)) {
                     retVal.add(c);
                 }
@@ -233,7 +243,7 @@ public class Clan {
         return list.get(Compute.randomInt(list.size()));
     }
 
-    public static void loadClanData() {
+    public static synchronized void loadClanData() {
         allClans = new HashMap<>();
 
         Document doc;
@@ -39,11 +39,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import javax.swing.JOptionPane;
 
 import megamek.common.annotations.Nullable;
@@ -914,11 +915,15 @@ public class AutoAwardsController {
      */
     private Map<Integer, List<Object>> KillAwardsManager(List<UUID> personnel) {
         // prep the kill award data so that we only have to process it once
-        Map<Integer, List<Kill>> missionKillData = personnel.stream()
-                                                         .flatMap(person -> campaign.getKillsFor(person).stream())
-                                                         .filter(kill -> mission != null &&
-                                                                               (kill.getMissionId() == mission.getId()))
-                                                         .collect(Collectors.groupingBy(Kill::getForceId));
+        Map<Integer, List<Kill>> missionKillData = new HashMap<>();
+        if (mission != null) {
+            Set<UUID> personnelIds = new HashSet<>(personnel);
+            for (Kill kill : campaign.getKillLedger().getKillsForMission(mission.getId())) {
+                if (personnelIds.contains(kill.getPilotId())) {
+                    missionKillData.computeIfAbsent(kill.getForceId(), forceId -> new ArrayList<>()).add(kill);
+                }
+            }
+        }
 
         // process the award data, checking for award eligibility
         Map<Integer, List<Object>> awardData = new HashMap<>();
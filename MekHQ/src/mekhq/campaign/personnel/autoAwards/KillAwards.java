@@ -122,7 +122,7 @@ public class KillAwards {
 
                 // with all the parameters validated, we can begin processing the award
                 if ((awardDepth.isNone()) && (awardScope.equalsIgnoreCase("lifetime"))) {
-                    killCount.add(campaign.getKillsFor(person).size());
+                    killCount.add(campaign.getKillCount(person));
                 } else if ((!awardDepth.isNone()) && (awardScope.equalsIgnoreCase("lifetime"))) {
                     LOGGER.warn(
                           "Award {} from the {} set has a invalid combination: range value {} with size {}. Skipping",
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel.generator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.compute.Compute;
+import megamek.common.icons.Portrait;
+import megamek.common.util.fileUtils.AbstractDirectory;
+import megamek.logging.MMLogger;
+import mekhq.MHQStaticDirectoryManager;
+import mekhq.campaign.personnel.Person;
+
+/**
+ * Picks random portraits for the personnel of a campaign, following the search order of
+ * {@link RandomPortraitGenerator#generate(Collection, Person, boolean, boolean)}.
+ *
+ * <p>The portraits under each searched directory are listed once, and kept in a pool of the portraits nobody in the
+ * campaign uses. The pools are updated as portraits are assigned with {@link #update(Person)} and released with
+ * {@link #remove(Person)}, so generating a whole company doesn't go through every person and every portrait folder
+ * for each new person.</p>
+ *
+ * <p>Portraits in use are first counted from the campaign's personnel when a portrait is allocated, and counted
+ * again after {@link #invalidate()}. The directory listings are kept until the portrait directory is reloaded.</p>
+ */
+public class PortraitAllocator {
+    private static final MMLogger LOGGER = MMLogger.create(PortraitAllocator.class);
+
+    private final Supplier<AbstractDirectory> portraitDirectory;
+    private @Nullable AbstractDirectory indexedDirectory;
+    private final Map<String, PortraitPool> pools = new HashMap<>();
+
+    private boolean usageIndexed;
+    private final Map<String, Integer> usageCounts = new HashMap<>();
+    private final Map<UUID, String> portraitsByPerson = new HashMap<>();
+
+    public PortraitAllocator() {
+        this(MHQStaticDirectoryManager::getPortraits);
+    }
+
+    PortraitAllocator(Supplier<AbstractDirectory> portraitDirectory) {
+        this.portraitDirectory = portraitDirectory;
+    }
+
+    /**
+     * Picks a random portrait for a person. The portrait isn't counted as used until the person is passed to
+     * {@link #update(Person)}.
+     *
+     * @param personnel               all personnel in the campaign; used to count the portraits in use when they
+     *                                haven't been counted yet
+     * @param person                  the {@link Person} for whom a portrait should be picked
+     * @param allowDuplicatePortraits if {@code true}, portraits already used by others may be picked
+     * @param genderedPortraitsOnly   if {@code true}, skips the role-based portrait directories
+     *
+     * @return the picked {@link Portrait}, or a default portrait if none could be picked
+     */
+    public synchronized Portrait allocate(Collection<Person> personnel, Person person,
+          boolean allowDuplicatePortraits, boolean genderedPortraitsOnly) {
+        AbstractDirectory directory = portraitDirectory.get();
+        if (directory != null) {
+            if (directory != indexedDirectory) {
+                pools.clear();
+                indexedDirectory = directory;
+            }
+
+            if (!usageIndexed) {
+                indexUsage(personnel);
+            }
+
+            for (File searchDirectory : RandomPortraitGenerator.getSearchDirectories(person, genderedPortraitsOnly)) {
+                PortraitPool pool = getPool(directory, searchDirectory);
+                List<String> possiblePortraits = allowDuplicatePortraits ? pool.portraits : pool.freePortraits;
+                if (!possiblePortraits.isEmpty()) {
+                    return toPortrait(person, possiblePortraits.get(Compute.randomInt(possiblePortraits.size())));
+                }
+            }
+        }
+
+        LOGGER.warn("Failed to generate portrait for {}. No possible portraits found.", person.getFullTitle());
+        return new Portrait();
+    }
+
+    /**
+     * Records the current portrait of a person, releasing the portrait they had before.
+     *
+     * @param person the person whose portrait may have changed
+     */
+    public synchronized void update(Person person) {
+        if (!usageIndexed) {
+            return;
+        }
+
+        String portrait = getPortraitKey(person.getPortrait());
+        String previousPortrait = portraitsByPerson.put(person.getId(), portrait);
+        if (!Objects.equals(portrait, previousPortrait)) {
+            release(previousPortrait);
+            use(portrait);
+        }
+    }
+
+    /**
+     * Releases the portrait of a person who has left the campaign.
+     *
+     * @param person the removed person
+     */
+    public synchronized void remove(Person person) {
+        if (usageIndexed) {
+            release(portraitsByPerson.remove(person.getId()));
+        }
+    }
+
+    /**
+     * Forgets which portraits are in use, so they are counted again from the campaign's personnel the next time a
+     * portrait is allocated.
+     */
+    public synchronized void invalidate() {
+        usageIndexed = false;
+        usageCounts.clear();
+        portraitsByPerson.clear();
+    }
+
+    private void indexUsage(Collection<Person> personnel) {
+        usageCounts.clear();
+        portraitsByPerson.clear();
+        for (Person person : personnel) {
+            String portrait = getPortraitKey(person.getPortrait());
+            portraitsByPerson.put(person.getId(), portrait);
+            usageCounts.merge(portrait, 1, Integer::sum);
+        }
+
+        for (PortraitPool pool : pools.values()) {
+            pool.resetFreePortraits(usageCounts.keySet());
+        }
+        usageIndexed = true;
+    }
+
+    private void use(@Nullable String portrait) {
+        if ((portrait != null) && (usageCounts.merge(portrait, 1, Integer::sum) == 1)) {
+            for (PortraitPool pool : pools.values()) {
+                pool.take(portrait);
+            }
+        }
+    }
+
+    private void release(@Nullable String portrait) {
+        Integer count = (portrait == null) ? null : usageCounts.get(portrait);
+        if (count == null) {
+            return;
+        }
+
+        if (count > 1) {
+            usageCounts.put(portrait, count - 1);
+        } else {
+            usageCounts.remove(portrait);
+            for (PortraitPool pool : pools.values()) {
+                pool.restore(portrait);
+            }
+        }
+    }
+
+    private PortraitPool getPool(AbstractDirectory directory, File searchDirectory) {
+        return pools.computeIfAbsent(searchDirectory.getAbsolutePath(), basePath -> {
+            PortraitPool pool = new PortraitPool();
+            for (final String category : directory.getNonEmptyCategoryPaths()) {
+                final String categoryPath = new File(category).getAbsolutePath();
+
+                // Accept the root directory OR any directory under it
+                if (!categoryPath.equals(basePath) && !categoryPath.startsWith(basePath + File.separator)) {
+                    continue;
+                }
+
+                final Iterator<String> names = directory.getItemNames(category);
+                while (names.hasNext()) {
+                    pool.add(category + ':' + names.next());
+                }
+            }
+            pool.resetFreePortraits(usageCounts.keySet());
+            return pool;
+        });
+    }
+
+    private static String getPortraitKey(Portrait portrait) {
+        return portrait.getCategory() + ':' + portrait.getFilename();
+    }
+
+    private static Portrait toPortrait(Person person, String chosenPortrait) {
+        String[] temp = chosenPortrait.split(":");
+        if (temp.length == 2) {
+            return new Portrait(temp[0], temp[1]);
+        }
+
+        LOGGER.error("Failed to generate portrait for {}. {} does not split into an array of length 2.",
+              person.getFullTitle(),
+              chosenPortrait);
+        return new Portrait();
+    }
+
+    /**
+     * The portraits under one searched directory, and those of them nobody uses.
+     */
+    private static class PortraitPool {
+        private final List<String> portraits = new ArrayList<>();
+        private final Set<String> portraitSet = new HashSet<>();
+        private final List<String> freePortraits = new ArrayList<>();
+        private final Map<String, Integer> freePositions = new HashMap<>();
+
+        private void add(String portrait) {
+            if (portraitSet.add(portrait)) {
+                portraits.add(portrait);
+            }
+        }
+
+        private void resetFreePortraits(Set<String> usedPortraits) {
+            freePortraits.clear();
+            freePositions.clear();
+            for (String portrait : portraits) {
+                if (!usedPortraits.contains(portrait)) {
+                    freePositions.put(portrait, freePortraits.size());
+                    freePortraits.add(portrait);
+                }
+            }
+        }
+
+        private void take(String portrait) {
+            Integer position = freePositions.remove(portrait);
+            if (position == null) {
+                return;
+            }
+
+            // Move the last free portrait into the gap, so taking a portrait doesn't shift the whole list
+            String last = freePortraits.remove(freePortraits.size() - 1);
+            if (position < freePortraits.size()) {
+                freePortraits.set(position, last);
+                freePositions.put(last, position);
+            }
+        }
+
+        private void restore(String portrait) {
+            if (portraitSet.contains(portrait) && !freePositions.containsKey(portrait)) {
+                freePositions.put(portrait, freePortraits.size());
+                freePortraits.add(portrait);
+            }
+        }
+    }
+}
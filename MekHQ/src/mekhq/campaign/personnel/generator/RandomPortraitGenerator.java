@@ -35,22 +35,14 @@ package mekhq.campaign.personnel.generator;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
-import megamek.common.compute.Compute;
 import megamek.common.icons.Portrait;
-import megamek.logging.MMLogger;
-import mekhq.MHQStaticDirectoryManager;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.personnel.enums.PersonnelRoleSubType;
 
 public class RandomPortraitGenerator {
-    private static final MMLogger LOGGER = MMLogger.create(RandomPortraitGenerator.class);
-
     private RandomPortraitGenerator() {
 
     }
@@ -65,7 +57,7 @@ public class RandomPortraitGenerator {
      *
      * <p>The method enforces uniqueness unless duplicate portraits are explicitly allowed. When duplicates are not
      * permitted, portrait identifiers of all existing personnel are collected and excluded from the pool of possible
-     * results.</p>
+     * results. Campaigns use their {@link PortraitAllocator} instead, which keeps these between calls.</p>
      *
      * <p>Portrait search order:</p>
      * <ol>
@@ -91,24 +83,25 @@ public class RandomPortraitGenerator {
      */
     public static Portrait generate(Collection<Person> personnel, Person person, boolean allowDuplicatePortraits,
           boolean genderedPortraitsOnly) {
-        // first create a list of existing portrait strings, so we can check for
-        // duplicates - unless they are allowed in campaign options
-        Set<String> existingPortraits = new HashSet<>();
-        if (!allowDuplicatePortraits) {
-            for (Person existingPerson : personnel) {
-                existingPortraits.add(existingPerson.getPortrait().getCategory() +
-                                            ':' +
-                                            existingPerson.getPortrait().getFilename());
-            }
-        }
+        // Campaigns keep their own allocator, so the portrait folders aren't listed again for every person
+        return new PortraitAllocator().allocate(personnel, person, allowDuplicatePortraits, genderedPortraitsOnly);
+    }
 
+    /**
+     * Lists the directories searched for portraits for a person, in the order they should be searched.
+     *
+     * @param person                the {@link Person} for whom a portrait should be generated
+     * @param genderedPortraitsOnly if {@code true}, skips the role-based portrait categories
+     *
+     * @return the directories to search, ending with the gender-only directory
+     */
+    static List<File> getSearchDirectories(Person person, boolean genderedPortraitsOnly) {
         // Will search for portraits in the /gender/primaryrole folder first,
         // and if none are found then /gender/rolegroup, then /gender/combat or
         // /gender/support, then in /gender.
         File genderFile = new File(person.getGender().isFemale() ? "Female" : "Male");
 
-        List<String> possiblePortraits = new ArrayList<>();
-        File searchFile;
+        List<File> searchDirectories = new ArrayList<>();
         if (!genderedPortraitsOnly) {
             PersonnelRole primaryRole = person.getPrimaryRole();
             String primaryRoleLabel;
@@ -117,46 +110,20 @@ public class RandomPortraitGenerator {
             } else {
                 primaryRoleLabel = primaryRole.getLabel(person.isClanPersonnel());
             }
-            searchFile = new File(genderFile, primaryRoleLabel);
-
-            possiblePortraits = getPossibleRandomPortraits(existingPortraits, searchFile);
-
-            if (possiblePortraits.isEmpty()) {
-                String searchCat_RoleGroup = getCatRoleGroup(person);
-
-                // This is a fallback that doesn't match the current portrait directories. It's likely left here for
-                // legacy reasons - Illiani, Nov 21st 2025
-                if (!searchCat_RoleGroup.isBlank()) {
-                    searchFile = new File(genderFile, searchCat_RoleGroup);
-                    possiblePortraits = getPossibleRandomPortraits(existingPortraits, searchFile);
-                }
-            }
-        }
+            searchDirectories.add(new File(genderFile, primaryRoleLabel));
 
-        if (possiblePortraits.isEmpty()) {
-            searchFile = new File(genderFile, person.getPrimaryRole().isCombat() ? "Combat" : "Support");
-            possiblePortraits = getPossibleRandomPortraits(existingPortraits, searchFile);
-        }
+            String searchCat_RoleGroup = getCatRoleGroup(person);
 
-        if (possiblePortraits.isEmpty()) {
-            possiblePortraits = getPossibleRandomPortraits(existingPortraits, genderFile);
-        }
-
-        if (!possiblePortraits.isEmpty()) {
-            String chosenPortrait = possiblePortraits.get(Compute.randomInt(possiblePortraits.size()));
-            String[] temp = chosenPortrait.split(":");
-            if (temp.length == 2) {
-                return new Portrait(temp[0], temp[1]);
-            } else {
-                LOGGER.error("Failed to generate portrait for {}. {} does not split into an array of length 2.",
-                      person.getFullTitle(),
-                      chosenPortrait);
+            // This is a fallback that doesn't match the current portrait directories. It's likely left here for
+            // legacy reasons - Illiani, Nov 21st 2025
+            if (!searchCat_RoleGroup.isBlank()) {
+                searchDirectories.add(new File(genderFile, searchCat_RoleGroup));
             }
-        } else {
-            LOGGER.warn("Failed to generate portrait for {}. No possible portraits found.", person.getFullTitle());
         }
 
-        return new Portrait();
+        searchDirectories.add(new File(genderFile, person.getPrimaryRole().isCombat() ? "Combat" : "Support"));
+        searchDirectories.add(genderFile);
+        return searchDirectories;
     }
 
     private static String getCatRoleGroup(Person person) {
@@ -174,51 +141,4 @@ public class RandomPortraitGenerator {
         }
         return searchCat_RoleGroup;
     }
-
-    /**
-     * This is a helper method that determines what possible unassigned portraits can be generated based on the supplied
-     * subdirectory
-     *
-     * @param existingPortraits the list of existing portraits that have already been assigned
-     * @param subdirectory      the subdirectory to search
-     *
-     * @return a list of all possible unassigned random portraits
-     */
-    private static List<String> getPossibleRandomPortraits(
-          final Set<String> existingPortraits,
-          final File subdirectory) {
-
-        if (MHQStaticDirectoryManager.getPortraits() == null) {
-            return new ArrayList<>();
-        }
-
-        final List<String> possiblePortraits = new ArrayList<>();
-
-        final String basePath = subdirectory.getAbsolutePath();
-
-        for (final String category : MHQStaticDirectoryManager.getPortraits().getNonEmptyCategoryPaths()) {
-            final File categoryFile = new File(category);
-            final String categoryPath = categoryFile.getAbsolutePath();
-
-            // Accept the root directory OR any directory under it
-            final boolean isSameDir = categoryPath.equals(basePath);
-            final boolean isSubDir = categoryPath.startsWith(basePath + File.separator);
-
-            if (!isSameDir && !isSubDir) {
-                continue;
-            }
-
-            final Iterator<String> names =
-                  MHQStaticDirectoryManager.getPortraits().getItemNames(category);
-
-            while (names.hasNext()) {
-                final String location = category + ':' + names.next();
-
-                if (!existingPortraits.contains(location)) {
-                    possiblePortraits.add(location);
-                }
-            }
-        }
-        return possiblePortraits;
-    }
 }
@@ -33,6 +33,7 @@
 package mekhq.campaign.randomEvents;
 
 import static mekhq.campaign.Campaign.AdministratorSpecialization.COMMAND;
+import static mekhq.campaign.enums.DailyReportType.GENERAL;
 import static mekhq.campaign.finances.enums.TransactionType.STARTING_CAPITAL;
 import static mekhq.campaign.personnel.enums.PersonnelRole.ADMINISTRATOR_COMMAND;
 import static mekhq.utilities.MHQInternationalization.getFormattedTextAt;
@@ -72,6 +73,18 @@ public class GrayMonday {
     private final Campaign campaign;
 
     public GrayMonday(Campaign campaign, LocalDate today) {
+        this(campaign, today, false);
+    }
+
+    /**
+     * Applies the Gray Monday events of the day, then tells the player what happened.
+     *
+     * @param campaign   the current campaign
+     * @param today      the current day
+     * @param isHeadless {@code true} if no dialogs may be shown, in which case the message is added to the daily
+     *                   report instead
+     */
+    public GrayMonday(Campaign campaign, LocalDate today, boolean isHeadless) {
         this.campaign = campaign;
 
         boolean isEmployerBegging = today.equals(EMPLOYER_BEGGING);
@@ -117,6 +130,19 @@ public class GrayMonday {
             return;
         }
 
+        String commanderAddress = campaign.getCommanderAddress();
+        String inCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, resourceKey, commanderAddress);
+
+        if (isHeadless) {
+            // This means there is no active contract
+            boolean hasEmployer = campaign.getAtBContracts().stream()
+                                        .anyMatch(contract -> !contract.getStartDate().isBefore(today));
+            if (!isEmployerBegging || hasEmployer) {
+                campaign.addReport(GENERAL, inCharacterMessage);
+            }
+            return;
+        }
+
         Person speaker = null;
 
         if (isEmployerBegging) {
@@ -136,8 +162,6 @@ public class GrayMonday {
             return;
         }
 
-        String commanderAddress = campaign.getCommanderAddress();
-        String inCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, resourceKey, commanderAddress);
         String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "dialog.ooc");
 
         new ImmersiveDialogSimple(campaign,
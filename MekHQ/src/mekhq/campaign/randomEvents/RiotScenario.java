@@ -34,6 +34,7 @@ package mekhq.campaign.randomEvents;
 
 import static java.io.File.separator;
 import static megamek.common.compute.Compute.d6;
+import static mekhq.campaign.enums.DailyReportType.BATTLE;
 import static mekhq.campaign.mission.AtBDynamicScenarioFactory.createEntityWithCrew;
 import static mekhq.campaign.randomEvents.prisoners.enums.MobType.HUGE;
 import static mekhq.campaign.randomEvents.prisoners.enums.MobType.LARGE;
@@ -89,6 +90,7 @@ public class RiotScenario {
     private final MMLogger LOGGER = MMLogger.create(RiotScenario.class);
 
     private final Campaign campaign;
+    private final boolean isHeadless;
 
     /**
      * Constructs a new {@code RiotScenario} and immediately attempts to generate a riot scenario for the supplied
@@ -102,7 +104,20 @@ public class RiotScenario {
      * @since 0.50.10
      */
     public RiotScenario(Campaign campaign, AtBContract contract) {
+        this(campaign, contract, false);
+    }
+
+    /**
+     * Constructs a new {@code RiotScenario} and immediately attempts to generate a riot scenario for the supplied
+     * contract.
+     *
+     * @param campaign   the current campaign context
+     * @param contract   the active contract driving employer, faction, track selection, and scenario generation
+     * @param isHeadless {@code true} if the player is told about the riot in the daily report instead of a dialog
+     */
+    public RiotScenario(Campaign campaign, AtBContract contract, boolean isHeadless) {
         this.campaign = campaign;
+        this.isHeadless = isHeadless;
 
         List<Unit> allMobs = findMobsForRiots(contract.getEnemy());
         createRiotScenario(contract, allMobs);
@@ -278,6 +293,11 @@ public class RiotScenario {
               commanderAddress,
               track.getDisplayableName(),
               coords.toBTString());
+        if (isHeadless) {
+            campaign.addReport(BATTLE, inCharacterMessage);
+            return;
+        }
+
         Person speaker = contract.getEmployerLiaison();
 
         new ImmersiveDialogSimple(campaign,
@@ -135,6 +135,19 @@ public class PrisonerEventManager {
      * @param campaign The current campaign instance, providing context and state for prisoner management.
      */
     public PrisonerEventManager(Campaign campaign) {
+        this(campaign, false);
+    }
+
+    /**
+     * Constructs a new {@link PrisonerEventManager}, optionally without asking the player anything.
+     *
+     * <p>When headless, ransom opportunities are not offered and prisoner events are rolled without presenting
+     * them to the player, as {@link #checkForPrisonerEvents(boolean, int, int, int)} does in headless mode.</p>
+     *
+     * @param campaign   The current campaign instance, providing context and state for prisoner management.
+     * @param isHeadless {@code true} if no dialogs may be shown
+     */
+    public PrisonerEventManager(Campaign campaign, boolean isHeadless) {
         this.campaign = campaign;
         this.speaker = getSpeaker();
 
@@ -162,7 +175,7 @@ public class PrisonerEventManager {
         }
 
         // Monthly events
-        if (isFirstOfMonth) {
+        if (isFirstOfMonth && !isHeadless) {
             checkForRansomEvents();
         }
 
@@ -172,7 +185,7 @@ public class PrisonerEventManager {
             int prisonerCapacityUsage = calculatePrisonerCapacityUsage(campaign);
             int prisonerCapacity = calculatePrisonerCapacity(campaign);
 
-            checkForPrisonerEvents(false, totalPrisoners, prisonerCapacityUsage, prisonerCapacity);
+            checkForPrisonerEvents(isHeadless, totalPrisoners, prisonerCapacityUsage, prisonerCapacity);
         }
     }
 
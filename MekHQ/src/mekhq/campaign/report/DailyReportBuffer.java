@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
+
+/**
+ * Holds the HTML of the current day's report of one {@link DailyReportType}.
+ * <p>
+ * Reports are only appended to a list of segments, and the HTML is only joined together when it is asked for. The
+ * joined HTML then replaces the segments, so asking for it again without appending anything costs nothing. This keeps
+ * adding thousands of reports in a day linear, where concatenating the HTML on every report was quadratic.
+ * <p>
+ * The buffer also keeps the segments added since they were last fetched, which the daily report log panels append to
+ * what they already show instead of rendering the whole report again.
+ * <p>
+ * Because joining the HTML replaces the segments, reading the report changes the buffer too, so every method holds
+ * the buffer's lock. This keeps a read from racing an append from the report-writing path.
+ */
+public class DailyReportBuffer {
+    private final List<String> segments = new ArrayList<>();
+    private int length = 0;
+    private List<String> newReports = new ArrayList<>();
+
+    /**
+     * Appends a report, separated from the previous report by {@link Campaign#REPORT_LINEBREAK}.
+     *
+     * @param report the report to append
+     */
+    public synchronized void append(String report) {
+        if (length > 0) {
+            addSegment(Campaign.REPORT_LINEBREAK);
+            newReports.add(Campaign.REPORT_LINEBREAK);
+        }
+        addSegment(report);
+        newReports.add(report);
+    }
+
+    private void addSegment(String segment) {
+        if (!segment.isEmpty()) {
+            segments.add(segment);
+            length += segment.length();
+        }
+    }
+
+    /**
+     * @return the HTML of the report
+     */
+    public synchronized String getHtml() {
+        if (segments.isEmpty()) {
+            return "";
+        } else if (segments.size() > 1) {
+            StringBuilder html = new StringBuilder(length);
+            for (String segment : segments) {
+                html.append(segment);
+            }
+            segments.clear();
+            segments.add(html.toString());
+        }
+        return segments.get(0);
+    }
+
+    /**
+     * Replaces the HTML of the report. Reports appended afterward are added to the end of it.
+     *
+     * @param html the new HTML of the report
+     */
+    public synchronized void setHtml(String html) {
+        segments.clear();
+        length = 0;
+        addSegment(html);
+    }
+
+    /**
+     * Empties the report, for a new day.
+     */
+    public synchronized void clear() {
+        setHtml("");
+        newReports.clear();
+    }
+
+    /**
+     * Replaces the report with the given reports, which are all treated as new. This restores the buffer from the
+     * reports saved with a campaign.
+     *
+     * @param reports the reports of the day
+     */
+    public synchronized void restore(List<String> reports) {
+        setHtml("");
+        newReports = new ArrayList<>(reports.size() * 2);
+        for (String report : reports) {
+            append(report);
+        }
+    }
+
+    public synchronized List<String> getNewReports() {
+        return newReports;
+    }
+
+    public synchronized void setNewReports(List<String> newReports) {
+        this.newReports = newReports;
+    }
+
+    /**
+     * @return the segments added since they were last fetched, which are then cleared
+     */
+    public synchronized List<String> fetchAndClearNewReports() {
+        List<String> oldReports = newReports;
+        newReports = new ArrayList<>();
+        return oldReports;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.units.Entity;
+
+/**
+ * Groups a set of entities by their naval C3 and C3i network, so that the members of a unit's network can be found
+ * without scanning every entity in the campaign.
+ * <p>
+ * Entities on the same naval C3 or C3i network always share a C3 network id, so only entities with a matching id need
+ * to be checked with {@link Entity#onSameC3NetworkAs(Entity, boolean)}. The members of each network are kept in the
+ * order the entities were given, which keeps saved files identical to the ones written from a plain list.
+ */
+public class C3NetworkIndex {
+    private final Map<String, List<Entity>> navalC3Networks = new HashMap<>();
+    private final Map<String, List<Entity>> c3iNetworks = new HashMap<>();
+
+    /**
+     * @param entities the entities that may be part of a network, in the order their links should be written
+     */
+    public C3NetworkIndex(Collection<Entity> entities) {
+        for (Entity entity : entities) {
+            if ((entity == null) || (entity.getC3NetId() == null)) {
+                continue;
+            }
+
+            if (entity.hasNavalC3()) {
+                navalC3Networks.computeIfAbsent(entity.getC3NetId(), netId -> new ArrayList<>()).add(entity);
+            }
+
+            if (entity.hasC3i()) {
+                c3iNetworks.computeIfAbsent(entity.getC3NetId(), netId -> new ArrayList<>()).add(entity);
+            }
+        }
+    }
+
+    /**
+     * @param entity the entity to find the network of
+     *
+     * @return the indexed entities on the same naval C3 network as the given entity, which includes the entity itself
+     *       if it is indexed
+     */
+    public List<Entity> getNavalC3Network(Entity entity) {
+        return findNetwork(navalC3Networks, entity);
+    }
+
+    /**
+     * @param entity the entity to find the network of
+     *
+     * @return the indexed entities on the same C3i network as the given entity, which includes the entity itself if
+     *       it is indexed
+     */
+    public List<Entity> getC3iNetwork(Entity entity) {
+        return findNetwork(c3iNetworks, entity);
+    }
+
+    private static List<Entity> findNetwork(Map<String, List<Entity>> networks, Entity entity) {
+        List<Entity> candidates = (entity.getC3NetId() == null) ? null : networks.get(entity.getC3NetId());
+        if (candidates == null) {
+            return List.of();
+        }
+
+        List<Entity> network = new ArrayList<>(candidates.size());
+        for (Entity candidate : candidates) {
+            if (candidate.onSameC3NetworkAs(entity, true)) {
+                network.add(candidate);
+            }
+        }
+        return network;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+
+/**
+ * Loads units from their unit files, keeping recently loaded units as templates so that loading the same unit again
+ * does not need to parse its unit file again.
+ * <p>
+ * Every call returns a new, independent {@link Entity}, so callers are free to change it. The templates are kept in
+ * serialized form and copied by deserializing them, the same way {@code ScenarioSetupForces} copies entities. The
+ * templates are bounded by their total size, a fraction of the maximum heap up to {@link #MAXIMUM_BYTES}, and the
+ * least recently used templates are dropped first. A template is also dropped when its unit file is modified.
+ * <p>
+ * Code that goes through every unit once, like building the tech progression of all units, should keep using
+ * {@link MekFileParser} directly, since caching those units would only push out the units that are loaded repeatedly.
+ */
+public class EntityTemplateCache {
+    private static final MMLogger LOGGER = MMLogger.create(EntityTemplateCache.class);
+
+    private static final long MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    private static final EntityTemplateCache instance = new EntityTemplateCache(
+          Math.min(MAXIMUM_BYTES, Runtime.getRuntime().maxMemory() / 32));
+
+    /**
+     * The hit and miss counts of the cache, along with its current size.
+     *
+     * @param hits      the number of units copied from a template
+     * @param misses    the number of units parsed from their unit file
+     * @param evictions the number of templates dropped to stay within the size limit
+     * @param templates the number of templates currently kept
+     * @param bytes     the total size of the templates currently kept
+     */
+    public record Statistics(long hits, long misses, long evictions, int templates, long bytes) {
+        /**
+         * @return the fraction of units copied from a template, between 0 and 1
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return (requests == 0) ? 0.0 : ((double) hits / requests);
+        }
+    }
+
+    /**
+     * A serialized unit, along with the modification time of the unit file it was parsed from.
+     */
+    private record Template(long lastModified, byte[] data) {
+    }
+
+    private final long maximumBytes;
+    private final Map<String, Template> templates = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes = 0;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumBytes the largest total size of the templates kept
+     */
+    EntityTemplateCache(long maximumBytes) {
+        this.maximumBytes = maximumBytes;
+    }
+
+    public static EntityTemplateCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Loads a unit, as {@code new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName()).getEntity()}
+     * would.
+     *
+     * @param mekSummary the unit to load
+     *
+     * @return a new {@link Entity} for the unit
+     *
+     * @throws EntityLoadingException if the unit file could not be parsed
+     */
+    public @Nullable Entity getEntity(MekSummary mekSummary) throws EntityLoadingException {
+        String key = TechProgressionCache.getKey(mekSummary);
+        long lastModified = getLastModified(mekSummary.getSourceFile());
+
+        Template template;
+        synchronized (this) {
+            template = templates.get(key);
+        }
+
+        if ((null != template) && (template.lastModified() == lastModified)) {
+            Entity entity = copy(template.data());
+            if (null != entity) {
+                hits.increment();
+                return entity;
+            }
+        }
+
+        misses.increment();
+        Entity entity = parse(mekSummary);
+        if (null != entity) {
+            byte[] data = serialize(entity);
+            if (null != data) {
+                put(key, new Template(lastModified, data));
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Parses a unit file. This is separate so that tests can count the number of times a unit is parsed.
+     */
+    Entity parse(MekSummary mekSummary) throws EntityLoadingException {
+        return new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName()).getEntity();
+    }
+
+    private synchronized void put(String key, Template template) {
+        // A single template using up most of the cache would only push out everything else
+        if (template.data().length > (maximumBytes / 4)) {
+            return;
+        }
+
+        Template previous = templates.put(key, template);
+        if (null != previous) {
+            bytes -= previous.data().length;
+        }
+        bytes += template.data().length;
+
+        Iterator<Template> iterator = templates.values().iterator();
+        while ((bytes > maximumBytes) && iterator.hasNext()) {
+            bytes -= iterator.next().data().length;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * @return the hit and miss counts of the cache
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), templates.size(), bytes);
+    }
+
+    /**
+     * Drops every template, for example after the unit files were reloaded.
+     */
+    public synchronized void clear() {
+        templates.clear();
+        bytes = 0;
+    }
+
+    private static long getLastModified(@Nullable File sourceFile) {
+        return (null == sourceFile) ? 0L : sourceFile.lastModified();
+    }
+
+    private static @Nullable byte[] serialize(Entity entity) {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+              ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(entity);
+            objectOutputStream.flush();
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to keep {} as a template: {}", entity.getShortName(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private static @Nullable Entity copy(byte[] data) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Entity) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException ex) {
+            LOGGER.error(ex, "Unable to copy a unit template");
+            return null;
+        }
+    }
+}
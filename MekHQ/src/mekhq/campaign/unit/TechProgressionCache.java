@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.enums.Faction;
+import megamek.common.interfaces.ITechnology;
+import megamek.common.loaders.MekSummary;
+import megamek.logging.MMLogger;
+
+/**
+ * A file cache of the tech progression calculated for each unit file and faction, keyed by the CRC-32 checksum of the
+ * unit file.
+ * <p>
+ * Calculating the progression of a unit requires loading the whole unit, so a warm start that finds an unchanged unit
+ * file in the cache skips that entirely. The cache is written with Java serialization and tagged with the version it
+ * was written by; a cache written by another version is ignored, since the equipment data it was calculated from may
+ * have changed. Each time the progression of every unit is calculated for a faction, the entries of that faction are
+ * replaced, which drops units that no longer exist.
+ */
+class TechProgressionCache {
+    private static final MMLogger LOGGER = MMLogger.create(TechProgressionCache.class);
+
+    /**
+     * The progression of a unit, along with the checksum of the unit file it was calculated from.
+     */
+    record CachedProgression(long checksum, ITechnology progression) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final String version;
+    private final Map<Faction, Map<String, CachedProgression>> factions = new ConcurrentHashMap<>();
+    private final Map<File, Map<String, Long>> zipChecksums = new ConcurrentHashMap<>();
+    private volatile boolean modified = false;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param version the version the cache is written for
+     */
+    TechProgressionCache(String version) {
+        this.version = version;
+    }
+
+    /**
+     * Reads the cache from disk. A missing, unreadable or outdated cache results in an empty one.
+     *
+     * @param file    the cache file
+     * @param version the version the cache must have been written by
+     *
+     * @return the cache
+     */
+    @SuppressWarnings("unchecked")
+    static TechProgressionCache read(File file, String version) {
+        TechProgressionCache cache = new TechProgressionCache(version);
+        if (!file.isFile()) {
+            return cache;
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(
+              Files.newInputStream(file.toPath()))))) {
+            if (!version.equals(input.readUTF())) {
+                LOGGER.info("Ignoring outdated tech progression cache {}", file.getPath());
+                return cache;
+            }
+
+            Map<Faction, Map<String, CachedProgression>> stored = (Map<Faction, Map<String, CachedProgression>>)
+                                                                        input.readObject();
+            for (Map.Entry<Faction, Map<String, CachedProgression>> faction : stored.entrySet()) {
+                cache.factions.put(faction.getKey(), new ConcurrentHashMap<>(faction.getValue()));
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Could not read the tech progression cache {} - ignoring: {}", file.getPath(), ex.getMessage());
+            cache.factions.clear();
+        }
+        return cache;
+    }
+
+    /**
+     * @param mekSummary the unit
+     *
+     * @return the key the unit is cached under, which identifies its unit file
+     */
+    static String getKey(MekSummary mekSummary) {
+        return (null == mekSummary.getEntryName()) ? mekSummary.getSourceFile().getPath()
+                     : (mekSummary.getSourceFile().getPath() + '!' + mekSummary.getEntryName());
+    }
+
+    /**
+     * Calculates the checksum of the unit file of a unit. For a unit in a zip archive this is the checksum recorded in
+     * the archive, so the entry does not need to be read.
+     *
+     * @param mekSummary the unit
+     *
+     * @return the CRC-32 checksum of the unit file, or {@code null} if it could not be read
+     */
+    @Nullable
+    Long getChecksum(MekSummary mekSummary) {
+        File sourceFile = mekSummary.getSourceFile();
+        if (null == sourceFile) {
+            return null;
+        }
+
+        try {
+            if (null != mekSummary.getEntryName()) {
+                return zipChecksums.computeIfAbsent(sourceFile, TechProgressionCache::readZipChecksums)
+                             .get(mekSummary.getEntryName());
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(Files.readAllBytes(sourceFile.toPath()));
+            return crc.getValue();
+        } catch (IOException ex) {
+            LOGGER.warn("Could not read the unit file {}: {}", sourceFile.getPath(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Long> readZipChecksums(File zip) {
+        Map<String, Long> checksums = new HashMap<>();
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getCrc() != -1) {
+                    checksums.put(entry.getName(), entry.getCrc());
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Could not read the unit archive {}: {}", zip.getPath(), ex.getMessage());
+        }
+        return checksums;
+    }
+
+    /**
+     * @param techFaction the faction
+     * @param key         the key of the unit, from {@link #getKey(MekSummary)}
+     * @param checksum    the current checksum of the unit file
+     *
+     * @return the cached progression, or {@code null} if it is not cached or the unit file has changed since
+     */
+    @Nullable
+    ITechnology get(Faction techFaction, String key, long checksum) {
+        Map<String, CachedProgression> entries = factions.get(techFaction);
+        CachedProgression cached = (null == entries) ? null : entries.get(key);
+        return ((null != cached) && (cached.checksum() == checksum)) ? cached.progression() : null;
+    }
+
+    /**
+     * Replaces the cached progressions of a faction.
+     *
+     * @param techFaction the faction
+     * @param entries     the progression of every unit, by the key of the unit
+     */
+    void putAll(Faction techFaction, Map<String, CachedProgression> entries) {
+        Map<String, CachedProgression> previous = factions.put(techFaction, new ConcurrentHashMap<>(entries));
+        if (!entries.equals(previous)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the cache back to disk if anything changed since it was read.
+     *
+     * @param file the cache file
+     */
+    synchronized void save(File file) {
+        if (!modified) {
+            return;
+        }
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if ((null != directory) && !directory.isDirectory()) {
+                Files.createDirectories(directory.toPath());
+            }
+
+            Map<Faction, Map<String, CachedProgression>> snapshot = new HashMap<>();
+            factions.forEach((faction, entries) -> snapshot.put(faction, new HashMap<>(entries)));
+            try (ObjectOutputStream output = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(
+                  Files.newOutputStream(tempFile.toPath()))))) {
+                output.writeUTF(version);
+                output.writeObject(snapshot);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+            LOGGER.info("Saved the tech progression of {} factions to the cache {}", snapshot.size(), file.getPath());
+        } catch (Exception ex) {
+            LOGGER.warn("Could not write the tech progression cache {}: {}", file.getPath(), ex.getMessage());
+            tempFile.delete();
+        }
+    }
+}
@@ -114,6 +114,7 @@ import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.finances.Money;
 import mekhq.campaign.force.Force;
 import mekhq.campaign.force.ForceType;
+import mekhq.campaign.icons.ImageCache;
 import mekhq.campaign.log.AssignmentLogger;
 import mekhq.campaign.mission.AtBContract;
 import mekhq.campaign.mission.Mission;
@@ -168,6 +169,20 @@ public class Unit implements ITechnology {
     private static final String RESOURCE_BUNDLE = "mekhq.resources.Unit";
     private static final MMLogger LOGGER = MMLogger.create(Unit.class);
 
+    /**
+     * The rendered unit images shared by every unit, keyed by everything the image is rendered from, so that changing
+     * the unit, its camouflage or its damage results in a new image
+     */
+    private static final ImageCache<UnitImageKey, Image> UNIT_IMAGES = new ImageCache<>(1024);
+
+    /**
+     * @param base        the image of the unit in the Mek tileset
+     * @param camouflage  a copy of the camouflage the image is tinted with
+     * @param damageState the damage shown on the image, or -1 if no damage is shown
+     */
+    private record UnitImageKey(Image base, Camouflage camouflage, int damageState) {
+    }
+
     public static final int SITE_IMPROVISED = 0;
     public static final int SITE_FIELD_WORKSHOP = 1;
     public static final int SITE_FACILITY_BASIC = 2;
@@ -2711,7 +2726,7 @@ public class Unit implements ITechnology {
 
     public void writeToXML(final PrintWriter pw, int indent) {
         MHQXMLUtility.writeSimpleXMLOpenTag(pw, indent++, "unit", "id", id, "type", getClass());
-        pw.println(MHQXMLUtility.writeEntityToXmlString(entity, indent, getCampaign().getEntities()));
+        pw.println(MHQXMLUtility.writeEntityToXmlString(entity, indent, getCampaign().getC3NetworkIndex()));
         for (Person driver : drivers) {
             MHQXMLUtility.writeSimpleXMLTag(pw, indent, "driverId", driver.getId());
         }
@@ -4665,7 +4680,9 @@ public class Unit implements ITechnology {
             return null;
         }
         final Image base = MHQStaticDirectoryManager.getMekTileset().imageFor(getEntity());
-        return new EntityImage(base, camouflage, component, getEntity()).loadPreviewImage(showDamage);
+        final UnitImageKey key = new UnitImageKey(base, camouflage.clone(), showDamage ? getDamageState() : -1);
+        return UNIT_IMAGES.get(key,
+              () -> new EntityImage(base, camouflage, component, getEntity()).loadPreviewImage(showDamage));
     }
 
     public Color determineForegroundColor(String type) {
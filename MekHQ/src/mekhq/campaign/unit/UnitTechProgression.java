@@ -32,9 +32,12 @@
  */
 package mekhq.campaign.unit;
 
-import java.util.HashMap;
+import java.io.File;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 
@@ -46,14 +49,20 @@ import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
+import mekhq.MHQConstants;
+import mekhq.MekHQ;
+import mekhq.campaign.unit.TechProgressionCache.CachedProgression;
 
 /**
  * Provides an ITechnology interface for every MekSummary, optionally customized for a particular faction. This requires
  * loading each Entity and calculating the CompositeTechLevel. It usually runs once when the campaign is loaded after
  * the faction is set but also needs to run if date from another faction is needed. This is usually a result of changing
  * the faction or changing the option to use faction-specific tech, but the data can be calculated for multiple factions
- * and used, for example, for a tracked OpFor. The calculation is performed on a separate thread and only blocks if the
- * data is needed before the task completes. There is also a non-blocking call.
+ * and used, for example, for a tracked OpFor. The calculation is performed on a separate thread, which loads the units
+ * in parallel, and only blocks if the data is needed before the task completes. There is also a non-blocking call.
+ * <p>
+ * Unless disabled in the options, the results are also kept in a {@link TechProgressionCache} between launches, so
+ * that only units whose file changed need to be loaded again.
  *
  * @author Neoancient
  */
@@ -62,7 +71,14 @@ public class UnitTechProgression {
 
     private static final UnitTechProgression instance = new UnitTechProgression();
 
-    private final Map<Faction, FutureTask<Map<MekSummary, ITechnology>>> techMap = new HashMap<>();
+    /**
+     * The progression of each unit by faction. A unit whose progression could not be calculated maps to an empty
+     * {@link Optional}, since the concurrent maps used cannot hold {@code null}.
+     */
+    private final Map<Faction, FutureTask<Map<MekSummary, Optional<ITechnology>>>> techMap =
+          new ConcurrentHashMap<>();
+
+    private TechProgressionCache cache;
 
     /**
      * Initializes the data for a particular faction
@@ -79,16 +95,34 @@ public class UnitTechProgression {
      *
      * @return The task responsible for calculating the data for the faction.
      */
-    private FutureTask<Map<MekSummary, ITechnology>> getTask(Faction techFaction) {
-        FutureTask<Map<MekSummary, ITechnology>> task = instance.techMap.get(techFaction);
+    private FutureTask<Map<MekSummary, Optional<ITechnology>>> getTask(Faction techFaction) {
+        FutureTask<Map<MekSummary, Optional<ITechnology>>> task = techMap.get(techFaction);
         if (null == task) {
-            task = new FutureTask<>(new BuildMapTask(techFaction));
-            new Thread(task).start();
-            instance.techMap.put(techFaction, task);
+            FutureTask<Map<MekSummary, Optional<ITechnology>>> newTask =
+                  new FutureTask<>(new BuildMapTask(techFaction));
+            task = techMap.putIfAbsent(techFaction, newTask);
+            if (null == task) {
+                // Only the thread that added the task starts it
+                task = newTask;
+                Thread thread = new Thread(task, "UnitTechProgression-" + techFaction.name());
+                thread.setDaemon(true);
+                thread.start();
+            }
         }
         return task;
     }
 
+    /**
+     * @return the cache of progressions calculated by previous launches, or {@code null} if caching is disabled
+     */
+    private synchronized TechProgressionCache getCache() {
+        if ((null == cache) && MekHQ.getMHQOptions().getUseTechProgressionCache()) {
+            cache = TechProgressionCache.read(new File(MHQConstants.TECH_PROGRESSION_CACHE_FILE),
+                  MHQConstants.VERSION.toString());
+        }
+        return cache;
+    }
+
     /**
      * Get a faction-specific ITechnology object that can be used to calculate tech levels for the given unit. If values
      * have not been generated for the techFaction, a new task will be started.
@@ -127,16 +161,14 @@ public class UnitTechProgression {
      */
     public static ITechnology getProgression(final MekSummary ms, final Faction techFaction,
           final boolean block) {
-        FutureTask<Map<MekSummary, ITechnology>> task = instance.getTask(techFaction);
+        FutureTask<Map<MekSummary, Optional<ITechnology>>> task = instance.getTask(techFaction);
         if (!block && !task.isDone()) {
             return null;
         }
         try {
-            Map<MekSummary, ITechnology> map = task.get();
-            if (!map.containsKey(ms)) {
-                map.put(ms, calcTechProgression(ms, techFaction));
-            }
-            return map.get(ms);
+            return task.get()
+                         .computeIfAbsent(ms, key -> Optional.ofNullable(calcTechProgression(key, techFaction)))
+                         .orElse(null);
         } catch (InterruptedException e) {
             task.cancel(true);
         } catch (ExecutionException e) {
@@ -161,17 +193,39 @@ public class UnitTechProgression {
 
     /**
      * Goes through all the entries in MekSummaryCache, loads them, and calculates the composite tech level of all the
-     * equipment and construction options for a specific faction.
+     * equipment and construction options for a specific faction. The units are loaded in parallel, and those whose unit
+     * file has not changed since they were cached are not loaded at all.
      */
-    private record BuildMapTask(Faction techFaction) implements Callable<Map<MekSummary, ITechnology>> {
+    private record BuildMapTask(Faction techFaction) implements Callable<Map<MekSummary, Optional<ITechnology>>> {
 
         // Load all the Entities in the MekSummaryCache and calculate the tech level for
         // the given faction.
         @Override
-        public Map<MekSummary, ITechnology> call() {
-            Map<MekSummary, ITechnology> map = new HashMap<>();
-            for (MekSummary mekSummary : MekSummaryCache.getInstance().getAllMeks()) {
-                map.put(mekSummary, calcTechProgression(mekSummary, techFaction));
+        public Map<MekSummary, Optional<ITechnology>> call() {
+            TechProgressionCache cache = instance.getCache();
+            Map<MekSummary, Optional<ITechnology>> map = new ConcurrentHashMap<>();
+            Map<String, CachedProgression> cacheEntries = new ConcurrentHashMap<>();
+            Arrays.stream(MekSummaryCache.getInstance().getAllMeks()).parallel().forEach(mekSummary -> {
+                if (null == cache) {
+                    map.put(mekSummary, Optional.ofNullable(calcTechProgression(mekSummary, techFaction)));
+                    return;
+                }
+
+                String key = TechProgressionCache.getKey(mekSummary);
+                Long checksum = cache.getChecksum(mekSummary);
+                ITechnology progression = (null == checksum) ? null : cache.get(techFaction, key, checksum);
+                if (null == progression) {
+                    progression = calcTechProgression(mekSummary, techFaction);
+                }
+                if ((null != progression) && (null != checksum)) {
+                    cacheEntries.put(key, new CachedProgression(checksum, progression));
+                }
+                map.put(mekSummary, Optional.ofNullable(progression));
+            });
+
+            if (null != cache) {
+                cache.putAll(techFaction, cacheEntries);
+                cache.save(new File(MHQConstants.TECH_PROGRESSION_CACHE_FILE));
             }
             return map;
         }
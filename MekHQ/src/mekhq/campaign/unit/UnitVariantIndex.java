@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitType;
+
+/**
+ * Groups the units in the {@link MekSummaryCache} by chassis, unit type and weight, so that the variants of a unit can
+ * be found without going through every unit.
+ * <p>
+ * Chassis are compared ignoring case. Battle armor is grouped by its number of troopers rather than its weight. The
+ * index is built on first use and rebuilt whenever the {@link MekSummaryCache} has been reloaded.
+ */
+public class UnitVariantIndex {
+    private static final UnitVariantIndex instance = new UnitVariantIndex();
+
+    /**
+     * The values a unit and its variants have in common.
+     *
+     * @param chassis  the chassis, in lower case
+     * @param unitType the name of the unit type
+     * @param weight   the weight in tons, or the number of troopers for battle armor
+     */
+    record VariantKey(String chassis, String unitType, double weight) {
+        static VariantKey of(String chassis, String unitType, double weight) {
+            return new VariantKey((null == chassis) ? "" : chassis.toLowerCase(Locale.ROOT), unitType, weight);
+        }
+
+        static VariantKey of(MekSummary mekSummary) {
+            boolean isBattleArmor = UnitType.getTypeName(UnitType.BATTLE_ARMOR).equals(mekSummary.getUnitType());
+            return of(mekSummary.getChassis(), mekSummary.getUnitType(),
+                  isBattleArmor ? (int) mekSummary.getTWWeight() : mekSummary.getTons());
+        }
+
+        static VariantKey of(Entity entity) {
+            return of(entity.getChassis(), UnitType.getTypeName(entity.getUnitType()),
+                  (entity instanceof BattleArmor battleArmor) ? battleArmor.getTroopers() : entity.getWeight());
+        }
+    }
+
+    private MekSummary[] indexedMeks;
+    private Map<VariantKey, List<MekSummary>> variants = Map.of();
+
+    /**
+     * Finds the units with the same chassis, unit type and weight as the given unit, which includes the unit itself.
+     *
+     * @param entity the unit
+     *
+     * @return the units in the {@link MekSummaryCache} that may be variants of the unit, in the order of the cache
+     */
+    public static List<MekSummary> getVariants(Entity entity) {
+        return instance.getVariants(MekSummaryCache.getInstance().getAllMeks(), VariantKey.of(entity));
+    }
+
+    private synchronized List<MekSummary> getVariants(MekSummary[] allMeks, VariantKey key) {
+        if (allMeks != indexedMeks) {
+            variants = buildIndex(allMeks);
+            indexedMeks = allMeks;
+        }
+        return variants.getOrDefault(key, List.of());
+    }
+
+    /**
+     * @param allMeks the units to index
+     *
+     * @return the units grouped by the values variants have in common
+     */
+    static Map<VariantKey, List<MekSummary>> buildIndex(MekSummary[] allMeks) {
+        Map<VariantKey, List<MekSummary>> index = new HashMap<>();
+        for (MekSummary mekSummary : allMeks) {
+            index.computeIfAbsent(VariantKey.of(mekSummary), key -> new ArrayList<>()).add(mekSummary);
+        }
+        index.replaceAll((key, summaries) -> List.copyOf(summaries));
+        return index;
+    }
+}
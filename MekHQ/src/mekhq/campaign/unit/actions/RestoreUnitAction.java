@@ -55,6 +55,7 @@ import mekhq.campaign.parts.Part;
 import mekhq.campaign.parts.equipment.AmmoBin;
 import mekhq.campaign.parts.missing.MissingPart;
 import mekhq.campaign.parts.missing.MissingThrusters;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 
 /**
@@ -237,7 +238,7 @@ public record RestoreUnitAction(IEntityCopyFactory entityCopyFactory) implements
             final MekSummary ms = MekSummaryCache.getInstance().getMek(entity.getShortNameRaw());
             try {
                 if (ms != null) {
-                    return new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                    return EntityTemplateCache.getInstance().getEntity(ms);
                 }
             } catch (EntityLoadingException e) {
                 LOGGER.error("Cannot restore unit from entity, could not find: {}", entity.getShortNameRaw(), e);
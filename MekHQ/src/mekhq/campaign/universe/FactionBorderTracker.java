@@ -63,6 +63,11 @@ import mekhq.campaign.events.NewDayEvent;
  * <p>
  * Changes in campaign date or location will update automatically on each new campaign day if the instance is registered
  * with the event bus.
+ * <p>
+ * When only the date has changed since the last calculation, only the factions that gained or lost a system in the
+ * region in between are recalculated, along with the borders between them and the other factions. The systems to
+ * check are found from the planetary events that set planet ownership, so days without any ownership change cost
+ * next to nothing.
  *
  * @author Neoancient
  */
@@ -88,6 +93,14 @@ public class FactionBorderTracker {
     private volatile boolean invalid = true;
     private volatile boolean cancelTask = false;
 
+    // The inputs of the last completed calculation, to tell whether it can be updated rather than redone
+    private LocalDate calculatedDate;
+    private double[] calculatedRegion;
+    private int calculatedSystemCount;
+    private volatile boolean borderSizesChanged = false;
+    private final List<PlanetarySystem> regionSystems = new ArrayList<>();
+    private final Map<PlanetarySystem, Set<Faction>> regionSystemFactions = new HashMap<>();
+
     /**
      * Constructs a FactionBorderTracker with the default region of a 1000 ly radius around Terra.
      */
@@ -389,6 +402,7 @@ public class FactionBorderTracker {
         } else {
             factionBorderSize.remove(faction);
         }
+        borderSizesChanged = true;
     }
 
     /**
@@ -403,6 +417,7 @@ public class FactionBorderTracker {
         isBorderSize = is;
         peripheryBorderSize = periphery;
         clanBorderSize = clan;
+        borderSizesChanged = true;
     }
 
     /**
@@ -429,54 +444,147 @@ public class FactionBorderTracker {
     private synchronized void rebuildBorderData() {
         cancelTask = false;
         try {
-            List<PlanetarySystem> systemList = new ArrayList<>();
-            Set<Faction> factionSet = new HashSet<>();
-            Set<Faction> oldFactions = new HashSet<>(borders.keySet());
-            for (PlanetarySystem system : getSystemList()) {
-                if ((regionHex.radius < 0)
-                          || regionHex.contains(system.getX(), system.getY())) {
-                    systemList.add(system);
-                    factionSet.addAll(system.getFactionSet(now));
-                }
-                if (cancelTask) {
-                    return;
-                }
+            Collection<PlanetarySystem> systems = getSystemList();
+            if (isCalculationCurrent(systems)) {
+                updateBorderData();
+            } else {
+                rebuildAllBorderData(systems);
+            }
+        } catch (Exception ex) {
+            logger.error("", ex);
+        } finally {
+            invalid = false;
+            notify();
+        }
+    }
+
+    /**
+     * @return true if the last completed calculation was for the same region, systems and border sizes, so that only
+     *       the change of date has to be accounted for
+     */
+    private boolean isCalculationCurrent(Collection<PlanetarySystem> systems) {
+        return (null != calculatedDate)
+                     && !borderSizesChanged
+                     && (calculatedSystemCount == systems.size())
+                     && (calculatedRegion[0] == regionHex.center[0])
+                     && (calculatedRegion[1] == regionHex.center[1])
+                     && (calculatedRegion[2] == regionHex.radius);
+    }
+
+    /**
+     * Recalculates everything from scratch.
+     */
+    private void rebuildAllBorderData(Collection<PlanetarySystem> systems) {
+        calculatedDate = null;
+        borderSizesChanged = false;
+        regionSystems.clear();
+        regionSystemFactions.clear();
+
+        Set<Faction> factionSet = new HashSet<>();
+        Set<Faction> oldFactions = new HashSet<>(borders.keySet());
+        for (PlanetarySystem system : systems) {
+            if ((regionHex.radius < 0)
+                      || regionHex.contains(system.getX(), system.getY())) {
+                Set<Faction> systemFactions = new HashSet<>(system.getFactionSet(now));
+                regionSystems.add(system);
+                regionSystemFactions.put(system, systemFactions);
+                factionSet.addAll(systemFactions);
             }
-            for (Faction f : factionSet) {
-                borders.put(f, new FactionBorders(f, now, systemList));
-                oldFactions.remove(f);
+            if (cancelTask) {
+                return;
             }
-            for (Faction f : oldFactions) {
-                borders.remove(f);
-                borderSystems.remove(f);
+        }
+        for (Faction f : factionSet) {
+            borders.put(f, new FactionBorders(f, now, regionSystems));
+            oldFactions.remove(f);
+        }
+        for (Faction f : oldFactions) {
+            borders.remove(f);
+            borderSystems.remove(f);
+        }
+        if (cancelTask) {
+            return;
+        }
+        for (Faction us : factionSet) {
+            Map<Faction, List<PlanetarySystem>> borderMap = new HashMap<>();
+            for (Faction them : factionSet) {
+                if (!us.equals(them)) {
+                    borderMap.put(them, calculateBorderSystems(us, them));
+                }
             }
+            borderSystems.put(us, borderMap);
             if (cancelTask) {
                 return;
             }
+        }
+        if (cancelTask) {
+            return;
+        }
+        lastUpdate = now;
+        calculatedDate = now;
+        calculatedRegion = new double[] { regionHex.center[0], regionHex.center[1], regionHex.radius };
+        calculatedSystemCount = systems.size();
+    }
+
+    /**
+     * Brings the last completed calculation up to the current date, recalculating only the factions that gained or lost
+     * a system in the region in between.
+     */
+    private void updateBorderData() {
+        LocalDate from = calculatedDate.isBefore(now) ? calculatedDate : now;
+        LocalDate to = calculatedDate.isBefore(now) ? now : calculatedDate;
+        // start over next time if this doesn't finish
+        calculatedDate = null;
+
+        Set<Faction> changedFactions = new HashSet<>();
+        for (PlanetarySystem system : regionSystems) {
+            if (system.hasFactionEventBetween(from, to)) {
+                Set<Faction> systemFactions = new HashSet<>(system.getFactionSet(now));
+                Set<Faction> oldSystemFactions = regionSystemFactions.put(system, systemFactions);
+                if (!systemFactions.equals(oldSystemFactions)) {
+                    changedFactions.addAll(systemFactions);
+                    if (null != oldSystemFactions) {
+                        changedFactions.addAll(oldSystemFactions);
+                    }
+                }
+            }
+        }
+
+        for (Faction f : changedFactions) {
+            FactionBorders factionBorders = new FactionBorders(f, now, regionSystems);
+            if (factionBorders.getSystems().isEmpty()) {
+                borders.remove(f);
+                borderSystems.remove(f);
+            } else {
+                borders.put(f, factionBorders);
+            }
+        }
+
+        if (!changedFactions.isEmpty()) {
+            Set<Faction> factionSet = borders.keySet();
             for (Faction us : factionSet) {
-                Map<Faction, List<PlanetarySystem>> borderMap = new HashMap<>();
+                boolean usChanged = changedFactions.contains(us);
+                Map<Faction, List<PlanetarySystem>> borderMap = usChanged ?
+                                                                      new HashMap<>() :
+                                                                      new HashMap<>(borderSystems.getOrDefault(us,
+                                                                            Collections.emptyMap()));
+                borderMap.keySet().retainAll(factionSet);
                 for (Faction them : factionSet) {
-                    if (!us.equals(them)) {
-                        double borderSize = Math.max(getBorderSize(us), getBorderSize(them));
-                        List<PlanetarySystem> systems = borders.get(us).getBorderSystems(borders.get(them), borderSize);
-                        borderMap.put(them, systems);
+                    if (!us.equals(them) && (usChanged || changedFactions.contains(them))) {
+                        borderMap.put(them, calculateBorderSystems(us, them));
                     }
                 }
                 borderSystems.put(us, borderMap);
-                if (cancelTask) {
-                    return;
-                }
-            }
-            if (cancelTask) {
-                return;
             }
-            lastUpdate = now;
-        } catch (Exception ex) {
-            logger.error("", ex);
-        } finally {
-            invalid = false;
-            notify();
         }
+
+        lastUpdate = now;
+        calculatedDate = now;
+    }
+
+    private List<PlanetarySystem> calculateBorderSystems(Faction us, Faction them) {
+        double borderSize = Math.max(getBorderSize(us), getBorderSize(them));
+        return borders.get(us).getBorderSystems(borders.get(them), borderSize);
     }
 
     /**
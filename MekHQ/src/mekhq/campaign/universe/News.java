@@ -85,18 +85,29 @@ public class News {
     private Map<LocalDate, List<NewsItem>> archive;
     private Map<Integer, NewsItem> news;
 
+    // the year and seed to load on first access, when the news has not been loaded yet
+    private int pendingYear;
+    private long pendingSeed;
+
+    /**
+     * Creates the news for the given year. The news file is only parsed once an item is first requested, so campaigns
+     * that never read the news (or reload it for another year first) don't pay for parsing it.
+     */
     public News(int year, long seed) {
-        loadNewsFor(year, seed);
+        this.pendingYear = year;
+        this.pendingSeed = seed;
     }
 
     public NewsItem getNewsItem(int id) {
         synchronized (LOADING_LOCK) {
+            ensureLoaded();
             return news.get(id);
         }
     }
 
     public List<NewsItem> fetchNewsFor(LocalDate d) {
         synchronized (LOADING_LOCK) {
+            ensureLoaded();
             if (archive.containsKey(d)) {
                 return archive.get(d);
             }
@@ -104,6 +115,12 @@ public class News {
         }
     }
 
+    private void ensureLoaded() {
+        if (null == archive) {
+            loadNewsFor(pendingYear, pendingSeed);
+        }
+    }
+
     public void loadNewsFor(int year, long seed) {
         synchronized (LOADING_LOCK) {
             archive = new HashMap<>();
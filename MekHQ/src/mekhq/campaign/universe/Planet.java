@@ -500,6 +500,25 @@ public class Planet {
         return getFactionsFrom(currentFactions);
     }
 
+    /**
+     * @param from the earlier date, not included
+     * @param to   the later date, included
+     *
+     * @return true if any event after {@code from} up to and including {@code to} sets the factions owning the planet
+     */
+    public boolean hasFactionEventBetween(LocalDate from, LocalDate to) {
+        if ((null == events) || !from.isBefore(to)) {
+            return false;
+        }
+
+        for (PlanetaryEvent event : events.subMap(from, false, to, true).values()) {
+            if (null != event.faction) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public String getFactionDesc(LocalDate when) {
         String toReturn = Faction.getFactionNames(getFactionSet(when), when.getYear());
         if (toReturn.isEmpty()) {
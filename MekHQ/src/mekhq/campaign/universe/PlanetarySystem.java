@@ -48,7 +48,6 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.util.StdConverter;
-import megamek.codeUtilities.ObjectUtility;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.personnel.education.Academy;
 import mekhq.campaign.personnel.education.AcademyFactory;
@@ -258,6 +257,24 @@ public class PlanetarySystem {
         return factions;
     }
 
+    /**
+     * @param from the earlier date, not included
+     * @param to   the later date, included
+     *
+     * @return true if any event after {@code from} up to and including {@code to} sets the factions owning one of the
+     *       system's planets
+     *
+     * @see Planet#hasFactionEventBetween(LocalDate, LocalDate)
+     */
+    public boolean hasFactionEventBetween(LocalDate from, LocalDate to) {
+        for (Planet planet : planets.values()) {
+            if (planet.hasFactionEventBetween(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public long getPopulation(LocalDate when) {
         long pop = 0L;
         for (Planet planet : planets.values()) {
@@ -551,14 +568,14 @@ public class PlanetarySystem {
         if ((null == when) || (null == events) || (null == getter)) {
             return defaultValue;
         }
-        T result = defaultValue;
-        for (LocalDate date : events.navigableKeySet()) {
-            if (date.isAfter(when)) {
-                break;
+        // the latest event on or before the date that sets the value wins
+        for (PlanetarySystemEvent event : events.headMap(when, true).descendingMap().values()) {
+            T result = getter.get(event);
+            if (null != result) {
+                return result;
             }
-            result = ObjectUtility.nonNull(getter.get(events.get(date)), result);
         }
-        return result;
+        return defaultValue;
     }
 
     public List<PlanetarySystemEvent> getEvents() {
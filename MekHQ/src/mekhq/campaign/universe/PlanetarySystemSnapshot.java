@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * A binary (Smile) cache of parsed planetary system files, keyed by the SHA-256 hash of each file's contents.
+ * <p>
+ * The snapshot stores the YAML document trees rather than the deserialized {@link PlanetarySystem} objects, so it
+ * only needs to be rebuilt when the data files change, not when the planetary classes do. On a warm start every file
+ * whose hash is found in the snapshot is bound straight from the cached tree, skipping the YAML parser entirely.
+ * Entries for files that no longer exist are dropped the next time the snapshot is saved.
+ */
+class PlanetarySystemSnapshot {
+    private static final MMLogger logger = MMLogger.create(PlanetarySystemSnapshot.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String VERSION_FIELD = "version";
+    private static final String ENTRIES_FIELD = "entries";
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+    private final Map<String, JsonNode> cachedEntries;
+    private final Map<String, JsonNode> usedEntries = new ConcurrentHashMap<>();
+    private volatile boolean modified = false;
+
+    private PlanetarySystemSnapshot(Map<String, JsonNode> cachedEntries) {
+        this.cachedEntries = cachedEntries;
+    }
+
+    /**
+     * Reads the snapshot from disk. A missing, unreadable or outdated snapshot results in an empty one.
+     *
+     * @param file the snapshot file
+     *
+     * @return the snapshot
+     */
+    static PlanetarySystemSnapshot read(File file) {
+        Map<String, JsonNode> entries = new HashMap<>();
+        if (file.isFile()) {
+            try {
+                JsonNode root = SMILE_MAPPER.readTree(file);
+                if ((null != root) && (root.path(VERSION_FIELD).asInt() == FORMAT_VERSION)) {
+                    Iterator<Map.Entry<String, JsonNode>> fields = root.path(ENTRIES_FIELD).fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        entries.put(field.getKey(), field.getValue());
+                    }
+                } else {
+                    logger.info("Ignoring outdated planetary system cache {}", file.getPath());
+                }
+            } catch (Exception ex) {
+                logger.warn("Could not read the planetary system cache {} - ignoring: {}", file.getPath(),
+                      ex.getMessage());
+            }
+        }
+        return new PlanetarySystemSnapshot(entries);
+    }
+
+    /**
+     * @param data the contents of a planetary system file
+     *
+     * @return the hash the file is cached under
+     */
+    static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @param hash the hash of a planetary system file
+     *
+     * @return the cached document tree of the file, or {@code null} if it is not cached
+     */
+    @Nullable
+    JsonNode get(String hash) {
+        JsonNode tree = cachedEntries.get(hash);
+        if (null != tree) {
+            usedEntries.put(hash, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Adds the document tree of a newly parsed file.
+     */
+    void put(String hash, JsonNode tree) {
+        usedEntries.put(hash, tree);
+        modified = true;
+    }
+
+    /**
+     * Writes the snapshot back to disk if any file was added, changed or removed since it was read.
+     *
+     * @param file the snapshot file
+     */
+    void save(File file) {
+        if (!modified && (usedEntries.size() == cachedEntries.size())) {
+            return;
+        }
+
+        ObjectNode root = SMILE_MAPPER.createObjectNode();
+        root.put(VERSION_FIELD, FORMAT_VERSION);
+        ObjectNode entries = root.putObject(ENTRIES_FIELD);
+        usedEntries.entrySet()
+              .stream()
+              .sorted(Map.Entry.comparingByKey())
+              .forEach(entry -> entries.set(entry.getKey(), entry.getValue()));
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if ((null != directory) && !directory.isDirectory()) {
+                Files.createDirectories(directory.toPath());
+            }
+            SMILE_MAPPER.writeValue(tempFile, root);
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved {} planetary system files to the cache {}", usedEntries.size(), file.getPath());
+        } catch (Exception ex) {
+            logger.warn("Could not write the planetary system cache {}: {}", file.getPath(), ex.getMessage());
+            tempFile.delete();
+        }
+    }
+}
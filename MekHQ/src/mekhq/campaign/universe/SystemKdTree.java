@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * A two-dimensional k-d tree over the coordinates of a set of systems, for nearest system and radius lookups that
+ * don't have to go through every system.
+ * <p>
+ * The tree is stored implicitly in arrays: the node of a range is the middle element of the range, with the elements
+ * before it on one side of its splitting line and the elements after it on the other. Systems without coordinates are
+ * left out. The tree is immutable; build a new one whenever the set of systems changes.
+ */
+public class SystemKdTree {
+    private final PlanetarySystem[] systems;
+    private final double[] xs;
+    private final double[] ys;
+
+    public SystemKdTree(Collection<PlanetarySystem> systems) {
+        List<PlanetarySystem> located = new ArrayList<>(systems.size());
+        for (PlanetarySystem system : systems) {
+            if ((null != system) && (null != system.getX()) && (null != system.getY())) {
+                located.add(system);
+            }
+        }
+
+        this.systems = located.toArray(new PlanetarySystem[0]);
+        build(0, this.systems.length, true);
+
+        this.xs = new double[this.systems.length];
+        this.ys = new double[this.systems.length];
+        for (int i = 0; i < this.systems.length; i++) {
+            xs[i] = this.systems[i].getX();
+            ys[i] = this.systems[i].getY();
+        }
+    }
+
+    private void build(int from, int to, boolean splitOnX) {
+        if (to - from < 2) {
+            return;
+        }
+
+        Comparator<PlanetarySystem> order = splitOnX ?
+                                                  Comparator.comparingDouble(PlanetarySystem::getX) :
+                                                  Comparator.comparingDouble(PlanetarySystem::getY);
+        Arrays.sort(systems, from, to, order);
+        int middle = (from + to) >>> 1;
+        build(from, middle, !splitOnX);
+        build(middle + 1, to, !splitOnX);
+    }
+
+    /**
+     * @return the number of systems in the tree
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @param x the x coordinate, in light years
+     * @param y the y coordinate, in light years
+     *
+     * @return the system closest to the given point, or {@code null} if the tree is empty
+     */
+    public @Nullable PlanetarySystem getNearest(double x, double y) {
+        int nearest = findNearest(0, systems.length, true, x, y, -1);
+        return (nearest < 0) ? null : systems[nearest];
+    }
+
+    private int findNearest(int from, int to, boolean splitOnX, double x, double y, int best) {
+        if (from >= to) {
+            return best;
+        }
+
+        int middle = (from + to) >>> 1;
+        if ((best < 0) || (distanceSquared(middle, x, y) < distanceSquared(best, x, y))) {
+            best = middle;
+        }
+
+        double offset = splitOnX ? (x - xs[middle]) : (y - ys[middle]);
+        if (offset < 0) {
+            best = findNearest(from, middle, !splitOnX, x, y, best);
+            if (offset * offset < distanceSquared(best, x, y)) {
+                best = findNearest(middle + 1, to, !splitOnX, x, y, best);
+            }
+        } else {
+            best = findNearest(middle + 1, to, !splitOnX, x, y, best);
+            if (offset * offset < distanceSquared(best, x, y)) {
+                best = findNearest(from, middle, !splitOnX, x, y, best);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Visits every system within {@code distance} light years of a point, in no particular order.
+     *
+     * @param x        the x coordinate of the point
+     * @param y        the y coordinate of the point
+     * @param distance the search radius, in light years
+     * @param visitor  receives each system found
+     */
+    public void visitNearbySystems(double x, double y, double distance, Consumer<PlanetarySystem> visitor) {
+        visitNearbySystems(0, systems.length, true, x, y, distance, visitor);
+    }
+
+    private void visitNearbySystems(int from, int to, boolean splitOnX, double x, double y, double distance,
+          Consumer<PlanetarySystem> visitor) {
+        if (from >= to) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        if (distanceSquared(middle, x, y) <= distance * distance) {
+            visitor.accept(systems[middle]);
+        }
+
+        double coordinate = splitOnX ? x : y;
+        double split = splitOnX ? xs[middle] : ys[middle];
+        if (coordinate - distance <= split) {
+            visitNearbySystems(from, middle, !splitOnX, x, y, distance, visitor);
+        }
+        if (coordinate + distance >= split) {
+            visitNearbySystems(middle + 1, to, !splitOnX, x, y, distance, visitor);
+        }
+    }
+
+    private double distanceSquared(int index, double x, double y) {
+        double dx = xs[index] - x;
+        double dy = ys[index] - y;
+        return (dx * dx) + (dy * dy);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.universe.Planet.PlanetaryEvent;
+
+/**
+ * Case-insensitive lookup of planetary systems by the name they carried on a given date.
+ * <p>
+ * A system's name is the name of its primary planet, which may change over time through planetary events. The index
+ * maps every lower-cased name a system has ever carried to the date ranges during which it carried it, so a lookup is
+ * a single hash probe followed by a check of the (usually one or two) ranges recorded for that name.
+ */
+class SystemNameIndex {
+    private final Map<String, List<NameRange>> ranges = new HashMap<>();
+    private final int size;
+
+    /**
+     * A period during which a system carried a name.
+     *
+     * @param system the system
+     * @param from   the first date the name applies, or {@code null} if it is the system's original name
+     * @param until  the first date the name no longer applies, or {@code null} if it was never changed afterwards
+     */
+    private record NameRange(PlanetarySystem system, @Nullable LocalDate from, @Nullable LocalDate until) {
+        boolean contains(@Nullable LocalDate when) {
+            if (null == when) {
+                // Undated lookups only ever see the original name
+                return null == from;
+            }
+            return ((null == from) || !when.isBefore(from)) && ((null == until) || when.isBefore(until));
+        }
+    }
+
+    SystemNameIndex(Collection<PlanetarySystem> systems) {
+        List<PlanetarySystem> sorted = new ArrayList<>(systems);
+        sorted.sort(Comparator.comparing(PlanetarySystem::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (PlanetarySystem system : sorted) {
+            indexSystem(system);
+        }
+        size = systems.size();
+    }
+
+    /**
+     * @return the number of systems the index was built from
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param name the name to look for, in any case
+     * @param when the date the name should be valid on
+     *
+     * @return a system with the given name on the given date, or {@code null} if there is none
+     */
+    @Nullable
+    PlanetarySystem getSystemByName(@Nullable String name, @Nullable LocalDate when) {
+        if (null == name) {
+            return null;
+        }
+
+        List<NameRange> candidates = ranges.get(name.toLowerCase(Locale.ROOT));
+        if (null != candidates) {
+            for (NameRange range : candidates) {
+                if (range.contains(when)) {
+                    return range.system();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the name history of a system, mirroring {@link PlanetarySystem#getName(LocalDate)}.
+     */
+    private void indexSystem(PlanetarySystem system) {
+        // Systems without a primary slot are always named after their id
+        if ((system.getPrimaryPlanetPosition() < 1) && (null != system.getId())) {
+            addRange(system.getId(), system, null, null);
+            return;
+        }
+
+        Planet primaryPlanet = system.getPrimaryPlanet();
+        if (null == primaryPlanet) {
+            addRange("Unknown", system, null, null);
+            return;
+        }
+
+        // Walk the name changes in date order; each name holds until the next event that sets one
+        SourceableValue<String> originalName = primaryPlanet.getSourcedName(null);
+        String currentName = (null == originalName) ? null : originalName.getValue();
+        LocalDate currentFrom = null;
+        List<PlanetaryEvent> events = primaryPlanet.getEvents();
+        if (null != events) {
+            for (PlanetaryEvent event : events) {
+                if ((null == event.name) || (null == event.date)) {
+                    continue;
+                }
+                addRange(currentName, system, currentFrom, event.date);
+                currentName = event.name.getValue();
+                currentFrom = event.date;
+            }
+        }
+        addRange(currentName, system, currentFrom, null);
+    }
+
+    private void addRange(@Nullable String name, PlanetarySystem system, @Nullable LocalDate from,
+          @Nullable LocalDate until) {
+        if ((null == name) || ((null != from) && from.equals(until))) {
+            return;
+        }
+        ranges.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> new ArrayList<>(1))
+              .add(new NameRange(system, from, until));
+    }
+}
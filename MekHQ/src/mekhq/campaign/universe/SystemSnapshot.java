@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.universe.FactionTag;
+import mekhq.campaign.universe.enums.HPGRating;
+import mekhq.campaign.universe.enums.HiringHallLevel;
+import mekhq.campaign.universe.routing.SystemIndex;
+
+/**
+ * The date-dependent values of every loaded system on a single date, resolved once and stored in flat arrays indexed
+ * by {@link SystemIndex}.
+ * <p>
+ * Resolving the population, ownership, HPG, socio-industrial data or hiring hall of a system means going through the
+ * planetary events of each of its planets. The interstellar map, HPG network, shopping and contract generation ask for
+ * these values for thousands of systems on the same date, so {@link Systems#getSnapshot(LocalDate)} resolves all of
+ * them once and keeps the snapshot until a different date is asked for.
+ * <p>
+ * Systems that were not loaded when the snapshot was built are resolved directly instead.
+ */
+public class SystemSnapshot {
+    private final LocalDate date;
+    private final SystemIndex systemIndex;
+    private final long[] populations;
+    private final HPGRating[] hpgRatings;
+    private final SocioIndustrialData[] socioIndustrialData;
+    private final HiringHallLevel[] hiringHallLevels;
+    private final Set<Faction>[] factionSets;
+
+    @SuppressWarnings("unchecked")
+    private SystemSnapshot(SystemIndex systemIndex, LocalDate date) {
+        int size = systemIndex.size();
+        this.date = date;
+        this.systemIndex = systemIndex;
+        this.populations = new long[size];
+        this.hpgRatings = new HPGRating[size];
+        this.socioIndustrialData = new SocioIndustrialData[size];
+        this.hiringHallLevels = new HiringHallLevel[size];
+        this.factionSets = new Set[size];
+    }
+
+    /**
+     * Resolves the values of every indexed system on the given date.
+     *
+     * @param systemIndex the systems to include
+     * @param date        the date to resolve the values on
+     *
+     * @return the new snapshot
+     */
+    public static SystemSnapshot build(SystemIndex systemIndex, LocalDate date) {
+        SystemSnapshot snapshot = new SystemSnapshot(systemIndex, date);
+        for (int i = 0; i < systemIndex.size(); i++) {
+            PlanetarySystem system = systemIndex.getSystem(i);
+            snapshot.populations[i] = system.getPopulation(date);
+            snapshot.hpgRatings[i] = system.getHPG(date);
+            snapshot.socioIndustrialData[i] = system.getSocioIndustrial(date);
+            snapshot.hiringHallLevels[i] = system.getHiringHallLevel(date);
+            snapshot.factionSets[i] = Collections.unmodifiableSet(system.getFactionSet(date));
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the date the values were resolved on
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public SystemIndex getSystemIndex() {
+        return systemIndex;
+    }
+
+    /**
+     * @return the number of systems in the snapshot
+     */
+    public int size() {
+        return systemIndex.size();
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the total population of the system's planets
+     *
+     * @see PlanetarySystem#getPopulation(LocalDate)
+     */
+    public long getPopulation(PlanetarySystem system) {
+        int index = systemIndex.indexOf(system);
+        return (index < 0) ? system.getPopulation(date) : populations[index];
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the highest HPG rating among the system's planets
+     *
+     * @see PlanetarySystem#getHPG(LocalDate)
+     */
+    public HPGRating getHPG(PlanetarySystem system) {
+        int index = systemIndex.indexOf(system);
+        return (index < 0) ? system.getHPG(date) : hpgRatings[index];
+    }
+
+    /**
+     * @param index the index of the system
+     *
+     * @return the highest HPG rating among the system's planets
+     */
+    public HPGRating getHPG(int index) {
+        return hpgRatings[index];
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the highest socio-industrial ratings among the system's planets
+     *
+     * @see PlanetarySystem#getSocioIndustrial(LocalDate)
+     */
+    public SocioIndustrialData getSocioIndustrial(PlanetarySystem system) {
+        int index = systemIndex.indexOf(system);
+        return (index < 0) ? system.getSocioIndustrial(date) : socioIndustrialData[index];
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the highest hiring hall level among the system's planets
+     *
+     * @see PlanetarySystem#getHiringHallLevel(LocalDate)
+     */
+    public HiringHallLevel getHiringHallLevel(PlanetarySystem system) {
+        int index = systemIndex.indexOf(system);
+        return (index < 0) ? system.getHiringHallLevel(date) : hiringHallLevels[index];
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the factions owning the system's planets. The returned set is shared and cannot be modified.
+     *
+     * @see PlanetarySystem#getFactionSet(LocalDate)
+     */
+    public Set<Faction> getFactionSet(PlanetarySystem system) {
+        int index = systemIndex.indexOf(system);
+        return (index < 0) ? Collections.unmodifiableSet(system.getFactionSet(date)) : factionSets[index];
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return true if the system has no owners other than abandoned factions
+     */
+    public boolean isEmpty(@Nullable PlanetarySystem system) {
+        if (null == system) {
+            return true;
+        }
+
+        for (Faction faction : getFactionSet(system)) {
+            if (!faction.is(FactionTag.ABANDONED)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -33,9 +33,9 @@
 package mekhq.campaign.universe;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -44,14 +44,19 @@ import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import megamek.common.annotations.Nullable;
 import megamek.common.preference.PreferenceManager;
 import megamek.logging.MMLogger;
 import mekhq.MHQConstants;
+import mekhq.MekHQ;
 import mekhq.campaign.universe.enums.HPGRating;
+import mekhq.campaign.universe.routing.JumpGraph;
+import mekhq.campaign.universe.routing.SystemIndex;
 import org.w3c.dom.DOMException;
 
 /**
@@ -78,6 +83,9 @@ public class Systems {
     }
 
     public static void setInstance(Systems instance) {
+        if (null != instance) {
+            instance.clearCachedSystemData();
+        }
         systems = instance;
     }
 
@@ -93,6 +101,15 @@ public class Systems {
     private Collection<HPGLink> hpgNetworkCache = null;
     private LocalDate hpgNetworkCacheDate = null;
 
+    // Neighbourhood graph shared by routing, HPG and shopping lookups, cleared whenever the system list changes
+    private volatile JumpGraph jumpGraph = null;
+
+    // Name lookup index, cleared whenever the system list changes
+    private volatile SystemNameIndex nameIndex = null;
+
+    // Date-dependent system values for the last date asked for, cleared whenever the system list changes
+    private volatile SystemSnapshot snapshot = null;
+
     protected Systems() {
     }
 
@@ -110,18 +127,21 @@ public class Systems {
             return null;
         }
 
-        name = name.toLowerCase(Locale.ROOT);
-        for (PlanetarySystem system : systemList.values()) {
-            if (null != system) {
-                String systemName = system.getName(when);
+        return getNameIndex().getSystemByName(name, when);
+    }
 
-                if ((null != systemName) && systemName.toLowerCase(Locale.ROOT).equals(name)) {
-                    return system;
-                }
-            }
+    private SystemNameIndex getNameIndex() {
+        SystemNameIndex index = nameIndex;
+        if (null != index) {
+            return index;
         }
 
-        return null;
+        synchronized (this) {
+            if (null == nameIndex) {
+                nameIndex = new SystemNameIndex(systemList.values());
+            }
+            return nameIndex;
+        }
     }
 
     public List<PlanetarySystem> getNearbySystems(final double centerX, final double centerY, int distance) {
@@ -134,7 +154,12 @@ public class Systems {
     }
 
     public List<PlanetarySystem> getNearbySystems(final PlanetarySystem system, int distance) {
-        return getNearbySystems(system.getX(), system.getY(), distance);
+        List<PlanetarySystem> neighbors = new ArrayList<>();
+
+        visitNearbySystems(system, distance, neighbors::add);
+
+        neighbors.sort(Comparator.comparingDouble(o -> o.getDistanceTo(system.getX(), system.getY())));
+        return neighbors;
     }
 
     public ConcurrentMap<String, PlanetarySystem> getSystems() {
@@ -145,6 +170,60 @@ public class Systems {
         return (null != id ? systemList.get(id) : null);
     }
 
+    /**
+     * @return the {@link JumpGraph} covering every currently loaded system, building it first if necessary
+     */
+    public synchronized JumpGraph getJumpGraph() {
+        if (null == jumpGraph) {
+            jumpGraph = JumpGraph.build(systemList.values());
+        }
+
+        return jumpGraph;
+    }
+
+    /**
+     * Drops everything worked out from the loaded systems, so that it is built again from the current system list the
+     * next time it is needed. This must be called whenever systems are added, replaced or removed, or the names or
+     * events of their planets are changed.
+     */
+    public synchronized void clearCachedSystemData() {
+        jumpGraph = null;
+        nameIndex = null;
+        snapshot = null;
+        hpgNetworkCache = null;
+        hpgNetworkCacheDate = null;
+    }
+
+    /**
+     * @param when the date to resolve the values on
+     *
+     * @return the {@link SystemSnapshot} of every currently loaded system on the given date, building it first if
+     *       necessary
+     */
+    public SystemSnapshot getSnapshot(LocalDate when) {
+        SystemSnapshot current = snapshot;
+        if (isSnapshotCurrent(current, when)) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (!isSnapshotCurrent(current, when)) {
+                // the system index only needs to be rebuilt when the system list changes
+                SystemIndex index = (null != current) ?
+                                          current.getSystemIndex() :
+                                          new SystemIndex(systemList.values());
+                current = SystemSnapshot.build(index, when);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isSnapshotCurrent(SystemSnapshot current, LocalDate when) {
+        return (null != current) && current.getDate().equals(when);
+    }
+
     /**
      * Get a list of planetary systems within a certain jump radius (30ly per jump) that you can shop on, sorted by
      * number of jumps and in system transit time
@@ -155,10 +234,26 @@ public class Systems {
      * @return a list of planets where you can go shopping
      */
     public List<PlanetarySystem> getShoppingSystems(final PlanetarySystem system, int jumps, LocalDate when) {
-        List<PlanetarySystem> shoppingSystems = getNearbySystems(system, jumps * 30);
+        List<PlanetarySystem> shoppingSystems;
+        JumpGraph graph = jumpGraph;
+        int systemIndex = (null != graph) ? graph.getSystemIndex().indexOf(system) : -1;
+        if ((systemIndex >= 0) && (jumps * 30 <= JumpGraph.MAX_RANGE)) {
+            // the graph already knows which systems have live planets
+            BitSet inhabitedSystems = graph.getInhabitedSystems(when);
+            SystemIndex index = graph.getSystemIndex();
+            List<PlanetarySystem> inhabitedNeighbours = new ArrayList<>();
+            graph.visitNeighbours(systemIndex, jumps * 30, neighbour -> {
+                if (inhabitedSystems.get(neighbour)) {
+                    inhabitedNeighbours.add(index.getSystem(neighbour));
+                }
+            });
+            shoppingSystems = inhabitedNeighbours;
+        } else {
+            shoppingSystems = getNearbySystems(system, jumps * 30);
 
-        // remove dead planets
-        shoppingSystems.removeIf(s -> null == s.getPrimaryPlanet() || s.getPrimaryPlanet().isEmpty(when));
+            // remove dead planets
+            shoppingSystems.removeIf(s -> null == s.getPrimaryPlanet() || s.getPrimaryPlanet().isEmpty(when));
+        }
 
         shoppingSystems.sort((p1, p2) -> {
             // sort first on number of jumps required
@@ -202,9 +297,10 @@ public class Systems {
             return hpgNetworkCache;
         }
 
+        SystemSnapshot currentSnapshot = getSnapshot(when);
         Set<HPGLink> result = new HashSet<>();
         for (PlanetarySystem system : systemList.values()) {
-            HPGRating hpg = system.getHPG(when);
+            HPGRating hpg = currentSnapshot.getHPG(system);
             if (hpg != null) {
                 int distance = 0;
                 if (hpg == HPGRating.A) {
@@ -215,16 +311,13 @@ public class Systems {
                     distance = HPG_RADIUS_B_STATION;
                 }
 
-                Collection<PlanetarySystem> neighbors = getNearbySystems(system, distance);
-
                 if (distance > 0) {
-                    for (PlanetarySystem neighbor : neighbors) {
-                        hpg = neighbor.getHPG(when);
-                        if (null != hpg) {
-                            HPGLink link = new HPGLink(system, neighbor, hpg);
-                            result.add(link);
+                    visitNearbySystems(system, distance, neighbor -> {
+                        HPGRating neighborHpg = currentSnapshot.getHPG(neighbor);
+                        if (null != neighborHpg) {
+                            result.add(new HPGLink(system, neighbor, neighborHpg));
                         }
-                    }
+                    });
                 }
             }
         }
@@ -246,16 +339,28 @@ public class Systems {
 
         Systems systems = new Systems();
 
+        // the snapshot cache lets warm starts skip parsing any YAML file that hasn't changed
+        File cacheFile = new File(MHQConstants.PLANETARY_SYSTEM_CACHE_FILE);
+        PlanetarySystemSnapshot snapshot = MekHQ.getMHQOptions().getUsePlanetarySystemCache()
+                                                 ? PlanetarySystemSnapshot.read(cacheFile) : null;
+
         // load default systems
-        systems.load(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH);
+        systems.load(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH, snapshot);
 
         // load user directory systems
         String userDir = PreferenceManager.getClientPreferences().getUserDir();
-        systems.load(new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH).toString());
+        systems.load(new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH).toString(), snapshot);
+
+        if (null != snapshot) {
+            snapshot.save(cacheFile);
+        }
 
         // a bit of post loading clean up
         systems.cleanupSystems();
 
+        // build the neighbourhood graph up front rather than on the first jump path calculation
+        systems.getJumpGraph();
+
         // logging
         logger.info(String.format(Locale.ROOT, "Loaded a total of %d systems in %.3fs.",
               systems.systemList.size(), (java.lang.System.currentTimeMillis() - currentTime) / 1000.0));
@@ -271,6 +376,18 @@ public class Systems {
      *
      */
     public void load(String planetsPath) throws DOMException {
+        load(planetsPath, null);
+    }
+
+    /**
+     * Loads Systems data from files. The files are parsed in parallel, but are added in the same order as a sequential
+     * load would, so a later file still overrides an earlier file that defines the same system.
+     *
+     * @param planetsPath The path to the folder containing planetary XML files.
+     * @param snapshot    The snapshot cache to read parsed files from and record newly parsed files in, or
+     *                    {@code null} to parse every file
+     */
+    void load(String planetsPath, @Nullable PlanetarySystemSnapshot snapshot) throws DOMException {
         // set up mapper
         ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
         // add custom deserializer for any complex objects that need to be read from Strings, etc.
@@ -282,17 +399,65 @@ public class Systems {
         // this will allow the mapper to deserialize LocalDate objects
         mapper.registerModule(new JavaTimeModule());
 
-        // Now we can Load all the yml files in the planetsPath and subdirectories
-        parsePlanetarySystemFiles(planetsPath, mapper);
+        // Now we can find all the yml files in the planetsPath and subdirectories
+        List<PlanetarySystemSource> sources = new ArrayList<>();
+        collectPlanetarySystemFiles(planetsPath, sources);
+
+        // Parse them in parallel; the ordered stream keeps the results in file order
+        List<PlanetarySystem> parsedSystems = sources.parallelStream()
+                                                    .map(source -> source.parse(mapper, snapshot))
+                                                    .toList();
+
+        for (PlanetarySystem system : parsedSystems) {
+            if (null != system) {
+                systemList.put(system.getId(), system);
+            }
+        }
+        clearCachedSystemData();
+    }
+
+    /**
+     * A single planetary system file, either on disk or already read out of a zip archive.
+     *
+     * @param name the name to report the file under
+     * @param file the file on disk, or {@code null} for a zip entry
+     * @param data the contents of the zip entry, or {@code null} for a file on disk
+     */
+    private record PlanetarySystemSource(String name, @Nullable File file, @Nullable byte[] data) {
+        /**
+         * @return the parsed system, or {@code null} if the file could not be parsed
+         */
+        @Nullable
+        PlanetarySystem parse(ObjectMapper mapper, @Nullable PlanetarySystemSnapshot snapshot) {
+            try {
+                byte[] contents = (null != file) ? Files.readAllBytes(file.toPath()) : data;
+                if (null == snapshot) {
+                    return mapper.readValue(contents, PlanetarySystem.class);
+                }
+
+                String hash = PlanetarySystemSnapshot.hash(contents);
+                JsonNode tree = snapshot.get(hash);
+                if (null == tree) {
+                    tree = mapper.readTree(contents);
+                    snapshot.put(hash, tree);
+                }
+                return mapper.treeToValue(tree, PlanetarySystem.class);
+            } catch (Exception ex) {
+                // Ignore this file then
+                logger.error(ex, "Exception trying to parse {} - ignoring.", name);
+                return null;
+            }
+        }
     }
 
     /**
-     * loop through all files in the directory and subdirectories and load any *.yml files found.
+     * loop through all files in the directory and subdirectories and collect any *.yml files found, in the order they
+     * should be loaded.
      *
      * @param dirName the name of the directory from which to load files
-     * @param mapper  the Jackson mapper used to load the data from yaml
+     * @param sources the list to add the files found to
      */
-    private void parsePlanetarySystemFiles(String dirName, ObjectMapper mapper) {
+    private void collectPlanetarySystemFiles(String dirName, List<PlanetarySystemSource> sources) {
         if ((null == dirName)) {
             throw new NullPointerException();
         }
@@ -303,15 +468,9 @@ public class Systems {
             if ((null != files) && (files.length > 0)) {
                 // Case-insensitive sorting. Yes, even on Windows. Deal with it.
                 Arrays.sort(files, Comparator.comparing(File::getPath));
-                // Try parsing and updating the main list, one by one
                 for (File file : files) {
                     if (file.isFile()) {
-                        try (FileInputStream fis = new FileInputStream(file)) {
-                            loadPlanetarySystem(fis, mapper);
-                        } catch (Exception ex) {
-                            // Ignore this file then
-                            logger.error(ex, "Exception trying to parse {} - ignoring.", file.getPath());
-                        }
+                        sources.add(new PlanetarySystemSource(file.getPath(), file, null));
                     }
                 }
             }
@@ -326,7 +485,8 @@ public class Systems {
                             // Check if entry is a directory
                             if (!entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".yml")) {
                                 try (InputStream inputStream = zip.getInputStream(entry)) {
-                                    loadPlanetarySystem(inputStream, mapper);
+                                    sources.add(new PlanetarySystemSource(entry.getName(), null,
+                                          inputStream.readAllBytes()));
                                 } catch (Exception ex) {
                                     // Ignore this file then
                                     logger.error(ex, "Exception trying to parse zip  entry {} - ignoring.",
@@ -346,30 +506,17 @@ public class Systems {
                 Arrays.sort(dirs, Comparator.comparing(File::getPath));
                 for (File subDirectory : dirs) {
                     if (subDirectory.isDirectory()) {
-                        parsePlanetarySystemFiles(subDirectory.getPath(), mapper);
+                        collectPlanetarySystemFiles(subDirectory.getPath(), sources);
                     }
                 }
             }
         } else {
             if (dir.isFile()) {
-                try (FileInputStream fis = new FileInputStream(dir)) {
-                    loadPlanetarySystem(fis, mapper);
-                } catch (Exception ex) {
-                    // Ignore this dir then
-                    logger.error(ex, "Exception trying to parse {} - ignoring.", dir.getPath());
-                }
+                sources.add(new PlanetarySystemSource(dir.getPath(), dir, null));
             }
-
         }
     }
 
-    private void loadPlanetarySystem(InputStream source, ObjectMapper mapper) throws IOException {
-
-        PlanetarySystem system = mapper.readValue(source, PlanetarySystem.class);
-        systemList.put(system.getId(), system);
-
-    }
-
     private void cleanupSystems() {
         List<PlanetarySystem> toRemove = new ArrayList<>();
         for (PlanetarySystem system : systemList.values()) {
@@ -400,6 +547,7 @@ public class Systems {
         for (PlanetarySystem system : toRemove) {
             systemList.remove(system.getId());
         }
+        clearCachedSystemData();
     }
 
     private void logVeryCloseSystems() {
@@ -441,6 +589,16 @@ public class Systems {
 
     public void visitNearbySystems(final PlanetarySystem system, final int distance,
           Consumer<PlanetarySystem> visitor) {
+        JumpGraph graph = jumpGraph;
+        if ((null != graph) && (distance <= JumpGraph.MAX_RANGE)) {
+            SystemIndex index = graph.getSystemIndex();
+            int systemIndex = index.indexOf(system);
+            if (systemIndex >= 0) {
+                graph.visitNeighbours(systemIndex, distance, neighbour -> visitor.accept(index.getSystem(neighbour)));
+                return;
+            }
+        }
+
         visitNearbySystems(system.getX(), system.getY(), distance, visitor);
     }
 }
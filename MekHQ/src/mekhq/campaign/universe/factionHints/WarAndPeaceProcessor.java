@@ -82,6 +82,7 @@ public class WarAndPeaceProcessor {
 
     private final Campaign campaign;
     private final LocalDate today;
+    private final boolean isHeadless;
 
     private final Set<Faction> warStartFactions = new HashSet<>();
     private final Set<Faction> warEndFactions = new HashSet<>();
@@ -108,8 +109,21 @@ public class WarAndPeaceProcessor {
      * @since 0.50.10
      */
     public WarAndPeaceProcessor(final Campaign campaign, final boolean activeOnly) {
+        this(campaign, activeOnly, false);
+    }
+
+    /**
+     * Constructs a {@link WarAndPeaceProcessor}, collecting and processing all faction-related relationship changes for
+     * today.
+     *
+     * @param campaign   The campaign context in which to operate.
+     * @param activeOnly If {@code true}, only check whether the hint is active today not if it started today
+     * @param isHeadless If {@code true}, notifications are added to the daily report instead of shown in dialogs
+     */
+    public WarAndPeaceProcessor(final Campaign campaign, final boolean activeOnly, final boolean isHeadless) {
         this.campaign = campaign;
         this.today = campaign.getLocalDate();
+        this.isHeadless = isHeadless;
         final Faction campaignFaction = campaign.getFaction();
 
         FactionHints factionHints = FactionHints.getInstance();
@@ -166,6 +180,11 @@ public class WarAndPeaceProcessor {
             message.append("<br> - <b>").append(name).append("<b>");
         }
 
+        if (isHeadless) {
+            campaign.addReport(POLITICS, message.toString());
+            return;
+        }
+
         // We use a proxy speaker to allow us to leverage a mechanic in ImmersiveDialogSimple that shows the faction
         // icon in the event the speaker has no portrait.
         Person proxySpeaker = new Person(campaign);
@@ -32,6 +32,7 @@
  */
 package mekhq.campaign.universe.factionStanding;
 
+import static mekhq.campaign.enums.DailyReportType.POLITICS;
 import static mekhq.campaign.universe.factionStanding.FactionAccoladeLevel.*;
 import static mekhq.campaign.universe.factionStanding.FactionStandingUtilities.PIRACY_SUCCESS_INDEX_FACTION_CODE;
 import static mekhq.campaign.universe.factionStanding.FactionStandingUtilities.getFactionName;
@@ -48,7 +49,6 @@ import java.util.List;
 
 import megamek.common.enums.Gender;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.common.units.EntityMovementMode;
@@ -64,6 +64,7 @@ import mekhq.campaign.force.CombatTeam;
 import mekhq.campaign.force.FormationLevel;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.IUnitGenerator;
@@ -117,12 +118,30 @@ public class FactionAccoladeEvent {
      */
     public FactionAccoladeEvent(Campaign campaign, Faction accoladingFaction, FactionAccoladeLevel accoladeLevel,
           boolean isSameFaction) {
+        this(campaign, accoladingFaction, accoladeLevel, isSameFaction, false);
+    }
+
+    /**
+     * Creates a new {@link FactionAccoladeEvent} and applies its effects to the campaign.
+     *
+     * <p>When headless, the daily report records the accolade in place of the dialogs. The accolade is accepted
+     * without asking the player, except for an offer of adoption, which is refused so that the campaign never changes
+     * faction on its own.</p>
+     *
+     * @param campaign          the campaign receiving the accolade
+     * @param accoladingFaction the faction granting the accolade
+     * @param accoladeLevel     the type/level of accolade
+     * @param isSameFaction     whether the campaign's commander currently belongs to the awarding faction
+     * @param isHeadless        {@code true} if no dialogs may be shown
+     */
+    public FactionAccoladeEvent(Campaign campaign, Faction accoladingFaction, FactionAccoladeLevel accoladeLevel,
+          boolean isSameFaction, boolean isHeadless) {
         this.campaign = campaign;
         this.factionCode = accoladingFaction.getShortName();
 
         // This is a minor accolade level with no special effects
         if (accoladeLevel.is(TAKING_NOTICE_0) || accoladeLevel.is(TAKING_NOTICE_1)) {
-            triggerTakingNoticeNotification(campaign, accoladingFaction, accoladeLevel);
+            triggerTakingNoticeNotification(campaign, accoladingFaction, accoladeLevel, isHeadless);
             return;
         }
 
@@ -145,7 +164,14 @@ public class FactionAccoladeEvent {
         boolean accoladeWasRefused;
 
         boolean triggerNewsArticle = isTriggerNewsArticle(accoladingFaction, accoladeLevel);
-        if (triggerNewsArticle) {
+        if (isHeadless) {
+            campaign.addReport(POLITICS, getFormattedTextAt(RESOURCE_BUNDLE, "FactionAccoladeEvent.headless",
+                  getFactionName(accoladingFaction, campaign.getGameYear()), accoladeLevel.toString()));
+            if (triggerNewsArticle) {
+                return;
+            }
+            accoladeWasRefused = isAdoptionOrLance && !isSameFaction;
+        } else if (triggerNewsArticle) {
             boolean useFactionCapitalAsLocation = accoladeLevel.is(STATUE_OR_SIBKO);
             new FactionJudgmentNewsArticle(campaign, commander, null, accoladeLevel.getLookupName(),
                   accoladingFaction, FactionStandingJudgmentType.ACCOLADE, useFactionCapitalAsLocation);
@@ -188,11 +214,13 @@ public class FactionAccoladeEvent {
         }
 
         if (isAdoptionOrLance) {
-            FactionAccoladeConfirmationDialog confirmationDialog = new FactionAccoladeConfirmationDialog(campaign,
-                  accoladeLevel);
-            if (!confirmationDialog.wasConfirmed()) {
-                new FactionAccoladeEvent(campaign, accoladingFaction, accoladeLevel, isSameFaction);
-                return;
+            if (!isHeadless) {
+                FactionAccoladeConfirmationDialog confirmationDialog = new FactionAccoladeConfirmationDialog(campaign,
+                      accoladeLevel);
+                if (!confirmationDialog.wasConfirmed()) {
+                    new FactionAccoladeEvent(campaign, accoladingFaction, accoladeLevel, isSameFaction);
+                    return;
+                }
             }
 
             if (!isSameFaction && accoladeWasRefused) {
@@ -201,7 +229,11 @@ public class FactionAccoladeEvent {
                       getFactionName(accoladingFaction, campaign.getGameYear()),
                       spanOpeningWithCustomColor(getWarningColor()), CLOSING_SPAN_TAG);
 
-                new ImmersiveDialogNotification(campaign, message, false);
+                if (isHeadless) {
+                    campaign.addReport(POLITICS, message);
+                } else {
+                    new ImmersiveDialogNotification(campaign, message, false);
+                }
                 return;
             }
 
@@ -225,11 +257,15 @@ public class FactionAccoladeEvent {
     }
 
     private static void triggerTakingNoticeNotification(Campaign campaign, Faction accoladingFaction,
-          FactionAccoladeLevel accoladeLevel) {
+          FactionAccoladeLevel accoladeLevel, boolean isHeadless) {
         String factionName = FactionStandingUtilities.getFactionName(accoladingFaction, campaign.getGameYear());
         String key = "FactionJudgmentDialog.message." + accoladeLevel.name() + ".message";
         String message = getFormattedTextAt(RESOURCE_BUNDLE, key, factionName);
-        new ImmersiveDialogNotification(campaign, message, true);
+        if (isHeadless) {
+            campaign.addReport(POLITICS, message);
+        } else {
+            new ImmersiveDialogNotification(campaign, message, true);
+        }
     }
 
     /**
@@ -367,8 +403,7 @@ public class FactionAccoladeEvent {
 
             if (mekSummary != null) {
                 try {
-                    Entity entity = new MekFileParser(mekSummary.getSourceFile(),
-                          mekSummary.getEntryName()).getEntity();
+                    Entity entity = EntityTemplateCache.getInstance().getEntity(mekSummary);
 
                     if (entity != null) {
                         generatedEntities.add(entity);
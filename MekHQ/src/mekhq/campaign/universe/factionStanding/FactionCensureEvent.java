@@ -97,6 +97,7 @@ public class FactionCensureEvent {
 
     private final Campaign campaign;
     private final Faction censuringFaction;
+    private final boolean isHeadless;
     private Person commander;
     private Person secondInCommand;
 
@@ -111,8 +112,25 @@ public class FactionCensureEvent {
      * @since 0.50.07
      */
     public FactionCensureEvent(Campaign campaign, FactionCensureLevel censureLevel, Faction censuringFaction) {
+        this(campaign, censureLevel, censuringFaction, false);
+    }
+
+    /**
+     * Constructs a new {@link FactionCensureEvent} for the given campaign and censure level.
+     *
+     * <p>When headless, the censure is accepted without asking the player, as if they had chosen to obey it, and
+     * the daily report records the censure in place of the dialogs.</p>
+     *
+     * @param campaign         the campaign in which the event takes place
+     * @param censureLevel     the censure level triggering this event
+     * @param censuringFaction the {@link Faction} performing the censure
+     * @param isHeadless       {@code true} if no dialogs may be shown
+     */
+    public FactionCensureEvent(Campaign campaign, FactionCensureLevel censureLevel, Faction censuringFaction,
+          boolean isHeadless) {
         this.campaign = campaign;
         this.censuringFaction = censuringFaction;
+        this.isHeadless = isHeadless;
 
         FactionCensureAction censureAction = censureLevel.getFactionAppropriateAction(censuringFaction);
         if (censureAction == NO_ACTION) {
@@ -144,6 +162,14 @@ public class FactionCensureEvent {
                   secondInCommand.getFullName());
         }
 
+        if (isHeadless) {
+            campaign.addReport(POLITICS, getFormattedTextAt(RESOURCE_BUNDLE, "FactionCensureEvent.headless",
+                  FactionStandingUtilities.getFactionName(censuringFaction, campaign.getGameYear()),
+                  censureAction.toString()));
+            handleCensureEffects(censureAction, false);
+            return;
+        }
+
         int dialogChoice;
         boolean isGoingRogue = false;
         boolean isSeppuku = false;
@@ -278,8 +304,12 @@ public class FactionCensureEvent {
             case NO_ACTION -> {
                 return;
             }
-            case BARRED -> new FactionJudgmentSceneDialog(campaign, commander, null,
-                  FactionJudgmentSceneType.BARRED, censuringFaction);
+            case BARRED -> {
+                if (!isHeadless) {
+                    new FactionJudgmentSceneDialog(campaign, commander, null, FactionJudgmentSceneType.BARRED,
+                          censuringFaction);
+                }
+            }
             case CHATTER_WEB_DISCUSSION, LEGAL_CHALLENGE, NEWS_ARTICLE, FORMAL_WARNING ->
                   processMassLoyaltyChange(campaign, false, false);
             case CLAN_TRIAL_OF_GRIEVANCE_UNSUCCESSFUL -> processClanTrial(false);
@@ -303,8 +333,12 @@ public class FactionCensureEvent {
                     commander.changeStatus(campaign, campaign.getLocalDate(), PersonnelStatus.RETIRED);
                 }
             }
-            case DISBAND -> new FactionJudgmentSceneDialog(campaign, commander, null,
-                  FactionJudgmentSceneType.DISBAND, censuringFaction);
+            case DISBAND -> {
+                if (!isHeadless) {
+                    new FactionJudgmentSceneDialog(campaign, commander, null, FactionJudgmentSceneType.DISBAND,
+                          censuringFaction);
+                }
+            }
             case FINE, BRIBE_OFFICIALS -> {
                 Finances finances = campaign.getFinances();
 
@@ -53,7 +53,6 @@ import java.util.stream.Stream;
 
 import megamek.client.generator.RandomCallsignGenerator;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.Entity;
@@ -85,6 +84,7 @@ import mekhq.campaign.personnel.generator.AbstractPersonnelGenerator;
 import mekhq.campaign.personnel.ranks.Rank;
 import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.companyGeneration.AtBRandomMekParameters;
@@ -1014,7 +1014,7 @@ public abstract class AbstractCompanyGenerator {
         }
 
         try {
-            return new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName()).getEntity();
+            return EntityTemplateCache.getInstance().getEntity(mekSummary);
         } catch (Exception ex) {
             LOGGER.error("Failed to generate entity", ex);
             return null;
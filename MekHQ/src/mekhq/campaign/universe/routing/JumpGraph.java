@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+import mekhq.campaign.universe.Planet;
+import mekhq.campaign.universe.Planet.PlanetaryEvent;
+import mekhq.campaign.universe.PlanetarySystem;
+
+/**
+ * The neighbourhood graph of all loaded systems, in compressed sparse row layout.
+ * <p>
+ * For every system the graph stores every other system within {@link #MAX_RANGE} light years, sorted by distance, so
+ * that any radius up to that range can be answered by walking a prefix of the row instead of re-scanning the spatial
+ * grid and recomputing distances. As with {@link mekhq.campaign.universe.Systems#visitNearbySystems}, each row
+ * includes the system itself at distance zero.
+ * <p>
+ * The graph also caches which systems are populated or inhabited. Those only change on the dates of planetary events
+ * that set a population or a faction, so the cached sets are keyed by the number of such change dates on or before
+ * the queried date rather than by the date itself, and are reused until the next change date is passed.
+ */
+public class JumpGraph {
+    /**
+     * The largest radius, in light years, stored in the graph. This covers a single jump, an A-rated HPG's reach and
+     * the default two-jump planetary acquisition radius.
+     */
+    public static final double MAX_RANGE = 60.0;
+
+    private static final int FILTER_CACHE_SIZE = 16;
+
+    private final SystemIndex systemIndex;
+    private final int[] offsets;
+    private final int[] neighbours;
+    private final double[] distances;
+    private final LocalDate[] changeDates;
+
+    private final Map<Integer, BitSet> populatedSystems = createFilterCache();
+    private final Map<Integer, BitSet> inhabitedSystems = createFilterCache();
+
+    private JumpGraph(SystemIndex systemIndex, int[] offsets, int[] neighbours, double[] distances,
+          LocalDate[] changeDates) {
+        this.systemIndex = systemIndex;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.distances = distances;
+        this.changeDates = changeDates;
+    }
+
+    /**
+     * Builds the graph for the given systems. Systems without coordinates are indexed but have no neighbours.
+     *
+     * @param systems the systems to include
+     *
+     * @return the new graph
+     */
+    public static JumpGraph build(Collection<PlanetarySystem> systems) {
+        SystemIndex systemIndex = new SystemIndex(systems);
+        int size = systemIndex.size();
+
+        // Bucket the systems into MAX_RANGE-sized cells so each system only needs to check the adjacent cells
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            PlanetarySystem system = systemIndex.getSystem(i);
+            if ((null != system.getX()) && (null != system.getY())) {
+                cells.computeIfAbsent(cellKey(cellOf(system.getX()), cellOf(system.getY())),
+                      k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        int[] offsets = new int[size + 1];
+        int[] neighbours = new int[size * 16];
+        double[] distances = new double[size * 16];
+        int edges = 0;
+
+        int[] rowNeighbours = new int[64];
+        double[] rowDistances = new double[64];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = edges;
+            PlanetarySystem system = systemIndex.getSystem(i);
+            if ((null == system.getX()) || (null == system.getY())) {
+                continue;
+            }
+
+            int rowSize = 0;
+            int cellX = cellOf(system.getX());
+            int cellY = cellOf(system.getY());
+            for (int x = cellX - 1; x <= cellX + 1; x++) {
+                for (int y = cellY - 1; y <= cellY + 1; y++) {
+                    List<Integer> cell = cells.get(cellKey(x, y));
+                    if (null == cell) {
+                        continue;
+                    }
+
+                    for (int candidate : cell) {
+                        double distance = system.getDistanceTo(systemIndex.getSystem(candidate));
+                        if (distance > MAX_RANGE) {
+                            continue;
+                        }
+
+                        if (rowSize == rowNeighbours.length) {
+                            rowNeighbours = Arrays.copyOf(rowNeighbours, rowSize * 2);
+                            rowDistances = Arrays.copyOf(rowDistances, rowSize * 2);
+                        }
+
+                        // Insertion sort; rows are short and nearly every candidate is appended near the end
+                        int position = rowSize++;
+                        while ((position > 0) && (rowDistances[position - 1] > distance)) {
+                            rowNeighbours[position] = rowNeighbours[position - 1];
+                            rowDistances[position] = rowDistances[position - 1];
+                            position--;
+                        }
+                        rowNeighbours[position] = candidate;
+                        rowDistances[position] = distance;
+                    }
+                }
+            }
+
+            if (edges + rowSize > neighbours.length) {
+                int capacity = Math.max(neighbours.length * 2, edges + rowSize);
+                neighbours = Arrays.copyOf(neighbours, capacity);
+                distances = Arrays.copyOf(distances, capacity);
+            }
+            System.arraycopy(rowNeighbours, 0, neighbours, edges, rowSize);
+            System.arraycopy(rowDistances, 0, distances, edges, rowSize);
+            edges += rowSize;
+        }
+        offsets[size] = edges;
+
+        return new JumpGraph(systemIndex, offsets, Arrays.copyOf(neighbours, edges),
+              Arrays.copyOf(distances, edges), collectChangeDates(systemIndex));
+    }
+
+    private static int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / MAX_RANGE);
+    }
+
+    private static long cellKey(int x, int y) {
+        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return every date on which a planetary event changes the population or ownership of any planet, in ascending
+     *       order
+     */
+    private static LocalDate[] collectChangeDates(SystemIndex systemIndex) {
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (int i = 0; i < systemIndex.size(); i++) {
+            for (Planet planet : systemIndex.getSystem(i).getPlanets()) {
+                List<PlanetaryEvent> events = planet.getEvents();
+                if (null == events) {
+                    continue;
+                }
+
+                for (PlanetaryEvent event : events) {
+                    if ((null != event.date) && ((null != event.population) || (null != event.faction))) {
+                        dates.add(event.date);
+                    }
+                }
+            }
+        }
+        return dates.toArray(new LocalDate[0]);
+    }
+
+    private static Map<Integer, BitSet> createFilterCache() {
+        return new LinkedHashMap<>(FILTER_CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BitSet> eldest) {
+                return size() > FILTER_CACHE_SIZE;
+            }
+        };
+    }
+
+    public SystemIndex getSystemIndex() {
+        return systemIndex;
+    }
+
+    /**
+     * @return the number of systems in the graph
+     */
+    public int size() {
+        return systemIndex.size();
+    }
+
+    /**
+     * Visits every system within {@code range} light years of the given system, nearest first, including the system
+     * itself.
+     *
+     * @param system  the index of the system at the centre
+     * @param range   the search radius, no larger than {@link #MAX_RANGE}
+     * @param visitor receives the index of each system found
+     *
+     * @throws IllegalArgumentException if {@code range} is larger than {@link #MAX_RANGE}
+     */
+    public void visitNeighbours(int system, double range, IntConsumer visitor) {
+        if (range > MAX_RANGE) {
+            throw new IllegalArgumentException("Range " + range + " exceeds the jump graph range of " + MAX_RANGE);
+        }
+
+        int end = offsets[system + 1];
+        for (int edge = offsets[system]; (edge < end) && (distances[edge] <= range); edge++) {
+            visitor.accept(neighbours[edge]);
+        }
+    }
+
+    /**
+     * @param when the date to check
+     *
+     * @return the indices of all systems with a population greater than zero on the given date. The returned set is
+     *       shared and must not be modified.
+     */
+    public BitSet getPopulatedSystems(LocalDate when) {
+        synchronized (populatedSystems) {
+            return populatedSystems.computeIfAbsent(getChangeBucket(when), bucket -> {
+                BitSet result = new BitSet(size());
+                for (int i = 0; i < size(); i++) {
+                    if (systemIndex.getSystem(i).getPopulation(when) > 0) {
+                        result.set(i);
+                    }
+                }
+                return result;
+            });
+        }
+    }
+
+    /**
+     * @param when the date to check
+     *
+     * @return the indices of all systems whose primary planet is not empty on the given date. The returned set is
+     *       shared and must not be modified.
+     */
+    public BitSet getInhabitedSystems(LocalDate when) {
+        synchronized (inhabitedSystems) {
+            return inhabitedSystems.computeIfAbsent(getChangeBucket(when), bucket -> {
+                BitSet result = new BitSet(size());
+                for (int i = 0; i < size(); i++) {
+                    Planet primaryPlanet = systemIndex.getSystem(i).getPrimaryPlanet();
+                    if ((null != primaryPlanet) && !primaryPlanet.isEmpty(when)) {
+                        result.set(i);
+                    }
+                }
+                return result;
+            });
+        }
+    }
+
+    /**
+     * @return the number of population or ownership change dates on or before {@code when}. Every date with the same
+     *       bucket sees the same populated and inhabited systems.
+     */
+    int getChangeBucket(LocalDate when) {
+        int position = Arrays.binarySearch(changeDates, when);
+        return (position >= 0) ? (position + 1) : -(position + 1);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleFunction;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.JumpPath;
+import mekhq.campaign.universe.PlanetarySystem;
+
+/**
+ * A* search over a {@link JumpGraph}.
+ * <p>
+ * All working state is kept in primitive arrays indexed by the dense ids of a {@link SystemIndex}. The open list is a
+ * binary heap and the straight-line heuristic is only calculated for systems the search actually discovers, so the
+ * cost of a search is proportional to the part of the map it touches rather than to the number of loaded systems.
+ * <p>
+ * Implementation is based on:
+ * <a href="http://www.policyalmanac.org/games/aStarTutorial.htm">Policy Almanac A* Tutorial</a>
+ */
+public class JumpPathFinder {
+    /** The maximum distance, in light years, of a single jump. */
+    public static final int JUMP_RANGE = 30;
+
+    /** The maximum number of systems the search will expand before giving up. */
+    public static final int MAX_EXPANSIONS = 10000;
+
+    private final JumpGraph jumpGraph;
+
+    public JumpPathFinder(JumpGraph jumpGraph) {
+        this.jumpGraph = jumpGraph;
+    }
+
+    /**
+     * Decides whether a single jump is allowed. Systems are identified by their index in the graph's
+     * {@link SystemIndex}.
+     */
+    @FunctionalInterface
+    public interface JumpFilter {
+        /**
+         * @param from the index of the system the jump departs from
+         * @param to   the index of the system the jump arrives at
+         *
+         * @return {@code true} if the jump is allowed
+         */
+        boolean canJump(int from, int to);
+    }
+
+    /**
+     * Finds the cheapest jump path between two systems.
+     *
+     * <p>The cost of a path is the sum of the jump costs of every system the path departs from. The
+     * {@code jumpFilter} is asked about every candidate jump and can veto it, for example to avoid empty systems or
+     * systems where the campaign is outlawed.</p>
+     *
+     * @param start      the starting system
+     * @param end        the destination system
+     * @param jumpCost   the cost of departing from a system, usually its recharge time
+     * @param jumpFilter decides whether a jump between two systems is allowed
+     *
+     * @return the path from {@code start} to {@code end}. If {@code end} cannot be reached, the path leads to the last
+     *       system the search expanded. If {@code start} is {@code null} the path is empty.
+     */
+    public JumpPath findPath(@Nullable PlanetarySystem start, @Nullable PlanetarySystem end,
+          ToDoubleFunction<PlanetarySystem> jumpCost, JumpFilter jumpFilter) {
+        JumpPath jumpPath = new JumpPath();
+        if (null == start) {
+            return jumpPath;
+        }
+
+        SystemIndex index = jumpGraph.getSystemIndex();
+        int startIndex = index.indexOf(start);
+        int endIndex = index.indexOf(end);
+        if ((null == end) || (startIndex < 0) || (endIndex < 0) || (startIndex == endIndex)) {
+            jumpPath.addSystem(start);
+            return jumpPath;
+        }
+
+        int size = index.size();
+        double[] scoreG = new double[size];
+        double[] scoreH = new double[size];
+        int[] parent = new int[size];
+        boolean[] closed = new boolean[size];
+        Arrays.fill(scoreG, Double.POSITIVE_INFINITY);
+        Arrays.fill(scoreH, Double.NaN);
+        Arrays.fill(parent, -1);
+
+        OpenList open = new OpenList(64);
+        NeighbourVisitor visitor = new NeighbourVisitor(index, end, jumpFilter, scoreG, scoreH, parent, closed, open);
+
+        int current = startIndex;
+        scoreG[current] = 0.0;
+        closed[current] = true;
+
+        for (int expansions = 0; expansions < MAX_EXPANSIONS; expansions++) {
+            PlanetarySystem currentSystem = index.getSystem(current);
+            visitor.prepare(current, scoreG[current] + jumpCost.applyAsDouble(currentSystem));
+            jumpGraph.visitNeighbours(current, JUMP_RANGE, visitor);
+
+            // Discard entries for systems that were closed after being queued
+            int bestMatch = -1;
+            while (!open.isEmpty()) {
+                int candidate = open.poll();
+                if (!closed[candidate]) {
+                    bestMatch = candidate;
+                    break;
+                }
+            }
+
+            if (bestMatch < 0) {
+                break; // No path exists
+            }
+
+            current = bestMatch;
+            closed[current] = true;
+
+            if (current == endIndex) {
+                break;
+            }
+        }
+
+        return reconstructPath(index, current, parent);
+    }
+
+    private JumpPath reconstructPath(SystemIndex index, int current, int[] parent) {
+        int length = 0;
+        for (int node = current; node >= 0; node = parent[node]) {
+            length++;
+        }
+
+        PlanetarySystem[] path = new PlanetarySystem[length];
+        int position = length;
+        for (int node = current; node >= 0; node = parent[node]) {
+            path[--position] = index.getSystem(node);
+        }
+
+        JumpPath jumpPath = new JumpPath();
+        for (PlanetarySystem system : path) {
+            jumpPath.addSystem(system);
+        }
+        return jumpPath;
+    }
+
+    /**
+     * Relaxes the edges from the system currently being expanded. A single instance is reused for the whole search
+     * so that expanding a system does not allocate.
+     */
+    private static class NeighbourVisitor implements IntConsumer {
+        private final SystemIndex index;
+        private final PlanetarySystem end;
+        private final JumpFilter jumpFilter;
+        private final double[] scoreG;
+        private final double[] scoreH;
+        private final int[] parent;
+        private final boolean[] closed;
+        private final OpenList open;
+
+        private int current;
+        private double nextG;
+
+        NeighbourVisitor(SystemIndex index, PlanetarySystem end, JumpFilter jumpFilter, double[] scoreG,
+              double[] scoreH, int[] parent, boolean[] closed, OpenList open) {
+            this.index = index;
+            this.end = end;
+            this.jumpFilter = jumpFilter;
+            this.scoreG = scoreG;
+            this.scoreH = scoreH;
+            this.parent = parent;
+            this.closed = closed;
+            this.open = open;
+        }
+
+        void prepare(int current, double nextG) {
+            this.current = current;
+            this.nextG = nextG;
+        }
+
+        @Override
+        public void accept(int neighbour) {
+            if (closed[neighbour] || (nextG >= scoreG[neighbour])) {
+                return; // Already evaluated, or no better than the path we already have
+            }
+
+            if (!jumpFilter.canJump(current, neighbour)) {
+                return;
+            }
+
+            if (Double.isNaN(scoreH[neighbour])) {
+                scoreH[neighbour] = end.getDistanceTo(index.getSystem(neighbour));
+            }
+            scoreG[neighbour] = nextG;
+            parent[neighbour] = current;
+            open.push(neighbour, nextG + scoreH[neighbour]);
+        }
+    }
+}
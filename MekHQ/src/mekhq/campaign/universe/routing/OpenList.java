@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of system indices ordered by a {@code double} priority, used as the A* open list.
+ * <p>
+ * The heap does not support decrease-key. Instead, a node whose priority improves is simply pushed again and the
+ * caller discards stale entries as they are polled (for example by checking whether the node is already closed).
+ */
+class OpenList {
+    private double[] priorities;
+    private int[] nodes;
+    private int size;
+
+    OpenList(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        priorities = new double[capacity];
+        nodes = new int[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void push(int node, double priority) {
+        if (size == nodes.length) {
+            int capacity = nodes.length * 2;
+            priorities = Arrays.copyOf(priorities, capacity);
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[i] = priorities[parent];
+            nodes[i] = nodes[parent];
+            i = parent;
+        }
+        priorities[i] = priority;
+        nodes[i] = node;
+    }
+
+    /**
+     * Removes the entry with the lowest priority.
+     *
+     * @return the node of the removed entry
+     *
+     * @throws IllegalStateException if the list is empty
+     */
+    int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Open list is empty");
+        }
+
+        int result = nodes[0];
+        size--;
+        if (size > 0) {
+            double priority = priorities[size];
+            int node = nodes[size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = (i << 1) + 1;
+                int right = child + 1;
+                if ((right < size) && (priorities[right] < priorities[child])) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                priorities[i] = priorities[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            priorities[i] = priority;
+            nodes[i] = node;
+        }
+        return result;
+    }
+}
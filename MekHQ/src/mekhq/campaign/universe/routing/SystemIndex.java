@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.universe.PlanetarySystem;
+
+/**
+ * Assigns every loaded {@link PlanetarySystem} a dense integer index so that routing and other per-system
+ * calculations can keep their working state in primitive arrays instead of {@code String}-keyed maps.
+ * <p>
+ * Indices are assigned in ascending system id order, so two indices built from the same set of systems are always
+ * identical. The index is immutable; build a new one whenever the set of loaded systems changes.
+ */
+public class SystemIndex {
+    private final PlanetarySystem[] systems;
+    private final Map<String, Integer> indices;
+
+    public SystemIndex(Collection<PlanetarySystem> systems) {
+        List<PlanetarySystem> sorted = new ArrayList<>(systems.size());
+        for (PlanetarySystem system : systems) {
+            if ((null != system) && (null != system.getId())) {
+                sorted.add(system);
+            }
+        }
+        sorted.sort(Comparator.comparing(PlanetarySystem::getId));
+
+        this.systems = sorted.toArray(new PlanetarySystem[0]);
+        this.indices = new HashMap<>(this.systems.length * 2);
+        for (int i = 0; i < this.systems.length; i++) {
+            indices.put(this.systems[i].getId(), i);
+        }
+    }
+
+    /**
+     * @return the number of indexed systems; valid indices are {@code 0} to {@code size() - 1}
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @param id the system id
+     *
+     * @return the index of the system with the given id, or {@code -1} if it is not indexed
+     */
+    public int indexOf(@Nullable String id) {
+        if (null == id) {
+            return -1;
+        }
+        Integer index = indices.get(id);
+        return (null == index) ? -1 : index;
+    }
+
+    /**
+     * @param system the system
+     *
+     * @return the index of the system, or {@code -1} if it is not indexed
+     */
+    public int indexOf(@Nullable PlanetarySystem system) {
+        return (null == system) ? -1 : indexOf(system.getId());
+    }
+
+    /**
+     * @param index a value between {@code 0} and {@code size() - 1}
+     *
+     * @return the system stored at the given index
+     */
+    public PlanetarySystem getSystem(int index) {
+        return systems[index];
+    }
+}
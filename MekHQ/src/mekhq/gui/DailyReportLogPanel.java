@@ -129,6 +129,12 @@ public class DailyReportLogPanel extends JPanel {
             return;
         }
 
+        // Reports are only ever appended during a day, so only render what was added since the last refresh
+        if (!getLogText().isBlank() && text.startsWith(getLogText())) {
+            appendLog(List.of(text.substring(getLogText().length())), type);
+            return;
+        }
+
         setLogText(text);
         final Reader stringReader = new StringReader(getLogText());
         final HTMLEditorKit htmlKit = new HTMLEditorKit();
@@ -38,7 +38,6 @@ import static mekhq.campaign.personnel.medical.advancedMedicalAlternate.Canonica
 import static mekhq.campaign.personnel.medical.advancedMedicalAlternate.CanonicalDiseaseType.getAllActiveDiseases;
 
 import java.awt.*;
-import java.awt.MultipleGradientPaint.CycleMethod;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
@@ -48,29 +47,24 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Arc2D;
-import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
-import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import javax.imageio.ImageIO;
 import javax.swing.*;
-import javax.vecmath.Vector2d;
 
 import megamek.codeUtilities.MathUtility;
 import megamek.codeUtilities.ObjectUtility;
 import megamek.common.annotations.Nullable;
-import megamek.common.universe.FactionTag;
 import megamek.logging.MMLogger;
 import mekhq.MHQConstants;
 import mekhq.MekHQ;
@@ -83,6 +77,8 @@ import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.HPGLink;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.universe.SocioIndustrialData;
+import mekhq.campaign.universe.SystemKdTree;
+import mekhq.campaign.universe.SystemSnapshot;
 import mekhq.campaign.universe.Systems;
 import mekhq.campaign.universe.enums.HPGRating;
 import mekhq.campaign.universe.enums.HiringHallLevel;
@@ -99,15 +95,6 @@ import mekhq.campaign.universe.factionStanding.FactionStandings;
 public class InterstellarMapPanel extends JPanel {
     private static final MMLogger LOGGER = MMLogger.create(InterstellarMapPanel.class);
 
-    private static final Vector2d[] BASE_HEX_COORDS = {
-          new Vector2d(1.0, 0.0),
-          new Vector2d(Math.cos(Math.PI / 3.0), Math.sin(Math.PI / 3.0)),
-          new Vector2d(Math.cos(2.0 * Math.PI / 3.0), Math.sin(2.0 * Math.PI / 3.0)),
-          new Vector2d(-1.0, 0.0),
-          new Vector2d(Math.cos(4.0 * Math.PI / 3.0), Math.sin(4.0 * Math.PI / 3.0)),
-          new Vector2d(Math.cos(5.0 * Math.PI / 3.0), Math.sin(5.0 * Math.PI / 3.0))
-    };
-
     private final JLayeredPane pane;
     private final JPanel mapPanel;
     private final JViewport optionView;
@@ -150,6 +137,23 @@ public class InterstellarMapPanel extends JPanel {
     private transient double maxY;
     private transient LocalDate now;
 
+    // Spatial index for hit testing and the territory overlay, rebuilt whenever the campaign changes
+    private transient SystemKdTree systemTree;
+
+    // The territory overlay is worked out off the event dispatch thread whenever the date changes, and the visible
+    // part of it is rasterized once for each view of the map
+    private transient InterstellarMapTerritory territory;
+    private transient LocalDate pendingTerritoryDate;
+    private transient BufferedImage territoryImage;
+    private transient TerritoryImageKey territoryImageKey;
+
+    /**
+     * Everything the rasterized territory overlay depends on.
+     */
+    private record TerritoryImageKey(InterstellarMapTerritory territory, double scale, double centerX, double centerY,
+          int width, int height) {
+    }
+
     public InterstellarMapPanel(Campaign campaign, CampaignGUI view) {
         this.campaign = campaign;
         systems = this.campaign.getSystems();
@@ -465,6 +469,7 @@ public class InterstellarMapPanel extends JPanel {
                 maxX = scr2mapX(getWidth() + size * 2.0);
                 maxY = scr2mapY(-size * 2.0);
                 now = InterstellarMapPanel.this.campaign.getLocalDate();
+                final SystemSnapshot snapshot = getSnapshot();
 
                 Arc2D.Double arc = new Arc2D.Double();
 
@@ -526,96 +531,9 @@ public class InterstellarMapPanel extends JPanel {
                 }
 
                 if ((conf.scale > 1.0) && optTerritory.isSelected()) {
-                    final double HEX_SIZE = 30;
-                    final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
-
-                    AffineTransform transform = getMap2ScrTransform();
-                    Paint defaultFactionPaint = new Color(0.0f, 0.0f, 0.0f, 0.25f);
-
-                    int minX = (int) Math.floor(scr2mapX(0.0) / SPACING_X);
-                    int maxX = (int) Math.ceil(scr2mapX(getWidth()) / SPACING_X);
-                    int minY = (int) Math.floor(scr2mapY(getHeight()) / HEX_SIZE);
-                    int maxY = (int) Math.ceil(scr2mapY(0.0) / HEX_SIZE);
-
-                    Faction indFaction = Factions.getInstance().getFaction("IND");
-
-                    for (int x = minX; x <= maxX; ++x) {
-                        for (int y = minY; y <= maxY; ++y) {
-                            double coordX = x * SPACING_X;
-                            double coordY = y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
-                            GeneralPath path = new GeneralPath();
-                            setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
-
-                            Paint factionPaint = defaultFactionPaint;
-                            Set<Faction> hexFactions = new HashSet<>();
-
-                            List<PlanetarySystem> nearbySystems = Systems.getInstance()
-                                                                        .getNearbySystems(coordX,
-                                                                              coordY,
-                                                                              (int) Math.round(HEX_SIZE * 1.3));
-
-                            for (PlanetarySystem system : nearbySystems) {
-                                if (!isSystemEmpty(system) && path.contains(system.getX(), system.getY())) {
-                                    Set<Faction> factions = system.getFactionSet(now);
-                                    factions.remove(indFaction);
-                                    hexFactions.addAll(factions);
-                                }
-                            }
-
-                            if (hexFactions.isEmpty()) {
-                                for (PlanetarySystem system : nearbySystems) {
-                                    if (!isSystemEmpty(system)) {
-                                        Set<Faction> factions = system.getFactionSet(now);
-                                        hexFactions.addAll(factions);
-                                    }
-                                }
-                            }
-
-                            if (hexFactions.size() > 1) {
-                                hexFactions.remove(indFaction);
-                            }
-
-                            path.transform(transform);
-
-                            if (hexFactions.size() == 1) {
-                                // Single-faction hex
-                                Color factionColor = hexFactions.iterator().next().getColor();
-                                float[] colorComponents = new float[4];
-                                factionColor.getComponents(colorComponents);
-                                factionPaint = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                      0.25f);
-                            } else if (hexFactions.size() > 1) {
-                                // Create the painted stripes data
-                                int factionSize = hexFactions.size();
-                                Iterator<Faction> factionIterator = hexFactions.iterator();
-                                float[] colorComponents = new float[4];
-                                float[] paintFractions = new float[factionSize * 2];
-                                Color[] paintColors = new Color[factionSize * 2];
-                                for (int i = 0; i < factionSize; ++i) {
-                                    paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
-                                    paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
-                                    Color factionColor = factionIterator.next().getColor();
-                                    factionColor.getComponents(colorComponents);
-                                    factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                          0.25f);
-                                    paintColors[i * 2] = factionColor;
-                                    paintColors[i * 2 + 1] = factionColor;
-                                }
-                                paintFractions[0] = 0.0f;
-
-                                // Determine where to anchor the stripes
-                                Point2D firstPoint = new Point2D.Double(map2scrX(coordX), map2scrY(coordY));
-                                Point2D secondPoint = new Point2D.Double(
-                                      firstPoint.getX() + 6 * conf.scale,
-                                      firstPoint.getY() + 6 * conf.scale);
-                                factionPaint = new LinearGradientPaint(
-                                      firstPoint, secondPoint, paintFractions, paintColors,
-                                      CycleMethod.REPEAT);
-                            }
-
-                            g2.setPaint(factionPaint);
-                            g2.fill(path);
-                        }
+                    InterstellarMapTerritory currentTerritory = getTerritory();
+                    if (null != currentTerritory) {
+                        g2.drawImage(getTerritoryImage(currentTerritory), 0, 0, null);
                     }
                 }
 
@@ -655,7 +573,7 @@ public class InterstellarMapPanel extends JPanel {
                         if (isSystemVisible(system, true)) {
                             double x = map2scrX(system.getX());
                             double y = map2scrY(system.getY());
-                            HPGRating hpgRating = ObjectUtility.nonNull(system.getHPG(now), HPGRating.X);
+                            HPGRating hpgRating = ObjectUtility.nonNull(snapshot.getHPG(system), HPGRating.X);
                             if (hpgRating == HPGRating.A) {
                                 g2.setPaint(Color.CYAN);
                                 arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
@@ -786,7 +704,7 @@ public class InterstellarMapPanel extends JPanel {
                         // if factions are selected, then we need to do it differently, because
                         // of multiple factions per planet
                         if (isFactionsSelected()) {
-                            Set<Faction> factions = system.getFactionSet(now);
+                            Set<Faction> factions = snapshot.getFactionSet(system);
                             if ((null != factions) && !isSystemEmpty(system)) {
                                 int i = 0;
                                 for (Faction faction : factions) {
@@ -800,8 +718,7 @@ public class InterstellarMapPanel extends JPanel {
                                               360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
                                         g2.fill(arc);
                                     } else {
-                                        if (system.getHiringHallLevel(InterstellarMapPanel.this.campaign.getLocalDate()) ==
-                                                  HiringHallLevel.GREAT) {
+                                        if (snapshot.getHiringHallLevel(system) == HiringHallLevel.GREAT) {
                                             g2.setPaint(new Color(176, 196, 222));
                                             arc.setArcByCenter(x, y, size + 5, 0,
                                                   360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
@@ -973,6 +890,11 @@ public class InterstellarMapPanel extends JPanel {
     public void setCampaign(Campaign c) {
         this.campaign = c;
         this.systems = campaign.getSystems();
+        systemTree = null;
+        territory = null;
+        pendingTerritoryDate = null;
+        territoryImage = null;
+        territoryImageKey = null;
         repaint();
     }
 
@@ -1029,19 +951,6 @@ public class InterstellarMapPanel extends JPanel {
         return radioButton;
     }
 
-    private void setupHexPath(@Nullable GeneralPath path, double centerX, double centerY, double radius) {
-        if (null == path) {
-            return;
-        }
-        radius *= Math.sqrt(4.0 / 3.0);
-        path.reset();
-        path.moveTo(centerX + radius * BASE_HEX_COORDS[0].x, centerY + radius * BASE_HEX_COORDS[0].y);
-        for (int i = 1; i < 6; ++i) {
-            path.lineTo(centerX + radius * BASE_HEX_COORDS[i].x, centerY + radius * BASE_HEX_COORDS[i].y);
-        }
-        path.closePath();
-    }
-
     /**
      * Computes the map-coordinate from the screen coordinate system
      */
@@ -1079,32 +988,100 @@ public class InterstellarMapPanel extends JPanel {
     }
 
     /**
-     * Calculate the nearest neighbor for the given point If anyone has a better algorithm than this, please, feel free
-     * to exchange my brute force thing... A good idea would be a voronoi diagram and the sweep algorithm from Steven
-     * Fortune.
+     * Calculate the nearest neighbor for the given point
+     */
+    private @Nullable PlanetarySystem nearestNeighbour(double x, double y) {
+        return getSystemTree().getNearest(x, y);
+    }
+
+    private SystemKdTree getSystemTree() {
+        if (null == systemTree) {
+            systemTree = new SystemKdTree(systems);
+        }
+        return systemTree;
+    }
+
+    /**
+     * @return the territory overlay for the date being shown, or for the last date it was worked out for if the
+     *       territory for the current date is still being worked out. {@code null} if there is none yet.
      */
-    private PlanetarySystem nearestNeighbour(double x, double y) {
-        double minDiff = Double.MAX_VALUE;
-        double diff;
-        PlanetarySystem minPlanet = null;
-        for (PlanetarySystem p : systems) {
-            diff = Math.sqrt(Math.pow(x - p.getX(), 2) + Math.pow(y - p.getY(), 2));
-            if (diff < minDiff) {
-                minDiff = diff;
-                minPlanet = p;
+    private @Nullable InterstellarMapTerritory getTerritory() {
+        if (((null == territory) || !territory.getDate().equals(now)) && !now.equals(pendingTerritoryDate)) {
+            pendingTerritoryDate = now;
+            new TerritoryBuilder(getSnapshot(), getSystemTree()).execute();
+        }
+        return territory;
+    }
+
+    private BufferedImage getTerritoryImage(InterstellarMapTerritory currentTerritory) {
+        TerritoryImageKey key = new TerritoryImageKey(currentTerritory, conf.scale, conf.centerX, conf.centerY,
+              getWidth(), getHeight());
+        if ((null == territoryImage) || !key.equals(territoryImageKey)) {
+            BufferedImage image = new BufferedImage(Math.max(1, getWidth()), Math.max(1, getHeight()),
+                  BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                currentTerritory.paint(g2, getMap2ScrTransform(), conf.scale, scr2mapX(0.0), scr2mapX(getWidth()),
+                      scr2mapY(getHeight()), scr2mapY(0.0));
+            } finally {
+                g2.dispose();
             }
+            territoryImage = image;
+            territoryImageKey = key;
         }
-        return minPlanet;
+        return territoryImage;
     }
 
-    private boolean isSystemEmpty(PlanetarySystem system) {
-        Set<Faction> factions = system.getFactionSet(now);
-        if ((null == factions) || factions.isEmpty()) {
-            return true;
+    /**
+     * Works out the territory overlay in the background and shows it once done.
+     */
+    private class TerritoryBuilder extends SwingWorker<InterstellarMapTerritory, Void> {
+        private final SystemSnapshot territorySnapshot;
+        private final SystemKdTree territorySystemTree;
+
+        TerritoryBuilder(SystemSnapshot territorySnapshot, SystemKdTree territorySystemTree) {
+            this.territorySnapshot = territorySnapshot;
+            this.territorySystemTree = territorySystemTree;
         }
 
-        return factions.stream()
-                     .allMatch(faction -> faction.is(FactionTag.ABANDONED));
+        @Override
+        protected InterstellarMapTerritory doInBackground() {
+            return InterstellarMapTerritory.build(territorySnapshot, territorySystemTree);
+        }
+
+        @Override
+        protected void done() {
+            boolean isCurrent = (territorySystemTree == systemTree) &&
+                                      territorySnapshot.getDate().equals(pendingTerritoryDate);
+            try {
+                // ignore territories for dates or campaigns that are no longer shown
+                if (isCurrent) {
+                    territory = get();
+                    mapPanel.repaint();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                LOGGER.error("", ex);
+            } finally {
+                // a failed build is tried again the next time the map is painted
+                if (isCurrent) {
+                    pendingTerritoryDate = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the values of every system on the campaign's current date
+     */
+    private SystemSnapshot getSnapshot() {
+        return Systems.getInstance().getSnapshot(campaign.getLocalDate());
+    }
+
+    private boolean isSystemEmpty(PlanetarySystem system) {
+        return getSnapshot().isEmpty(system);
     }
 
     private boolean isSystemVisible(PlanetarySystem system, boolean hideEmpty) {
@@ -1169,14 +1146,15 @@ public class InterstellarMapPanel extends JPanel {
      */
     public Color getSystemColor(PlanetarySystem system) {
         // color shading is from the Viridis color palettes
-        long pop = system.getPopulation(campaign.getLocalDate());
+        SystemSnapshot currentSnapshot = Systems.getInstance().getSnapshot(campaign.getLocalDate());
+        long pop = currentSnapshot.getPopulation(system);
 
         // if no population, then just return black no matter what we asked for
         if (pop == 0L) {
             return Color.BLACK;
         }
 
-        SocioIndustrialData socio = system.getSocioIndustrial(campaign.getLocalDate());
+        SocioIndustrialData socio = currentSnapshot.getSocioIndustrial(system);
 
         if (null != socio && optTech.isSelected()) {
             return switch (socio.tech) {
@@ -1253,7 +1231,7 @@ public class InterstellarMapPanel extends JPanel {
         }
 
         if (optHPG.isSelected()) {
-            HPGRating hpg = system.getHPG(campaign.getLocalDate());
+            HPGRating hpg = currentSnapshot.getHPG(system);
             if (null == hpg) {
                 return Color.BLACK;
             }
@@ -1292,7 +1270,7 @@ public class InterstellarMapPanel extends JPanel {
         }
 
         if (optHiringHalls.isSelected()) {
-            return switch (system.getHiringHallLevel(campaign.getLocalDate())) {
+            return switch (currentSnapshot.getHiringHallLevel(system)) {
                 case QUESTIONABLE -> new Color(187, 55, 84);
                 case MINOR -> new Color(249, 140, 10);
                 case STANDARD -> new Color(253, 231, 37);
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.LinearGradientPaint;
+import java.awt.MultipleGradientPaint.CycleMethod;
+import java.awt.Paint;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Point2D;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.vecmath.Vector2d;
+
+import mekhq.campaign.universe.Faction;
+import mekhq.campaign.universe.Factions;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.SystemKdTree;
+import mekhq.campaign.universe.SystemSnapshot;
+
+/**
+ * The faction territory overlay of the {@link InterstellarMapPanel}: a grid of hexes, each tinted with the colours of
+ * the factions owning the systems in and around it.
+ * <p>
+ * Which factions a hex shows only depends on the date, so it is worked out once for every hex that has a system
+ * nearby and kept for as long as the map shows that date. Hexes without any nearby system are always shown in the
+ * default shade, so they aren't stored.
+ */
+public class InterstellarMapTerritory {
+    private static final double HEX_SIZE = 30;
+    private static final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
+    private static final int SEARCH_RADIUS = (int) Math.round(HEX_SIZE * 1.3);
+    private static final Paint DEFAULT_FACTION_PAINT = new Color(0.0f, 0.0f, 0.0f, 0.25f);
+
+    private static final Vector2d[] BASE_HEX_COORDS = {
+          new Vector2d(1.0, 0.0),
+          new Vector2d(Math.cos(Math.PI / 3.0), Math.sin(Math.PI / 3.0)),
+          new Vector2d(Math.cos(2.0 * Math.PI / 3.0), Math.sin(2.0 * Math.PI / 3.0)),
+          new Vector2d(-1.0, 0.0),
+          new Vector2d(Math.cos(4.0 * Math.PI / 3.0), Math.sin(4.0 * Math.PI / 3.0)),
+          new Vector2d(Math.cos(5.0 * Math.PI / 3.0), Math.sin(5.0 * Math.PI / 3.0))
+    };
+
+    private final LocalDate date;
+    private final Map<Long, List<Faction>> hexFactions;
+
+    private InterstellarMapTerritory(LocalDate date, Map<Long, List<Faction>> hexFactions) {
+        this.date = date;
+        this.hexFactions = hexFactions;
+    }
+
+    /**
+     * Works out the factions of every hex with a system nearby. This doesn't touch any Swing component, so it can be
+     * run off the event dispatch thread.
+     *
+     * @param snapshot   the system values on the date to show
+     * @param systemTree the systems to show
+     *
+     * @return the territory on the date of the snapshot
+     */
+    public static InterstellarMapTerritory build(SystemSnapshot snapshot, SystemKdTree systemTree) {
+        // Only hexes within the search radius of a system can have any factions
+        Set<Long> candidateHexes = new HashSet<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            PlanetarySystem system = snapshot.getSystemIndex().getSystem(i);
+            if ((null == system.getX()) || (null == system.getY())) {
+                continue;
+            }
+
+            int minX = (int) Math.floor((system.getX() - SEARCH_RADIUS) / SPACING_X);
+            int maxX = (int) Math.ceil((system.getX() + SEARCH_RADIUS) / SPACING_X);
+            int minY = (int) Math.floor((system.getY() - SEARCH_RADIUS) / HEX_SIZE) - 1;
+            int maxY = (int) Math.ceil((system.getY() + SEARCH_RADIUS) / HEX_SIZE) + 1;
+            for (int x = minX; x <= maxX; ++x) {
+                for (int y = minY; y <= maxY; ++y) {
+                    candidateHexes.add(hexKey(x, y));
+                }
+            }
+        }
+
+        Faction indFaction = Factions.getInstance().getFaction("IND");
+        Map<Long, List<Faction>> hexFactions = new HashMap<>();
+        GeneralPath path = new GeneralPath();
+        List<PlanetarySystem> nearbySystems = new ArrayList<>();
+        for (long key : candidateHexes) {
+            int x = (int) (key >> 32);
+            int y = (int) key;
+            double coordX = getHexCenterX(x);
+            double coordY = getHexCenterY(x, y);
+            setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
+
+            nearbySystems.clear();
+            systemTree.visitNearbySystems(coordX, coordY, SEARCH_RADIUS, nearbySystems::add);
+
+            Set<Faction> factions = new HashSet<>();
+            for (PlanetarySystem system : nearbySystems) {
+                if (!snapshot.isEmpty(system) && path.contains(system.getX(), system.getY())) {
+                    for (Faction faction : snapshot.getFactionSet(system)) {
+                        if (!faction.equals(indFaction)) {
+                            factions.add(faction);
+                        }
+                    }
+                }
+            }
+
+            if (factions.isEmpty()) {
+                for (PlanetarySystem system : nearbySystems) {
+                    if (!snapshot.isEmpty(system)) {
+                        factions.addAll(snapshot.getFactionSet(system));
+                    }
+                }
+            }
+
+            if (factions.size() > 1) {
+                factions.remove(indFaction);
+            }
+
+            if (!factions.isEmpty()) {
+                hexFactions.put(key, List.copyOf(factions));
+            }
+        }
+
+        return new InterstellarMapTerritory(snapshot.getDate(), hexFactions);
+    }
+
+    private static long hexKey(int x, int y) {
+        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static double getHexCenterX(int x) {
+        return x * SPACING_X;
+    }
+
+    private static double getHexCenterY(int x, int y) {
+        return y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
+    }
+
+    private static void setupHexPath(GeneralPath path, double centerX, double centerY, double radius) {
+        radius *= Math.sqrt(4.0 / 3.0);
+        path.reset();
+        path.moveTo(centerX + radius * BASE_HEX_COORDS[0].x, centerY + radius * BASE_HEX_COORDS[0].y);
+        for (int i = 1; i < 6; ++i) {
+            path.lineTo(centerX + radius * BASE_HEX_COORDS[i].x, centerY + radius * BASE_HEX_COORDS[i].y);
+        }
+        path.closePath();
+    }
+
+    /**
+     * @return the date the territory was worked out for
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @param x the column of the hex
+     * @param y the row of the hex
+     *
+     * @return the factions shown in the hex
+     */
+    public List<Faction> getFactions(int x, int y) {
+        return hexFactions.getOrDefault(hexKey(x, y), Collections.emptyList());
+    }
+
+    /**
+     * Paints every hex overlapping the given area of the map.
+     *
+     * @param g2        the graphics to paint on
+     * @param transform the transform from map to screen coordinates
+     * @param scale     the number of pixels per light year
+     * @param minMapX   the left edge of the area, in map coordinates
+     * @param maxMapX   the right edge of the area, in map coordinates
+     * @param minMapY   the bottom edge of the area, in map coordinates
+     * @param maxMapY   the top edge of the area, in map coordinates
+     */
+    public void paint(Graphics2D g2, AffineTransform transform, double scale, double minMapX, double maxMapX,
+          double minMapY, double maxMapY) {
+        int minX = (int) Math.floor(minMapX / SPACING_X);
+        int maxX = (int) Math.ceil(maxMapX / SPACING_X);
+        int minY = (int) Math.floor(minMapY / HEX_SIZE);
+        int maxY = (int) Math.ceil(maxMapY / HEX_SIZE);
+
+        GeneralPath path = new GeneralPath();
+        for (int x = minX; x <= maxX; ++x) {
+            for (int y = minY; y <= maxY; ++y) {
+                double coordX = getHexCenterX(x);
+                double coordY = getHexCenterY(x, y);
+                setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
+                path.transform(transform);
+
+                g2.setPaint(getFactionPaint(getFactions(x, y), transform, scale, coordX, coordY));
+                g2.fill(path);
+            }
+        }
+    }
+
+    private static Paint getFactionPaint(List<Faction> factions, AffineTransform transform, double scale,
+          double coordX, double coordY) {
+        if (factions.isEmpty()) {
+            return DEFAULT_FACTION_PAINT;
+        } else if (factions.size() == 1) {
+            // Single-faction hex
+            Color factionColor = factions.get(0).getColor();
+            float[] colorComponents = new float[4];
+            factionColor.getComponents(colorComponents);
+            return new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+        }
+
+        // Create the painted stripes data
+        int factionSize = factions.size();
+        float[] colorComponents = new float[4];
+        float[] paintFractions = new float[factionSize * 2];
+        Color[] paintColors = new Color[factionSize * 2];
+        for (int i = 0; i < factionSize; ++i) {
+            paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
+            paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
+            Color factionColor = factions.get(i).getColor();
+            factionColor.getComponents(colorComponents);
+            factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+            paintColors[i * 2] = factionColor;
+            paintColors[i * 2 + 1] = factionColor;
+        }
+        paintFractions[0] = 0.0f;
+
+        // Determine where to anchor the stripes
+        Point2D firstPoint = transform.transform(new Point2D.Double(coordX, coordY), null);
+        Point2D secondPoint = new Point2D.Double(firstPoint.getX() + 6 * scale, firstPoint.getY() + 6 * scale);
+        return new LinearGradientPaint(firstPoint, secondPoint, paintFractions, paintColors, CycleMethod.REPEAT);
+    }
+}
@@ -143,6 +143,7 @@ public class EditKillLogControl extends JPanel {
         if (null != kill) {
             AddOrEditKillEntryDialog dialog = new AddOrEditKillEntryDialog(parent, true, kill, campaign);
             dialog.setVisible(true);
+            campaign.updateKill(kill);
             refreshTable();
         }
     }
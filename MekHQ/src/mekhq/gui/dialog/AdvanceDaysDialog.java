@@ -51,7 +51,9 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -68,7 +70,10 @@ import megamek.common.ui.EnhancedTabbedPane;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.events.ReportEvent;
+import mekhq.campaign.newDay.DailyReportSink;
+import mekhq.campaign.newDay.DayAdvancer;
 import mekhq.gui.CampaignGUI;
 import mekhq.gui.CommandCenterTab;
 import mekhq.gui.DailyReportLogPanel;
@@ -446,96 +451,8 @@ public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
         }
 
         setRunning(true);
-        boolean firstDay = true;
-        final List<String> generalReports = new ArrayList<>();
-        final List<String> skillReports = new ArrayList<>();
-        final List<String> battleReports = new ArrayList<>();
-        final List<String> politicsReports = new ArrayList<>();
-        final List<String> personnelReports = new ArrayList<>();
-        final List<String> medicalReports = new ArrayList<>();
-        final List<String> financesReports = new ArrayList<>();
-        final List<String> acquisitionsReports = new ArrayList<>();
-        final List<String> technicalReports = new ArrayList<>();
-        Campaign campaign = getGUI().getCampaign();
-        for (; days > 0; days--) {
-            try {
-                if (!campaign.newDay()) {
-                    break;
-                }
-
-                final String generalReport = campaign.getCurrentReportHTML();
-                final String skillReport = campaign.getSkillReportHTML();
-                final String battleReport = campaign.getBattleReportHTML();
-                final String politicsReport = campaign.getPoliticsReportHTML();
-                final String personnelReport = campaign.getPersonnelReportHTML();
-                final String medicalReport = campaign.getMedicalReportHTML();
-                final String financesReport = campaign.getFinancesReportHTML();
-                final String acquisitionsReport = campaign.getAcquisitionsReportHTML();
-                final String technicalReport = campaign.getTechnicalReportHTML();
-                if (firstDay) {
-                    getDailyLogPanel().refreshLog(generalReport, GENERAL);
-                    getSkillLogPanel().refreshLog(skillReport, SKILL_CHECKS);
-                    getBattleLogPanel().refreshLog(battleReport, BATTLE);
-                    getPoliticsLogPanel().refreshLog(politicsReport, POLITICS);
-                    getPersonnelLogPanel().refreshLog(personnelReport, PERSONNEL);
-                    getMedicalLogPanel().refreshLog(medicalReport, MEDICAL);
-                    getFinancesLogPanel().refreshLog(financesReport, ACQUISITIONS);
-                    getAcquisitionsLogPanel().refreshLog(acquisitionsReport, ACQUISITIONS);
-                    getTechnicalLogPanel().refreshLog(technicalReport, TECHNICAL);
-                    firstDay = false;
-                } else {
-                    generalReports.add("<hr>");
-                    generalReports.add(generalReport);
-
-                    skillReports.add("<hr>");
-                    skillReports.add(skillReport);
-
-                    battleReports.add("<hr>");
-                    battleReports.add(battleReport);
-
-                    politicsReports.add("<hr>");
-                    politicsReports.add(politicsReport);
-
-                    personnelReports.add("<hr>");
-                    personnelReports.add(personnelReport);
-
-                    medicalReports.add("<hr>");
-                    medicalReports.add(medicalReport);
-
-                    financesReports.add("<hr>");
-                    financesReports.add(financesReport);
-
-                    acquisitionsReports.add("<hr>");
-                    acquisitionsReports.add(acquisitionsReport);
-
-                    technicalReports.add("<hr>");
-                    technicalReports.add(technicalReport);
-                }
-                generalReports.addAll(campaign.fetchAndClearNewReports());
-                skillReports.addAll(campaign.fetchAndClearNewSkillReports());
-                battleReports.addAll(campaign.fetchAndClearNewBattleReports());
-                politicsReports.addAll(campaign.fetchAndClearNewPoliticsReports());
-                personnelReports.addAll(campaign.fetchAndClearNewPersonnelReports());
-                medicalReports.addAll(campaign.fetchAndClearNewMedicalReports());
-                financesReports.addAll(campaign.fetchAndClearNewFinancesReports());
-                acquisitionsReports.addAll(campaign.fetchAndClearNewAcquisitionsReports());
-                technicalReports.addAll(campaign.fetchAndClearNewTechnicalReports());
-            } catch (Exception ex) {
-                LOGGER.error("", ex);
-                break;
-            }
-        }
-
+        days -= new DayAdvancer(getGUI().getCampaign()).advanceDays(days, new LogPanelReportSink());
         setRunning(false);
-        getDailyLogPanel().appendLog(generalReports, GENERAL);
-        getSkillLogPanel().appendLog(skillReports, SKILL_CHECKS);
-        getBattleLogPanel().appendLog(battleReports, BATTLE);
-        getPoliticsLogPanel().appendLog(politicsReports, POLITICS);
-        getPersonnelLogPanel().appendLog(personnelReports, PERSONNEL);
-        getMedicalLogPanel().appendLog(medicalReports, MEDICAL);
-        getFinancesLogPanel().appendLog(financesReports, FINANCES);
-        getAcquisitionsLogPanel().appendLog(acquisitionsReports, ACQUISITIONS);
-        getTechnicalLogPanel().appendLog(technicalReports, TECHNICAL);
 
         // We couldn't advance all days for some reason,
         // set the spinner to the number of remaining days
@@ -548,6 +465,49 @@ public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
         getGUI().refreshAllTabs();
     }
 
+    private DailyReportLogPanel getLogPanel(final DailyReportType type) {
+        return switch (type) {
+            case GENERAL -> getDailyLogPanel();
+            case BATTLE -> getBattleLogPanel();
+            case PERSONNEL -> getPersonnelLogPanel();
+            case MEDICAL -> getMedicalLogPanel();
+            case FINANCES -> getFinancesLogPanel();
+            case ACQUISITIONS -> getAcquisitionsLogPanel();
+            case TECHNICAL -> getTechnicalLogPanel();
+            case POLITICS -> getPoliticsLogPanel();
+            case SKILL_CHECKS -> getSkillLogPanel();
+        };
+    }
+
+    /**
+     * Shows the reports of the first day advanced straight away, and buffers those of every following day until
+     * advancing stops, so the log panels are only updated once.
+     */
+    private class LogPanelReportSink implements DailyReportSink {
+        private final Map<DailyReportType, List<String>> reports = new EnumMap<>(DailyReportType.class);
+
+        @Override
+        public void addDay(final DailyReportType type, final String dayReport, final List<String> newReports) {
+            List<String> buffered = reports.get(type);
+            if (buffered == null) {
+                getLogPanel(type).refreshLog(dayReport, type);
+                buffered = new ArrayList<>();
+                reports.put(type, buffered);
+            } else {
+                buffered.add("<hr>");
+                buffered.add(dayReport);
+            }
+            buffered.addAll(newReports);
+        }
+
+        @Override
+        public void finish() {
+            for (Map.Entry<DailyReportType, List<String>> entry : reports.entrySet()) {
+                getLogPanel(entry.getKey()).appendLog(entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
     @Subscribe(priority = 1)
     public void reportOverride(final ReportEvent evt) {
         if (isRunning()) {
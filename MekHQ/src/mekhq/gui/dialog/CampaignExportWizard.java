@@ -564,7 +564,10 @@ public class CampaignExportWizard extends JDialog {
             destinationCampaign.getPerson(person.getId())
                   .resetMinutesLeft(destinationCampaign.getCampaignOptions().isTechsUseAdministration());
 
-            for (Kill kill : sourceCampaign.getKillsFor(person.getId())) {
+            for (Kill sourceKill : sourceCampaign.getKillsFor(person.getId())) {
+                // export a copy, as the source campaign's kill ledger still indexes the original by its IDs
+                Kill kill = sourceKill.clone();
+
                 // we don't preserve IDs to avoid conflicts with the destination campaign
                 kill.setScenarioId(0);
                 kill.setMissionId(0);
@@ -38,12 +38,17 @@ import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.text.DecimalFormat;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -54,8 +59,8 @@ import megamek.client.ui.entityreadout.EntityReadout;
 import megamek.client.ui.preferences.JWindowPreference;
 import megamek.client.ui.preferences.PreferencesNode;
 import megamek.codeUtilities.StringUtility;
+import megamek.common.annotations.Nullable;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
@@ -63,6 +68,7 @@ import mekhq.MekHQ;
 import mekhq.Utilities;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.parts.Refit;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.gui.utilities.JScrollPaneWithSpeed;
 
@@ -87,6 +93,10 @@ public class ChooseRefitDialog extends JDialog {
 
     private boolean confirmed = false;
     private boolean customize = false;
+
+    private RefitLoader refitLoader;
+    private final Deque<Entity> pendingRefitEntities = new ArrayDeque<>();
+    private boolean isRefitEvaluationScheduled = false;
     // endregion Variable Declarations
 
     // region Constructors
@@ -96,16 +106,23 @@ public class ChooseRefitDialog extends JDialog {
         super(parent, modal);
         campaign = c;
         this.unit = unit;
-        populateRefits();
+        refitModel = new RefitTableModel(new ArrayList<>());
         initComponents();
         setLocationRelativeTo(parent);
         setUserPreferences();
+        populateRefits();
     }
     // endregion Constructors
 
     // region Initialization
     private void initComponents() {
         setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent evt) {
+                stopLoadingRefits();
+            }
+        });
         final ResourceBundle resourceMap = ResourceBundle.getBundle("mekhq.resources.ChooseRefitDialog",
               MekHQ.getMHQOptions().getLocale());
 
@@ -236,16 +253,19 @@ public class ChooseRefitDialog extends JDialog {
     private void confirmRefit() {
         confirmed = getSelectedRefit() != null;
         customize = false;
+        stopLoadingRefits();
         setVisible(false);
     }
 
     private void confirmCustomize() {
         confirmed = getSelectedRefit() != null;
         customize = true;
+        stopLoadingRefits();
         setVisible(false);
     }
 
     private void cancel() {
+        stopLoadingRefits();
         setVisible(false);
     }
 
@@ -285,26 +305,101 @@ public class ChooseRefitDialog extends JDialog {
         SwingUtilities.invokeLater(() -> scrNewUnit.getVerticalScrollBar().setValue(0));
     }
 
+    /**
+     * Starts looking for the variants the unit can be refit to. The variants are found and loaded in the background,
+     * and each one is added to the table once its refit has been worked out.
+     */
     private void populateRefits() {
-        List<Refit> refits = new ArrayList<>();
-        Entity e = unit.getEntity();
-        String chassis = e.getFullChassis();
-        for (String model : Utilities.getAllVariants(e, campaign)) {
+        refitLoader = new RefitLoader();
+        refitLoader.execute();
+    }
+
+    private void stopLoadingRefits() {
+        if (null != refitLoader) {
+            // Don't interrupt the loader, as that would also cancel the shared tech progression it may be waiting on
+            refitLoader.cancel(false);
+        }
+        pendingRefitEntities.clear();
+    }
+
+    /**
+     * Works out the refit to the next loaded variant, then schedules the one after it. Only one refit is worked out
+     * at a time, and on the event dispatch thread, since working out a refit temporarily changes the unit being refit.
+     */
+    private void evaluateNextRefit() {
+        isRefitEvaluationScheduled = false;
+        Entity refitEn = pendingRefitEntities.poll();
+        if (null == refitEn) {
+            return;
+        }
+
+        Refit r = new Refit(unit, refitEn, false, false, false);
+        if (null == r.checkFixable()) {
+            refitModel.addRefit(r);
+        }
+        scheduleRefitEvaluation();
+    }
+
+    private void scheduleRefitEvaluation() {
+        if (!isRefitEvaluationScheduled && !pendingRefitEntities.isEmpty()) {
+            isRefitEvaluationScheduled = true;
+            SwingUtilities.invokeLater(this::evaluateNextRefit);
+        }
+    }
+
+    /**
+     * Finds the variants of the unit and loads them in parallel, handing each one to the dialog as soon as it is
+     * loaded.
+     */
+    private class RefitLoader extends SwingWorker<Void, Entity> {
+        @Override
+        protected Void doInBackground() {
+            Entity e = unit.getEntity();
+            String chassis = e.getFullChassis();
+            Utilities.getAllVariants(e, campaign).parallelStream().forEach(model -> {
+                if (!isCancelled()) {
+                    Entity refitEn = loadVariant(chassis, model);
+                    if (null != refitEn) {
+                        publish(refitEn);
+                    }
+                }
+            });
+            return null;
+        }
+
+        private @Nullable Entity loadVariant(String chassis, String model) {
             model = StringUtility.isNullOrBlank(model) ? "" : " " + model;
             try {
                 MekSummary summary = Utilities.retrieveUnit(chassis + model);
-                Entity refitEn = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
-                if (null != refitEn) {
-                    Refit r = new Refit(unit, refitEn, false, false, false);
-                    if (null == r.checkFixable()) {
-                        refits.add(r);
-                    }
-                }
+                return EntityTemplateCache.getInstance().getEntity(summary);
             } catch (EntityLoadingException ex) {
                 logger.error("", ex);
+                return null;
+            }
+        }
+
+        @Override
+        protected void process(List<Entity> entities) {
+            if (!isCancelled()) {
+                pendingRefitEntities.addAll(entities);
+                scheduleRefitEvaluation();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+
+            try {
+                get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                logger.error("Failed to find the variants of {}", unit.getName(), ex.getCause());
             }
         }
-        refitModel = new RefitTableModel(refits);
     }
 
     /**
@@ -417,6 +512,14 @@ public class ChooseRefitDialog extends JDialog {
             return null;
         }
 
+        /**
+         * Adds a refit to the end of the table.
+         */
+        public void addRefit(Refit refit) {
+            data.add(refit);
+            fireTableRowsInserted(data.size() - 1, data.size() - 1);
+        }
+
         // fill table with values
         public void setData(ArrayList<Refit> refits) {
             data = refits;
@@ -32,7 +32,17 @@
  */
 package mekhq.gui.dialog;
 
-import static java.util.Arrays.sort;
+import static mekhq.MHQDataLoader.STAGE_CURRENCIES;
+import static mekhq.MHQDataLoader.STAGE_ERAS;
+import static mekhq.MHQDataLoader.STAGE_FACTIONS;
+import static mekhq.MHQDataLoader.STAGE_FINANCIAL_INSTITUTIONS;
+import static mekhq.MHQDataLoader.STAGE_INJURY_TYPES;
+import static mekhq.MHQDataLoader.STAGE_NAMES;
+import static mekhq.MHQDataLoader.STAGE_RANKS;
+import static mekhq.MHQDataLoader.STAGE_SCENARIO_MODIFIERS;
+import static mekhq.MHQDataLoader.STAGE_SKILLS;
+import static mekhq.MHQDataLoader.STAGE_SPECIAL_ABILITIES;
+import static mekhq.MHQDataLoader.STAGE_SYSTEMS;
 import static mekhq.campaign.enums.DailyReportType.POLITICS;
 import static mekhq.gui.campaignOptions.CampaignOptionsDialog.CampaignOptionsDialogMode.STARTUP;
 import static mekhq.gui.campaignOptions.CampaignOptionsDialog.CampaignOptionsDialogMode.STARTUP_ABRIDGED;
@@ -56,18 +66,15 @@ import javax.swing.JProgressBar;
 import javax.swing.SwingWorker;
 
 import megamek.Version;
-import megamek.client.generator.RandomCallsignGenerator;
-import megamek.client.generator.RandomNameGenerator;
 import megamek.client.ui.util.UIUtil;
 import megamek.client.ui.widget.RawImagePanel;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
 import mekhq.CampaignPreset;
 import mekhq.MHQConstants;
-import mekhq.MHQStaticDirectoryManager;
+import mekhq.MHQDataLoader;
 import mekhq.MekHQ;
 import mekhq.NullEntityException;
 import mekhq.campaign.Campaign;
@@ -76,29 +83,18 @@ import mekhq.campaign.CampaignFactory;
 import mekhq.campaign.camOpsReputation.ReputationController;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.events.OptionsChangedEvent;
-import mekhq.campaign.finances.CurrencyManager;
-import mekhq.campaign.finances.financialInstitutions.FinancialInstitutions;
 import mekhq.campaign.market.enums.ContractMarketMethod;
-import mekhq.campaign.mission.atb.AtBScenarioModifier;
-import mekhq.campaign.personnel.Bloodname;
-import mekhq.campaign.personnel.SpecialAbility;
-import mekhq.campaign.personnel.backgrounds.RandomCompanyNameGenerator;
-import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
-import mekhq.campaign.personnel.ranks.Ranks;
-import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.storyArc.StoryArc;
 import mekhq.campaign.storyArc.StoryArcStub;
 import mekhq.campaign.unit.Unit;
-import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.Planet;
-import mekhq.campaign.universe.Systems;
-import mekhq.campaign.universe.eras.Eras;
 import mekhq.campaign.universe.factionHints.WarAndPeaceProcessor;
 import mekhq.campaign.universe.factionStanding.FactionStandings;
 import mekhq.gui.baseComponents.AbstractMHQDialogBasic;
 import mekhq.gui.campaignOptions.CampaignOptionsDialog;
 import mekhq.gui.campaignOptions.CampaignOptionsDialog.CampaignOptionsDialogMode;
 import mekhq.gui.campaignOptions.CampaignOptionsPresetPicker;
+import mekhq.utilities.LoadingTaskGraph;
 
 public class DataLoadingDialog extends AbstractMHQDialogBasic implements PropertyChangeListener {
     private static final MMLogger LOGGER = MMLogger.create(DataLoadingDialog.class);
@@ -113,7 +109,6 @@ public class DataLoadingDialog extends AbstractMHQDialogBasic implements Propert
     private final boolean isInAppNewCampaign;
 
     private final LocalDate DEFAULT_START_DATE = LocalDate.of(3051, 1, 1);
-
     // endregion Variable Declarations
 
     // region Constructors
@@ -220,9 +215,6 @@ public class DataLoadingDialog extends AbstractMHQDialogBasic implements Propert
             case 3:
                 progressBar.setString(resources.getString("loadingPlanetaryData.text"));
                 break;
-            case 4:
-                progressBar.setString(resources.getString("loadingImageData.text"));
-                break;
             case 5:
                 progressBar.setString(resources.getString("loadingUnits.text"));
                 break;
@@ -263,7 +255,6 @@ public class DataLoadingDialog extends AbstractMHQDialogBasic implements Propert
          *     <li>Factions</li>
          *     <li>Names</li>
          *     <li>Planetary Systems</li>
-         *     <li>Portraits, Camouflage, Mek Tileset, Force Icons, Awards</li>
          *     <li>Units</li>
          *     <li>New Campaign / Campaign Loading</li>
          *     <li>Campaign Application</li>
@@ -275,52 +266,40 @@ public class DataLoadingDialog extends AbstractMHQDialogBasic implements Propert
          */
         @Override
         public Campaign doInBackground() throws Exception {
-            // region progress 0
-            setProgress(0);
-            CurrencyManager.getInstance().loadCurrencies();
-            Eras.initializeEras();
-            FinancialInstitutions.initializeFinancialInstitutions();
-            InjuryTypes.registerAll(); // TODO : Isolate into an actual module
-            Ranks.initializeRankSystems();
-            SkillType.initializeTypes();
-            sort(SkillType.getSkillList()); // sort all skills alphabetically
-            SpecialAbility.initializeSPA(false);
-            AtBScenarioModifier.initializeScenarioModifiers(false);
-            // endregion Progress 0
-
-            // region progress 1
-            setProgress(1);
-            Factions.setInstance(Factions.loadDefault(false));
-            // endregion Progress 1
-
-            // region progress 2
-            setProgress(2);
-            RandomNameGenerator.getInstance();
-            RandomCallsignGenerator.getInstance();
-            RandomCompanyNameGenerator.getInstance();
-            Bloodname.loadBloodnameData();
-            // endregion Progress 2
-
-            // region progress 3
-            setProgress(3);
-            Systems.setInstance(Systems.loadDefault());
-            // endregion Progress 3
-
-            // region progress 4
-            setProgress(4);
-            MHQStaticDirectoryManager.initialize();
-            // endregion Progress 4
-
-            // region progress 5
-            setProgress(5);
-            while (!MekSummaryCache.getInstance().isInitialized()) {
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException ignored) {
-
-                }
+            // Independent loaders run concurrently; each region below only waits for the stages it reports on.
+            // Bloodnames, news, portraits and the other image directories are loaded lazily on first use instead.
+            final long loadingStart = System.nanoTime();
+            try (LoadingTaskGraph loaders = MHQDataLoader.startLoading()) {
+                // region progress 0
+                setProgress(0);
+                loaders.await(STAGE_CURRENCIES, STAGE_ERAS, STAGE_FINANCIAL_INSTITUTIONS, STAGE_INJURY_TYPES,
+                      STAGE_RANKS, STAGE_SKILLS, STAGE_SPECIAL_ABILITIES, STAGE_SCENARIO_MODIFIERS);
+                // endregion Progress 0
+
+                // region progress 1
+                setProgress(1);
+                loaders.await(STAGE_FACTIONS);
+                // endregion Progress 1
+
+                // region progress 2
+                setProgress(2);
+                loaders.await(STAGE_NAMES);
+                // endregion Progress 2
+
+                // region progress 3
+                setProgress(3);
+                loaders.await(STAGE_SYSTEMS);
+                // endregion Progress 3
+
+                // region progress 5
+                setProgress(5);
+                MHQDataLoader.awaitMekSummaryCache();
+                // endregion Progress 5
+
+                loaders.awaitAll();
+                LOGGER.info("Loaded base data in {} ms, stage timings (ms): {}",
+                      (System.nanoTime() - loadingStart) / 1_000_000L, loaders.getTimings());
             }
-            // endregion Progress 5
 
             setProgress(6);
             final Campaign campaign;
@@ -67,7 +67,6 @@ import megamek.common.Messages;
 import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
 import megamek.common.enums.Gender;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.common.units.EntityWeightClass;
@@ -81,6 +80,7 @@ import mekhq.campaign.personnel.Bloodname;
 import mekhq.campaign.personnel.Clan;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.Phenotype;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Factions;
 import mekhq.gui.CampaignGUI;
@@ -1542,7 +1542,7 @@ public class GMToolsDialog extends AbstractMHQDialogBasic {
         }
 
         try {
-            final Entity entity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            final Entity entity = EntityTemplateCache.getInstance().getEntity(summary);
             getLblUnitPicked().setText(String.format("<html><a href='ENTITY'>%s</html>", summary.getName()));
             return entity;
         } catch (Exception ex) {
@@ -179,6 +179,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
     private JRadioButton optionSaveYearly;
     private JCheckBox checkSaveBeforeScenarios;
     private JCheckBox checkSaveBeforeContractEnd;
+    private JCheckBox checkSaveInBackground;
     private JSpinner spinnerSavedGamesCount;
     // endregion Autosave
 
@@ -249,6 +250,8 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
     private JSpinner spnStartGameBotClientDelay;
     private JSpinner spnStartGameBotClientRetryCount;
     private MMComboBox<CompanyGenerationMethod> comboDefaultCompanyGenerationMethod;
+    private JCheckBox optionUsePlanetarySystemCache;
+    private JCheckBox optionUseTechProgressionCache;
     // endregion Miscellaneous
     // endregion Variable Declarations
 
@@ -907,6 +910,9 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
 
         checkSaveBeforeContractEnd = new JCheckBox(resources.getString("checkSaveBeforeMissionEnd.text"));
 
+        checkSaveInBackground = new JCheckBox(resources.getString("checkSaveInBackground.text"));
+        checkSaveInBackground.setToolTipText(resources.getString("checkSaveInBackground.toolTipText"));
+
         JLabel labelSavedGamesCount = new JLabel(resources.getString("labelSavedGamesCount.text"));
         spinnerSavedGamesCount = new JSpinner(new SpinnerNumberModel(1, 1, 10, 1));
         labelSavedGamesCount.setLabelFor(spinnerSavedGamesCount);
@@ -927,6 +933,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                       .addComponent(optionSaveYearly)
                                       .addComponent(checkSaveBeforeScenarios)
                                       .addComponent(checkSaveBeforeContractEnd)
+                                      .addComponent(checkSaveInBackground)
                                       .addGroup(layout.createParallelGroup(Alignment.LEADING)
                                                       .addComponent(labelSavedGamesCount)
                                                       .addComponent(spinnerSavedGamesCount,
@@ -942,6 +949,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                         .addComponent(optionSaveYearly)
                                         .addComponent(checkSaveBeforeScenarios)
                                         .addComponent(checkSaveBeforeContractEnd)
+                                        .addComponent(checkSaveInBackground)
                                         .addGroup(layout.createSequentialGroup()
                                                         .addComponent(labelSavedGamesCount)
                                                         .addComponent(spinnerSavedGamesCount)));
@@ -1439,6 +1447,16 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
             }
         });
 
+        optionUsePlanetarySystemCache = new JCheckBox(resources.getString("optionUsePlanetarySystemCache.text"));
+        optionUsePlanetarySystemCache.setToolTipText(resources.getString(
+              "optionUsePlanetarySystemCache.toolTipText"));
+        optionUsePlanetarySystemCache.setName("optionUsePlanetarySystemCache");
+
+        optionUseTechProgressionCache = new JCheckBox(resources.getString("optionUseTechProgressionCache.text"));
+        optionUseTechProgressionCache.setToolTipText(resources.getString(
+              "optionUseTechProgressionCache.toolTipText"));
+        optionUseTechProgressionCache.setName("optionUseTechProgressionCache");
+
         // Layout the UI
         JPanel body = new JPanel();
         GroupLayout layout = new GroupLayout(body);
@@ -1488,7 +1506,9 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                                             40))
                                       .addGroup(layout.createParallelGroup(Alignment.BASELINE)
                                                       .addComponent(lblDefaultCompanyGenerationMethod)
-                                                      .addComponent(comboDefaultCompanyGenerationMethod)));
+                                                      .addComponent(comboDefaultCompanyGenerationMethod))
+                                      .addComponent(optionUsePlanetarySystemCache)
+                                      .addComponent(optionUseTechProgressionCache));
 
         layout.setHorizontalGroup(layout.createParallelGroup(Alignment.LEADING)
                                         .addGroup(layout.createSequentialGroup()
@@ -1513,7 +1533,9 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
                                                         .addComponent(spnStartGameBotClientRetryCount))
                                         .addGroup(layout.createSequentialGroup()
                                                         .addComponent(lblDefaultCompanyGenerationMethod)
-                                                        .addComponent(comboDefaultCompanyGenerationMethod)));
+                                                        .addComponent(comboDefaultCompanyGenerationMethod))
+                                        .addComponent(optionUsePlanetarySystemCache)
+                                        .addComponent(optionUseTechProgressionCache));
 
         return body;
     }
@@ -1623,6 +1645,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         options.setAutosaveYearlyValue(optionSaveYearly.isSelected());
         options.setAutosaveBeforeScenariosValue(checkSaveBeforeScenarios.isSelected());
         options.setAutosaveBeforeMissionEndValue(checkSaveBeforeContractEnd.isSelected());
+        options.setAutosaveInBackgroundValue(checkSaveInBackground.isSelected());
         options.setMaximumNumberOfAutoSavesValue((Integer) spinnerSavedGamesCount.getValue());
 
         options.setNewDayAsTechPoolFill(chkNewDayAsTechPoolFill.isSelected());
@@ -1722,6 +1745,8 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         options.setStartGameBotClientRetryCount((Integer) spnStartGameBotClientRetryCount.getValue());
         options
               .setDefaultCompanyGenerationMethod(Objects.requireNonNull(comboDefaultCompanyGenerationMethod.getSelectedItem()));
+        options.setUsePlanetarySystemCache(optionUsePlanetarySystemCache.isSelected());
+        options.setUseTechProgressionCache(optionUseTechProgressionCache.isSelected());
 
         MekHQ.triggerEvent(new MHQOptionsChangedEvent());
     }
@@ -1826,6 +1851,7 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         optionSaveYearly.setSelected(options.getAutosaveYearlyValue());
         checkSaveBeforeScenarios.setSelected(options.getAutosaveBeforeScenariosValue());
         checkSaveBeforeContractEnd.setSelected(options.getAutosaveBeforeMissionEndValue());
+        checkSaveInBackground.setSelected(options.getAutosaveInBackgroundValue());
         spinnerSavedGamesCount.setValue(options.getMaximumNumberOfAutoSavesValue());
 
         chkNewDayAsTechPoolFill.setSelected(options.getNewDayAsTechPoolFill());
@@ -1915,6 +1941,8 @@ public class MHQOptionsDialog extends AbstractMHQButtonDialog {
         spnStartGameBotClientDelay.setValue(options.getStartGameBotClientDelay());
         spnStartGameBotClientRetryCount.setValue(options.getStartGameBotClientRetryCount());
         comboDefaultCompanyGenerationMethod.setSelectedItem(options.getDefaultCompanyGenerationMethod());
+        optionUsePlanetarySystemCache.setSelected(options.getUsePlanetarySystemCache());
+        optionUseTechProgressionCache.setSelected(options.getUseTechProgressionCache());
     }
 
     // region Data Validation
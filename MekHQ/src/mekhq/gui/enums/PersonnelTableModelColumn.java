@@ -1004,7 +1004,7 @@ public enum PersonnelTableModelColumn {
                     return Integer.toString(person.getHits());
                 }
             case KILLS:
-                return Integer.toString(campaign.getKillsFor(person.getId()).size());
+                return Integer.toString(campaign.getKillCount(person.getId()));
             case SALARY:
                 return person.getSalary(campaign).toAmountAndSymbolString();
             case XP:
@@ -518,7 +518,7 @@ public class PersonViewPanel extends JScrollablePanel {
             gridY++;
         }
 
-        if (!campaign.getKillsFor(person.getId()).isEmpty()) {
+        if (campaign.getKillCount(person.getId()) > 0) {
             JPanel pnlKillsHeader = new JPanel();
             pnlKillsHeader.setName("killsHeader");
             pnlKillsHeader.setBorder(RoundedLineBorder.createRoundedLineBorder(resourceMap.getString(
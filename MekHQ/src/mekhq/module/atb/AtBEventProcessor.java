@@ -46,7 +46,6 @@ import megamek.codeUtilities.ObjectUtility;
 import megamek.common.compute.Compute;
 import megamek.common.event.Subscribe;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
@@ -66,6 +65,7 @@ import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.personnel.skills.SkillModifierData;
 import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.unit.EntityTemplateCache;
 import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.IUnitGenerator;
@@ -243,7 +243,7 @@ public record AtBEventProcessor(Campaign campaign) {
                 LOGGER.info("looking for Clan infantry {}", name);
             }
             try {
-                en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                en = EntityTemplateCache.getInstance().getEntity(ms);
             } catch (EntityLoadingException ex) {
                 en = null;
                 LOGGER.error("Unable to load entity: {}: {}: {}",
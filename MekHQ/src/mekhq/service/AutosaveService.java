@@ -32,12 +32,19 @@
  */
 package mekhq.service;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -45,6 +52,15 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
@@ -58,12 +74,43 @@ import mekhq.campaign.Campaign;
 public class AutosaveService implements IAutosaveService {
     private static final MMLogger LOGGER = MMLogger.create(AutosaveService.class);
 
+    private static final String TEMPORARY_FILE_PREFIX = ".";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    /** How many captured autosaves may wait for the writer thread before the oldest of them is dropped */
+    private static final int MAXIMUM_QUEUED_AUTOSAVES = 2;
+    private static final long PENDING_AUTOSAVE_TIMEOUT_SECONDS = 120;
+
+    /**
+     * Compresses and writes background autosaves, one at a time and in the order they were captured. This is shared
+     * by every service, as there is only ever one campaign open at a time. When the queue is full, the oldest waiting
+     * autosave is dropped to make room, which bounds the memory held by captured campaigns without ever writing an
+     * older autosave after a newer one.
+     */
+    private static final ThreadPoolExecutor BACKGROUND_WRITER = createBackgroundWriter();
+    /** Held while choosing an autosave file name and writing the file, so two autosaves never claim the same name */
+    private static final Object FILE_LOCK = new Object();
+    private static volatile @Nullable Future<?> lastBackgroundAutosave;
+    /** The size of the last captured campaign, used to size the buffer of the next capture */
+    private static volatile int lastCapturedSize = WRITE_BUFFER_SIZE;
+
     // region Constructors
     public AutosaveService() {
 
     }
     // endregion Constructors
 
+    private static ThreadPoolExecutor createBackgroundWriter() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(MAXIMUM_QUEUED_AUTOSAVES), runnable -> {
+            Thread thread = new Thread(runnable, "Autosave Writer");
+            thread.setDaemon(true);
+            return thread;
+        }, new DiscardOldestAutosavePolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Override
     public void requestDayAdvanceAutosave(final Campaign campaign) {
         Objects.requireNonNull(campaign);
@@ -99,26 +146,132 @@ public class AutosaveService implements IAutosaveService {
         }
     }
 
+    /**
+     * Makes room for a new autosave by dropping the oldest one still waiting for the writer. The waiting autosaves
+     * keep the order they were captured in, so the newest autosave is always the last one written.
+     */
+    static class DiscardOldestAutosavePolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable autosave, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("The autosave writer has been shut down");
+            }
+
+            final Runnable oldest = executor.getQueue().poll();
+            if (oldest instanceof Future<?> future) {
+                future.cancel(false);
+            }
+            LOGGER.warn("The autosave writer has fallen behind, so an older autosave was dropped");
+            executor.execute(autosave);
+        }
+    }
+
+    @Override
+    public void awaitPendingAutosaves() {
+        Future<?> pending = lastBackgroundAutosave;
+        while (pending != null) {
+            try {
+                // The writer runs autosaves in order, so once the last one is done all of them are
+                pending.get(PENDING_AUTOSAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return;
+            } catch (CancellationException ex) {
+                // Dropped for a newer autosave, so wait for that one instead
+                final Future<?> newer = lastBackgroundAutosave;
+                pending = (newer == pending) ? null : newer;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException ex) {
+                LOGGER.error("", ex);
+                return;
+            }
+        }
+    }
+
     private void performAutosave(final Campaign campaign) {
+        final String campaignName = campaign.getName();
+        final LocalDate date = campaign.getLocalDate();
+        if (!MekHQ.getMHQOptions().getAutosaveInBackgroundValue()) {
+            writeAutosave(campaignName, date, output -> writeCampaign(campaign, output));
+            return;
+        }
+
+        // Capture the campaign as it is right now, leaving only the slow compression and disk I/O to the writer
+        final byte[] snapshot;
         try {
-            final String fileName = getAutosaveFilename(campaign);
-            if (!StringUtility.isNullOrBlank(fileName)) {
-                try (FileOutputStream fos = new FileOutputStream(fileName);
-                      GZIPOutputStream gos = new GZIPOutputStream(fos);
-                      OutputStreamWriter osw = new OutputStreamWriter(gos, StandardCharsets.UTF_8);
-                      PrintWriter writer = new PrintWriter(osw)) {
-                    campaign.writeToXML(writer, false);
-                    writer.flush();
-                }
-            } else {
-                LOGGER.error("Unable to perform an autosave because of a null or empty file name");
-            }
+            ByteArrayOutputStream capture = new ByteArrayOutputStream(lastCapturedSize + WRITE_BUFFER_SIZE);
+            writeCampaign(campaign, capture);
+            snapshot = capture.toByteArray();
+            lastCapturedSize = snapshot.length;
         } catch (Exception ex) {
             LOGGER.error("", ex);
+            return;
+        }
+
+        lastBackgroundAutosave = BACKGROUND_WRITER.submit(() -> writeAutosave(campaignName, date,
+              output -> output.write(snapshot)));
+    }
+
+    private static void writeCampaign(final Campaign campaign, final OutputStream output) throws IOException {
+        final PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        campaign.writeToXML(writer, false);
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Failed to write the campaign");
+        }
+    }
+
+    /**
+     * Writes the uncompressed campaign XML that goes into an autosave.
+     */
+    @FunctionalInterface
+    interface CampaignContent {
+        void write(OutputStream output) throws IOException;
+    }
+
+    private void writeAutosave(final String campaignName, final LocalDate date, final CampaignContent content) {
+        synchronized (FILE_LOCK) {
+            try {
+                final String fileName = getAutosaveFilename(campaignName, date);
+                if (!StringUtility.isNullOrBlank(fileName)) {
+                    writeCompressedFile(Paths.get(fileName), content);
+                } else {
+                    LOGGER.error("Unable to perform an autosave because of a null or empty file name");
+                }
+            } catch (Exception ex) {
+                LOGGER.error("", ex);
+            }
+        }
+    }
+
+    /**
+     * Writes the gzip compressed content to a temporary file next to the given file, and then moves it into place.
+     * The autosave therefore never exists in a partially written state, even if MekHQ stops in the middle of writing
+     * it.
+     *
+     * @param file    the file to write
+     * @param content the content to compress into the file
+     */
+    static void writeCompressedFile(final Path file, final CampaignContent content) throws IOException {
+        final Path temporaryFile = file.resolveSibling(TEMPORARY_FILE_PREFIX + file.getFileName()
+                                                             + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (OutputStream output = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                  temporaryFile), WRITE_BUFFER_SIZE), WRITE_BUFFER_SIZE)) {
+                content.write(output);
+            }
+
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
         }
     }
 
-    private @Nullable String getAutosaveFilename(final Campaign campaign) {
+    private @Nullable String getAutosaveFilename(final String campaignName, final LocalDate date) {
         // Get all autosave files in ascending order of date creation
         final String savesDirectoryPath = MekHQ.getCampaignsDirectory().getValue();
         final File folder = new File(savesDirectoryPath);
@@ -150,10 +303,9 @@ public class AutosaveService implements IAutosaveService {
             while (repeatedName) {
                 fileName = String.format("Autosave-%d-%s-%s.cpnx.gz",
                       index++,
-                      campaign.getName(),
-                      campaign.getLocalDate()
-                            .format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
-                                          .withLocale(MekHQ.getMHQOptions().getDateLocale())));
+                      campaignName,
+                      date.format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
+                                        .withLocale(MekHQ.getMHQOptions().getDateLocale())));
 
                 repeatedName = false;
                 for (final File file : autosaveFiles) {
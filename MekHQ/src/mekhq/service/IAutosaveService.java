@@ -58,4 +58,10 @@ public interface IAutosaveService {
      * @param campaign Campaign to save
      */
     void requestBeforeMissionEndAutosave(Campaign campaign);
+
+    /**
+     * Waits for any autosaves that are still being written in the background to finish.
+     */
+    default void awaitPendingAutosaves() {
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.logging.MMLogger;
+
+/**
+ * Runs a set of named loading stages on a small thread pool, starting each stage as soon as every stage it depends on
+ * has finished. Stages without a dependency between them therefore run concurrently.
+ * <p>
+ * Stages must be added after the stages they depend on, which also rules out cycles. A stage that fails (or whose
+ * dependency failed) rethrows the original exception from {@link #await(String)}. The time each stage took to run is
+ * logged once it finishes and is available from {@link #getTimings()}.
+ */
+public class LoadingTaskGraph implements AutoCloseable {
+    private static final MMLogger LOGGER = MMLogger.create(LoadingTaskGraph.class);
+
+    /**
+     * A single loading stage.
+     */
+    @FunctionalInterface
+    public interface Stage {
+        void load() throws Exception;
+    }
+
+    private final ExecutorService executor;
+    private final Map<String, CompletableFuture<Void>> stages = new LinkedHashMap<>();
+    private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Creates a graph backed by its own daemon threads, one per available processor up to {@code maximumThreads}.
+     *
+     * @param name           the prefix for the names of the worker threads
+     * @param maximumThreads the largest number of stages to run at the same time
+     */
+    public LoadingTaskGraph(String name, int maximumThreads) {
+        int threads = Math.max(1, Math.min(maximumThreads, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + '-' + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds a stage, which is scheduled to run immediately once all its dependencies have finished.
+     *
+     * @param name         the unique name of the stage
+     * @param stage        the work to perform
+     * @param dependencies the names of stages, already added, that must finish first
+     *
+     * @throws IllegalArgumentException if the name is already in use or a dependency has not been added
+     */
+    public synchronized void add(String name, Stage stage, String... dependencies) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate loading stage " + name);
+        }
+
+        List<CompletableFuture<Void>> prerequisites = new ArrayList<>(dependencies.length);
+        for (String dependency : dependencies) {
+            CompletableFuture<Void> prerequisite = stages.get(dependency);
+            if (null == prerequisite) {
+                throw new IllegalArgumentException("Loading stage " + name + " depends on unknown stage " + dependency);
+            }
+            prerequisites.add(prerequisite);
+        }
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                                               .thenRunAsync(() -> run(name, stage), executor);
+        stages.put(name, future);
+    }
+
+    private void run(String name, Stage stage) {
+        long start = System.nanoTime();
+        try {
+            stage.load();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new CompletionException(ex);
+        } finally {
+            long elapsed = (System.nanoTime() - start) / 1_000_000L;
+            timings.put(name, elapsed);
+            LOGGER.info("Loading stage {} finished in {} ms", name, elapsed);
+        }
+    }
+
+    /**
+     * Blocks until the given stages, and therefore all the stages they depend on, have finished.
+     *
+     * @param names the names of the stages to wait for
+     *
+     * @throws Exception            the exception thrown by the first failed stage waited on
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void await(String... names) throws Exception {
+        for (String name : names) {
+            CompletableFuture<Void> future;
+            synchronized (this) {
+                future = stages.get(name);
+            }
+            if (null == future) {
+                throw new IllegalArgumentException("Unknown loading stage " + name);
+            }
+
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                while (((cause instanceof CompletionException) || (cause instanceof ExecutionException))
+                             && (null != cause.getCause())) {
+                    cause = cause.getCause();
+                }
+
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                } else if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            } catch (CancellationException ex) {
+                throw new InterruptedException("Loading stage " + name + " was cancelled");
+            }
+        }
+    }
+
+    /**
+     * Blocks until every stage added so far has finished.
+     *
+     * @throws Exception the exception thrown by the first failed stage
+     */
+    public void awaitAll() throws Exception {
+        String[] names;
+        synchronized (this) {
+            names = stages.keySet().toArray(new String[0]);
+        }
+        await(names);
+    }
+
+    /**
+     * @return the time in milliseconds that each finished stage took to run, in the order the stages finished
+     */
+    public Map<String, Long> getTimings() {
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    /**
+     * Stops the worker threads once the stages already scheduled have run.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -50,6 +50,7 @@ import megamek.logging.MMLogger;
 import megamek.utilities.xml.MMXMLUtility;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.finances.Money;
+import mekhq.campaign.unit.C3NetworkIndex;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
@@ -117,6 +118,19 @@ public class MHQXMLUtility extends MMXMLUtility {
      * @return A string containing the XML representation of the entity.
      */
     public static String writeEntityToXmlString(Entity tgtEnt, int indentLvl, List<Entity> list) {
+        return writeEntityToXmlString(tgtEnt, indentLvl, new C3NetworkIndex(list));
+    }
+
+    /**
+     * Serializes an entity as {@link #writeEntityToXmlString(Entity, int, List)} does, looking up its naval C3 and C3i
+     * links in an index that can be shared between all the entities being saved.
+     *
+     * @param tgtEnt     The entity to serialize to XML.
+     * @param c3Networks the C3 networks of the entities the target may be linked to
+     *
+     * @return A string containing the XML representation of the entity.
+     */
+    public static String writeEntityToXmlString(Entity tgtEnt, int indentLvl, C3NetworkIndex c3Networks) {
         // Holdover from EntityListFile in MM.
         // I guess they simply ignored all squadrons for writing out entities?
         if (tgtEnt instanceof FighterSquadron) {
@@ -248,13 +262,11 @@ public class MHQXMLUtility extends MMXMLUtility {
         // Write the Naval C3 Data if needed
         if (tgtEnt.hasNavalC3()) {
             retVal.append(MHQXMLUtility.indentStr(indentLvl + 1)).append("<" + MULParser.ELE_NC3 + ">\n");
-            for (Entity nc3Entity : list) {
-                if (nc3Entity.onSameC3NetworkAs(tgtEnt, true)) {
-                    retVal.append(MHQXMLUtility.indentStr(indentLvl + 2))
-                          .append("<" + MULParser.ELE_NC3LINK + " " + MULParser.ATTR_LINK + "=\"");
-                    retVal.append(nc3Entity.getC3UUIDAsString());
-                    retVal.append("\"/>\n");
-                }
+            for (Entity nc3Entity : c3Networks.getNavalC3Network(tgtEnt)) {
+                retVal.append(MHQXMLUtility.indentStr(indentLvl + 2))
+                      .append("<" + MULParser.ELE_NC3LINK + " " + MULParser.ATTR_LINK + "=\"");
+                retVal.append(nc3Entity.getC3UUIDAsString());
+                retVal.append("\"/>\n");
             }
             retVal.append(MHQXMLUtility.indentStr(indentLvl + 1)).append("</" + MULParser.ELE_NC3 + ">\n");
         }
@@ -263,13 +275,11 @@ public class MHQXMLUtility extends MMXMLUtility {
         if (tgtEnt.hasC3i()) {
             retVal.append(MHQXMLUtility.indentStr(indentLvl + 1)).append("<" + MULParser.ELE_C3I + ">\n");
 
-            for (Entity C3iEntity : list) {
-                if (C3iEntity.onSameC3NetworkAs(tgtEnt, true)) {
-                    retVal.append(MHQXMLUtility.indentStr(indentLvl + 2))
-                          .append("<" + MULParser.ELE_C3I_LINK + " " + MULParser.ATTR_LINK + "=\"")
-                          .append(C3iEntity.getC3UUIDAsString())
-                          .append("\"/>\n");
-                }
+            for (Entity C3iEntity : c3Networks.getC3iNetwork(tgtEnt)) {
+                retVal.append(MHQXMLUtility.indentStr(indentLvl + 2))
+                      .append("<" + MULParser.ELE_C3I_LINK + " " + MULParser.ATTR_LINK + "=\"")
+                      .append(C3iEntity.getC3UUIDAsString())
+                      .append("\"/>\n");
             }
             retVal.append(MHQXMLUtility.indentStr(indentLvl + 1)).append("</" + MULParser.ELE_C3I + ">\n");
         }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class KillLedgerTest {
+    private static final LocalDate DATE = LocalDate.of(3025, 1, 1);
+
+    private static Kill createKill(UUID pilotId, LocalDate date, int missionId, int scenarioId, int forceId) {
+        return new Kill(pilotId, "Atlas AS7-D", "Marauder MAD-3R", date, missionId, scenarioId, forceId, 0);
+    }
+
+    @Test
+    public void testKillsAreIndexedByPersonMissionScenarioAndForce() {
+        UUID pilot = UUID.randomUUID();
+        UUID otherPilot = UUID.randomUUID();
+        KillLedger ledger = new KillLedger();
+        Kill first = createKill(pilot, DATE, 1, 10, 100);
+        Kill second = createKill(pilot, DATE, 2, 20, 100);
+        Kill third = createKill(otherPilot, DATE, 1, 10, 200);
+        ledger.add(first);
+        ledger.add(second);
+        ledger.add(third);
+        ledger.add(first);
+
+        assertEquals(3, ledger.size());
+        assertEquals(2, ledger.getKillCount(pilot));
+        assertEquals(1, ledger.getKillCount(otherPilot));
+        assertEquals(0, ledger.getKillCount(UUID.randomUUID()));
+        assertEquals(List.of(first, third), ledger.getKillsForMission(1));
+        assertEquals(List.of(second), ledger.getKillsForScenario(20));
+        assertEquals(List.of(first, second), ledger.getKillsForForce(100));
+        assertTrue(ledger.getKillsForMission(3).isEmpty());
+    }
+
+    @Test
+    public void testKillsOfAPersonAreInDateOrder() {
+        UUID pilot = UUID.randomUUID();
+        KillLedger ledger = new KillLedger();
+        Kill late = createKill(pilot, DATE.plusDays(2), 1, 1, 1);
+        Kill early = createKill(pilot, DATE, 1, 1, 1);
+        Kill middle = createKill(pilot, DATE.plusDays(1), 1, 1, 1);
+        Kill sameDay = createKill(pilot, DATE.plusDays(1), 1, 1, 1);
+        ledger.add(late);
+        ledger.add(early);
+        ledger.add(middle);
+        ledger.add(sameDay);
+
+        assertEquals(List.of(early, middle, sameDay, late), ledger.getKillsFor(pilot));
+    }
+
+    @Test
+    public void testRemovedKillsLeaveEveryIndex() {
+        UUID pilot = UUID.randomUUID();
+        KillLedger ledger = new KillLedger();
+        Kill first = createKill(pilot, DATE, 1, 10, 100);
+        Kill second = createKill(pilot, DATE, 1, 10, 100);
+        ledger.add(first);
+        ledger.add(second);
+
+        assertTrue(ledger.remove(first));
+        assertFalse(ledger.remove(first));
+        assertEquals(List.of(second), ledger.getKillsForMission(1));
+        assertEquals(1, ledger.getKillCount(pilot));
+
+        ledger.removeAllFor(pilot);
+        assertEquals(0, ledger.size());
+        assertTrue(ledger.getKillsForScenario(10).isEmpty());
+        assertTrue(ledger.getKillsForForce(100).isEmpty());
+    }
+
+    @Test
+    public void testUpdatedKillsMoveToTheirNewIndexes() {
+        UUID pilot = UUID.randomUUID();
+        KillLedger ledger = new KillLedger();
+        Kill kill = createKill(pilot, DATE, 1, 10, 100);
+        ledger.add(kill);
+
+        kill.setMissionId(2);
+        kill.setScenarioId(20);
+        ledger.update(kill);
+
+        assertTrue(ledger.getKillsForMission(1).isEmpty());
+        assertEquals(List.of(kill), ledger.getKillsForMission(2));
+        assertEquals(List.of(kill), ledger.getKillsForScenario(20));
+
+        // A kill changed after being added is still removed from the indexes it was added to
+        kill.setForceId(200);
+        ledger.remove(kill);
+        assertTrue(ledger.getKillsForForce(100).isEmpty());
+        assertEquals(0, ledger.getKillCount(pilot));
+    }
+}
@@ -40,11 +40,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -1015,6 +1018,77 @@ public class WarehouseTest {
         assertTrue(sparePart.isSpare());
     }
 
+    @Test
+    public void testSparePartLookupOnlyComparesPartsOfTheSameType() {
+        Warehouse warehouse = new Warehouse();
+        Part otherTypePart = createMockSparePart(1, "Other");
+        Part sameTypePart = createMockSparePart(2, "Same");
+        warehouse.addPart(otherTypePart);
+        warehouse.addPart(sameTypePart);
+
+        Part incomingPart = createMockSparePart(3, "Same");
+        when(incomingPart.isSamePartTypeAndStatus(any())).thenReturn(true);
+        when(incomingPart.isBrandNew()).thenReturn(true);
+        when(sameTypePart.isBrandNew()).thenReturn(true);
+
+        // Even though the other part was added first and would match, it is never compared
+        assertEquals(sameTypePart, warehouse.checkForExistingSparePart(incomingPart));
+        assertEquals(sameTypePart, warehouse.checkForExistingSparePart(incomingPart, true));
+        verify(incomingPart, never()).isSamePartTypeAndStatus(otherTypePart);
+
+        // Once removed, the part is no longer found
+        warehouse.removePart(sameTypePart);
+        assertNull(warehouse.checkForExistingSparePart(incomingPart));
+    }
+
+    @Test
+    public void testGetSparePartsCountOnlyCountsPartsOfTheSameType() {
+        Warehouse warehouse = new Warehouse();
+        Part otherTypePart = createMockSparePart(1, "Other");
+        when(otherTypePart.isSamePartType(any())).thenReturn(true);
+        when(otherTypePart.getQuantity()).thenReturn(5);
+        Part sameTypePart = createMockSparePart(2, "Same");
+        when(sameTypePart.isSamePartType(any())).thenReturn(true);
+        when(sameTypePart.getQuantity()).thenReturn(2);
+        warehouse.addPart(otherTypePart);
+        warehouse.addPart(sameTypePart);
+
+        assertEquals(2, warehouse.getSparePartsCount(createMockSparePart(3, "Same")));
+        assertEquals(0, warehouse.getSparePartsCount(createMockSparePart(4, "Missing")));
+    }
+
+    @Test
+    public void testPartTypeKeys() {
+        Campaign mockCampaign = mock(Campaign.class);
+
+        // Parts of the same type must share a key
+        assertEquals(new MekLocation().getPartTypeKey(), new MekLocation().getPartTypeKey());
+        assertEquals(createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20).getPartTypeKey(),
+              createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 5).getPartTypeKey());
+
+        // Equipment is grouped by its type
+        assertNotEquals(createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20).getPartTypeKey(),
+              createMockAmmoStorage(mockCampaign, getAmmoType("ISAC10 Ammo"), 10).getPartTypeKey());
+        assertNotEquals(new MekLocation().getPartTypeKey(),
+              createMockArmor(mockCampaign, EquipmentType.T_ARMOR_STANDARD, 16).getPartTypeKey());
+    }
+
+    /**
+     * Creates a mock spare part with the given ID and type key.
+     *
+     * @param id      The unique ID of the part.
+     * @param typeKey The type key of the part.
+     *
+     * @return The mocked spare part.
+     */
+    private Part createMockSparePart(int id, Object typeKey) {
+        Part mockPart = createMockPart(id);
+        when(mockPart.getPartTypeKey()).thenReturn(typeKey);
+        when(mockPart.isSpare()).thenReturn(true);
+
+        return mockPart;
+    }
+
     /**
      * Creates a mock part with the given ID.
      *
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class AccountantCacheTest {
+    private static final LocalDate DATE = LocalDate.of(3025, 1, 1);
+
+    @Test
+    public void testProjectionsAreKeptForTheDate() {
+        AccountantCache cache = new AccountantCache();
+        AtomicInteger calculations = new AtomicInteger();
+
+        assertEquals(Money.of(100), cache.get(DATE, "payroll", () -> Money.of(100 * calculations.incrementAndGet())));
+        assertEquals(Money.of(100), cache.get(DATE, "payroll", () -> Money.of(100 * calculations.incrementAndGet())));
+        assertEquals(1, calculations.get());
+
+        // A new date starts over
+        assertEquals(Money.of(200),
+              cache.get(DATE.plusDays(1), "payroll", () -> Money.of(100 * calculations.incrementAndGet())));
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    public void testKeysAreKeptApart() {
+        AccountantCache cache = new AccountantCache();
+
+        assertEquals(Money.of(1), cache.get(DATE, "payroll", () -> Money.of(1)));
+        assertEquals(Money.of(2), cache.get(DATE, "maintenance", () -> Money.of(2)));
+        assertEquals(Money.of(1), cache.get(DATE, "payroll", () -> Money.of(3)));
+    }
+
+    @Test
+    public void testInvalidateForgetsProjections() {
+        AccountantCache cache = new AccountantCache();
+        cache.get(DATE, "payroll", () -> Money.of(1));
+
+        cache.invalidate();
+
+        assertEquals(Money.of(2), cache.get(DATE, "payroll", () -> Money.of(2)));
+    }
+
+    @Test
+    public void testProjectionsInvalidatedWhileCalculatingAreNotKept() {
+        AccountantCache cache = new AccountantCache();
+
+        Money stale = cache.get(DATE, "payroll", () -> {
+            cache.invalidate();
+            return Money.of(1);
+        });
+
+        assertEquals(Money.of(1), stale);
+        assertEquals(Money.of(2), cache.get(DATE, "payroll", () -> Money.of(2)));
+    }
+}
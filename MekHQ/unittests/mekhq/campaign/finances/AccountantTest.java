@@ -45,9 +45,13 @@ import static mekhq.campaign.personnel.ranks.Rank.RWO_MIN;
 import static mekhq.campaign.randomEvents.prisoners.enums.PrisonerStatus.PRISONER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import megamek.common.units.Entity;
@@ -55,6 +59,7 @@ import mekhq.campaign.Campaign;
 import mekhq.campaign.CurrentLocation;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.universe.Faction;
 import org.junit.jupiter.api.Test;
@@ -819,4 +824,38 @@ public class AccountantTest {
         // Assert
         assertEquals(expected, actual);
     }
+
+    @Test
+    void testGetPayRoll_IsCachedUntilInvalidated() {
+        // Setup
+        Campaign mockCampaign = mock(Campaign.class);
+        AccountantCache cache = new AccountantCache();
+        when(mockCampaign.getAccountantCache()).thenReturn(cache);
+        when(mockCampaign.getLocalDate()).thenReturn(LocalDate.of(3025, 1, 1));
+
+        CampaignOptions mockCampaignOptions = mock(CampaignOptions.class);
+        when(mockCampaign.getCampaignOptions()).thenReturn(mockCampaignOptions);
+        when(mockCampaignOptions.isPayForSalaries()).thenReturn(true);
+        Money[] baseSalaries = new Money[PersonnelRole.values().length];
+        Arrays.fill(baseSalaries, Money.zero());
+        when(mockCampaignOptions.getRoleBaseSalaries()).thenReturn(baseSalaries);
+
+        Person person = mock(Person.class);
+        when(person.getSalary(mockCampaign)).thenReturn(Money.of(1500));
+        when(mockCampaign.getSalaryEligiblePersonnel()).thenReturn(List.of(person));
+
+        Accountant accountant = new Accountant(mockCampaign);
+
+        // Act
+        Money first = accountant.getPayRoll();
+        Money second = accountant.getPayRoll();
+        cache.invalidate();
+        Money third = accountant.getPayRoll();
+
+        // Assert
+        assertEquals(Money.of(1500), first);
+        assertEquals(first, second);
+        assertEquals(first, third);
+        verify(mockCampaign, times(2)).getSalaryEligiblePersonnel();
+    }
 }
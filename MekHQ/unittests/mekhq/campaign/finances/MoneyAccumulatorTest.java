@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.joda.money.CurrencyMismatchException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks {@link MoneyAccumulator} against adding the same amounts one by one with {@link Money#plus(Money)}.
+ */
+public class MoneyAccumulatorTest {
+    private static Money sumWithMoney(List<Money> amounts) {
+        return amounts.stream().reduce(Money.zero(), Money::plus);
+    }
+
+    private static Money sumWithAccumulator(List<Money> amounts) {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (Money amount : amounts) {
+            accumulator.add(amount);
+        }
+        return accumulator.toMoney();
+    }
+
+    private static void assertSameSum(List<Money> amounts) {
+        Money expected = sumWithMoney(amounts);
+        Money actual = sumWithAccumulator(amounts);
+
+        // BigDecimal.equals compares the scale as well as the value
+        assertEquals(expected.getAmount(), actual.getAmount());
+        assertEquals(expected.toXmlString(), actual.toXmlString());
+    }
+
+    private static Money randomAmount(Random random, int maximumScale) {
+        int scale = random.nextInt(maximumScale + 1);
+        double amount = Math.round((random.nextDouble() - 0.4) * 2_000_000.0 * Math.pow(10, scale)) /
+                              Math.pow(10, scale);
+        return Money.of(amount);
+    }
+
+    @Test
+    public void testFixedPointAmountsMatchMoney() {
+        Random random = new Random(3025);
+        for (int run = 0; run < 100; run++) {
+            List<Money> amounts = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                amounts.add(randomAmount(random, MoneyAccumulator.FIXED_POINT_SCALE));
+            }
+            assertSameSum(amounts);
+        }
+    }
+
+    @Test
+    public void testFinerAmountsMatchMoney() {
+        Random random = new Random(3050);
+        for (int run = 0; run < 100; run++) {
+            List<Money> amounts = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Money amount = randomAmount(random, 2);
+                if (random.nextInt(10) == 0) {
+                    // Percentages and multipliers give amounts with more decimal places than the fixed-point total
+                    amount = amount.multipliedBy(random.nextDouble()).dividedBy(7.0);
+                }
+                amounts.add(amount);
+            }
+            assertSameSum(amounts);
+        }
+    }
+
+    @Test
+    public void testZeroAmountsDoNotChangeTheScale() {
+        assertSameSum(List.of(Money.of(100), Money.of(0.125).minus(0.125), Money.of(5)));
+        assertSameSum(List.of(Money.of(0.5), Money.of(-0.5)));
+        assertSameSum(List.of(Money.zero(), Money.of(0.0)));
+        assertSameSum(List.of());
+    }
+
+    @Test
+    public void testOverflowingTotalsMatchMoney() {
+        Money large = Money.of(9_000_000_000_000_000.0);
+        assertSameSum(List.of(large, Money.of(0.5), large, large.multipliedBy(-3), Money.of(1.25)));
+        assertSameSum(List.of(Money.of(Long.MAX_VALUE / 1000), Money.of(Long.MAX_VALUE / 1000), Money.of(-1)));
+    }
+
+    @Test
+    public void testNullAmountsAreIgnored() {
+        List<Money> amounts = new ArrayList<>();
+        amounts.add(Money.of(12.5));
+        amounts.add(null);
+        amounts.add(Money.of(7));
+        assertSameSum(amounts);
+    }
+
+    @Test
+    public void testParallelCollectorMatchesMoney() {
+        Random random = new Random(3067);
+        List<Money> amounts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Money amount = randomAmount(random, 2);
+            amounts.add((i % 1000 == 0) ? amount.multipliedBy(1.0375) : amount);
+        }
+
+        Money expected = sumWithMoney(amounts);
+        Money actual = amounts.parallelStream().collect(MoneyAccumulator.summing());
+        assertEquals(expected.getAmount(), actual.getAmount());
+        assertEquals(expected.toXmlString(), actual.toXmlString());
+    }
+
+    @Test
+    public void testIsZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        assertTrue(accumulator.isZero());
+        accumulator.add(Money.of(2.5));
+        assertFalse(accumulator.isZero());
+        accumulator.add(Money.of(-2.5));
+        assertTrue(accumulator.isZero());
+    }
+
+    @Test
+    public void testOtherCurrenciesAreRejected() {
+        Currency other = new Currency("MAT", -1, 2, "Test Mark", "M", 2000, 3200, false, false);
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        assertThrows(CurrencyMismatchException.class, () -> accumulator.add(Money.of(1.0, other)));
+        assertThrows(CurrencyMismatchException.class, () -> accumulator.add(new MoneyAccumulator(other)));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.icons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ImageCacheTest {
+    private static BufferedImage createImage() {
+        return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    public void testImagesAreOnlyRenderedOnce() {
+        ImageCache<String, BufferedImage> cache = new ImageCache<>(4);
+        AtomicInteger renders = new AtomicInteger();
+
+        BufferedImage first = cache.get("unit", () -> {
+            renders.incrementAndGet();
+            return createImage();
+        });
+        BufferedImage second = cache.get("unit", () -> {
+            renders.incrementAndGet();
+            return createImage();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+        assertNotSame(first, cache.get("other", ImageCacheTest::createImage));
+    }
+
+    @Test
+    public void testImagesThatCouldNotBeRenderedAreNotCached() {
+        ImageCache<String, BufferedImage> cache = new ImageCache<>(4);
+
+        assertNull(cache.get("unit", () -> null));
+        assertEquals(0, cache.size());
+
+        BufferedImage image = createImage();
+        assertSame(image, cache.get("unit", () -> image));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedImagesAreDropped() {
+        ImageCache<Integer, BufferedImage> cache = new ImageCache<>(2);
+        BufferedImage first = cache.get(1, ImageCacheTest::createImage);
+        BufferedImage second = cache.get(2, ImageCacheTest::createImage);
+
+        // Use the first image again, so the second is now the least recently used
+        cache.get(1, ImageCacheTest::createImage);
+        cache.get(3, ImageCacheTest::createImage);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(1, ImageCacheTest::createImage));
+        assertNotSame(second, cache.get(2, ImageCacheTest::createImage));
+    }
+}
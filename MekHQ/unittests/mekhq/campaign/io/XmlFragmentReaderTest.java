@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class XmlFragmentReaderTest {
+    private static final String CAMPAIGN = """
+          <?xml version="1.0" encoding="UTF-8"?>
+          <campaign version="0.50.10">
+              <info>
+                  <name>Test &amp; Company</name>
+              </info>
+              <!-- comments are ignored -->
+              <personnel>
+                  <person id="1" type="MEKWARRIOR">
+                      <givenName>Natasha</givenName>
+                      <biography><![CDATA[<b>Bold</b> history]]></biography>
+                  </person>
+                  <person id="2">
+                      <givenName>Kai</givenName>
+                  </person>
+              </personnel>
+              <units/>
+          </campaign>
+          """;
+
+    private XmlFragmentReader createReader(String xml) throws Exception {
+        return new XmlFragmentReader(xml.strip().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> childElementNames(Node node) {
+        List<String> names = new ArrayList<>();
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                names.add(children.item(i).getNodeName());
+            }
+        }
+        return names;
+    }
+
+    @Test
+    public void testReadsRootAttributesAndTopLevelElements() throws Exception {
+        List<String> names = new ArrayList<>();
+        try (XmlFragmentReader reader = createReader(CAMPAIGN)) {
+            assertEquals("campaign", reader.startDocumentElement());
+            assertEquals("0.50.10", reader.getAttribute("version"));
+            assertEquals("", reader.getAttribute("missing"));
+
+            while (reader.nextChildElement()) {
+                names.add(reader.getElementName());
+                reader.skipElement();
+            }
+        }
+
+        assertEquals(List.of("info", "personnel", "units"), names);
+    }
+
+    @Test
+    public void testStreamsSectionChildrenAsFragments() throws Exception {
+        List<Element> people = new ArrayList<>();
+        try (XmlFragmentReader reader = createReader(CAMPAIGN)) {
+            reader.startDocumentElement();
+            while (reader.nextChildElement()) {
+                if (reader.getElementName().equals("personnel")) {
+                    while (reader.nextChildElement()) {
+                        people.add(reader.readElement("personnel"));
+                    }
+                } else {
+                    reader.skipElement();
+                }
+            }
+        }
+
+        assertEquals(2, people.size());
+
+        Element first = people.get(0);
+        assertEquals("person", first.getNodeName());
+        assertEquals("1", first.getAttribute("id"));
+        assertEquals("MEKWARRIOR", first.getAttribute("type"));
+        assertEquals("personnel", first.getParentNode().getNodeName());
+        assertEquals(List.of("givenName", "biography"), childElementNames(first));
+        assertEquals("Natasha", first.getElementsByTagName("givenName").item(0).getTextContent());
+        assertEquals("<b>Bold</b> history", first.getElementsByTagName("biography").item(0).getTextContent().trim());
+
+        // Each fragment is independent of the others
+        Element second = people.get(1);
+        assertEquals("2", second.getAttribute("id"));
+        assertEquals(List.of("givenName"), childElementNames(second));
+        assertTrue(first.getOwnerDocument() != second.getOwnerDocument());
+    }
+
+    @Test
+    public void testReadsWholeElementsWithEntities() throws Exception {
+        try (XmlFragmentReader reader = createReader(CAMPAIGN)) {
+            reader.startDocumentElement();
+            assertTrue(reader.nextChildElement());
+            Element info = reader.readElement(null);
+            assertNull(info.getParentNode().getParentNode());
+            assertEquals("Test & Company", info.getElementsByTagName("name").item(0).getTextContent());
+
+            // The reader continues right after the element it read
+            assertTrue(reader.nextChildElement());
+            assertEquals("personnel", reader.getElementName());
+        }
+    }
+
+    @Test
+    public void testEmptySectionHasNoChildren() throws Exception {
+        try (XmlFragmentReader reader = createReader(CAMPAIGN)) {
+            reader.startDocumentElement();
+            while (reader.nextChildElement()) {
+                if (reader.getElementName().equals("units")) {
+                    assertFalse(reader.nextChildElement());
+                } else {
+                    reader.skipElement();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRejectsDocumentTypeDeclarations() {
+        String xml = """
+              <?xml version="1.0"?>
+              <!DOCTYPE campaign [<!ENTITY boom "boom">]>
+              <campaign>&boom;</campaign>
+              """;
+        assertThrows(XMLStreamException.class, () -> {
+            try (XmlFragmentReader reader = createReader(xml)) {
+                reader.startDocumentElement();
+                reader.readElement(null);
+            }
+        });
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.market;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import mekhq.campaign.Warehouse;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.PartInUse;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.work.IAcquisitionWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PartsInUseIndexTest {
+    private Warehouse warehouse;
+    private Map<Part, PartInUse> rows;
+    private int classifications;
+    private PartsInUseIndex index;
+
+    @BeforeEach
+    public void beforeEach() {
+        warehouse = new Warehouse();
+        rows = new HashMap<>();
+        classifications = 0;
+        index = new PartsInUseIndex(warehouse, part -> {
+            classifications++;
+            return rows.get(part);
+        });
+    }
+
+    private Part addPart(int id, PartInUse row) {
+        Part part = mock(Part.class);
+        when(part.getId()).thenReturn(id);
+        rows.put(part, row);
+        warehouse.addPart(part);
+        return part;
+    }
+
+    private Map<PartInUse, List<Part>> getRows() {
+        Map<PartInUse, List<Part>> result = new LinkedHashMap<>();
+        index.forEachRow((row, parts) -> result.put(row, new ArrayList<>(parts)));
+        return result;
+    }
+
+    @Test
+    public void testGroupsPartsByRow() {
+        PartInUse laser = mock(PartInUse.class);
+        PartInUse armor = mock(PartInUse.class);
+        Part first = addPart(1, laser);
+        Part second = addPart(2, armor);
+        Part third = addPart(3, laser);
+        addPart(4, null);
+
+        Map<PartInUse, List<Part>> result = getRows();
+
+        assertEquals(2, result.size());
+        assertEquals(List.of(first, third), result.get(laser));
+        assertEquals(List.of(second), result.get(armor));
+        assertEquals(List.of(first, third), index.getParts(laser));
+        assertEquals(4, classifications);
+    }
+
+    @Test
+    public void testChangesAreAppliedIncrementally() {
+        PartInUse laser = mock(PartInUse.class);
+        PartInUse armor = mock(PartInUse.class);
+        Part first = addPart(1, laser);
+        Part second = addPart(2, laser);
+        getRows();
+
+        // A changed part moves to its new row, and only that part is classified again
+        rows.put(second, armor);
+        index.partChanged(second);
+        assertEquals(3, classifications);
+        assertEquals(List.of(first), index.getParts(laser));
+        assertEquals(List.of(second), index.getParts(armor));
+
+        // Removing the last part of a row removes the row
+        warehouse.removePart(second);
+        index.partChanged(second);
+        assertEquals(List.of(), index.getParts(armor));
+        assertEquals(1, getRows().size());
+
+        // New parts are added to their row
+        Part third = addPart(3, laser);
+        index.partChanged(third);
+        assertEquals(List.of(first, third), index.getParts(laser));
+        assertEquals(4, classifications);
+    }
+
+    @Test
+    public void testUnitChangesReclassifyTheUnitParts() {
+        PartInUse laser = mock(PartInUse.class);
+        PartInUse armor = mock(PartInUse.class);
+        Part first = addPart(1, laser);
+        Part second = addPart(2, laser);
+        getRows();
+
+        Unit unit = mock(Unit.class);
+        when(unit.getParts()).thenReturn(List.of(second));
+        rows.put(second, armor);
+        index.unitChanged(unit);
+
+        assertEquals(List.of(first), index.getParts(laser));
+        assertEquals(List.of(second), index.getParts(armor));
+    }
+
+    @Test
+    public void testNoticesPartsAddedOrRemovedWithoutAnEvent() {
+        PartInUse laser = mock(PartInUse.class);
+        Part first = addPart(1, laser);
+        getRows();
+
+        // Without being told about the new part, the index notices that the warehouse changed
+        Part second = addPart(2, laser);
+        assertTrue(index.getParts(laser).contains(second));
+
+        warehouse.removePart(first);
+        assertEquals(List.of(second), index.getParts(laser));
+        assertEquals(2, classifications);
+    }
+
+    @Test
+    public void testReclassifiesPartsChangedWithoutAnEvent() {
+        PartInUse laser = mock(PartInUse.class);
+        PartInUse armor = mock(PartInUse.class);
+        Part first = addPart(1, laser);
+        Part second = addPart(2, laser);
+        getRows();
+
+        // The same number of parts, but one changed through its setters without an event
+        rows.put(second, armor);
+        when(second.getModificationCount()).thenReturn(1);
+
+        assertEquals(List.of(first), index.getParts(laser));
+        assertEquals(List.of(second), index.getParts(armor));
+        assertEquals(3, classifications);
+    }
+
+    @Test
+    public void testShoppingListItemsAreClassifiedOnce() {
+        PartInUse laser = mock(PartInUse.class);
+        Part item = mock(Part.class);
+        rows.put(item, laser);
+
+        assertSame(laser, index.getRow(item));
+        assertSame(laser, index.getRow(item));
+        assertEquals(1, classifications);
+
+        // Items that left the shopping list are forgotten
+        index.retainPlannedItems(List.<IAcquisitionWork>of());
+        rows.remove(item);
+        assertNull(index.getRow(item));
+        assertEquals(2, classifications);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
+import org.junit.jupiter.api.Test;
+
+public class DayAdvancerTest {
+    /**
+     * Records everything it receives.
+     */
+    private static class RecordingSink implements DailyReportSink {
+        private final List<String> received = new ArrayList<>();
+        private int finished = 0;
+
+        @Override
+        public void addDay(DailyReportType type, String dayReport, List<String> newReports) {
+            received.add(type + ":" + dayReport + ":" + newReports);
+        }
+
+        @Override
+        public void finish() {
+            finished++;
+        }
+    }
+
+    @Test
+    public void testAdvancesAllDaysAndDeliversEveryReportType() {
+        Campaign campaign = mock(Campaign.class);
+        when(campaign.newDay()).thenReturn(true);
+        when(campaign.getReportHTML(any())).thenAnswer(invocation -> invocation.getArgument(0).toString());
+        when(campaign.fetchAndClearNewReports(any(DailyReportType.class))).thenReturn(List.of("entry"));
+
+        RecordingSink sink = new RecordingSink();
+        assertEquals(3, new DayAdvancer(campaign).advanceDays(3, sink));
+
+        verify(campaign, times(3)).newDay();
+        assertEquals(3 * DailyReportType.values().length, sink.received.size());
+        for (DailyReportType type : DailyReportType.values()) {
+            assertTrue(sink.received.contains(type + ":" + type + ":[entry]"));
+        }
+        assertEquals(1, sink.finished);
+    }
+
+    @Test
+    public void testStopsWhenTheNewDayIsPrevented() {
+        Campaign campaign = mock(Campaign.class);
+        when(campaign.newDay()).thenReturn(true, true, false);
+        when(campaign.fetchAndClearNewReports(any(DailyReportType.class))).thenReturn(List.of());
+
+        RecordingSink sink = new RecordingSink();
+        assertEquals(2, new DayAdvancer(campaign).advanceDays(10, sink));
+
+        verify(campaign, times(3)).newDay();
+        assertEquals(2 * DailyReportType.values().length, sink.received.size());
+        assertEquals(1, sink.finished);
+    }
+
+    @Test
+    public void testStopsWhenAdvancingFails() {
+        Campaign campaign = mock(Campaign.class);
+        when(campaign.newDay()).thenReturn(true).thenThrow(new IllegalStateException("broken"));
+        when(campaign.fetchAndClearNewReports(any(DailyReportType.class))).thenReturn(List.of());
+
+        RecordingSink sink = new RecordingSink();
+        assertEquals(1, new DayAdvancer(campaign).advanceDays(5, sink));
+
+        assertEquals(DailyReportType.values().length, sink.received.size());
+        assertEquals(1, sink.finished);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.awt.GraphicsEnvironment;
+import java.time.LocalDate;
+import java.util.List;
+
+import megamek.common.equipment.EquipmentType;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.enums.DailyReportType;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.universe.Factions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import testUtilities.MHQTestUtilities;
+
+/**
+ * Advances a real campaign without a display, as {@link mekhq.HeadlessCampaignRunner} does. Any dialog built during
+ * the new day throws a {@link java.awt.HeadlessException}, which stops the {@link DayAdvancer} early.
+ */
+public class HeadlessDayAdvancerTest {
+    @BeforeAll
+    public static void setupAll() {
+        System.setProperty("java.awt.headless", "true");
+        EquipmentType.initializeTypes();
+        Ranks.initializeRankSystems();
+        SkillType.initializeTypes();
+        Factions.setInstance(Factions.loadDefault(true));
+    }
+
+    @Test
+    public void testAdvancesSeveralDaysWithoutADisplay() {
+        assumeTrue(GraphicsEnvironment.isHeadless(), "AWT was already started with a display");
+
+        Campaign campaign = MHQTestUtilities.getTestCampaign();
+        campaign.setNewDayInteractionPolicy(new HeadlessNewDayPolicy());
+
+        // Cross both the start of a month and several Mondays, when most of the events run
+        LocalDate start = LocalDate.of(3067, 1, 25);
+        campaign.setLocalDate(start);
+
+        final int days = 14;
+        int[] finished = { 0 };
+        int advanced = new DayAdvancer(campaign).advanceDays(days, new DailyReportSink() {
+            @Override
+            public void addDay(DailyReportType type, String dayReport, List<String> newReports) {
+            }
+
+            @Override
+            public void finish() {
+                finished[0]++;
+            }
+        });
+
+        assertEquals(days, advanced);
+        assertEquals(start.plusDays(days), campaign.getLocalDate());
+        assertEquals(1, finished[0]);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.newDay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import java.awt.GraphicsEnvironment;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import megamek.common.MMRandom;
+import megamek.common.compute.Compute;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.rolls.MMRoll;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.campaignOptions.CampaignOptions;
+import mekhq.campaign.enums.DailyReportType;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.universe.Factions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import testUtilities.MHQTestUtilities;
+
+/**
+ * Advances the same campaign twice from the same random seed. The personnel new day is worked out in parallel, so the
+ * personnel must still end up identical however the work was split between threads.
+ */
+public class SeededPersonnelNewDayTest {
+    private static final int PERSONNEL_COUNT = 40;
+
+    @BeforeAll
+    public static void setupAll() {
+        System.setProperty("java.awt.headless", "true");
+        EquipmentType.initializeTypes();
+        Ranks.initializeRankSystems();
+        SkillType.initializeTypes();
+        Factions.setInstance(Factions.loadDefault(true));
+    }
+
+    @Test
+    public void testSameSeedGivesSamePersonnelState() {
+        assumeTrue(GraphicsEnvironment.isHeadless(), "AWT was already started with a display");
+
+        assertEquals(advanceWithSeed(1234L), advanceWithSeed(1234L));
+    }
+
+    /**
+     * Builds a campaign and advances it to a Monday that is also the first of the month, when fatigue recovery, auto
+     * awards and vocational XP are all processed.
+     *
+     * @return the state of each person after the new day, in personnel order
+     */
+    private static List<String> advanceWithSeed(long seed) {
+        try {
+            Compute.setRNG(seededRNG(seed));
+
+            Campaign campaign = MHQTestUtilities.getTestCampaign();
+            campaign.setNewDayInteractionPolicy(new HeadlessNewDayPolicy());
+            campaign.setLocalDate(LocalDate.of(3067, 3, 31));
+
+            CampaignOptions campaignOptions = campaign.getCampaignOptions();
+            campaignOptions.setUseFatigue(true);
+            campaignOptions.setVocationalXP(1);
+            campaignOptions.setVocationalXPCheckFrequency(1);
+            campaignOptions.setVocationalXPTargetNumber(7);
+
+            for (int index = 0; index < PERSONNEL_COUNT; index++) {
+                Person person = new Person(campaign);
+                person.setId(new UUID(0, index));
+                person.setDateOfBirth(LocalDate.of(3040, 1 + (index % 12), 1));
+                person.setPrimaryRole(campaign, PersonnelRole.ADMINISTRATOR_COMMAND);
+                person.addSkill(SkillType.S_ADMIN, 1 + (index % 7), 0);
+                person.setFatigue(index % 5);
+                campaign.importPerson(person);
+            }
+
+            new DayAdvancer(campaign).advanceDays(1, new DailyReportSink() {
+                @Override
+                public void addDay(DailyReportType type, String dayReport, List<String> newReports) {
+                }
+
+                @Override
+                public void finish() {
+                }
+            });
+
+            return campaign.getPersonnel()
+                         .stream()
+                         .map(person -> String.join(",",
+                               person.getId().toString(),
+                               person.getStatus().name(),
+                               String.valueOf(person.getXP()),
+                               String.valueOf(person.getVocationalXPTimer()),
+                               String.valueOf(person.getAutoAwardSupportPoints()),
+                               String.valueOf(person.getFatigueDirect()),
+                               String.valueOf(person.getHits())))
+                         .toList();
+        } finally {
+            Compute.setRNG(MMRandom.R_DEFAULT);
+        }
+    }
+
+    /**
+     * @return a random number generator for {@link Compute} whose results only depend on {@code seed}
+     */
+    private static MMRandom seededRNG(long seed) {
+        Random random = new Random(seed);
+        return mock(MMRandom.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "randomInt" -> {
+                int maximum = invocation.getArgument(0);
+                yield (maximum > 0) ? random.nextInt(maximum) : 0;
+            }
+            case "randomFloat" -> random.nextFloat();
+            case "d6" -> {
+                int dice = (invocation.getArguments().length == 0) ? 1 : invocation.<Integer>getArgument(0);
+                int total = 0;
+                for (int die = 0; die < dice; die++) {
+                    total += random.nextInt(6) + 1;
+                }
+                final int result = total;
+                yield mock(MMRoll.class, rollInvocation -> "getIntValue".equals(rollInvocation.getMethod().getName()) ?
+                                                                 result :
+                                                                 RETURNS_DEFAULTS.answer(rollInvocation));
+            }
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+}
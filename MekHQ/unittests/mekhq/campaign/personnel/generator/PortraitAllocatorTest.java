@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import megamek.common.compute.Compute;
+import megamek.common.enums.Gender;
+import megamek.common.icons.Portrait;
+import megamek.common.util.fileUtils.AbstractDirectory;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class PortraitAllocatorTest {
+    private static final String COMBAT = "Male/Combat";
+    private static final String MALE = "Male";
+
+    private AbstractDirectory directory;
+    private PortraitAllocator allocator;
+    private MockedStatic<Compute> mockedCompute;
+
+    @BeforeEach
+    void setUp() {
+        directory = mock(AbstractDirectory.class);
+        doReturn(List.of(COMBAT, MALE, "Female")).when(directory).getNonEmptyCategoryPaths();
+        when(directory.getItemNames(COMBAT)).thenAnswer(invocation -> List.of("a.png", "b.png").iterator());
+        when(directory.getItemNames(MALE)).thenAnswer(invocation -> List.of("c.png").iterator());
+        when(directory.getItemNames("Female")).thenAnswer(invocation -> List.of("d.png").iterator());
+        allocator = new PortraitAllocator(() -> directory);
+
+        mockedCompute = mockStatic(Compute.class);
+        mockedCompute.when(() -> Compute.randomInt(anyInt())).thenReturn(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedCompute.close();
+    }
+
+    private static Person createMekWarrior(Portrait portrait) {
+        Person person = mock(Person.class);
+        when(person.getId()).thenReturn(UUID.randomUUID());
+        when(person.getGender()).thenReturn(Gender.MALE);
+        when(person.getPrimaryRole()).thenReturn(PersonnelRole.MEKWARRIOR);
+        when(person.getPortrait()).thenReturn(portrait);
+        return person;
+    }
+
+    private Portrait allocateAndAssign(List<Person> personnel, Person person) {
+        Portrait portrait = allocator.allocate(personnel, person, false, true);
+        when(person.getPortrait()).thenReturn(portrait);
+        allocator.update(person);
+        return portrait;
+    }
+
+    @Test
+    void allocate_skipsPortraitsOfExistingPersonnel() {
+        // Setup
+        List<Person> personnel = List.of(createMekWarrior(new Portrait(COMBAT, "a.png")));
+
+        // Act
+        Portrait portrait = allocator.allocate(personnel, createMekWarrior(new Portrait()), false, true);
+
+        // Assert
+        assertEquals(COMBAT, portrait.getCategory());
+        assertEquals("b.png", portrait.getFilename());
+    }
+
+    @Test
+    void allocate_assignedPortraitsAreNotReusedUntilReleased() {
+        // Setup
+        List<Person> personnel = new ArrayList<>();
+        Person first = createMekWarrior(new Portrait());
+        Person second = createMekWarrior(new Portrait());
+        Person third = createMekWarrior(new Portrait());
+        Person fourth = createMekWarrior(new Portrait());
+
+        // Act
+        Portrait firstPortrait = allocateAndAssign(personnel, first);
+        Portrait secondPortrait = allocateAndAssign(personnel, second);
+        Portrait thirdPortrait = allocateAndAssign(personnel, third);
+        Portrait exhausted = allocator.allocate(personnel, fourth, false, true);
+        allocator.remove(second);
+        Portrait released = allocator.allocate(personnel, fourth, false, true);
+
+        // Assert
+        assertEquals(COMBAT, firstPortrait.getCategory());
+        assertEquals(COMBAT, secondPortrait.getCategory());
+        assertNotEquals(firstPortrait.getFilename(), secondPortrait.getFilename());
+        assertEquals(MALE, thirdPortrait.getCategory());
+        assertTrue(exhausted.isDefault());
+        assertEquals(secondPortrait, released);
+    }
+
+    @Test
+    void allocate_listsEachSearchDirectoryOnce() {
+        // Setup
+        List<Person> personnel = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            allocateAndAssign(personnel, createMekWarrior(new Portrait()));
+        }
+
+        // Assert
+        // One listing for Male/Combat and one for Male
+        verify(directory, times(2)).getNonEmptyCategoryPaths();
+    }
+
+    @Test
+    void invalidate_countsPortraitsAgainFromPersonnel() {
+        // Setup
+        List<Person> personnel = new ArrayList<>();
+        Person applicant = createMekWarrior(new Portrait());
+        allocateAndAssign(personnel, applicant);
+
+        // Act
+        allocator.invalidate();
+        Portrait portrait = allocator.allocate(personnel, createMekWarrior(new Portrait()), false, true);
+
+        // Assert
+        assertEquals(applicant.getPortrait(), portrait);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.report;
+
+import static mekhq.campaign.Campaign.REPORT_LINEBREAK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyReportBufferTest {
+    @Test
+    public void testReportsAreSeparatedByLineBreaks() {
+        DailyReportBuffer buffer = new DailyReportBuffer();
+        assertEquals("", buffer.getHtml());
+
+        buffer.append("<b>Date</b>");
+        assertEquals("<b>Date</b>", buffer.getHtml());
+
+        buffer.append("First");
+        buffer.append("Second");
+        assertEquals("<b>Date</b>" + REPORT_LINEBREAK + "First" + REPORT_LINEBREAK + "Second", buffer.getHtml());
+        assertSame(buffer.getHtml(), buffer.getHtml());
+    }
+
+    @Test
+    public void testNewReportsAreFetchedOnce() {
+        DailyReportBuffer buffer = new DailyReportBuffer();
+        buffer.append("First");
+        buffer.append("Second");
+        assertEquals(List.of("First", REPORT_LINEBREAK, "Second"), buffer.fetchAndClearNewReports());
+        assertTrue(buffer.fetchAndClearNewReports().isEmpty());
+
+        buffer.append("Third");
+        assertEquals(List.of(REPORT_LINEBREAK, "Third"), buffer.fetchAndClearNewReports());
+        assertEquals("First" + REPORT_LINEBREAK + "Second" + REPORT_LINEBREAK + "Third", buffer.getHtml());
+    }
+
+    @Test
+    public void testSetHtmlAndClear() {
+        DailyReportBuffer buffer = new DailyReportBuffer();
+        buffer.append("First");
+        buffer.setHtml("Replaced");
+        buffer.append("Second");
+        assertEquals("Replaced" + REPORT_LINEBREAK + "Second", buffer.getHtml());
+
+        buffer.clear();
+        assertEquals("", buffer.getHtml());
+        assertTrue(buffer.getNewReports().isEmpty());
+
+        buffer.append("Third");
+        assertEquals("Third", buffer.getHtml());
+    }
+
+    @Test
+    public void testRestoreTreatsEveryReportAsNew() {
+        DailyReportBuffer buffer = new DailyReportBuffer();
+        buffer.append("Old");
+        buffer.restore(List.of("First", "Second"));
+
+        assertEquals("First" + REPORT_LINEBREAK + "Second", buffer.getHtml());
+        assertEquals(List.of("First", REPORT_LINEBREAK, "Second"), buffer.getNewReports());
+    }
+
+    @Test
+    public void testReadingWhileAppendingKeepsEveryReport() throws InterruptedException {
+        DailyReportBuffer buffer = new DailyReportBuffer();
+        int reports = 10000;
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < reports; i++) {
+                buffer.getHtml();
+            }
+        });
+        reader.start();
+
+        StringJoiner expected = new StringJoiner(REPORT_LINEBREAK);
+        for (int i = 0; i < reports; i++) {
+            buffer.append("Report " + i);
+            expected.add("Report " + i);
+        }
+        reader.join();
+
+        assertEquals(expected.toString(), buffer.getHtml());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static mekhq.campaign.unit.C3NetworkIndexTest.createNetworkedEntity;
+import static mekhq.campaign.unit.C3NetworkIndexTest.scanNetwork;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Times the C3 link lookups made while saving hangars of increasing size, comparing a per-unit scan of a freshly
+ * collected entity list (as saving used to do) against a single {@link C3NetworkIndex} built for the whole save. The
+ * indexed save is expected to grow linearly with the number of units. Only runs when the
+ * {@code MM_BENCHMARK_C3_SAVE} environment variable is set to {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "MM_BENCHMARK_C3_SAVE", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class C3NetworkIndexBenchmarkTest {
+    private static final MMLogger logger = MMLogger.create(C3NetworkIndexBenchmarkTest.class);
+
+    private static final int[] HANGAR_SIZES = { 250, 500, 1000 };
+    private static final int NETWORK_SIZE = 6;
+    private static final int ITERATIONS = 3;
+
+    private static List<Entity> createHangar(int size) {
+        List<Entity> hangar = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // A mix of unnetworked units, C3i lances and naval C3 squadrons
+            boolean navalC3 = (i % 10 == 0);
+            boolean c3i = !navalC3 && (i % 2 == 0);
+            hangar.add(createNetworkedEntity(navalC3, c3i, "net" + (i / NETWORK_SIZE)));
+        }
+        return hangar;
+    }
+
+    private static long timeScanningSave(List<Entity> hangar) {
+        long start = System.nanoTime();
+        for (Entity entity : hangar) {
+            List<Entity> entities = new ArrayList<>(hangar);
+            if (entity.hasNavalC3() || entity.hasC3i()) {
+                scanNetwork(entities, entity);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long timeIndexedSave(List<Entity> hangar) {
+        long start = System.nanoTime();
+        C3NetworkIndex index = new C3NetworkIndex(hangar);
+        for (Entity entity : hangar) {
+            if (entity.hasNavalC3()) {
+                index.getNavalC3Network(entity);
+            }
+            if (entity.hasC3i()) {
+                index.getC3iNetwork(entity);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void benchmarkSaveScaling() {
+        double[] indexedPerUnit = new double[HANGAR_SIZES.length];
+        for (int i = 0; i < HANGAR_SIZES.length; i++) {
+            List<Entity> hangar = createHangar(HANGAR_SIZES[i]);
+            // Warm up
+            timeScanningSave(hangar);
+            timeIndexedSave(hangar);
+
+            long scanningTime = Long.MAX_VALUE;
+            long indexedTime = Long.MAX_VALUE;
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                scanningTime = Math.min(scanningTime, timeScanningSave(hangar));
+                indexedTime = Math.min(indexedTime, timeIndexedSave(hangar));
+            }
+            indexedPerUnit[i] = (double) indexedTime / hangar.size();
+            logger.info("Saving C3 links of {} units: scanning {} ms, indexed {} ms", hangar.size(),
+                  scanningTime / 1_000_000L, indexedTime / 1_000_000L);
+        }
+
+        // Quadrupling the hangar would quadruple the cost per unit of a quadratic save; allow generous noise
+        double growth = indexedPerUnit[HANGAR_SIZES.length - 1] / indexedPerUnit[0];
+        assertTrue(growth < 2.0, "Indexed save cost per unit grew " + growth + " times");
+    }
+}
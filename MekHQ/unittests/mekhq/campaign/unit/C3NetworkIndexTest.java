@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.Test;
+
+public class C3NetworkIndexTest {
+    /**
+     * Creates an entity that is on the same network as every other entity with the same network type and id.
+     */
+    static Entity createNetworkedEntity(boolean navalC3, boolean c3i, String netId) {
+        // Stub only, as the benchmark calls these far too often to record every invocation
+        Entity entity = mock(Entity.class, withSettings().stubOnly());
+        when(entity.hasNavalC3()).thenReturn(navalC3);
+        when(entity.hasC3i()).thenReturn(c3i);
+        when(entity.getC3NetId()).thenReturn(netId);
+        when(entity.onSameC3NetworkAs(any(), anyBoolean())).thenAnswer(invocation -> {
+            Entity other = invocation.getArgument(0);
+            return (((navalC3 && other.hasNavalC3()) || (c3i && other.hasC3i()))
+                          && Objects.equals(netId, other.getC3NetId()));
+        });
+        return entity;
+    }
+
+    /**
+     * The original lookup, scanning every entity for each one saved.
+     */
+    static List<Entity> scanNetwork(List<Entity> entities, Entity target) {
+        List<Entity> network = new ArrayList<>();
+        for (Entity entity : entities) {
+            if (entity.onSameC3NetworkAs(target, true)) {
+                network.add(entity);
+            }
+        }
+        return network;
+    }
+
+    @Test
+    public void testFindsNetworksInOriginalOrder() {
+        Entity c3iA1 = createNetworkedEntity(false, true, "A");
+        Entity c3iB1 = createNetworkedEntity(false, true, "B");
+        Entity navalA = createNetworkedEntity(true, false, "A");
+        Entity c3iA2 = createNetworkedEntity(false, true, "A");
+        Entity plain = createNetworkedEntity(false, false, "A");
+        Entity c3iA3 = createNetworkedEntity(false, true, "A");
+        List<Entity> entities = Arrays.asList(c3iA1, c3iB1, null, navalA, c3iA2, plain, c3iA3);
+
+        C3NetworkIndex index = new C3NetworkIndex(entities);
+
+        assertEquals(List.of(c3iA1, c3iA2, c3iA3), index.getC3iNetwork(c3iA2));
+        assertEquals(List.of(c3iB1), index.getC3iNetwork(c3iB1));
+        assertEquals(List.of(navalA), index.getNavalC3Network(navalA));
+        assertTrue(index.getNavalC3Network(c3iA1).isEmpty());
+    }
+
+    @Test
+    public void testMatchesScanningEveryEntity() {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            entities.add(createNetworkedEntity(i % 3 == 0, i % 3 == 1, "net" + (i % 7)));
+        }
+        C3NetworkIndex index = new C3NetworkIndex(entities);
+
+        for (Entity entity : entities) {
+            if (entity.hasNavalC3()) {
+                assertEquals(scanNetwork(entities, entity), index.getNavalC3Network(entity));
+            }
+            if (entity.hasC3i()) {
+                assertEquals(scanNetwork(entities, entity), index.getC3iNetwork(entity));
+            }
+        }
+    }
+
+    @Test
+    public void testEntityOutsideTheIndex() {
+        C3NetworkIndex index = new C3NetworkIndex(List.of(createNetworkedEntity(false, true, "A")));
+
+        Entity refitted = createNetworkedEntity(false, true, "A");
+        assertEquals(1, index.getC3iNetwork(refitted).size());
+        assertTrue(index.getC3iNetwork(createNetworkedEntity(false, true, "C")).isEmpty());
+        assertTrue(index.getC3iNetwork(createNetworkedEntity(false, true, null)).isEmpty());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EntityTemplateCacheTest {
+    @TempDir
+    Path temporaryDirectory;
+
+    /**
+     * A cache that creates a unit named after its unit file instead of parsing the unit file, and counts how often
+     * each unit was created.
+     */
+    private static class CountingCache extends EntityTemplateCache {
+        private final Map<String, Integer> parseCounts = new HashMap<>();
+
+        CountingCache(long maximumBytes) {
+            super(maximumBytes);
+        }
+
+        @Override
+        Entity parse(MekSummary mekSummary) {
+            parseCounts.merge(mekSummary.getSourceFile().getName(), 1, Integer::sum);
+            Entity entity = new BipedMek();
+            entity.setChassis(mekSummary.getSourceFile().getName());
+            entity.setModel("TST-1");
+            return entity;
+        }
+
+        int getParseCount(MekSummary mekSummary) {
+            return parseCounts.getOrDefault(mekSummary.getSourceFile().getName(), 0);
+        }
+    }
+
+    private MekSummary createMekSummary(String name) throws IOException {
+        File unitFile = temporaryDirectory.resolve(name).toFile();
+        Files.writeString(unitFile.toPath(), name);
+
+        MekSummary mekSummary = mock(MekSummary.class);
+        when(mekSummary.getSourceFile()).thenReturn(unitFile);
+        return mekSummary;
+    }
+
+    @Test
+    public void testUnitsAreCopiedFromTheirTemplate() throws Exception {
+        CountingCache cache = new CountingCache(Long.MAX_VALUE);
+        MekSummary mekSummary = createMekSummary("Test.mtf");
+
+        Entity first = cache.getEntity(mekSummary);
+        Entity second = cache.getEntity(mekSummary);
+        assertEquals(1, cache.getParseCount(mekSummary));
+        assertNotSame(first, second);
+        assertEquals("Test.mtf", second.getChassis());
+
+        // Every copy is independent of the template and of the other copies
+        first.setChassis("Changed");
+        second.setModel("Changed");
+        Entity third = cache.getEntity(mekSummary);
+        assertEquals("Test.mtf", third.getChassis());
+        assertEquals("TST-1", third.getModel());
+
+        EntityTemplateCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.hits());
+        assertEquals(1, statistics.misses());
+        assertEquals(1, statistics.templates());
+        assertEquals(2.0 / 3.0, statistics.hitRate(), 0.0001);
+    }
+
+    @Test
+    public void testModifiedUnitFileIsParsedAgain() throws Exception {
+        CountingCache cache = new CountingCache(Long.MAX_VALUE);
+        MekSummary mekSummary = createMekSummary("Test.mtf");
+
+        cache.getEntity(mekSummary);
+        File unitFile = mekSummary.getSourceFile();
+        unitFile.setLastModified(unitFile.lastModified() - 60_000L);
+        cache.getEntity(mekSummary);
+        cache.getEntity(mekSummary);
+
+        assertEquals(2, cache.getParseCount(mekSummary));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTemplatesAreDropped() throws Exception {
+        // Find out how large a single template is
+        CountingCache sizingCache = new CountingCache(Long.MAX_VALUE);
+        sizingCache.getEntity(createMekSummary("Unit0.mtf"));
+        long templateBytes = sizingCache.getStatistics().bytes();
+
+        // Room for four templates, but not five
+        CountingCache cache = new CountingCache((templateBytes * 4) + (templateBytes / 2));
+        MekSummary[] mekSummaries = new MekSummary[5];
+        for (int i = 0; i < mekSummaries.length; i++) {
+            mekSummaries[i] = createMekSummary("Unit" + i + ".mtf");
+        }
+
+        for (int i = 0; i < 4; i++) {
+            cache.getEntity(mekSummaries[i]);
+        }
+        // Use the first unit again, so the second is now the least recently used
+        cache.getEntity(mekSummaries[0]);
+        cache.getEntity(mekSummaries[4]);
+
+        assertEquals(1, cache.getStatistics().evictions());
+        assertEquals(4, cache.getStatistics().templates());
+
+        cache.getEntity(mekSummaries[0]);
+        cache.getEntity(mekSummaries[1]);
+        assertEquals(1, cache.getParseCount(mekSummaries[0]));
+        assertEquals(2, cache.getParseCount(mekSummaries[1]));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import megamek.common.enums.Faction;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.interfaces.ITechnology;
+import megamek.common.loaders.MekSummary;
+import mekhq.campaign.unit.TechProgressionCache.CachedProgression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TechProgressionCacheTest {
+    private static final byte[] UNIT_FILE = "chassis:Test\nmodel:TST-1\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @BeforeAll
+    public static void initializeTypes() {
+        EquipmentType.initializeTypes();
+    }
+
+    /**
+     * @return a serializable stand-in for the tech level calculated for a unit
+     */
+    private static ITechnology createProgression() {
+        InvocationHandler handler = (InvocationHandler & Serializable) (proxy, method, args) -> null;
+        return (ITechnology) Proxy.newProxyInstance(TechProgressionCacheTest.class.getClassLoader(),
+              new Class<?>[] { ITechnology.class, Serializable.class }, handler);
+    }
+
+    private static MekSummary createMekSummary(File sourceFile, String entryName) {
+        MekSummary mekSummary = mock(MekSummary.class);
+        when(mekSummary.getSourceFile()).thenReturn(sourceFile);
+        when(mekSummary.getEntryName()).thenReturn(entryName);
+        return mekSummary;
+    }
+
+    @Test
+    public void testSavedProgressionsAreReadBack() {
+        File file = temporaryDirectory.resolve("cache").resolve("techProgression.cache").toFile();
+        TechProgressionCache cache = new TechProgressionCache("1.0");
+        cache.putAll(Faction.NONE, Map.of("unit.mtf", new CachedProgression(42L, createProgression())));
+        cache.save(file);
+
+        TechProgressionCache readCache = TechProgressionCache.read(file, "1.0");
+        assertNotNull(readCache.get(Faction.NONE, "unit.mtf", 42L));
+
+        // A changed unit file, another faction or another unit are not cached
+        assertNull(readCache.get(Faction.NONE, "unit.mtf", 43L));
+        assertNull(readCache.get(Faction.TH, "unit.mtf", 42L));
+        assertNull(readCache.get(Faction.NONE, "other.mtf", 42L));
+    }
+
+    @Test
+    public void testCalculatedProgressionsSurviveTheRoundTrip() {
+        ITechnology progression = UnitTestUtilities.getLocustLCT1V().factionTechLevel(Faction.NONE);
+        File file = temporaryDirectory.resolve("techProgression.cache").toFile();
+        TechProgressionCache cache = new TechProgressionCache("1.0");
+        cache.putAll(Faction.NONE, Map.of("unit.mtf", new CachedProgression(42L, progression)));
+        cache.save(file);
+        assertTrue(file.isFile());
+
+        ITechnology readProgression = TechProgressionCache.read(file, "1.0").get(Faction.NONE, "unit.mtf", 42L);
+        assertNotNull(readProgression);
+        assertEquals(progression.getClass(), readProgression.getClass());
+        assertEquals(progression.isClan(), readProgression.isClan());
+        assertEquals(progression.getIntroductionDate(), readProgression.getIntroductionDate());
+        assertEquals(progression.getExtinctionDate(), readProgression.getExtinctionDate());
+    }
+
+    @Test
+    public void testCacheFromAnotherVersionIsIgnored() {
+        File file = temporaryDirectory.resolve("techProgression.cache").toFile();
+        TechProgressionCache cache = new TechProgressionCache("1.0");
+        cache.putAll(Faction.NONE, Map.of("unit.mtf", new CachedProgression(42L, createProgression())));
+        cache.save(file);
+
+        assertNull(TechProgressionCache.read(file, "1.1").get(Faction.NONE, "unit.mtf", 42L));
+    }
+
+    @Test
+    public void testUnreadableCacheIsIgnored() throws IOException {
+        File file = temporaryDirectory.resolve("techProgression.cache").toFile();
+        Files.write(file.toPath(), UNIT_FILE);
+
+        assertNull(TechProgressionCache.read(file, "1.0").get(Faction.NONE, "unit.mtf", 42L));
+    }
+
+    @Test
+    public void testChecksumOfUnitFilesAndArchiveEntries() throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(UNIT_FILE);
+
+        File unitFile = temporaryDirectory.resolve("Test TST-1.mtf").toFile();
+        Files.write(unitFile.toPath(), UNIT_FILE);
+
+        File archive = temporaryDirectory.resolve("units.zip").toFile();
+        try (OutputStream output = Files.newOutputStream(archive.toPath());
+              ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("meks/Test TST-1.mtf"));
+            zip.write(UNIT_FILE);
+            zip.closeEntry();
+        }
+
+        TechProgressionCache cache = new TechProgressionCache("1.0");
+        MekSummary fromFile = createMekSummary(unitFile, null);
+        MekSummary fromArchive = createMekSummary(archive, "meks/Test TST-1.mtf");
+        assertEquals(crc.getValue(), cache.getChecksum(fromFile));
+        assertEquals(crc.getValue(), cache.getChecksum(fromArchive));
+        assertNotEquals(TechProgressionCache.getKey(fromFile), TechProgressionCache.getKey(fromArchive));
+
+        assertNull(cache.getChecksum(createMekSummary(archive, "meks/Missing.mtf")));
+
+        Files.write(unitFile.toPath(), "chassis:Changed\n".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(crc.getValue(), cache.getChecksum(fromFile));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.UnitType;
+import mekhq.campaign.unit.UnitVariantIndex.VariantKey;
+import org.junit.jupiter.api.Test;
+
+public class UnitVariantIndexTest {
+    private static final String MEK = UnitType.getTypeName(UnitType.MEK);
+    private static final String TANK = UnitType.getTypeName(UnitType.TANK);
+    private static final String BATTLE_ARMOR = UnitType.getTypeName(UnitType.BATTLE_ARMOR);
+
+    private static MekSummary createMekSummary(String chassis, String model, String unitType, double tons,
+          double twWeight) {
+        MekSummary mekSummary = mock(MekSummary.class);
+        when(mekSummary.getChassis()).thenReturn(chassis);
+        when(mekSummary.getModel()).thenReturn(model);
+        when(mekSummary.getUnitType()).thenReturn(unitType);
+        when(mekSummary.getTons()).thenReturn(tons);
+        when(mekSummary.getTWWeight()).thenReturn(twWeight);
+        return mekSummary;
+    }
+
+    @Test
+    public void testVariantsAreGroupedByChassisUnitTypeAndWeight() {
+        MekSummary atlasD = createMekSummary("Atlas", "AS7-D", MEK, 100, 100);
+        MekSummary atlasK = createMekSummary("ATLAS", "AS7-K", MEK, 100, 100);
+        MekSummary lighterAtlas = createMekSummary("Atlas", "AS6-X", MEK, 95, 95);
+        MekSummary atlasTank = createMekSummary("Atlas", "Tank", TANK, 100, 100);
+        MekSummary awesome = createMekSummary("Awesome", "AWS-8Q", MEK, 80, 80);
+
+        Map<VariantKey, List<MekSummary>> index = UnitVariantIndex.buildIndex(new MekSummary[] {
+              atlasD, lighterAtlas, atlasTank, awesome, atlasK });
+
+        // Chassis are compared ignoring case, and the order of the cache is kept
+        assertEquals(List.of(atlasD, atlasK), index.get(VariantKey.of("atlas", MEK, 100)));
+        assertEquals(List.of(lighterAtlas), index.get(VariantKey.of("Atlas", MEK, 95)));
+        assertEquals(List.of(atlasTank), index.get(VariantKey.of("Atlas", TANK, 100)));
+        assertEquals(List.of(awesome), index.get(VariantKey.of("Awesome", MEK, 80)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void testBattleArmorIsGroupedByTroopers() {
+        MekSummary fivePoint = createMekSummary("Elemental", "[Laser](Sqd5)", BATTLE_ARMOR, 5, 5);
+        MekSummary fivePointHeavier = createMekSummary("Elemental", "[Flamer](Sqd5)", BATTLE_ARMOR, 5.5, 5);
+        MekSummary fourPoint = createMekSummary("Elemental", "[Laser](Sqd4)", BATTLE_ARMOR, 4, 4);
+
+        Map<VariantKey, List<MekSummary>> index = UnitVariantIndex.buildIndex(new MekSummary[] {
+              fivePoint, fivePointHeavier, fourPoint });
+
+        assertEquals(List.of(fivePoint, fivePointHeavier), index.get(VariantKey.of("Elemental", BATTLE_ARMOR, 5)));
+        assertEquals(List.of(fourPoint), index.get(VariantKey.of("Elemental", BATTLE_ARMOR, 4)));
+        assertTrue(UnitVariantIndex.buildIndex(new MekSummary[0]).isEmpty());
+    }
+}
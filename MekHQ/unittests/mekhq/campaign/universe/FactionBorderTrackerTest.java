@@ -39,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -134,6 +135,52 @@ public class FactionBorderTrackerTest {
         assertEquals(0, border.size());
     }
 
+    @Test
+    public void testOwnershipChangesAreTrackedByDate() {
+        final LocalDate conquest = LocalDate.of(3050, 6, 1);
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int x = -3; x <= 3; x += 2) {
+            systems.add(createSystem(x, 0, factionThem));
+        }
+        PlanetarySystem contested = mock(PlanetarySystem.class);
+        when(contested.getX()).thenReturn(0.0);
+        when(contested.getY()).thenReturn(0.0);
+        when(contested.getId()).thenReturn("contested");
+        when(contested.getFactionSet(ArgumentMatchers.any())).thenAnswer(invocation ->
+              Collections.singleton(((LocalDate) invocation.getArgument(0)).isBefore(conquest) ?
+                                          factionUs : factionThem));
+        when(contested.hasFactionEventBetween(ArgumentMatchers.any(), ArgumentMatchers.any())).thenAnswer(invocation ->
+              ((LocalDate) invocation.getArgument(0)).isBefore(conquest) &&
+                    !((LocalDate) invocation.getArgument(1)).isBefore(conquest));
+        systems.add(contested);
+
+        FactionBorderTracker tracker = new FactionBorderTracker() {
+            @Override
+            protected Collection<PlanetarySystem> getSystemList() {
+                return systems;
+            }
+        };
+        tracker.setDefaultBorderSize(1, 1, 1);
+
+        tracker.setDate(conquest.minusDays(1));
+        assertEquals(1, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(4, tracker.getBorders(factionThem).getSystems().size());
+        assertEquals(2, tracker.getBorderSystems(factionUs, factionThem).size());
+        List<PlanetarySystem> theirBorder = tracker.getBorderSystems(factionThem, factionUs);
+        assertFalse(theirBorder.isEmpty());
+
+        tracker.setDate(conquest);
+        assertNull(tracker.getBorders(factionUs));
+        assertEquals(5, tracker.getBorders(factionThem).getSystems().size());
+        assertTrue(tracker.getBorderSystems(factionUs, factionThem).isEmpty());
+        assertTrue(tracker.getBorderSystems(factionThem, factionUs).isEmpty());
+
+        tracker.setDate(conquest.minusYears(1));
+        assertEquals(1, tracker.getBorders(factionUs).getSystems().size());
+        assertEquals(2, tracker.getBorderSystems(factionUs, factionThem).size());
+        assertEquals(theirBorder, tracker.getBorderSystems(factionThem, factionUs));
+    }
+
     @Test
     public void testDefaultBorderSize() {
         Faction is = createFaction("is", false, false);
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlanetarySystemSnapshotTest {
+    private static final int SYSTEM_COUNT = 40;
+
+    @TempDir
+    Path temporaryDirectory;
+
+    private static byte[] createSystemFile(String id, double x) {
+        return String.format("id: %s%nxcood: %s%nycood: 0.0%n", id, x).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Path writeSystemFile(Path directory, String fileName, String id, double x) throws IOException {
+        Files.createDirectories(directory);
+        return Files.write(directory.resolve(fileName), createSystemFile(id, x));
+    }
+
+    private static Systems load(Path directory, PlanetarySystemSnapshot snapshot) {
+        Systems systems = new Systems();
+        systems.load(directory.toString(), snapshot);
+        return systems;
+    }
+
+    @Test
+    public void testSavedTreesAreReadBack() throws IOException {
+        Path directory = temporaryDirectory.resolve("systems");
+        byte[] contents = Files.readAllBytes(writeSystemFile(directory, "Tharkad.yml", "Tharkad", 1.0));
+        File cacheFile = temporaryDirectory.resolve("cache").resolve("planetarySystems.cache").toFile();
+
+        PlanetarySystemSnapshot snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertEquals(1.0, load(directory, snapshot).getSystemById("Tharkad").getX());
+        snapshot.save(cacheFile);
+
+        PlanetarySystemSnapshot readSnapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertEquals(new ObjectMapper(new YAMLFactory()).readTree(contents),
+              readSnapshot.get(PlanetarySystemSnapshot.hash(contents)));
+        assertEquals(1.0, load(directory, readSnapshot).getSystemById("Tharkad").getX());
+    }
+
+    @Test
+    public void testCachedTreeIsUsedInsteadOfParsing() throws IOException {
+        Path directory = temporaryDirectory.resolve("systems");
+        byte[] contents = Files.readAllBytes(writeSystemFile(directory, "Tharkad.yml", "Tharkad", 1.0));
+        File cacheFile = temporaryDirectory.resolve("planetarySystems.cache").toFile();
+
+        // Cache a different tree under the hash of the file, which only a load from the cache can pick up
+        PlanetarySystemSnapshot snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        snapshot.put(PlanetarySystemSnapshot.hash(contents),
+              new ObjectMapper(new YAMLFactory()).readTree(createSystemFile("Tharkad", 2.0)));
+        snapshot.save(cacheFile);
+
+        assertEquals(2.0, load(directory, PlanetarySystemSnapshot.read(cacheFile)).getSystemById("Tharkad").getX());
+    }
+
+    @Test
+    public void testChangedFileIsParsedAgain() throws IOException {
+        Path directory = temporaryDirectory.resolve("systems");
+        byte[] oldContents = Files.readAllBytes(writeSystemFile(directory, "Tharkad.yml", "Tharkad", 1.0));
+        File cacheFile = temporaryDirectory.resolve("planetarySystems.cache").toFile();
+
+        PlanetarySystemSnapshot snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        load(directory, snapshot);
+        snapshot.save(cacheFile);
+
+        byte[] newContents = Files.readAllBytes(writeSystemFile(directory, "Tharkad.yml", "Tharkad", 2.0));
+        snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertNull(snapshot.get(PlanetarySystemSnapshot.hash(newContents)));
+        assertEquals(2.0, load(directory, snapshot).getSystemById("Tharkad").getX());
+        snapshot.save(cacheFile);
+
+        PlanetarySystemSnapshot readSnapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertNotNull(readSnapshot.get(PlanetarySystemSnapshot.hash(newContents)));
+        assertNull(readSnapshot.get(PlanetarySystemSnapshot.hash(oldContents)));
+    }
+
+    @Test
+    public void testRemovedFilesArePruned() throws IOException {
+        Path directory = temporaryDirectory.resolve("systems");
+        byte[] keptContents = Files.readAllBytes(writeSystemFile(directory, "Tharkad.yml", "Tharkad", 1.0));
+        Path removedFile = writeSystemFile(directory, "Donegal.yml", "Donegal", 2.0);
+        byte[] removedContents = Files.readAllBytes(removedFile);
+        File cacheFile = temporaryDirectory.resolve("planetarySystems.cache").toFile();
+
+        PlanetarySystemSnapshot snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        load(directory, snapshot);
+        snapshot.save(cacheFile);
+
+        Files.delete(removedFile);
+        snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertNull(load(directory, snapshot).getSystemById("Donegal"));
+        snapshot.save(cacheFile);
+
+        PlanetarySystemSnapshot readSnapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertNotNull(readSnapshot.get(PlanetarySystemSnapshot.hash(keptContents)));
+        assertNull(readSnapshot.get(PlanetarySystemSnapshot.hash(removedContents)));
+    }
+
+    @Test
+    public void testLaterFilesOverrideEarlierOnes() throws IOException {
+        assertLaterFilesOverrideEarlierOnes(null);
+    }
+
+    @Test
+    public void testLaterFilesOverrideEarlierOnesWithSnapshot() throws IOException {
+        File cacheFile = temporaryDirectory.resolve("planetarySystems.cache").toFile();
+        PlanetarySystemSnapshot snapshot = PlanetarySystemSnapshot.read(cacheFile);
+        assertLaterFilesOverrideEarlierOnes(snapshot);
+        snapshot.save(cacheFile);
+
+        // A warm start binds every file from the cache, and must still keep the same order
+        assertLaterFilesOverrideEarlierOnes(PlanetarySystemSnapshot.read(cacheFile));
+    }
+
+    /**
+     * Loads a default directory, then a user directory, as {@link Systems#getInstance()} does. Every system is defined
+     * in the default directory, some are redefined by a later subdirectory, and some again by the user directory.
+     */
+    private void assertLaterFilesOverrideEarlierOnes(PlanetarySystemSnapshot snapshot) throws IOException {
+        Path defaultDirectory = temporaryDirectory.resolve("default");
+        Path userDirectory = temporaryDirectory.resolve("user");
+        for (int index = 0; index < SYSTEM_COUNT; index++) {
+            String id = String.format("System%02d", index);
+            writeSystemFile(defaultDirectory, id + ".yml", id, 1.0);
+            if ((index % 3) == 0) {
+                writeSystemFile(defaultDirectory.resolve("overrides"), id + ".yml", id, 2.0);
+            }
+            if ((index % 2) == 0) {
+                writeSystemFile(userDirectory, id + ".yml", id, 3.0);
+            }
+        }
+
+        Systems systems = new Systems();
+        systems.load(defaultDirectory.toString(), snapshot);
+        systems.load(userDirectory.toString(), snapshot);
+
+        assertEquals(SYSTEM_COUNT, systems.getSystems().size());
+        for (int index = 0; index < SYSTEM_COUNT; index++) {
+            double expectedX = ((index % 2) == 0) ? 3.0 : (((index % 3) == 0) ? 2.0 : 1.0);
+            assertEquals(expectedX, systems.getSystemById(String.format("System%02d", index)).getX(),
+                  "System" + index);
+        }
+    }
+}
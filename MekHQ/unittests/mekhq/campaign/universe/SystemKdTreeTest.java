@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SystemKdTreeTest {
+    private static PlanetarySystem createSystem(Double x, Double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        return system;
+    }
+
+    private static List<PlanetarySystem> createSystems(Random random, int count) {
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            systems.add(createSystem(random.nextDouble() * 1000.0 - 500.0, random.nextDouble() * 1000.0 - 500.0));
+        }
+        return systems;
+    }
+
+    private static double distance(PlanetarySystem system, double x, double y) {
+        return Math.hypot(system.getX() - x, system.getY() - y);
+    }
+
+    @Test
+    public void testNearestMatchesFullScan() {
+        Random random = new Random(3025);
+        List<PlanetarySystem> systems = createSystems(random, 500);
+        SystemKdTree tree = new SystemKdTree(systems);
+
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * 1200.0 - 600.0;
+            double y = random.nextDouble() * 1200.0 - 600.0;
+            double expected = systems.stream().mapToDouble(system -> distance(system, x, y)).min().orElseThrow();
+            assertEquals(expected, distance(tree.getNearest(x, y), x, y));
+        }
+    }
+
+    @Test
+    public void testNearbySystemsMatchFullScan() {
+        Random random = new Random(3058);
+        List<PlanetarySystem> systems = createSystems(random, 500);
+        SystemKdTree tree = new SystemKdTree(systems);
+
+        for (int i = 0; i < 50; i++) {
+            double x = random.nextDouble() * 1000.0 - 500.0;
+            double y = random.nextDouble() * 1000.0 - 500.0;
+            Set<PlanetarySystem> expected = new HashSet<>();
+            for (PlanetarySystem system : systems) {
+                if (distance(system, x, y) <= 60.0) {
+                    expected.add(system);
+                }
+            }
+
+            Set<PlanetarySystem> found = new HashSet<>();
+            tree.visitNearbySystems(x, y, 60.0, found::add);
+            assertEquals(expected, found);
+        }
+    }
+
+    @Test
+    public void testSystemsWithoutCoordinatesAreLeftOut() {
+        PlanetarySystem located = createSystem(10.0, 10.0);
+        SystemKdTree tree = new SystemKdTree(List.of(createSystem(null, 0.0), located, createSystem(0.0, null)));
+
+        assertEquals(1, tree.size());
+        assertSame(located, tree.getNearest(0.0, 0.0));
+        assertNull(new SystemKdTree(List.of()).getNearest(0.0, 0.0));
+    }
+}
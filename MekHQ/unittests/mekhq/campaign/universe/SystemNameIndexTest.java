@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import mekhq.campaign.universe.Planet.PlanetaryEvent;
+import org.junit.jupiter.api.Test;
+
+public class SystemNameIndexTest {
+    private static final LocalDate RENAMED = LocalDate.of(3052, 5, 1);
+
+    @SuppressWarnings("unchecked")
+    private SourceableValue<String> sourceable(String value) {
+        SourceableValue<String> sourceable = mock(SourceableValue.class);
+        when(sourceable.getValue()).thenReturn(value);
+        return sourceable;
+    }
+
+    private PlanetarySystem createSystem(String id, String name, PlanetaryEvent... events) {
+        Planet planet = mock(Planet.class);
+        SourceableValue<String> sourcedName = sourceable(name);
+        when(planet.getSourcedName(null)).thenReturn(sourcedName);
+        when(planet.getEvents()).thenReturn(List.of(events));
+
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getPrimaryPlanetPosition()).thenReturn(1);
+        when(system.getPrimaryPlanet()).thenReturn(planet);
+        return system;
+    }
+
+    private PlanetaryEvent rename(LocalDate date, String name) {
+        PlanetaryEvent event = new PlanetaryEvent();
+        event.date = date;
+        event.name = sourceable(name);
+        return event;
+    }
+
+    @Test
+    public void testLookupIsCaseInsensitive() {
+        PlanetarySystem tharkad = createSystem("Tharkad", "Tharkad");
+        SystemNameIndex index = new SystemNameIndex(List.of(tharkad));
+
+        assertSame(tharkad, index.getSystemByName("tHaRkAd", LocalDate.of(3025, 1, 1)));
+        assertSame(tharkad, index.getSystemByName("Tharkad", null));
+        assertNull(index.getSystemByName("Terra", LocalDate.of(3025, 1, 1)));
+        assertNull(index.getSystemByName(null, LocalDate.of(3025, 1, 1)));
+    }
+
+    @Test
+    public void testLookupRespectsRenames() {
+        PlanetaryEvent unrelated = new PlanetaryEvent();
+        unrelated.date = RENAMED.minusYears(10);
+        PlanetarySystem renamed = createSystem("Old Name", "Old Name", unrelated, rename(RENAMED, "New Name"));
+        SystemNameIndex index = new SystemNameIndex(List.of(renamed));
+
+        assertSame(renamed, index.getSystemByName("old name", RENAMED.minusDays(1)));
+        assertNull(index.getSystemByName("old name", RENAMED));
+        assertNull(index.getSystemByName("new name", RENAMED.minusDays(1)));
+        assertSame(renamed, index.getSystemByName("new name", RENAMED));
+        assertSame(renamed, index.getSystemByName("old name", null));
+    }
+
+    @Test
+    public void testNameReusedByAnotherSystem() {
+        PlanetarySystem original = createSystem("Original", "Shared", rename(RENAMED, "Elsewhere"));
+        PlanetarySystem successor = createSystem("Successor", "Successor", rename(RENAMED, "Shared"));
+        SystemNameIndex index = new SystemNameIndex(List.of(original, successor));
+
+        assertSame(original, index.getSystemByName("Shared", RENAMED.minusDays(1)));
+        assertSame(successor, index.getSystemByName("Shared", RENAMED));
+    }
+
+    @Test
+    public void testSystemsLookupFollowsReplacedSystems() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Tharkad", "Tharkad"));
+        assertSame(systems.getSystemById("Tharkad"), systems.getSystemByName("Tharkad", RENAMED));
+
+        // The same number of systems, but the planet has been renamed
+        PlanetarySystem renamed = createSystem("Tharkad", "Tharkad City");
+        systems.addPlanetarySystem(renamed);
+
+        assertNull(systems.getSystemByName("Tharkad", RENAMED));
+        assertSame(renamed, systems.getSystemByName("Tharkad City", RENAMED));
+    }
+
+    @Test
+    public void testSystemWithoutPrimarySlotUsesId() {
+        PlanetarySystem deepSpace = mock(PlanetarySystem.class);
+        when(deepSpace.getId()).thenReturn("Deep Space");
+        when(deepSpace.getPrimaryPlanetPosition()).thenReturn(0);
+        SystemNameIndex index = new SystemNameIndex(List.of(deepSpace));
+
+        assertSame(deepSpace, index.getSystemByName("deep space", LocalDate.of(3025, 1, 1)));
+    }
+}
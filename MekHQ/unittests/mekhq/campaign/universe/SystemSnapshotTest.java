@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import mekhq.campaign.universe.enums.HPGRating;
+import mekhq.campaign.universe.enums.HiringHallLevel;
+import mekhq.campaign.universe.routing.SystemIndex;
+import org.junit.jupiter.api.Test;
+
+public class SystemSnapshotTest {
+    private static final LocalDate DATE = LocalDate.of(3025, 1, 1);
+
+    private PlanetarySystem createSystem(String id, long population, HPGRating hpg, Faction... factions) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getPopulation(DATE)).thenReturn(population);
+        when(system.getHPG(DATE)).thenReturn(hpg);
+        when(system.getHiringHallLevel(DATE)).thenReturn(HiringHallLevel.NONE);
+        when(system.getFactionSet(DATE)).thenReturn(new HashSet<>(List.of(factions)));
+        return system;
+    }
+
+    @Test
+    public void testValuesAreResolvedOnceForTheDate() {
+        Faction faction = mock(Faction.class);
+        PlanetarySystem tharkad = createSystem("Tharkad", 5_000_000_000L, HPGRating.A, faction);
+        PlanetarySystem donegal = createSystem("Donegal", 3_000_000_000L, HPGRating.B);
+        SystemSnapshot snapshot = SystemSnapshot.build(new SystemIndex(List.of(tharkad, donegal)), DATE);
+
+        assertEquals(DATE, snapshot.getDate());
+        assertEquals(5_000_000_000L, snapshot.getPopulation(tharkad));
+        assertEquals(HPGRating.B, snapshot.getHPG(donegal));
+        assertEquals(HPGRating.A, snapshot.getHPG(snapshot.getSystemIndex().indexOf(tharkad)));
+        assertEquals(Set.of(faction), snapshot.getFactionSet(tharkad));
+        assertEquals(HPGRating.A, snapshot.getHPG(tharkad));
+
+        verify(tharkad, times(1)).getHPG(DATE);
+        verify(tharkad, times(1)).getFactionSet(DATE);
+    }
+
+    @Test
+    public void testFactionSetsCannotBeModified() {
+        PlanetarySystem tharkad = createSystem("Tharkad", 1L, HPGRating.A, mock(Faction.class));
+        SystemSnapshot snapshot = SystemSnapshot.build(new SystemIndex(List.of(tharkad)), DATE);
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getFactionSet(tharkad).clear());
+    }
+
+    @Test
+    public void testSystemsSnapshotFollowsReplacedSystems() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Tharkad", 1L, HPGRating.A));
+        SystemSnapshot before = systems.getSnapshot(DATE);
+        assertSame(before, systems.getSnapshot(DATE));
+
+        // The same number of systems, but the system has been replaced
+        PlanetarySystem replaced = createSystem("Tharkad", 2L, HPGRating.B);
+        systems.addPlanetarySystem(replaced);
+
+        assertEquals(2L, systems.getSnapshot(DATE).getPopulation(replaced));
+        assertEquals(HPGRating.B, systems.getSnapshot(DATE).getHPG(replaced));
+    }
+
+    @Test
+    public void testSystemsMissingFromTheSnapshotAreResolvedDirectly() {
+        PlanetarySystem tharkad = createSystem("Tharkad", 1L, HPGRating.A);
+        PlanetarySystem added = createSystem("Added", 7L, HPGRating.C);
+        SystemSnapshot snapshot = SystemSnapshot.build(new SystemIndex(List.of(tharkad)), DATE);
+
+        assertEquals(7L, snapshot.getPopulation(added));
+        assertSame(HPGRating.C, snapshot.getHPG(added));
+        assertEquals(Set.of(), snapshot.getFactionSet(added));
+    }
+}
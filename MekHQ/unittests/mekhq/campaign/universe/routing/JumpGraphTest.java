@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import mekhq.campaign.universe.Planet;
+import mekhq.campaign.universe.Planet.PlanetaryEvent;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.SourceableValue;
+import mekhq.campaign.universe.TestSystems;
+import org.junit.jupiter.api.Test;
+
+public class JumpGraphTest {
+    private static final LocalDate SETTLED = LocalDate.of(2800, 1, 1);
+
+    private PlanetarySystem createSystem(final String id, final double x, final double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getDistanceTo(any(PlanetarySystem.class))).thenAnswer(invocation -> {
+            PlanetarySystem other = invocation.getArgument(0);
+            return Math.hypot(x - other.getX(), y - other.getY());
+        });
+        return system;
+    }
+
+    private List<String> neighbours(JumpGraph jumpGraph, PlanetarySystem system, double range) {
+        SystemIndex index = jumpGraph.getSystemIndex();
+        List<String> ids = new ArrayList<>();
+        jumpGraph.visitNeighbours(index.indexOf(system), range,
+              neighbour -> ids.add(index.getSystem(neighbour).getId()));
+        return ids;
+    }
+
+    @Test
+    public void testNeighboursAreSortedByDistance() {
+        PlanetarySystem center = createSystem("Center", 0, 0);
+        PlanetarySystem far = createSystem("Far", 55, 0);
+        PlanetarySystem near = createSystem("Near", 10, 0);
+        PlanetarySystem middle = createSystem("Middle", -25, 0);
+        PlanetarySystem outOfRange = createSystem("OutOfRange", 0, 75);
+
+        JumpGraph jumpGraph = JumpGraph.build(List.of(center, far, near, middle, outOfRange));
+
+        assertEquals(List.of("Center", "Near", "Middle", "Far"), neighbours(jumpGraph, center, JumpGraph.MAX_RANGE));
+        assertEquals(List.of("Center", "Near", "Middle"), neighbours(jumpGraph, center, 30));
+        assertEquals(List.of("OutOfRange"), neighbours(jumpGraph, outOfRange, JumpGraph.MAX_RANGE));
+    }
+
+    @Test
+    public void testReplacingASystemRebuildsTheGraph() {
+        TestSystems systems = new TestSystems();
+        systems.addPlanetarySystem(createSystem("Center", 0, 0));
+        systems.addPlanetarySystem(createSystem("Other", 10, 0));
+        JumpGraph before = systems.getJumpGraph();
+
+        // The same number of systems, but one of them has moved
+        PlanetarySystem moved = createSystem("Other", 50, 0);
+        systems.addPlanetarySystem(moved);
+        JumpGraph after = systems.getJumpGraph();
+
+        assertNotSame(before, after);
+        assertSame(moved, after.getSystemIndex().getSystem(after.getSystemIndex().indexOf("Other")));
+    }
+
+    @Test
+    public void testRangeBeyondGraphIsRejected() {
+        PlanetarySystem center = createSystem("Center", 0, 0);
+        JumpGraph jumpGraph = JumpGraph.build(List.of(center));
+
+        assertThrows(IllegalArgumentException.class,
+              () -> jumpGraph.visitNeighbours(0, JumpGraph.MAX_RANGE + 1, neighbour -> {}));
+    }
+
+    @Test
+    public void testPopulatedSystemsAreCachedPerChangeDate() {
+        PlanetarySystem empty = createSystem("Empty", 0, 0);
+        PlanetarySystem colony = createSystem("Colony", 10, 0);
+
+        PlanetaryEvent settlement = new PlanetaryEvent();
+        settlement.date = SETTLED;
+        settlement.population = new SourceableValue<>();
+        Planet planet = mock(Planet.class);
+        when(planet.getEvents()).thenReturn(List.of(settlement));
+        when(colony.getPlanets()).thenReturn(List.of(planet));
+        when(colony.getPopulation(any())).thenAnswer(invocation -> {
+            LocalDate when = invocation.getArgument(0);
+            return when.isBefore(SETTLED) ? 0L : 1000L;
+        });
+
+        JumpGraph jumpGraph = JumpGraph.build(List.of(empty, colony));
+        int colonyIndex = jumpGraph.getSystemIndex().indexOf(colony);
+
+        assertEquals(0, jumpGraph.getChangeBucket(SETTLED.minusDays(1)));
+        assertEquals(1, jumpGraph.getChangeBucket(SETTLED));
+        assertEquals(1, jumpGraph.getChangeBucket(SETTLED.plusYears(100)));
+
+        BitSet beforeSettlement = jumpGraph.getPopulatedSystems(SETTLED.minusYears(1));
+        BitSet afterSettlement = jumpGraph.getPopulatedSystems(SETTLED.plusDays(1));
+        assertFalse(beforeSettlement.get(colonyIndex));
+        assertTrue(afterSettlement.get(colonyIndex));
+        assertEquals(1, afterSettlement.cardinality());
+        assertSame(afterSettlement, jumpGraph.getPopulatedSystems(SETTLED.plusYears(50)));
+    }
+}
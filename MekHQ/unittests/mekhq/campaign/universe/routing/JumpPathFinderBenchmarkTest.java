@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import megamek.logging.MMLogger;
+import mekhq.campaign.JumpPath;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.Systems;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Routes between a spread of Inner Sphere and Periphery capitals using the full planetary system data, comparing
+ * {@link JumpPathFinder} against the original map-based A* implementation. Requires the real universe data, so it only
+ * runs when the {@code MM_BENCHMARK_JUMP_PATH} environment variable is set to {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "MM_BENCHMARK_JUMP_PATH", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JumpPathFinderBenchmarkTest {
+    private static final MMLogger logger = MMLogger.create(JumpPathFinderBenchmarkTest.class);
+
+    private static final LocalDate DATE = LocalDate.of(3025, 1, 1);
+    private static final int ITERATIONS = 5;
+    private static final String[] CAPITALS = { "Terra", "Tharkad", "New Avalon", "Luthien", "Sian", "Atreus",
+                                               "Outreach", "Galatea", "Solaris", "Taurus", "Alpheratz", "Canopus IV",
+                                               "Rasalhague", "Tukayyid", "Coventry", "Hesperus II" };
+
+    private Systems systems;
+    private final List<PlanetarySystem> capitals = new ArrayList<>();
+
+    @BeforeAll
+    public void beforeAll() throws Exception {
+        systems = Systems.loadDefault();
+        for (String name : CAPITALS) {
+            PlanetarySystem system = systems.getSystemByName(name, DATE);
+            if (null != system) {
+                capitals.add(system);
+            }
+        }
+    }
+
+    @Test
+    public void benchmarkInnerSphereRouting() {
+        ToDoubleFunction<PlanetarySystem> jumpCost = system -> system.getRechargeTime(DATE);
+        JumpPathFinder finder = new JumpPathFinder(systems.getJumpGraph());
+
+        // Warm up both implementations and check they agree on the cost of every route
+        for (PlanetarySystem start : capitals) {
+            for (PlanetarySystem end : capitals) {
+                JumpPath path = finder.findPath(start, end, jumpCost, (from, to) -> true);
+                JumpPath legacyPath = legacyFindPath(start, end, jumpCost);
+                assertNotNull(path.getLastSystem());
+                assertEquals(pathCost(legacyPath, jumpCost), pathCost(path, jumpCost), 0.0001,
+                      start.getId() + " -> " + end.getId());
+            }
+        }
+
+        long legacyTime = 0;
+        long finderTime = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startTime = System.nanoTime();
+            for (PlanetarySystem start : capitals) {
+                for (PlanetarySystem end : capitals) {
+                    legacyFindPath(start, end, jumpCost);
+                }
+            }
+            legacyTime += System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            for (PlanetarySystem start : capitals) {
+                for (PlanetarySystem end : capitals) {
+                    finder.findPath(start, end, jumpCost, (from, to) -> true);
+                }
+            }
+            finderTime += System.nanoTime() - startTime;
+        }
+
+        int routes = ITERATIONS * capitals.size() * capitals.size();
+        logger.info(String.format(Locale.ROOT,
+              "Routed %d paths across %d systems: legacy %.3fms/path, JumpPathFinder %.3fms/path",
+              routes, systems.getSystems().size(), legacyTime / 1e6 / routes, finderTime / 1e6 / routes));
+    }
+
+    private double pathCost(JumpPath path, ToDoubleFunction<PlanetarySystem> jumpCost) {
+        double cost = 0.0;
+        List<PlanetarySystem> pathSystems = path.getSystems();
+        for (int i = 0; i < pathSystems.size() - 1; i++) {
+            cost += jumpCost.applyAsDouble(pathSystems.get(i));
+        }
+        return cost;
+    }
+
+    /**
+     * The A* implementation previously used by {@code Campaign.calculateJumpPath}, kept as a baseline.
+     */
+    private JumpPath legacyFindPath(PlanetarySystem start, PlanetarySystem end,
+          ToDoubleFunction<PlanetarySystem> jumpCost) {
+        if (start.getId().equals(end.getId())) {
+            JumpPath jumpPath = new JumpPath();
+            jumpPath.addSystem(start);
+            return jumpPath;
+        }
+
+        Set<String> closed = new HashSet<>();
+        Set<String> open = new HashSet<>();
+        Map<String, String> parent = new HashMap<>();
+        Map<String, Double> scoreH = new HashMap<>();
+        Map<String, Double> scoreG = new HashMap<>();
+
+        for (Map.Entry<String, PlanetarySystem> entry : systems.getSystems().entrySet()) {
+            scoreH.put(entry.getKey(), end.getDistanceTo(entry.getValue()));
+        }
+
+        String current = start.getId();
+        scoreG.put(current, 0.0);
+        closed.add(current);
+
+        for (int jumps = 0; jumps < JumpPathFinder.MAX_EXPANSIONS; jumps++) {
+            PlanetarySystem currentSystem = systems.getSystemById(current);
+            double currentG = scoreG.get(current) + jumpCost.applyAsDouble(currentSystem);
+            final String localCurrent = current;
+
+            systems.visitNearbySystems(currentSystem.getX(), currentSystem.getY(), JumpPathFinder.JUMP_RANGE,
+                  neighborSystem -> {
+                      String neighborId = neighborSystem.getId();
+                      if (closed.contains(neighborId)) {
+                          return;
+                      }
+
+                      if (open.contains(neighborId)) {
+                          if (currentG < scoreG.get(neighborId)) {
+                              scoreG.put(neighborId, currentG);
+                              parent.put(neighborId, localCurrent);
+                          }
+                      } else {
+                          scoreG.put(neighborId, currentG);
+                          parent.put(neighborId, localCurrent);
+                          open.add(neighborId);
+                      }
+                  });
+
+            String bestMatch = null;
+            double bestF = Double.POSITIVE_INFINITY;
+            for (String candidate : open) {
+                double f = scoreG.get(candidate) + scoreH.get(candidate);
+                if (f < bestF) {
+                    bestMatch = candidate;
+                    bestF = f;
+                }
+            }
+
+            if (bestMatch == null) {
+                break;
+            }
+
+            current = bestMatch;
+            closed.add(current);
+            open.remove(current);
+
+            if (current.equals(end.getId())) {
+                break;
+            }
+        }
+
+        List<PlanetarySystem> path = new ArrayList<>();
+        for (String nextKey = current; nextKey != null; nextKey = parent.get(nextKey)) {
+            path.add(systems.getSystemById(nextKey));
+        }
+        JumpPath jumpPath = new JumpPath();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            jumpPath.addSystem(path.get(i));
+        }
+        return jumpPath;
+    }
+}
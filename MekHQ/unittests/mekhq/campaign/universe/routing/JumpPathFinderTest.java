@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.campaign.JumpPath;
+import mekhq.campaign.universe.PlanetarySystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JumpPathFinderTest {
+    private List<PlanetarySystem> allSystems;
+    private JumpGraph jumpGraph;
+
+    private PlanetarySystem systemA;
+    private PlanetarySystem systemB;
+    private PlanetarySystem systemC;
+    private PlanetarySystem systemD;
+    private PlanetarySystem systemFar;
+
+    private PlanetarySystem createSystem(final String id, final double x, final double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getDistanceTo(any(PlanetarySystem.class))).thenAnswer(invocation -> {
+            PlanetarySystem other = invocation.getArgument(0);
+            return Math.hypot(x - other.getX(), y - other.getY());
+        });
+        allSystems.add(system);
+        return system;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        allSystems = new ArrayList<>();
+        systemA = createSystem("A", 0, 0);
+        systemB = createSystem("B", 20, 10);
+        systemC = createSystem("C", 20, -10);
+        systemD = createSystem("D", 40, 0);
+        systemFar = createSystem("Far", 500, 0);
+
+        jumpGraph = JumpGraph.build(allSystems);
+    }
+
+    private int indexOf(PlanetarySystem system) {
+        return jumpGraph.getSystemIndex().indexOf(system);
+    }
+
+    private List<String> ids(JumpPath path) {
+        List<String> ids = new ArrayList<>();
+        for (PlanetarySystem system : path.getSystems()) {
+            ids.add(system.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void testSameStartAndEnd() {
+        JumpPath path = new JumpPathFinder(jumpGraph).findPath(systemA, systemA, system -> 1.0, (from, to) -> true);
+
+        assertEquals(List.of("A"), ids(path));
+    }
+
+    @Test
+    public void testNullStart() {
+        JumpPath path = new JumpPathFinder(jumpGraph).findPath(null, systemA, system -> 1.0, (from, to) -> true);
+
+        assertTrue(path.isEmpty());
+    }
+
+    @Test
+    public void testPrefersCheaperJumps() {
+        JumpPath path = new JumpPathFinder(jumpGraph).findPath(systemA, systemD,
+              system -> system == systemB ? 100.0 : 1.0, (from, to) -> true);
+
+        assertEquals(List.of("A", "C", "D"), ids(path));
+    }
+
+    @Test
+    public void testJumpFilterIsRespected() {
+        JumpPath path = new JumpPathFinder(jumpGraph).findPath(systemA, systemD,
+              system -> system == systemB ? 100.0 : 1.0, (from, to) -> to != indexOf(systemC));
+
+        assertEquals(List.of("A", "B", "D"), ids(path));
+    }
+
+    @Test
+    public void testUnreachableDestination() {
+        JumpPath path = new JumpPathFinder(jumpGraph).findPath(systemA, systemFar, system -> 1.0, (from, to) -> true);
+
+        assertEquals(systemA, path.getFirstSystem());
+        assertFalse(ids(path).contains("Far"));
+    }
+}
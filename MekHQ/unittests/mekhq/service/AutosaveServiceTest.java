@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AutosaveServiceTest {
+    @TempDir
+    Path directory;
+
+    private static String readCompressed(Path file) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    public void testWritesCompressedFile() throws IOException {
+        Path file = directory.resolve("Autosave-1-Test-30250101.cpnx.gz");
+        AutosaveService.writeCompressedFile(file,
+              output -> output.write("<campaign/>".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("<campaign/>", readCompressed(file));
+        assertEquals(List.of(file.getFileName().toString()), listFiles());
+    }
+
+    @Test
+    public void testReplacesExistingFile() throws IOException {
+        Path file = directory.resolve("Autosave-1-Test-30250101.cpnx.gz");
+        AutosaveService.writeCompressedFile(file, output -> output.write("old".getBytes(StandardCharsets.UTF_8)));
+        AutosaveService.writeCompressedFile(file, output -> output.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", readCompressed(file));
+        assertEquals(List.of(file.getFileName().toString()), listFiles());
+    }
+
+    @Test
+    public void testFailedWriteLeavesExistingFileUntouched() throws IOException {
+        Path file = directory.resolve("Autosave-1-Test-30250101.cpnx.gz");
+        AutosaveService.writeCompressedFile(file, output -> output.write("old".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IOException.class, () -> AutosaveService.writeCompressedFile(file, output -> {
+            output.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", readCompressed(file));
+        assertEquals(List.of(file.getFileName().toString()), listFiles());
+    }
+
+    @Test
+    public void testFullQueueDropsTheOldestWaitingAutosave() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(1), new AutosaveService.DiscardOldestAutosavePolicy());
+        try {
+            CountDownLatch writing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> written = new CopyOnWriteArrayList<>();
+
+            executor.submit(() -> {
+                writing.countDown();
+                release.await();
+                written.add("first");
+                return null;
+            });
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            Future<?> second = executor.submit(() -> written.add("second"));
+            Future<?> third = executor.submit(() -> written.add("third"));
+            release.countDown();
+            third.get(10, TimeUnit.SECONDS);
+
+            assertTrue(second.isCancelled());
+            assertEquals(List.of("first", "third"), written);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
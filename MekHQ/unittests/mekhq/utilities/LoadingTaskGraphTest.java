@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class LoadingTaskGraphTest {
+    @Test
+    public void testDependenciesFinishFirst() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        try (LoadingTaskGraph graph = new LoadingTaskGraph("test", 4)) {
+            graph.add("a", () -> {
+                Thread.sleep(20);
+                order.add("a");
+            });
+            graph.add("b", () -> order.add("b"), "a");
+            graph.add("c", () -> order.add("c"), "a", "b");
+            graph.awaitAll();
+        }
+
+        assertEquals(List.of("a", "b", "c"), order);
+    }
+
+    @Test
+    public void testIndependentStagesRunConcurrently() throws Exception {
+        // A single processor machine only gets one worker, so there is nothing to check there
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+
+        // Each stage waits for the other to start, which only completes if both run at the same time
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+        try (LoadingTaskGraph graph = new LoadingTaskGraph("test", 2)) {
+            LoadingTaskGraph.Stage stage = () -> {
+                started.countDown();
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    overlapped.set(false);
+                }
+            };
+            graph.add("a", stage);
+            graph.add("b", stage);
+            graph.awaitAll();
+        }
+
+        assertTrue(overlapped.get());
+    }
+
+    @Test
+    public void testFailurePropagatesToDependents() {
+        IOException failure = new IOException("broken");
+        AtomicBoolean dependentRan = new AtomicBoolean(false);
+        try (LoadingTaskGraph graph = new LoadingTaskGraph("test", 2)) {
+            graph.add("a", () -> {
+                throw failure;
+            });
+            graph.add("b", () -> dependentRan.set(true), "a");
+
+            assertSame(failure, assertThrows(IOException.class, () -> graph.await("a")));
+            assertSame(failure, assertThrows(IOException.class, () -> graph.await("b")));
+        }
+        assertFalse(dependentRan.get());
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        try (LoadingTaskGraph graph = new LoadingTaskGraph("test", 1)) {
+            assertThrows(IllegalArgumentException.class, () -> graph.add("a", () -> {}, "missing"));
+            graph.add("b", () -> {});
+            assertThrows(IllegalArgumentException.class, () -> graph.add("b", () -> {}));
+        }
+    }
+
+    @Test
+    public void testTimingsAreRecorded() throws Exception {
+        try (LoadingTaskGraph graph = new LoadingTaskGraph("test", 2)) {
+            graph.add("a", () -> {});
+            graph.add("b", () -> {}, "a");
+            graph.awaitAll();
+
+            assertEquals(List.of("a", "b"), List.copyOf(graph.getTimings().keySet()));
+        }
+    }
+}